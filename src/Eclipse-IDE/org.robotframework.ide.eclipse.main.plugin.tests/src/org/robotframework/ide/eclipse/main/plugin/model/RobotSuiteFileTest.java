@@ -23,6 +23,7 @@ import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.e4.core.services.events.IEventBroker;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.rf.ide.core.environment.RobotRuntimeEnvironment;
 import org.rf.ide.core.libraries.LibraryDescriptor;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.robotframework.ide.eclipse.main.plugin.mockeclipse.ContextInjector;
+import org.robotframework.ide.eclipse.main.plugin.model.cmd.settings.SetSettingArgumentCommand;
 import org.robotframework.red.junit.jupiter.Project;
 import org.robotframework.red.junit.jupiter.ProjectExtension;
 
@@ -184,6 +187,148 @@ public class RobotSuiteFileTest {
         assertThat(suiteFile.getRobotParserFile()).hasName("abc.robot");
     }
 
+    @Test
+    public void importedLibrariesAreReused_untilSettingsOrProjectLibrariesChange() throws Exception {
+        final IFile file = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Library  Collections",
+                "Library  myLib");
+        final RobotSuiteFile fileModel = robotModel.createSuiteFile(file);
+
+        final RobotProject robotProject = robotModel.createRobotProject(file.getProject());
+        robotProject.setStandardLibraries(createStdLibs("Collections", "OperatingSystem"));
+        robotProject.setReferencedLibraries(createRefLibs("myLib2"));
+
+        final Multimap<LibrarySpecification, Optional<String>> imported = fileModel.getImportedLibraries();
+        assertThat(imported.keySet().stream().map(LibrarySpecification::getName)).containsOnly("Collections");
+        assertThat(fileModel.getImportedLibraries()).isSameAs(imported);
+        assertThat(fileModel.getNotImportedLibraries()).isSameAs(fileModel.getNotImportedLibraries());
+
+        robotProject.setReferencedLibraries(createRefLibs("myLib", "myLib2"));
+        assertThat(fileModel.getImportedLibraries().keySet().stream().map(LibrarySpecification::getName))
+                .containsOnly("Collections", "myLib");
+        assertThat(fileModel.getNotImportedLibraries().stream().map(LibrarySpecification::getName))
+                .containsOnly("OperatingSystem", "myLib2");
+
+        fileModel.reparseEverything(String.join("\n",
+                "*** Settings ***",
+                "Library  OperatingSystem"));
+        assertThat(fileModel.getImportedLibraries().keySet().stream().map(LibrarySpecification::getName))
+                .containsOnly("OperatingSystem");
+    }
+
+    @Test
+    public void importedLibrariesAreResolvedAgain_whenLibrarySettingIsEdited() throws Exception {
+        final IFile file = createFile(project, "edited.robot",
+                "*** Settings ***",
+                "Library  Collections");
+        final RobotSuiteFile fileModel = robotModel.createSuiteFile(file);
+
+        final RobotProject robotProject = robotModel.createRobotProject(file.getProject());
+        robotProject.setStandardLibraries(createStdLibs("Collections", "OperatingSystem"));
+        robotProject.setReferencedLibraries(createRefLibs());
+
+        assertThat(fileModel.getImportedLibraries().keySet().stream().map(LibrarySpecification::getName))
+                .containsOnly("Collections");
+
+        final RobotSetting setting = fileModel.findSection(RobotSettingsSection.class)
+                .get()
+                .getLibrariesSettings()
+                .get(0);
+        final SetSettingArgumentCommand command = new SetSettingArgumentCommand(setting, 0, "OperatingSystem");
+        ContextInjector.prepareContext().inWhich(mock(IEventBroker.class)).isInjectedInto(command).execute();
+
+        assertThat(fileModel.getImportedLibraries().keySet().stream().map(LibrarySpecification::getName))
+                .containsOnly("OperatingSystem");
+        assertThat(fileModel.getNotImportedLibraries().stream().map(LibrarySpecification::getName))
+                .containsOnly("Collections");
+    }
+
+    @Test
+    public void importedResourcesAreReused_untilSettingsChange() throws Exception {
+        final String[] importSection = createResourceImportSection("res1.robot");
+        final RobotSuiteFile suiteFile = createSuiteFile("res/test.robot", importSection);
+
+        final List<IResource> files = suiteFile.getImportedResources();
+        assertThat(files).containsExactly(getFile(project, "res/res1.robot"));
+        assertThat(suiteFile.getImportedResources()).isSameAs(files);
+
+        suiteFile.reparseEverything(String.join("\n", createResourceImportSection("a/res2.robot")));
+        assertThat(suiteFile.getImportedResources()).containsExactly(getFile(project, "res/a/res2.robot"));
+    }
+
+    @Test
+    public void importedResourcesAreFound_whenResourceIsCreatedAfterImportingIt() throws Exception {
+        final String[] importSection = createResourceImportSection("res1.robot", "new.robot");
+        final RobotSuiteFile suiteFile = createSuiteFile("res/test.robot", importSection);
+
+        assertThat(suiteFile.getImportedResources()).containsExactly(getFile(project, "res/res1.robot"));
+
+        createFile(project, "res/new.robot");
+        assertThat(suiteFile.getImportedResources()).containsExactly(getFile(project, "res/res1.robot"),
+                getFile(project, "res/new.robot"));
+    }
+
+    @Test
+    public void elementsFoundByOffset_areTheSameAsFoundByWalkingThroughSections() throws Exception {
+        final String[] lines = {
+                "*** Settings ***",
+                "Library  Collections",
+                "Documentation  doc",
+                "*** Variables ***",
+                "${a}  1",
+                "@{b}  1  2",
+                "*** Test Cases ***",
+                "case",
+                "    [Tags]  t",
+                "    Log  ${a}",
+                "",
+                "    FOR  ${i}  IN  @{b}",
+                "        Log  ${i}",
+                "    END",
+                "*** Keywords ***",
+                "kw",
+                "    [Arguments]  ${x}",
+                "    Log  ${x}",
+                "*** Settings ***",
+                "Test Setup  kw  1" };
+        final RobotSuiteFile suiteFile = createSuiteFile("suite.robot", lines);
+        final int length = String.join("\n", lines).length();
+
+        for (int offset = -1; offset <= length + 1; offset++) {
+            assertThat(suiteFile.findElement(offset)).as("element at offset %d", offset)
+                    .isEqualTo(findElementByWalking(suiteFile, offset));
+        }
+    }
+
+    @Test
+    public void elementsAreFoundByOffset_afterReparsing() throws Exception {
+        final RobotSuiteFile suiteFile = createSuiteFile("suite.robot",
+                "*** Keywords ***",
+                "kw",
+                "    Log  1");
+        assertThat(suiteFile.findElement(25).map(RobotElement::getName)).contains("Log");
+
+        suiteFile.reparseEverything(String.join("\n",
+                "*** Test Cases ***",
+                "case",
+                "    Should Be True  1"));
+        assertThat(suiteFile.findElement(19).map(RobotElement::getName)).contains("case");
+        assertThat(suiteFile.findElement(30).map(RobotElement::getName)).contains("Should Be True");
+        assertThat(suiteFile.findElement(100)).containsSame(suiteFile);
+    }
+
+    private static Optional<? extends RobotElement> findElementByWalking(final RobotSuiteFile suiteFile,
+            final int offset) {
+        for (final RobotSuiteFileSection section : suiteFile.getSections()) {
+            final Optional<? extends RobotElement> candidate = section.findElement(offset);
+            if (candidate.isPresent()) {
+                return candidate;
+            }
+        }
+        return Optional.of(suiteFile);
+    }
+
     private static String[] createResourceImportSection(final String... resourcePaths) {
         final String[] result = new String[resourcePaths.length + 1];
         result[0] = "*** Settings ***";
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.navigator.handlers;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFile;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.getFileContent;
+
+import java.util.List;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class FindSimilarCodeHandlerTest {
+
+    @Project
+    IProject project;
+
+    @Test
+    public void identicalTestsAndKeywordsFromDifferentFilesAreReported() throws Exception {
+        final RobotModel model = new RobotModel();
+        final RobotSuiteFile suite = model.createSuiteFile(createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "login",
+                "    Open Browser    ${url}    chrome",
+                "    Input Text    id=user    ${user}",
+                "    Click Button    login",
+                "other",
+                "    Create Dictionary    a=1    b=2",
+                "    Log Many    @{items}"));
+        final RobotSuiteFile resource = model.createSuiteFile(createFile(project, "res.robot",
+                "*** Keywords ***",
+                "kw",
+                "    open browser  ${url}  chrome",
+                "    input text  id=user  ${user}",
+                "    click button  login"));
+
+        final List<String> report = FindSimilarCodeHandler.createReport(newArrayList(suite, resource), 100,
+                new NullProgressMonitor());
+
+        assertThat(report).hasSize(4);
+        assertThat(report.get(2)).isEqualTo("128\t/" + project.getName() + "/suite.robot:2 [test case] login");
+        assertThat(report.get(3)).isEqualTo("\t/" + project.getName() + "/res.robot:2 [keyword] kw");
+    }
+
+    @Test
+    public void onlyHeaderIsReported_whenThereIsNoSimilarCode() throws Exception {
+        final RobotSuiteFile suite = new RobotModel().createSuiteFile(createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "case",
+                "    Log    1",
+                "*** Keywords ***",
+                "kw",
+                "    Create Dictionary    a=1    b=2    c=3"));
+
+        assertThat(FindSimilarCodeHandler.createReport(newArrayList(suite), 100, new NullProgressMonitor()))
+                .hasSize(1);
+    }
+
+    @Test
+    public void reportIsWrittenToProjectFile_andOverwrittenWhenCreatedAgain() throws Exception {
+        final IFile reportFile = getFile(project, "similar_code.txt");
+
+        FindSimilarCodeHandler.writeReport(reportFile, newArrayList("header", "", "128\tfirst", "\tsecond"),
+                new NullProgressMonitor());
+        assertThat(reportFile.exists()).isTrue();
+        assertThat(getFileContent(reportFile)).containsExactly("header", "", "128\tfirst", "\tsecond", "");
+
+        FindSimilarCodeHandler.writeReport(reportFile, newArrayList("header"), new NullProgressMonitor());
+        assertThat(getFileContent(reportFile)).containsExactly("header", "");
+    }
+}
@@ -59,6 +59,7 @@ public class LibrariesPreferencesPageTest {
                         RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED,
                         RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED));
         assertThat(namesGroupedByType).hasEntrySatisfying(IntegerFieldEditor.class,
-                names -> assertThat(names).containsOnly(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT));
+                names -> assertThat(names).containsOnly(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT,
+                        RedPreferences.LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT));
     }
 }
@@ -179,6 +179,7 @@ public class RedPreferencesInitializerTest {
                 true);
         verify(preferences).putInt(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT, 30);
         verify(preferences).putBoolean(RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, true);
+        verify(preferences).putInt(RedPreferences.LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT, 4);
     }
 
     @Test
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import static com.google.common.collect.Sets.newHashSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+import com.google.common.collect.ArrayListMultimap;
+
+@ExtendWith(ProjectExtension.class)
+public class ImportsGraphTest {
+
+    @Project
+    IProject project;
+
+    @Test
+    public void importersAreFoundTransitively() {
+        final IFile suite = file("/p/suite.robot");
+        final IFile res1 = file("/p/res1.robot");
+        final IFile res2 = file("/p/res2.robot");
+        final IFile other = file("/p/other.robot");
+
+        final ImportsGraph graph = new ImportsGraph();
+        graph.update(suite, newHashSet(path("/p/res1.robot")));
+        graph.update(res1, newHashSet(path("/p/res2.robot"), path("/p/vars.py")));
+        graph.update(other, newHashSet(path("/p/res2.robot")));
+
+        assertThat(graph.findImporters(newHashSet(path("/p/vars.py")))).containsOnly(res1, suite);
+        assertThat(graph.findImporters(newHashSet(path("/p/res2.robot")))).containsOnly(res1, suite, other);
+        assertThat(graph.findImporters(newHashSet(res2.getFullPath(), suite.getFullPath()))).containsOnly(res1,
+                suite, other);
+        assertThat(graph.findImporters(newHashSet(path("/p/suite.robot")))).isEmpty();
+    }
+
+    @Test
+    public void importersOfFolderAreFound_whenFileInsideOfItChanges() {
+        final IFile suite = file("/p/suite.robot");
+
+        final ImportsGraph graph = new ImportsGraph();
+        graph.update(suite, newHashSet(path("/p/libs/package")));
+
+        assertThat(graph.findImporters(newHashSet(path("/p/libs/package/__init__.py")))).containsOnly(suite);
+        assertThat(graph.findImporters(newHashSet(path("/p/libs/other.py")))).isEmpty();
+    }
+
+    @Test
+    public void reverseEdgesAreUpdated_whenFileImportsChangeOrFileIsRemoved() {
+        final IFile suite = file("/p/suite.robot");
+        final IFile res = file("/p/res.robot");
+
+        final ImportsGraph graph = new ImportsGraph();
+        graph.update(suite, newHashSet(path("/p/res.robot")));
+        graph.update(res, newHashSet(path("/p/vars.py")));
+        graph.update(suite, newHashSet(path("/p/other.robot")));
+
+        assertThat(graph.getDependencies(suite)).containsOnly(path("/p/other.robot"));
+        assertThat(graph.findImporters(newHashSet(path("/p/res.robot")))).isEmpty();
+        assertThat(graph.findImporters(newHashSet(path("/p/other.robot")))).containsOnly(suite);
+
+        graph.remove(res);
+        assertThat(graph.getDependencies(res)).isEmpty();
+        assertThat(graph.findImporters(newHashSet(path("/p/vars.py")))).isEmpty();
+    }
+
+    @Test
+    public void graphIsNotInitializedAfterClearing() {
+        final ImportsGraph graph = new ImportsGraph();
+        assertThat(graph.isInitialized()).isFalse();
+
+        graph.update(file("/p/suite.robot"), newHashSet(path("/p/res.robot")));
+        graph.markInitialized();
+        assertThat(graph.isInitialized()).isTrue();
+
+        graph.clear();
+        assertThat(graph.isInitialized()).isFalse();
+        assertThat(graph.findImporters(newHashSet(path("/p/res.robot")))).isEmpty();
+    }
+
+    @Test
+    public void importedResourcesVariablesFilesAndLibrariesPathsAreCollected() throws Exception {
+        createFile(project, "res.robot", "*** Keywords ***", "kw");
+        createFile(project, "vars.py", "a = 1");
+        createFile(project, "lib.py", "def kw(): pass");
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Resource  res.robot",
+                "Variables  vars.py",
+                "Library  lib.py",
+                "Library  Collections");
+
+        assertThat(ImportsGraph.collectImportedPaths(new RobotModel().createRobotProject(project),
+                ArrayListMultimap.create(), suite)).containsOnly(project.getFile("res.robot").getFullPath(),
+                        project.getFile("vars.py").getFullPath(), project.getFile("lib.py").getFullPath());
+    }
+
+    @Test
+    public void pathsOfMissingResourcesAndVariablesFilesAreCollected() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Resource  missing.robot",
+                "Variables  missing.py");
+
+        assertThat(ImportsGraph.collectImportedPaths(new RobotModel().createRobotProject(project),
+                ArrayListMultimap.create(), suite)).containsOnly(project.getFile("missing.robot").getFullPath(),
+                        project.getFile("missing.py").getFullPath());
+    }
+
+    @Test
+    public void graphOfProjectIsDroppedWhenDisposed() {
+        final ImportsGraph graph = ImportsGraph.forProject(project);
+        assertThat(ImportsGraph.forProject(project)).isSameAs(graph);
+
+        ImportsGraph.dispose(project);
+        assertThat(ImportsGraph.forProject(project)).isNotSameAs(graph);
+    }
+
+    private static IFile file(final String path) {
+        final IFile file = mock(IFile.class);
+        when(file.getFullPath()).thenReturn(path(path));
+        return file;
+    }
+
+    private static IPath path(final String path) {
+        return new Path(path);
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.causes;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class BkTreeTest {
+
+    @Test
+    public void nothingIsFound_whenTreeIsEmpty() {
+        assertThat(BkTree.create(new ArrayList<>()).findWithinDistance("word", 2)).isEmpty();
+    }
+
+    @Test
+    public void wordsWithinDistanceAreFound_inOrderOfAdding() {
+        final BkTree tree = BkTree.create(
+                Lists.newArrayList("Log Many", "Log", "log", "Log To Console", "Lag", "Sleep", "Lo", "Log"));
+
+        assertThat(tree.findWithinDistance("Log", 0)).containsExactly("Log");
+        assertThat(tree.findWithinDistance("Log", 1)).containsExactly("Log", "log", "Lag", "Lo");
+        assertThat(tree.findWithinDistance("Lg", 2)).containsExactly("Log", "log", "Lag", "Lo");
+        assertThat(tree.findWithinDistance("Sleeep", 2)).containsExactly("Sleep");
+        assertThat(tree.findWithinDistance("Unknown", 2)).isEmpty();
+    }
+
+    @Test
+    public void sameWordsAreFoundAsWhenCheckingDistanceToEachWord() {
+        final Random random = new Random(42);
+        final List<String> words = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            words.add(randomWord(random));
+        }
+        final BkTree tree = BkTree.create(words);
+
+        for (int i = 0; i < 50; i++) {
+            final String word = randomWord(random);
+            final List<String> expected = words.stream()
+                    .distinct()
+                    .filter(w -> SimilarityWithLevenshteinDistance.distance(w, word) <= 2)
+                    .collect(toList());
+
+            assertThat(tree.findWithinDistance(word, 2)).isEqualTo(expected);
+        }
+    }
+
+    private static String randomWord(final Random random) {
+        final int length = 1 + random.nextInt(5);
+        final StringBuilder word = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            word.append((char) ('a' + random.nextInt(3)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibdocGenerationScheduler.LibdocGeneration;
+
+public class LibdocGenerationSchedulerTest {
+
+    @Test
+    public void allLibdocsAreGenerated_andFailuresAreReturnedInOrder() {
+        final IRuntimeEnvironment env = mock(IRuntimeEnvironment.class);
+        final EnvironmentSearchPaths paths = new EnvironmentSearchPaths();
+
+        final ILibdocGenerator generator1 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator2 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator3 = mock(ILibdocGenerator.class);
+        final RuntimeEnvironmentException exception1 = new RuntimeEnvironmentException("1");
+        final RuntimeEnvironmentException exception3 = new RuntimeEnvironmentException("3");
+        doThrow(exception1).when(generator1).generateLibdoc(env, paths);
+        doThrow(exception3).when(generator3).generateLibdoc(env, paths);
+
+        final LibdocGeneration generation1 = new LibdocGeneration(generator1, env, paths);
+        final LibdocGeneration generation2 = new LibdocGeneration(generator2, env, paths);
+        final LibdocGeneration generation3 = new LibdocGeneration(generator3, env, paths);
+
+        final Map<LibdocGeneration, RuntimeEnvironmentException> failures = new LibdocGenerationScheduler(3)
+                .generate(newArrayList(generation1, generation2, generation3), new NullProgressMonitor());
+
+        verify(generator1).generateLibdoc(env, paths);
+        verify(generator2).generateLibdoc(env, paths);
+        verify(generator3).generateLibdoc(env, paths);
+        assertThat(failures.keySet()).containsExactly(generation1, generation3);
+        assertThat(failures.values()).containsExactly(exception1, exception3);
+    }
+
+    @Test
+    public void libdocsAreGeneratedConcurrently() {
+        final IRuntimeEnvironment env = mock(IRuntimeEnvironment.class);
+        final EnvironmentSearchPaths paths = new EnvironmentSearchPaths();
+
+        // each generation waits for the other one, so both have to run at the same time
+        final CountDownLatch latch = new CountDownLatch(2);
+        final ILibdocGenerator generator1 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator2 = mock(ILibdocGenerator.class);
+        doAnswer(invocation -> awaitOther(latch)).when(generator1).generateLibdoc(env, paths);
+        doAnswer(invocation -> awaitOther(latch)).when(generator2).generateLibdoc(env, paths);
+
+        final Map<LibdocGeneration, RuntimeEnvironmentException> failures = new LibdocGenerationScheduler(2).generate(
+                newArrayList(new LibdocGeneration(generator1, env, paths), new LibdocGeneration(generator2, env, paths)),
+                new NullProgressMonitor());
+
+        assertThat(failures).isEmpty();
+    }
+
+    @Test
+    public void nothingIsGenerated_whenMonitorIsCancelled() {
+        final IRuntimeEnvironment env = mock(IRuntimeEnvironment.class);
+        final ILibdocGenerator generator = mock(ILibdocGenerator.class);
+
+        final NullProgressMonitor monitor = new NullProgressMonitor();
+        monitor.setCanceled(true);
+
+        new LibdocGenerationScheduler(2).generate(
+                newArrayList(new LibdocGeneration(generator, env, new EnvironmentSearchPaths())), monitor);
+
+        verifyZeroInteractions(generator);
+    }
+
+    @Test
+    public void progressIsReportedOnlyByCallingThread() {
+        final IRuntimeEnvironment env = mock(IRuntimeEnvironment.class);
+        final ILibdocGenerator generator1 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator2 = mock(ILibdocGenerator.class);
+        when(generator1.getMessage()).thenReturn("generating 1");
+        when(generator2.getMessage()).thenReturn("generating 2");
+
+        final List<String> subTasks = new ArrayList<>();
+        final Set<Thread> reportingThreads = new HashSet<>();
+        final AtomicInteger work = new AtomicInteger();
+        final NullProgressMonitor monitor = new NullProgressMonitor() {
+
+            @Override
+            public void subTask(final String name) {
+                subTasks.add(name);
+                reportingThreads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void worked(final int units) {
+                work.addAndGet(units);
+                reportingThreads.add(Thread.currentThread());
+            }
+        };
+
+        new LibdocGenerationScheduler(2).generate(
+                newArrayList(new LibdocGeneration(generator1, env, new EnvironmentSearchPaths()),
+                        new LibdocGeneration(generator2, env, new EnvironmentSearchPaths())),
+                monitor);
+
+        assertThat(subTasks).containsOnly("generating 1", "generating 2").hasSize(2);
+        assertThat(work).hasValue(2);
+        assertThat(reportingThreads).containsOnly(Thread.currentThread());
+    }
+
+    @Test
+    public void unfinishedGenerationsAreCancelledAndReported_whenTimeoutIsExceeded() throws Exception {
+        final IRuntimeEnvironment env = mock(IRuntimeEnvironment.class);
+        final EnvironmentSearchPaths paths = new EnvironmentSearchPaths();
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        final ILibdocGenerator generator1 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator2 = mock(ILibdocGenerator.class);
+        doAnswer(invocation -> latch.await(10, TimeUnit.SECONDS)).when(generator2).generateLibdoc(env, paths);
+
+        final LibdocGeneration generation1 = new LibdocGeneration(generator1, env, paths);
+        final LibdocGeneration generation2 = new LibdocGeneration(generator2, env, paths);
+        try {
+            final Map<LibdocGeneration, RuntimeEnvironmentException> failures = new LibdocGenerationScheduler(2, 200)
+                    .generate(newArrayList(generation1, generation2), new NullProgressMonitor());
+
+            assertThat(failures.keySet()).containsExactly(generation2);
+            assertThat(failures.get(generation2)).hasMessageContaining("not finished");
+        } finally {
+            latch.countDown();
+        }
+    }
+
+    @Test
+    public void additionalCommandExecutorsAreClosedOnce_afterAllGenerationsAreFinished() {
+        final IRuntimeEnvironment env1 = mock(IRuntimeEnvironment.class);
+        final IRuntimeEnvironment env2 = mock(IRuntimeEnvironment.class);
+        final ILibdocGenerator generator1 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator2 = mock(ILibdocGenerator.class);
+        final ILibdocGenerator generator3 = mock(ILibdocGenerator.class);
+        final EnvironmentSearchPaths paths = new EnvironmentSearchPaths();
+
+        new LibdocGenerationScheduler(1).generate(newArrayList(new LibdocGeneration(generator1, env1, paths),
+                new LibdocGeneration(generator2, env1, paths), new LibdocGeneration(generator3, env2, paths)),
+                new NullProgressMonitor());
+
+        final InOrder inOrder = inOrder(generator1, generator2, generator3, env1, env2);
+        inOrder.verify(generator1).generateLibdoc(env1, paths);
+        inOrder.verify(generator2).generateLibdoc(env1, paths);
+        inOrder.verify(generator3).generateLibdoc(env2, paths);
+        inOrder.verify(env1, times(1)).closeAdditionalCommandExecutors();
+        inOrder.verify(env2, times(1)).closeAdditionalCommandExecutors();
+    }
+
+    private static Void awaitOther(final CountDownLatch latch) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new RuntimeEnvironmentException("Generations were not run concurrently");
+        }
+        return null;
+    }
+}
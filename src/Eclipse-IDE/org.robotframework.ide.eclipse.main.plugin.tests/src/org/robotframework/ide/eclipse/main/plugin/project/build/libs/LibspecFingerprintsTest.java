@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.SuiteExecutor;
+import org.rf.ide.core.libraries.LibrarySpecification.LibdocFormat;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+import org.robotframework.red.junit.jupiter.RedTempDirectory;
+
+@ExtendWith({ ProjectExtension.class, RedTempDirectory.class })
+public class LibspecFingerprintsTest {
+
+    @Project(dirs = { "libspecs" })
+    static IProject project;
+
+    @TempDir
+    File tempFolder;
+
+    private IRuntimeEnvironment environment;
+
+    @BeforeEach
+    public void beforeTest() {
+        environment = mock(IRuntimeEnvironment.class);
+        when(environment.getFile()).thenReturn(new File("/usr/bin/python"));
+        when(environment.getVersion()).thenReturn("Robot Framework 3.2 (Python 3.7.0 on linux)");
+        when(environment.getInterpreter()).thenReturn(SuiteExecutor.Python3);
+    }
+
+    @Test
+    public void fingerprintIsTheSame_whenNothingHasChanged() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        RedTempDirectory.createNewFile(libDir, "__init__.py", "class lib: pass");
+        RedTempDirectory.createNewFile(libDir, "helper.py", "def helper(): pass");
+        final ILibdocGenerator generator = generator("lib", libDir);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintIsTheSame_whenOnlyCompiledPythonFilesHaveChanged() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        RedTempDirectory.createNewFile(libDir, "__init__.py", "class lib: pass");
+        final ILibdocGenerator generator = generator("lib", libDir);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        RedTempDirectory.createNewFile(libDir, "__init__.pyc", "compiled");
+        RedTempDirectory.createNewFile(RedTempDirectory.createNewDir(libDir, "__pycache__"), "x.cpython-37.pyc", "c");
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintChanges_whenLibrarySourceIsModified() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        final File helper = RedTempDirectory.createNewFile(libDir, "helper.py", "def helper(): pass");
+        final ILibdocGenerator generator = generator("lib", libDir);
+
+        final String fingerprint1 = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        helper.setLastModified(helper.lastModified() - 10_000);
+        final String fingerprint2 = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        RedTempDirectory.createNewFile(libDir, "other.py", "def other(): pass");
+        final String fingerprint3 = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+
+        assertThat(newArrayList(fingerprint1, fingerprint2, fingerprint3)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void fingerprintChanges_whenModuleFromLibraryPackageIsModified() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        final File init = RedTempDirectory.createNewFile(libDir, "__init__.py", "from helper import helper");
+        final File helper = RedTempDirectory.createNewFile(libDir, "helper.py", "def helper(): pass");
+        final ILibdocGenerator generator = new PythonLibraryLibdocGenerator("lib", newArrayList(),
+                init.getAbsolutePath(), null, LibdocFormat.XML);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        helper.setLastModified(helper.lastModified() - 10_000);
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintIsTheSame_whenOtherModuleFromDirectoryOfSingleModuleLibraryIsModified()
+            throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        final File lib = RedTempDirectory.createNewFile(libDir, "lib.py", "class lib: pass");
+        final File other = RedTempDirectory.createNewFile(libDir, "other.py", "def other(): pass");
+        final ILibdocGenerator generator = new PythonLibraryLibdocGenerator("lib", newArrayList(),
+                lib.getAbsolutePath(), null, LibdocFormat.XML);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        other.setLastModified(other.lastModified() - 10_000);
+        RedTempDirectory.createNewFile(libDir, "new.py", "def new(): pass");
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isEqualTo(fingerprint);
+        lib.setLastModified(lib.lastModified() - 10_000);
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintIsTheSame_whenNonPythonFileFromLibraryPackageIsModified() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        final File init = RedTempDirectory.createNewFile(libDir, "__init__.py", "class lib: pass");
+        final ILibdocGenerator generator = new PythonLibraryLibdocGenerator("lib", newArrayList(),
+                init.getAbsolutePath(), null, LibdocFormat.XML);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        RedTempDirectory.createNewFile(libDir, "lib.libspec", "<keywordspec/>");
+        RedTempDirectory.createNewFile(RedTempDirectory.createNewDir(libDir, ".git"), "other.py", "");
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isEqualTo(fingerprint);
+    }
+
+    @Test
+    public void fingerprintChanges_whenArgumentsPathsOrEnvironmentAreChanged() throws IOException {
+        final File lib = RedTempDirectory.createNewFile(tempFolder, "lib.py", "class lib: pass");
+
+        final String fingerprint1 = LibspecFingerprints.calculate(generator("lib", lib), environment,
+                new EnvironmentSearchPaths());
+        final String fingerprint2 = LibspecFingerprints.calculate(generator("lib  arg", lib), environment,
+                new EnvironmentSearchPaths());
+        final String fingerprint3 = LibspecFingerprints.calculate(generator("lib", lib), environment,
+                new EnvironmentSearchPaths(newArrayList(), newArrayList("/python/path")));
+        final String fingerprint4 = LibspecFingerprints.calculate(generator("lib", lib), environment,
+                new EnvironmentSearchPaths(newArrayList("/class/path"), newArrayList()));
+        when(environment.getVersion()).thenReturn("Robot Framework 3.2.1 (Python 3.7.0 on linux)");
+        final String fingerprint5 = LibspecFingerprints.calculate(generator("lib", lib), environment,
+                new EnvironmentSearchPaths());
+
+        assertThat(newArrayList(fingerprint1, fingerprint2, fingerprint3, fingerprint4, fingerprint5))
+                .doesNotHaveDuplicates();
+    }
+
+    @Test
+    public void fingerprintChanges_whenLibraryLocationIsRemoved() throws IOException {
+        final File lib = RedTempDirectory.createNewFile(tempFolder, "lib.py", "class lib: pass");
+        final ILibdocGenerator generator = generator("lib", lib);
+
+        final String fingerprint = LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths());
+        lib.delete();
+
+        assertThat(LibspecFingerprints.calculate(generator, environment, new EnvironmentSearchPaths()))
+                .isNotEqualTo(fingerprint);
+    }
+
+    @Test
+    public void sourceFilesOfDirectoryAreCollectedOnce_whenSharedBetweenFingerprints() throws IOException {
+        final File libDir = RedTempDirectory.createNewDir(tempFolder, "lib");
+        RedTempDirectory.createNewFile(libDir, "__init__.py", "class lib: pass");
+        final LibspecFingerprints.SourceFiles sourceFiles = new LibspecFingerprints.SourceFiles();
+
+        final String fingerprint1 = LibspecFingerprints.calculate(generator("lib", libDir), environment,
+                new EnvironmentSearchPaths(), sourceFiles);
+        RedTempDirectory.createNewFile(libDir, "other.py", "def other(): pass");
+        final String fingerprint2 = LibspecFingerprints.calculate(generator("lib", libDir), environment,
+                new EnvironmentSearchPaths(), sourceFiles);
+
+        assertThat(fingerprint2).isEqualTo(fingerprint1);
+        assertThat(LibspecFingerprints.calculate(generator("lib", libDir), environment, new EnvironmentSearchPaths()))
+                .isNotEqualTo(fingerprint1);
+    }
+
+    @Test
+    public void fingerprintsAreSavedAndLoaded() {
+        final IFile file = LibspecsFolder.get(project).getFingerprintsFile();
+        final IFile libspec1 = libspec("lib1.libspec");
+        final IFile libspec2 = libspec("lib2.libspec");
+        final IFile libspec3 = libspec("lib3.libspec");
+
+        final LibspecFingerprints fingerprints = LibspecFingerprints.load(file);
+        fingerprints.update(libspec1, "abc");
+        fingerprints.update(libspec2, "def");
+        fingerprints.update(libspec3, "ghi");
+        fingerprints.remove(libspec3);
+        fingerprints.save();
+
+        assertThat(file.exists()).isTrue();
+        assertThat(file.isDerived()).isTrue();
+
+        final LibspecFingerprints loadedFingerprints = LibspecFingerprints.load(file);
+        assertThat(loadedFingerprints.isUpToDate(libspec1, "abc")).isTrue();
+        assertThat(loadedFingerprints.isUpToDate(libspec2, "def")).isTrue();
+        assertThat(loadedFingerprints.isUpToDate(libspec2, "abc")).isFalse();
+        assertThat(loadedFingerprints.isUpToDate(libspec3, "ghi")).isFalse();
+    }
+
+    @Test
+    public void nothingIsUpToDate_whenFingerprintsFileDoesNotExist() {
+        final LibspecFingerprints fingerprints = LibspecFingerprints.load(project.getFile("libspecs/missing"));
+
+        assertThat(fingerprints.isUpToDate(libspec("lib.libspec"), "abc")).isFalse();
+    }
+
+    private static ILibdocGenerator generator(final String key, final File location) {
+        final ILibdocGenerator generator = mock(ILibdocGenerator.class);
+        when(generator.getLibraryKey()).thenReturn(key);
+        when(generator.getLibraryLocation()).thenReturn(Optional.of(location));
+        return generator;
+    }
+
+    private static IFile libspec(final String name) {
+        final IFile file = mock(IFile.class);
+        when(file.getName()).thenReturn(name);
+        return file;
+    }
+}
@@ -5,21 +5,40 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
 
+import java.util.Collection;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.environment.SuiteExecutor;
 import org.rf.ide.core.project.RobotProjectConfig;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+import com.google.common.collect.ArrayListMultimap;
 
+@ExtendWith(ProjectExtension.class)
 public class ValidationContextTest {
 
+    @Project
+    IProject project;
+
     @Test
     public void construct_ValidationContext_with_RobotFramework30_installed() {
         // prepare
@@ -61,4 +80,124 @@ public class ValidationContextTest {
         // verify
         assertThat(valCtx.getVersion()).isEqualTo(RobotVersion.UNKNOWN);
     }
+
+    @Test
+    public void keywordsOfImportedResourcesAreCollected_forEachFileImportingThem() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Keywords ***", "kw1");
+        createFile(project, "res2.robot", "*** Keywords ***", "kw2");
+        final IFile suite1 = createFile(project, "suite1.robot", "*** Settings ***", "Resource  res1.robot",
+                "*** Keywords ***", "kw");
+        final IFile suite2 = createFile(project, "suite2.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+
+        final Map<String, Collection<KeywordEntity>> keywords1 = context.collectAccessibleKeywords(suite1);
+        final Map<String, Collection<KeywordEntity>> keywords2 = context.collectAccessibleKeywords(suite2);
+
+        assertThat(keywords1).containsOnlyKeys("kw", "kw1", "kw2");
+        assertThat(keywords2).containsOnlyKeys("kw1", "kw2");
+        assertThat(keywords1.get("kw1")).isEqualTo(keywords2.get("kw1"));
+        assertThat(keywords1.get("kw2")).isEqualTo(keywords2.get("kw2"));
+        assertThat(keywords2.get("kw1")).extracting(KeywordEntity::getSourceName).containsExactly("res1");
+        assertThat(keywords2.get("kw2")).extracting(KeywordEntity::getSourceName).containsExactly("res2");
+    }
+
+    @Test
+    public void fileKeywordsAreNotCollectedTwice_whenFileIsImportedByItsResources() throws Exception {
+        createFile(project, "res.robot", "*** Settings ***", "Resource  suite.robot", "*** Keywords ***", "kw1");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res.robot",
+                "*** Keywords ***", "kw");
+        final IFile other = createFile(project, "other.robot", "*** Settings ***", "Resource  res.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+
+        assertThat(context.collectAccessibleKeywords(other)).containsOnlyKeys("kw", "kw1");
+        assertThat(context.collectAccessibleKeywords(suite).get("kw")).hasSize(1);
+    }
+
+    @Test
+    public void keywordsOfImportedResourcesAreCollectedAgain_whenAnyOfResourcesChanges() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot");
+        final IFile res2 = createFile(project, "res2.robot", "*** Keywords ***", "kw");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+        assertThat(context.collectAccessibleKeywords(suite)).containsOnlyKeys("kw");
+
+        model.createSuiteFile(res2).reparseEverything("*** Keywords ***\nchanged kw");
+        assertThat(context.collectAccessibleKeywords(suite)).containsOnlyKeys("changedkw");
+    }
+
+    @Test
+    public void keywordsOfImportedResourcesAreCollectedAgain_whenResourceModelIsModifiedInPlace() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot");
+        final IFile res2 = createFile(project, "res2.robot", "*** Keywords ***", "kw");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+        assertThat(context.collectAccessibleKeywords(suite)).containsOnlyKeys("kw");
+
+        final RobotSuiteFile resModel = model.createSuiteFile(res2);
+        final RobotFileOutput output = resModel.getLinkedElement().getParent();
+        output.getFileModel().getKeywordTable().createUserKeyword("other kw");
+        resModel.link(output);
+        assertThat(context.collectAccessibleKeywords(suite)).containsOnlyKeys("kw", "otherkw");
+    }
+
+    @Test
+    public void variablesOfImportedResourcesAreCollected_forEachFileImportingThem() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot", "*** Variables ***",
+                "${Var 1}  1");
+        createFile(project, "res2.robot", "*** Variables ***", "@{var2}  2");
+        final IFile suite1 = createFile(project, "suite1.robot", "*** Settings ***", "Resource  res1.robot",
+                "*** Variables ***", "&{var}  a=1");
+        final IFile suite2 = createFile(project, "suite2.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+
+        assertThat(context.collectAccessibleVariables(suite1)).contains("&{var}", "${var1}", "@{var2}");
+        assertThat(context.collectAccessibleVariables(suite2)).contains("${var1}", "@{var2}")
+                .doesNotContain("&{var}");
+    }
+
+    @Test
+    public void variablesOfImportedResourcesAreCollectedAgain_whenAnyOfResourcesChanges() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot");
+        final IFile res2 = createFile(project, "res2.robot", "*** Variables ***", "${var}  1");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+        assertThat(context.collectAccessibleVariables(suite)).contains("${var}");
+
+        model.createSuiteFile(res2).reparseEverything("*** Variables ***\n${changed}  1");
+        assertThat(context.collectAccessibleVariables(suite)).contains("${changed}").doesNotContain("${var}");
+    }
+
+    @Test
+    public void variablesOfImportedResourcesAreCollectedAgain_whenResourceModelIsModifiedInPlace() throws Exception {
+        createFile(project, "res1.robot", "*** Settings ***", "Resource  res2.robot");
+        final IFile res2 = createFile(project, "res2.robot", "*** Variables ***", "${var}  1");
+        final IFile suite = createFile(project, "suite.robot", "*** Settings ***", "Resource  res1.robot");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = createContext(model);
+        assertThat(context.collectAccessibleVariables(suite)).contains("${var}").doesNotContain("${other}");
+
+        final RobotSuiteFile resModel = model.createSuiteFile(res2);
+        final RobotFileOutput output = resModel.getLinkedElement().getParent();
+        output.getFileModel().getVariableTable().createScalarVariable(1, "other", newArrayList("2"));
+        resModel.link(output);
+        assertThat(context.collectAccessibleVariables(suite)).contains("${var}", "${other}");
+    }
+
+    private static ValidationContext createContext(final RobotModel model) {
+        return new ValidationContext(new RobotProjectConfig(), model, RobotVersion.from("3.2"), SuiteExecutor.Python,
+                ArrayListMultimap.create());
+    }
 }
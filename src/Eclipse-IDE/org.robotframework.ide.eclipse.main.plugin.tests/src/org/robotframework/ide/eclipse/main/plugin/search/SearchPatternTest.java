@@ -29,6 +29,14 @@ public class SearchPatternTest {
         assertThat(p1).isNotSameAs(p3);
     }
 
+    @Test
+    public void literalFragmentsOfPatternAreReturned() {
+        assertThat(new SearchPattern("abc").getLiterals()).containsExactly("abc");
+        assertThat(new SearchPattern("ab*cd?ef").getLiterals()).containsExactly("ab", "cd", "ef");
+        assertThat(new SearchPattern("*abc**?").getLiterals()).containsExactly("abc");
+        assertThat(new SearchPattern("*?").getLiterals()).isEmpty();
+    }
+
     @Test
     public void simplifiedRegexesAreMatchingProperly() {
         assertThat(createMatcher("abc?2", "abc12").matches()).isTrue();
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.participants;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.robotframework.red.junit.jupiter.ProjectExtension.createFile;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+import org.robotframework.ide.eclipse.main.plugin.search.OccurrenceMatch;
+import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
+import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+import org.robotframework.red.junit.jupiter.Project;
+import org.robotframework.red.junit.jupiter.ProjectExtension;
+
+@ExtendWith(ProjectExtension.class)
+public class OccurrencesSearchTest {
+
+    @Project
+    IProject project;
+
+    @Test
+    public void keywordDefinitionsAndCallsAreFound_alsoWhenCalledWithSourceName() throws Exception {
+        createFile(project, "res.robot",
+                "*** Keywords ***",
+                "Log In",
+                "  No Operation");
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Resource  res.robot",
+                "Test Setup  res.Log In",
+                "*** Test Cases ***",
+                "case",
+                "  log in",
+                "  ${x}=  Other",
+                "*** Keywords ***",
+                "Other",
+                "  No Operation");
+
+        final RobotModel model = new RobotModel();
+        final SearchResult result = new SearchResult(null);
+        new KeywordSearch(new SearchPattern("Log In"), model, result, new OccurrencesIndex())
+                .locateMatchesInRobotFile(model.createSuiteFile(suite));
+
+        assertThat(texts(result, suite)).containsExactly("res.Log In", "log in");
+    }
+
+    @Test
+    public void testCasesAreFound_usingPatternIgnoringCase() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "First Case",
+                "  Log  case",
+                "second case",
+                "  Log  case",
+                "*** Keywords ***",
+                "kw case",
+                "  Log  case");
+
+        final RobotModel model = new RobotModel();
+        final SearchResult result = new SearchResult(null);
+        new TestCaseSearch(new SearchPattern("*CASE"), model, result, new OccurrencesIndex())
+                .locateMatchesInRobotFile(model.createSuiteFile(suite));
+
+        assertThat(texts(result, suite)).containsExactly("First Case", "second case");
+    }
+
+    @Test
+    public void variablesAreFound_withOrWithoutBrackets() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Variables ***",
+                "${var}  1",
+                "*** Test Cases ***",
+                "case",
+                "  Log  ${var}",
+                "  Log  ${other}",
+                "  # ${var}");
+
+        final RobotModel model = new RobotModel();
+        final SearchResult first = new SearchResult(null);
+        new VariableSearch(new SearchPattern("${var}"), model, first, new OccurrencesIndex())
+                .locateMatchesInRobotFile(model.createSuiteFile(suite));
+        final SearchResult second = new SearchResult(null);
+        new VariableSearch(new SearchPattern("va?"), model, second, new OccurrencesIndex())
+                .locateMatchesInRobotFile(model.createSuiteFile(suite));
+
+        assertThat(first.getMatchCount()).isEqualTo(2);
+        assertThat(texts(first, suite)).containsOnly("${var}");
+        assertThat(second.getMatchCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void documentationMatchesAreFound_insideDocumentationOfSuiteTestsAndKeywords() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Documentation  suite documentation",
+                "*** Test Cases ***",
+                "case",
+                "  [Documentation]  other text",
+                "  Log  documentation",
+                "*** Keywords ***",
+                "kw",
+                "  [Documentation]  documentation of kw");
+
+        final RobotModel model = new RobotModel();
+        final SearchResult result = new SearchResult(null);
+        new DocumentationSearch(new SearchPattern("doc*tion"), model, result, new OccurrencesIndex())
+                .locateMatchesInRobotFile(model.createSuiteFile(suite));
+
+        assertThat(texts(result, suite)).containsExactly("suite documentation", "documentation of kw");
+        assertThat(Stream.of(result.getMatches(suite)).map(match -> match.getLength()).collect(toList()))
+                .containsExactly(13, 13);
+    }
+
+    @Test
+    public void occurrencesAreCollectedAgain_onlyWhenFileChanges() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "case");
+        createFile(project, "unrelated.robot",
+                "*** Test Cases ***",
+                "case");
+
+        final RobotModel model = new RobotModel();
+        final RobotSuiteFile suiteFile = model.createSuiteFile(suite);
+        final ValidationContext context = new ValidationContext(suiteFile.getRobotProject(), new BuildLogger());
+        final OccurrencesIndex index = new OccurrencesIndex();
+
+        final FileOccurrences occurrences = index.getOccurrences(suiteFile, context);
+        assertThat(index.getOccurrences(suiteFile, context)).isSameAs(occurrences);
+
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(index);
+        try {
+            createFile(project, "unrelated.robot",
+                    "*** Test Cases ***",
+                    "other");
+            assertThat(index.getOccurrences(suiteFile, context)).isSameAs(occurrences);
+
+            createFile(project, "suite.robot",
+                    "*** Test Cases ***",
+                    "case",
+                    "other case");
+        } finally {
+            ResourcesPlugin.getWorkspace().removeResourceChangeListener(index);
+        }
+        final RobotSuiteFile changedFile = new RobotModel().createSuiteFile(suite);
+        assertThat(index.getOccurrences(changedFile, context)).isNotSameAs(occurrences);
+        assertThat(index.getOccurrences(changedFile, context).getOccurrences()).hasSize(2);
+    }
+
+    @Test
+    public void occurrencesAreCollectedAgain_whenTransitivelyImportedResourceChanges() throws Exception {
+        createFile(project, "res2.robot",
+                "*** Keywords ***",
+                "kw");
+        createFile(project, "res1.robot",
+                "*** Settings ***",
+                "Resource  res2.robot");
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Settings ***",
+                "Resource  res1.robot",
+                "*** Test Cases ***",
+                "case",
+                "  kw");
+
+        final RobotModel model = new RobotModel();
+        final RobotSuiteFile suiteFile = model.createSuiteFile(suite);
+        final ValidationContext context = new ValidationContext(suiteFile.getRobotProject(), new BuildLogger());
+        final OccurrencesIndex index = new OccurrencesIndex();
+
+        final FileOccurrences occurrences = index.getOccurrences(suiteFile, context);
+        assertThat(index.getOccurrences(suiteFile, context)).isSameAs(occurrences);
+
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(index);
+        try {
+            createFile(project, "res2.robot",
+                    "*** Keywords ***",
+                    "kw",
+                    "other");
+        } finally {
+            ResourcesPlugin.getWorkspace().removeResourceChangeListener(index);
+        }
+        assertThat(index.getOccurrences(suiteFile, context)).isNotSameAs(occurrences);
+    }
+
+    @Test
+    public void occurrencesOfRemovedFilesAreDropped() throws Exception {
+        final IFile suite = createFile(project, "suite.robot",
+                "*** Test Cases ***",
+                "case");
+        final IFile other = createFile(project, "other.robot",
+                "*** Test Cases ***",
+                "case");
+
+        final RobotModel model = new RobotModel();
+        final ValidationContext context = new ValidationContext(model.createRobotProject(project),
+                new BuildLogger());
+        final OccurrencesIndex index = new OccurrencesIndex();
+        index.getOccurrences(model.createSuiteFile(suite), context);
+        index.getOccurrences(model.createSuiteFile(other), context);
+
+        ResourcesPlugin.getWorkspace().addResourceChangeListener(index);
+        try {
+            suite.delete(true, null);
+        } finally {
+            ResourcesPlugin.getWorkspace().removeResourceChangeListener(index);
+        }
+        assertThat(index.isIndexed(suite)).isFalse();
+        assertThat(index.isIndexed(other)).isTrue();
+    }
+
+    private static List<String> texts(final SearchResult result, final IFile file) {
+        return Stream.of(result.getMatches(file))
+                .map(OccurrenceMatch.class::cast)
+                .map(match -> match.getOccurrence().getName())
+                .collect(toList());
+    }
+}
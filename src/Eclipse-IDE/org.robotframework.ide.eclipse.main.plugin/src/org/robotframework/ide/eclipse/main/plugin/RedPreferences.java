@@ -97,6 +97,7 @@ public class RedPreferences {
     public static final String PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED = "red.libraries.pythonLibrariesLibdocsGenarationInSeperateProcessEnabled";
     public static final String PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT = "red.libraries.pythonLibrariesLibdocsGenarationT";
     public static final String LIBDOCS_AUTO_RELOAD_ENABLED = "red.libraries.libdocsAutoReloadEnabled";
+    public static final String LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT = "red.libraries.libdocsGenerationSessionServersLimit";
 
     public static final String LAUNCH_USE_ARGUMENT_FILE = "red.launch.useArgumentFile";
     public static final String LAUNCH_USE_SINGLE_FILE_DATA_SOURCE = "red.launch.useSingleFileDataSource";
@@ -319,6 +320,10 @@ public class RedPreferences {
         return store.getBoolean(LIBDOCS_AUTO_RELOAD_ENABLED);
     }
 
+    public int getLibdocGenerationSessionServersLimit() {
+        return store.getInt(LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT);
+    }
+
     public EnumSet<FoldableElements> getFoldableElements() {
         final EnumSet<FoldableElements> elements = EnumSet.noneOf(FoldableElements.class);
         if (store.getBoolean(FOLDABLE_SECTIONS)) {
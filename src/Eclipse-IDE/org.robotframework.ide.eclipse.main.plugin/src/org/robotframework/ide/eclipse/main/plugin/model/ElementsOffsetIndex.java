@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.jface.text.Position;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.IRegionCacheable;
+import org.rf.ide.core.testdata.model.table.ARobotSectionTable;
+import org.rf.ide.core.testdata.model.table.TableHeader;
+
+/**
+ * Offsets index of elements of single suite file model. Regions of elements are kept in arrays
+ * sorted by start offsets, so the element covering given offset is found with binary search
+ * instead of walking through all the sections, their children and calls.
+ * <p>
+ * Found element is the same as the one found by walking the model: each region remembers the
+ * position of its element in the walk, and when regions covering the offset overlap (e.g. call
+ * and the test case holding it) the one visited first wins. Leaf elements (calls, settings,
+ * variables) and containers (test cases, keywords, section headers) are indexed separately, so
+ * that containers spanning many calls do not have to be scanned for each lookup.
+ */
+class ElementsOffsetIndex {
+
+    static ElementsOffsetIndex create(final List<RobotSuiteFileSection> sections) {
+        final List<Region> leaves = new ArrayList<>();
+        final List<Region> containers = new ArrayList<>();
+
+        int order = 0;
+        for (final RobotSuiteFileSection section : sections) {
+            for (final RobotFileInternalElement child : section.getChildren()) {
+                if (child instanceof RobotCodeHoldingElement<?>) {
+                    final RobotCodeHoldingElement<?> holder = (RobotCodeHoldingElement<?>) child;
+                    for (final RobotKeywordCall call : holder.getChildren()) {
+                        addLeafRegions(leaves, call, order++);
+                    }
+                    final Position position = holder.getPosition();
+                    containers.add(new Region(position.getOffset(), position.getOffset() + position.getLength(),
+                            holder, order++));
+
+                } else if (child instanceof RobotKeywordCall || child instanceof RobotVariable) {
+                    addLeafRegions(leaves, child, order++);
+
+                } else {
+                    throw new IllegalStateException("Unable to index element of unknown type: " + child.getClass());
+                }
+            }
+            final ARobotSectionTable table = section.getLinkedElement();
+            if (table != null) {
+                for (final TableHeader<? extends ARobotSectionTable> header : table.getHeaders()) {
+                    containers.add(new Region(header.getBeginPosition().getOffset(),
+                            header.getEndPosition().getOffset(), section, order++));
+                }
+            }
+        }
+        return new ElementsOffsetIndex(new Regions(leaves), new Regions(containers));
+    }
+
+    private static void addLeafRegions(final List<Region> regions, final RobotFileInternalElement element,
+            final int order) {
+        final AModelElement<?> linkedElement = (AModelElement<?>) element.getLinkedElement();
+        if (element instanceof RobotSetting && linkedElement instanceof IRegionCacheable<?>) {
+            // the same as in RobotSetting: setting may be made from couple of elements defined in
+            // different places inside the file
+            for (final FileRegion region : ((IRegionCacheable<?>) linkedElement).getContinuousRegions()) {
+                addRegion(regions, region.getStart(), region.getEnd(), element, order);
+            }
+        } else {
+            addRegion(regions, linkedElement.getBeginPosition(), linkedElement.getEndPosition(), element, order);
+        }
+    }
+
+    private static void addRegion(final List<Region> regions, final FilePosition begin, final FilePosition end,
+            final RobotFileInternalElement element, final int order) {
+        if (!begin.isNotSet()) {
+            regions.add(new Region(begin.getOffset(), end.getOffset(), element, order));
+        }
+    }
+
+    private final Regions leaves;
+
+    private final Regions containers;
+
+    private ElementsOffsetIndex(final Regions leaves, final Regions containers) {
+        this.leaves = leaves;
+        this.containers = containers;
+    }
+
+    Optional<RobotFileInternalElement> findElement(final int offset) {
+        final int leafIndex = leaves.findFirstCovering(offset);
+        final int containerIndex = containers.findFirstCovering(offset);
+
+        if (leafIndex == -1 && containerIndex == -1) {
+            return Optional.empty();
+        } else if (containerIndex == -1
+                || leafIndex != -1 && leaves.orders[leafIndex] < containers.orders[containerIndex]) {
+            return Optional.of(leaves.elements[leafIndex]);
+        } else {
+            return Optional.of(containers.elements[containerIndex]);
+        }
+    }
+
+    private static final class Region {
+
+        private final int start;
+
+        private final int end;
+
+        private final RobotFileInternalElement element;
+
+        private final int order;
+
+        private Region(final int start, final int end, final RobotFileInternalElement element, final int order) {
+            this.start = start;
+            this.end = end;
+            this.element = element;
+            this.order = order;
+        }
+    }
+
+    private static final class Regions {
+
+        private final int[] starts;
+
+        private final int[] ends;
+
+        // maximal end offset of all the regions up to given index; regions starting before
+        // the offset are only checked as long as some of them may still cover it
+        private final int[] maxEnds;
+
+        private final int[] orders;
+
+        private final RobotFileInternalElement[] elements;
+
+        private Regions(final List<Region> regions) {
+            regions.sort(Comparator.comparingInt((final Region region) -> region.start)
+                    .thenComparingInt(region -> region.order));
+
+            final int size = regions.size();
+            this.starts = new int[size];
+            this.ends = new int[size];
+            this.maxEnds = new int[size];
+            this.orders = new int[size];
+            this.elements = new RobotFileInternalElement[size];
+            for (int i = 0; i < size; i++) {
+                final Region region = regions.get(i);
+                starts[i] = region.start;
+                ends[i] = region.end;
+                maxEnds[i] = i == 0 ? region.end : Math.max(maxEnds[i - 1], region.end);
+                orders[i] = region.order;
+                elements[i] = region.element;
+            }
+        }
+
+        private int findFirstCovering(final int offset) {
+            int found = -1;
+            for (int i = findLastStartingAtOrBefore(offset); i >= 0 && maxEnds[i] >= offset; i--) {
+                if (offset <= ends[i] && (found == -1 || orders[i] < orders[found])) {
+                    found = i;
+                }
+            }
+            return found;
+        }
+
+        private int findLastStartingAtOrBefore(final int offset) {
+            int low = 0;
+            int high = starts.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                if (starts[mid] <= offset) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return high;
+        }
+    }
+}
@@ -28,6 +28,8 @@ public class LibspecsFolder {
 
     private static final String LIBSPEC_FILE_EXTENSION = ".libspec";
 
+    private static final String FINGERPRINTS_FILE_NAME = ".fingerprints";
+
     private final IFolder folder;
 
     public LibspecsFolder(final IFolder folder) {
@@ -109,7 +111,9 @@ public class LibspecsFolder {
                 || changedLibspecFolder.getKind() == IResourceDelta.REMOVED) {
             return true;
         } else if (changedLibspecFolder.getKind() == IResourceDelta.CHANGED) {
-            return changedLibspecFolder.getAffectedChildren().length > 0;
+            // fingerprints are written by the build itself, so their change should not cause another build
+            return Stream.of(changedLibspecFolder.getAffectedChildren())
+                    .anyMatch(child -> !child.getResource().equals(getFingerprintsFile()));
         }
         return false;
     }
@@ -122,6 +126,14 @@ public class LibspecsFolder {
         return getFile(libraryName + ".html");
     }
 
+    /**
+     * Returns file holding fingerprints of libraries for which libspecs were generated, so that
+     * only the libspecs of changed libraries have to be regenerated.
+     */
+    public IFile getFingerprintsFile() {
+        return getFile(FINGERPRINTS_FILE_NAME);
+    }
+
     public IFile getFile(final String name) {
         return folder.getFile(name);
     }
@@ -17,6 +17,7 @@ import org.eclipse.core.resources.IFolder;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.jface.resource.ImageDescriptor;
 import org.rf.ide.core.testdata.model.RobotFile;
 import org.robotframework.ide.eclipse.main.plugin.project.ASuiteFileDescriber;
@@ -117,6 +118,7 @@ public abstract class RobotContainer extends RobotProjectElement {
                 if (isRemoved(elementDelta)) {
                     changes.add(RobotElementChange.createRemovedElement(file));
                     toRemove.add(file);
+                    removeParsedFileSnapshot(file);
                 } else if (isChanged(elementDelta)) {
                     changes.add(RobotElementChange.createChangedElement(file));
                     changes.addAll(file.synchronizeChanges(elementDelta));
@@ -127,6 +129,13 @@ public abstract class RobotContainer extends RobotProjectElement {
         return changes;
     }
 
+    private void removeParsedFileSnapshot(final RobotSuiteFile file) {
+        final IPath location = file.getFile().getLocation();
+        if (location != null) {
+            file.getRobotProject().getParsedFilesCache().remove(location.toFile());
+        }
+    }
+
     private boolean isChanged(final IResourceDelta elementDelta) {
         return elementDelta != null && elementDelta.getKind() == IResourceDelta.CHANGED
                 && elementDelta.getFlags() != IResourceDelta.MARKERS;
@@ -17,6 +17,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.eclipse.core.resources.IFile;
@@ -45,6 +46,7 @@ import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibrary;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedLibraryArgumentsVariant;
 import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
 import org.rf.ide.core.project.RobotProjectConfigReader.CannotReadProjectConfigurationException;
+import org.rf.ide.core.testdata.ParsedFilesCache;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
@@ -62,6 +64,8 @@ public class RobotProject extends RobotContainer {
 
     private RobotProjectHolder projectHolder;
 
+    private ParsedFilesCache parsedFilesCache;
+
     private RobotProjectConfig configuration;
 
     private RobotVersion parserComplianceVersion;
@@ -72,6 +76,8 @@ public class RobotProject extends RobotContainer {
 
     private List<ReferencedVariableFile> referencedVariableFiles;
 
+    private final AtomicLong librariesVersion = new AtomicLong();
+
     private final LibrariesWatchHandler librariesWatchHandler;
 
     private final Map<String, RobotDryRunKeywordSource> kwSources = new ConcurrentHashMap<>();
@@ -89,6 +95,17 @@ public class RobotProject extends RobotContainer {
         return projectHolder;
     }
 
+    public synchronized ParsedFilesCache getParsedFilesCache() {
+        if (parsedFilesCache == null) {
+            final File cacheDirectory = getProject().getWorkingLocation(RedPlugin.PLUGIN_ID)
+                    .append("parsed")
+                    .toFile();
+            parsedFilesCache = new ParsedFilesCache(cacheDirectory);
+            parsedFilesCache.prune();
+        }
+        return parsedFilesCache;
+    }
+
     public IProject getProject() {
         return (IProject) container;
     }
@@ -100,6 +117,7 @@ public class RobotProject extends RobotContainer {
     @VisibleForTesting
     public void setRobotParserComplianceVersion(final RobotVersion version) {
         this.parserComplianceVersion = version;
+        librariesVersion.incrementAndGet();
     }
 
     public RobotVersion getRobotParserComplianceVersion() {
@@ -125,12 +143,14 @@ public class RobotProject extends RobotContainer {
         Stream.concat(stdLibsDescriptorsStream, remoteStdLibsDescriptorsStream).forEach(descriptor -> {
             stdLibsSpecs.put(descriptor, findLibSpec(descriptor));
         });
+        librariesVersion.incrementAndGet();
         return stdLibsSpecs;
     }
 
     @VisibleForTesting
     public void setStandardLibraries(final Map<LibraryDescriptor, LibrarySpecification> libs) {
         stdLibsSpecs = libs;
+        librariesVersion.incrementAndGet();
     }
 
     public synchronized boolean hasReferencedLibraries() {
@@ -160,12 +180,23 @@ public class RobotProject extends RobotContainer {
             }
 
         }
+        librariesVersion.incrementAndGet();
         return refLibsSpecs;
     }
 
     @VisibleForTesting
     public void setReferencedLibraries(final Map<LibraryDescriptor, LibrarySpecification> libs) {
         refLibsSpecs = libs;
+        librariesVersion.incrementAndGet();
+    }
+
+    /**
+     * Returns version which changes whenever libraries specifications, configuration or parser
+     * compliance version of this project are set, cleared or loaded again, so that data resolved
+     * using them can be cached until the version changes.
+     */
+    public long getLibrariesVersion() {
+        return librariesVersion.get();
     }
 
     public Stream<Entry<LibraryDescriptor, LibrarySpecification>> getLibraryEntriesStream() {
@@ -230,6 +261,7 @@ public class RobotProject extends RobotContainer {
         if (configuration == null) {
             try {
                 configuration = readRobotProjectConfig();
+                librariesVersion.incrementAndGet();
             } catch (final CannotReadProjectConfigurationException e) {
                 return new NullRobotProjectConfig();
             }
@@ -244,6 +276,7 @@ public class RobotProject extends RobotContainer {
     @VisibleForTesting
     public void setRobotProjectConfig(final RobotProjectConfig config) {
         this.configuration = config;
+        librariesVersion.incrementAndGet();
     }
 
     /**
@@ -274,6 +307,7 @@ public class RobotProject extends RobotContainer {
         if (projectHolder != null) {
             projectHolder.clearParsedFiles();
         }
+        getParsedFilesCache().clear();
     }
 
     /**
@@ -290,6 +324,7 @@ public class RobotProject extends RobotContainer {
         referencedVariableFiles = null;
         stdLibsSpecs = null;
         refLibsSpecs = null;
+        librariesVersion.incrementAndGet();
     }
 
     public synchronized void clearKwSources() {
@@ -5,11 +5,13 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.model;
 
+import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
 import java.io.File;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -57,6 +59,25 @@ public class RobotProjectPathsProvider {
         });
     }
 
+    /**
+     * Returns all the locations at which given import path is searched for, including the ones at
+     * which nothing exists yet.
+     */
+    public List<URI> tryToFindCandidateUris(final IFile file, final ImportPath importPath) {
+        final Map<String, String> variablesMapping = robotProject.getRobotProjectHolder().getVariableMappings();
+        try {
+            return ResolvedImportPath.from(importPath, variablesMapping).map(resolvedPath -> {
+                if (importPath.isAbsolute()) {
+                    return newArrayList(resolvedPath.getUri());
+                }
+                final ImportSearchPaths searchPaths = new ImportSearchPaths(createPathsProvider());
+                return searchPaths.findCandidateUris(RedWorkspace.tryToGetLocalUri(file), resolvedPath);
+            }).orElseGet(ArrayList::new);
+        } catch (final URISyntaxException e) {
+            return new ArrayList<>();
+        }
+    }
+
     public Optional<URI> tryToFindAbsoluteUri(final IFile file, final ImportPath importPath) {
         try {
             return findAbsoluteUri(file, importPath);
@@ -140,6 +140,15 @@ public class RobotSetting extends RobotKeywordCall {
         return modelType == ModelType.LIBRARY_IMPORT_SETTING;
     }
 
+    @Override
+    public void resetStored() {
+        super.resetStored();
+        // stored values are reset whenever setting is edited, so imports of the file may change
+        if (getParent() != null) {
+            getParent().markSettingsModified();
+        }
+    }
+
     @Override
     public ImageDescriptor getImage() {
         return RedImages.getRobotSettingImage();
@@ -14,6 +14,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.rf.ide.core.testdata.model.AKeywordBaseSetting;
 import org.rf.ide.core.testdata.model.AModelElement;
@@ -40,6 +41,8 @@ public class RobotSettingsSection extends RobotSuiteFileSection implements IRobo
 
     private final SettingTableModelUpdater settingTableModelUpdater;
 
+    private final AtomicLong modificationStamp = new AtomicLong();
+
     RobotSettingsSection(final RobotSuiteFile parent, final SettingTable settingTable) {
         super(parent, SECTION_NAME, settingTable);
         settingTableModelUpdater = new SettingTableModelUpdater();
@@ -118,6 +121,7 @@ public class RobotSettingsSection extends RobotSuiteFileSection implements IRobo
 
         final RobotSetting setting = newSetting(name, newModelElement);
         elements.add(setting);
+        markSettingsModified();
 
         return setting;
     }
@@ -142,6 +146,7 @@ public class RobotSettingsSection extends RobotSuiteFileSection implements IRobo
             call.setParent(this);
             elements.add(allSettingsElementsIndex, setting);
         }
+        markSettingsModified();
 
         return setting;
     }
@@ -166,6 +171,19 @@ public class RobotSettingsSection extends RobotSuiteFileSection implements IRobo
     public void removeChild(final RobotKeywordCall child) {
         getChildren().remove(child);
         new SettingTableModelUpdater().remove(getLinkedElement(), child.getLinkedElement());
+        markSettingsModified();
+    }
+
+    /**
+     * Returns stamp which changes whenever settings of this section are added, removed, moved or
+     * modified.
+     */
+    public long getModificationStamp() {
+        return modificationStamp.get();
+    }
+
+    public void markSettingsModified() {
+        modificationStamp.incrementAndGet();
     }
 
     public List<RobotSetting> getMetadataSettings() {
@@ -5,7 +5,6 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.model;
 
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.ByteArrayInputStream;
@@ -21,7 +20,8 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Stream;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IFolder;
@@ -68,6 +68,14 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
     private List<RobotSuiteFileSection> sections;
 
+    private volatile LibrariesImports librariesImports;
+
+    private volatile ResourcesImports resourcesImports;
+
+    private volatile IndexedSections indexedSections;
+
+    private final AtomicLong modelModificationStamp = new AtomicLong();
+
     public RobotSuiteFile(final RobotElement parent, final IFile file) {
         super(parent);
         this.file = file;
@@ -84,6 +92,7 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
             return sections.get(sections.indexOf(section));
         } else {
             sections.add(section);
+            modelModificationStamp.incrementAndGet();
             return section;
         }
     }
@@ -133,6 +142,7 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
     }
 
     public void link(final RobotFileOutput fileOutput) {
+        modelModificationStamp.incrementAndGet();
         this.fileOutput = fileOutput;
         if (this.fileOutput != null) {
             link(fileOutput.getFileModel());
@@ -176,6 +186,7 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
             // changes to the model, but those changes were discarded (editor wasn't saved)
             fileOutput.setLastModificationEpochTime(System.currentTimeMillis());
         }
+        modelModificationStamp.incrementAndGet();
         contentTypeId = null;
         sections = null;
         fileOutput = null;
@@ -311,6 +322,15 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
         return file.getFullPath();
     }
 
+    /**
+     * Returns stamp which changes whenever the model of this file is linked again or disposed, also
+     * when the same {@link RobotFileOutput} object was modified and linked once more, or when new
+     * section is created.
+     */
+    public long getModelModificationStamp() {
+        return modelModificationStamp.get();
+    }
+
     @Override
     public RobotFile getLinkedElement() {
         return fileOutput == null ? null : fileOutput.getFileModel();
@@ -328,7 +348,8 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
     public RobotParser createRobotParser() {
         final RobotProject robotProject = getRobotProject();
-        return new RobotParser(robotProject.getRobotProjectHolder(), robotProject.getRobotParserComplianceVersion());
+        return new RobotParser(robotProject.getRobotProjectHolder(), robotProject.getRobotParserComplianceVersion(),
+                robotProject.getParsedFilesCache());
     }
 
     public RobotVersion getRobotParserComplianceVersion() {
@@ -385,32 +406,55 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
      */
     @Override
     public Optional<? extends RobotElement> findElement(final int offset) {
-        for (final RobotSuiteFileSection section : getSections()) {
-            final Optional<? extends RobotElement> candidate = section.findElement(offset);
-            if (candidate.isPresent()) {
-                return candidate;
+        final Optional<RobotFileInternalElement> indexed = getElementsOffsetIndex().findElement(offset);
+        return indexed.isPresent() ? indexed : Optional.of(this);
+    }
+
+    private ElementsOffsetIndex getElementsOffsetIndex() {
+        // offsets change only when the model is parsed and linked again, which changes the stamp
+        final List<RobotSuiteFileSection> currentSections = getSections();
+        synchronized (currentSections) {
+            final long stamp = getModelModificationStamp();
+            final IndexedSections indexed = indexedSections;
+            if (indexed != null && indexed.modelModificationStamp == stamp) {
+                return indexed.index;
             }
+            final ElementsOffsetIndex index = ElementsOffsetIndex.create(currentSections);
+            indexedSections = new IndexedSections(stamp, index);
+            return index;
         }
-        return Optional.of(this);
     }
 
     public Set<LibrarySpecification> getNotImportedLibraries() {
-        final Set<LibrarySpecification> allLibraries = new HashSet<>(getRobotProject().getLibrarySpecifications());
-        allLibraries.removeAll(getImportedLibraries().keySet());
-        return allLibraries;
+        return getLibrariesImports().notImportedLibs;
     }
 
     public Multimap<LibrarySpecification, Optional<String>> getImportedLibraries() {
-        final Collection<LibrarySpecification> specifications = getRobotProject().getLibrarySpecifications();
+        return getLibrariesImports().importedLibs;
+    }
+
+    private LibrariesImports getLibrariesImports() {
+        final RobotProject project = getRobotProject();
+        final RobotSettingsSection section = findSection(RobotSettingsSection.class).orElse(null);
+
+        final LibrariesImports imports = librariesImports;
+        if (imports != null && imports.state.isCurrent(project, section)) {
+            return imports;
+        }
+        final ImportsState state = new ImportsState(project, section);
+        final List<LibrarySpecification> specifications = new ArrayList<>(project.getLibrarySpecifications());
+        final LibrariesImports newImports = new LibrariesImports(state, specifications,
+                collectImportedLibraries(getSettings(section, RobotSettingsSection::getLibrariesSettings),
+                        specifications));
+        librariesImports = newImports;
+        return newImports;
+    }
+
+    private static SetMultimap<LibrarySpecification, Optional<String>> collectImportedLibraries(
+            final List<RobotSetting> libraryImports, final Collection<LibrarySpecification> specifications) {
         final ImmutableListMultimap<String, LibrarySpecification> specs = Multimaps.index(specifications,
                 LibrarySpecification::getName);
 
-        final List<RobotSetting> libraryImports = findSection(RobotSettingsSection.class).map(Stream::of)
-                .orElseGet(Stream::empty)
-                .map(RobotSettingsSection::getLibrariesSettings)
-                .flatMap(Collection::stream)
-                .collect(toList());
-
         final SetMultimap<LibrarySpecification, Optional<String>> importedLibs = LinkedHashMultimap.create();
         for (final RobotSetting setting : libraryImports) {
             setting.getImportedLibrary(specs)
@@ -428,14 +472,39 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
     }
 
     public List<IResource> getImportedResources() {
-        return findSection(RobotSettingsSection.class).map(Stream::of)
-                .orElseGet(Stream::empty)
-                .map(RobotSettingsSection::getResourcesSettings)
-                .flatMap(Collection::stream)
-                .map(RobotSetting::getImportedResource)
-                .filter(Optional::isPresent)
-                .map(Optional::get)
-                .collect(toList());
+        final RobotProject project = getRobotProject();
+        final RobotSettingsSection section = findSection(RobotSettingsSection.class).orElse(null);
+
+        // unresolved imports are not cached, as the resources may appear later
+        final ResourcesImports imports = resourcesImports;
+        if (imports != null && imports.state.isCurrent(project, section) && allExist(imports.importedResources)) {
+            return imports.importedResources;
+        }
+        final ImportsState state = new ImportsState(project, section);
+        final List<IResource> resources = new ArrayList<>();
+        boolean allResolved = true;
+        for (final RobotSetting setting : getSettings(section, RobotSettingsSection::getResourcesSettings)) {
+            final Optional<IResource> resource = setting.getImportedResource();
+            resource.ifPresent(resources::add);
+            allResolved &= resource.isPresent();
+        }
+        final ResourcesImports newImports = new ResourcesImports(state, resources);
+        resourcesImports = allResolved ? newImports : null;
+        return newImports.importedResources;
+    }
+
+    private static List<RobotSetting> getSettings(final RobotSettingsSection section,
+            final Function<RobotSettingsSection, List<RobotSetting>> settingsGetter) {
+        return section == null ? new ArrayList<>() : settingsGetter.apply(section);
+    }
+
+    private static boolean allExist(final List<IResource> resources) {
+        for (final IResource resource : resources) {
+            if (!resource.exists()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     public List<RobotKeywordDefinition> getUserDefinedKeywords() {
@@ -502,4 +571,73 @@ public class RobotSuiteFile extends RobotProjectElement implements RobotFileInte
 
         RobotFileOutput parse();
     }
+
+    /**
+     * State of the file and its project on which resolving of imports depends. The settings
+     * section is compared by identity together with its modification stamp, so the state changes
+     * when settings are reparsed or edited, while the project part changes when its configuration
+     * or libraries are reloaded.
+     */
+    private static final class ImportsState {
+
+        private final RobotSettingsSection section;
+
+        private final long settingsStamp;
+
+        private final long librariesVersion;
+
+        ImportsState(final RobotProject project, final RobotSettingsSection section) {
+            this.section = section;
+            this.settingsStamp = section == null ? 0 : section.getModificationStamp();
+            this.librariesVersion = project.getLibrariesVersion();
+        }
+
+        boolean isCurrent(final RobotProject project, final RobotSettingsSection section) {
+            return this.section == section && settingsStamp == (section == null ? 0 : section.getModificationStamp())
+                    && librariesVersion == project.getLibrariesVersion();
+        }
+    }
+
+    private static final class LibrariesImports {
+
+        private final ImportsState state;
+
+        private final Multimap<LibrarySpecification, Optional<String>> importedLibs;
+
+        private final Set<LibrarySpecification> notImportedLibs;
+
+        LibrariesImports(final ImportsState state, final List<LibrarySpecification> specifications,
+                final SetMultimap<LibrarySpecification, Optional<String>> importedLibs) {
+            this.state = state;
+            this.importedLibs = Multimaps.unmodifiableSetMultimap(importedLibs);
+
+            final Set<LibrarySpecification> notImportedLibs = new HashSet<>(specifications);
+            notImportedLibs.removeAll(importedLibs.keySet());
+            this.notImportedLibs = Collections.unmodifiableSet(notImportedLibs);
+        }
+    }
+
+    private static final class ResourcesImports {
+
+        private final ImportsState state;
+
+        private final List<IResource> importedResources;
+
+        ResourcesImports(final ImportsState state, final List<IResource> importedResources) {
+            this.state = state;
+            this.importedResources = Collections.unmodifiableList(importedResources);
+        }
+    }
+
+    private static final class IndexedSections {
+
+        private final long modelModificationStamp;
+
+        private final ElementsOffsetIndex index;
+
+        IndexedSections(final long modelModificationStamp, final ElementsOffsetIndex index) {
+            this.modelModificationStamp = modelModificationStamp;
+            this.index = index;
+        }
+    }
 }
@@ -35,6 +35,7 @@ public class MoveSettingDownCommand extends EditorCommand {
             return;
         }
         Collections.swap(section.getChildren(), currentIndex, downIndex);
+        section.markSettingsModified();
 
         final SettingTable table = section.getLinkedElement();
         table.moveDownElement(setting.getLinkedElement());
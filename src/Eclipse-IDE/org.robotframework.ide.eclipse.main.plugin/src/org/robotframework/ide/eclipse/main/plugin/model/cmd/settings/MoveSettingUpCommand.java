@@ -35,6 +35,7 @@ public class MoveSettingUpCommand extends EditorCommand {
             return;
         }
         Collections.swap(section.getChildren(), currentIndex, upIndex);
+        section.markSettingsModified();
 
         final SettingTable table = section.getLinkedElement();
         table.moveUpElement(setting.getLinkedElement());
@@ -13,6 +13,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.core.runtime.IPath;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordNamesIndex;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordScope;
 import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher;
 import org.rf.ide.core.testdata.model.table.keywords.names.GherkinStyleSupport;
@@ -34,6 +35,10 @@ public class AccessibleKeywordsEntities {
 
     private Map<String, Collection<KeywordEntity>> accessibleKeywords;
 
+    private KeywordNamesIndex<KeywordEntity> accessibleKeywordsIndex;
+
+    private KeywordNamesIndex<KeywordEntity> possibleKeywordsIndex;
+
     public AccessibleKeywordsEntities(final IPath filepath, final AccessibleKeywordsCollector collector) {
         this.filepath = filepath;
         this.collector = collector;
@@ -67,10 +72,11 @@ public class AccessibleKeywordsEntities {
 
     public ListMultimap<String, KeywordEntity> findPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
-        final Collection<KeywordEntity> filterAgainstDuplications = getAccessibleKeywordsDeduplicated();
-
-        return keywordSearcher.findKeywords(getAccessibleKeywords(), filterAgainstDuplications,
-                keywordName, stopIfOneWasMatching);
+        if (accessibleKeywordsIndex == null) {
+            accessibleKeywordsIndex = keywordSearcher.createIndex(getAccessibleKeywordsDeduplicated());
+        }
+        return keywordSearcher.findKeywords(getAccessibleKeywords(), accessibleKeywordsIndex, keywordName,
+                stopIfOneWasMatching);
     }
 
     protected Collection<KeywordEntity> getAccessibleKeywordsDeduplicated() {
@@ -110,11 +116,14 @@ public class AccessibleKeywordsEntities {
     public ListMultimap<KeywordScope, KeywordEntity> getPossibleKeywords(final String keywordName,
             final boolean stopIfOneWasMatching) {
 
-        final List<KeywordEntity> hereKeywords = new ArrayList<>();
-        hereKeywords.addAll(getPossibleKeywords().values());
+        if (possibleKeywordsIndex == null) {
+            final List<KeywordEntity> hereKeywords = new ArrayList<>();
+            hereKeywords.addAll(getPossibleKeywords().values());
+            possibleKeywordsIndex = keywordSearcher.createIndex(filterDuplicates(hereKeywords));
+        }
 
         final ListMultimap<String, KeywordEntity> foundKeywords = keywordSearcher.findKeywords(getAccessibleKeywords(),
-                filterDuplicates(hereKeywords), keywordName, stopIfOneWasMatching);
+                possibleKeywordsIndex, keywordName, stopIfOneWasMatching);
 
         return getPossibleKeywords(foundKeywords, keywordName);
     }
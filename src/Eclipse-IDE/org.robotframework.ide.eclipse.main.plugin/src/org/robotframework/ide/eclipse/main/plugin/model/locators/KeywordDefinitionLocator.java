@@ -81,13 +81,38 @@ public class KeywordDefinitionLocator {
             return;
         }
         final List<IResource> resources = startingFile.getImportedResources();
-        shouldContinue = locateInResourceFiles(resources, newHashSet(startingFile.getFile()), startingFile, detector);
+        shouldContinue = locateInResourceFiles(resources, newHashSet(startingFile.getFile()), detector);
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
         locateInLibraries(startingFile, detector);
     }
 
+    /**
+     * Locates only the keywords defined in the file itself, without looking into imported
+     * resources and libraries.
+     */
+    public void locateKeywordDefinitionInFile(final KeywordDetector detector) {
+        locateInCurrentFile(model.createSuiteFile(file), detector);
+    }
+
+    /**
+     * Locates only the keywords of libraries imported directly by the file.
+     */
+    public void locateKeywordDefinitionInImportedLibraries(final KeywordDetector detector) {
+        locateInLibraries(model.createSuiteFile(file), detector);
+    }
+
+    /**
+     * Locates keywords accessible through given resources, in the same order as
+     * {@link #locateKeywordDefinition(KeywordDetector)} does. Files already contained in given set
+     * are skipped, while all the visited resource files are added to it.
+     */
+    public void locateKeywordDefinitionInResources(final List<IResource> resources, final Set<IFile> alreadyVisited,
+            final KeywordDetector detector) {
+        locateInResourceFiles(resources, alreadyVisited, detector);
+    }
+
     private ContinueDecision locateInCurrentFile(final RobotSuiteFile file, final KeywordDetector detector) {
         final Optional<RobotKeywordsSection> section = file.findSection(RobotKeywordsSection.class);
         if (!section.isPresent()) {
@@ -103,7 +128,7 @@ public class KeywordDefinitionLocator {
     }
 
     private ContinueDecision locateInResourceFiles(final List<IResource> resources, final Set<IFile> alreadyVisited,
-            final RobotSuiteFile startingFile, final KeywordDetector detector) {
+            final KeywordDetector detector) {
         for (final IResource resourceFile : resources) {
             if (!resourceFile.exists() || resourceFile.getType() != IResource.FILE
                     || alreadyVisited.contains(resourceFile)) {
@@ -113,8 +138,7 @@ public class KeywordDefinitionLocator {
 
             final RobotSuiteFile resourceSuiteFile = model.createSuiteFile((IFile) resourceFile);
             final List<IResource> nestedResources = resourceSuiteFile.getImportedResources();
-            ContinueDecision shouldContinue = locateInResourceFiles(nestedResources, alreadyVisited, startingFile,
-                    detector);
+            ContinueDecision shouldContinue = locateInResourceFiles(nestedResources, alreadyVisited, detector);
             if (shouldContinue == ContinueDecision.STOP) {
                 return ContinueDecision.STOP;
             }
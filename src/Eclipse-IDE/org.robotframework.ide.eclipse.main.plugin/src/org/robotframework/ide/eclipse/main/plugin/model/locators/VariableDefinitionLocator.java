@@ -114,11 +114,44 @@ public class VariableDefinitionLocator {
         if (shouldContinue == ContinueDecision.STOP) {
             return;
         }
-        shouldContinue = locateInVariableFiles(detector);
+        locateVariableDefinitionInProject(detector);
+    }
+
+    /**
+     * Locates variables defined in the file itself and in variable files imported by it, without
+     * visiting imported resources.
+     */
+    public ContinueDecision locateVariableDefinitionInFile(final VariableDetector detector) {
+        return locateInCurrentFile(model.createSuiteFile(file), detector);
+    }
+
+    /**
+     * Locates only the local variables visible at given offset of the file.
+     */
+    public ContinueDecision locateVariableDefinitionInLocalScope(final VariableDetector detector,
+            final int sourceOffset) {
+        return locateInLocalScope(model.createSuiteFile(file), detector, sourceOffset);
+    }
+
+    /**
+     * Locates variables defined in given resources and resources imported by them. Resources
+     * from alreadyVisited set are skipped, while all visited resources are added to it.
+     */
+    public ContinueDecision locateVariableDefinitionInResources(final List<IResource> resources,
+            final Set<IFile> alreadyVisited, final VariableDetector detector) {
+        return locateInResourceFiles(resources, alreadyVisited, detector);
+    }
+
+    /**
+     * Locates variables from variable files referenced in project configuration and global
+     * variables.
+     */
+    public ContinueDecision locateVariableDefinitionInProject(final VariableDetector detector) {
+        final ContinueDecision shouldContinue = locateInVariableFiles(detector);
         if (shouldContinue == ContinueDecision.STOP) {
-            return;
+            return ContinueDecision.STOP;
         }
-        locateGlobalVariables(startingFile, detector);
+        return locateGlobalVariables(model.createSuiteFile(file), detector);
     }
 
     private ContinueDecision locateInLocalScope(final RobotSuiteFile file, final VariableDetector detector,
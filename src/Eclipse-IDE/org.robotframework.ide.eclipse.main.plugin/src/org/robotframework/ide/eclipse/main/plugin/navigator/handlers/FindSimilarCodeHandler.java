@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.navigator.handlers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.inject.Named;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.WorkspaceJob;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.e4.core.di.annotations.Execute;
+import org.eclipse.jface.viewers.IStructuredSelection;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.ui.IWorkbenchPage;
+import org.eclipse.ui.PartInitException;
+import org.eclipse.ui.PlatformUI;
+import org.eclipse.ui.ide.IDE;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.search.similar.CodeUnit;
+import org.rf.ide.core.testdata.model.search.similar.SimilarCodeFinder;
+import org.rf.ide.core.testdata.model.search.similar.SimilarCodeFinder.SimilarPair;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.navigator.handlers.FindSimilarCodeHandler.E4FindSimilarCodeHandler;
+import org.robotframework.red.commands.DIParameterizedHandler;
+import org.robotframework.red.jface.dialogs.DetailedErrorDialog;
+import org.robotframework.red.viewers.Selections;
+
+import com.google.common.annotations.VisibleForTesting;
+
+public class FindSimilarCodeHandler extends DIParameterizedHandler<E4FindSimilarCodeHandler> {
+
+    private static final int MINIMAL_SIMILARITY = 100;
+
+    private static final String REPORT_FILE_NAME = "similar_code.txt";
+
+    public FindSimilarCodeHandler() {
+        super(E4FindSimilarCodeHandler.class);
+    }
+
+    public static class E4FindSimilarCodeHandler {
+
+        @Execute
+        public void findSimilarCode(final @Named(Selections.SELECTION) IStructuredSelection selection) {
+            final List<IResource> selectedResources = Selections.getAdaptableElements(selection, IResource.class);
+            final WorkspaceJob suiteCollectingJob = RobotSuiteFileCollector.createCollectingJob(selectedResources,
+                    FindSimilarCodeHandler::scheduleReportJob);
+            suiteCollectingJob.schedule();
+        }
+    }
+
+    private static void scheduleReportJob(final List<RobotSuiteFile> suites) {
+        final Job job = new Job("Looking for similar test cases, tasks and keywords") {
+
+            @Override
+            protected IStatus run(final IProgressMonitor monitor) {
+                if (suites.isEmpty()) {
+                    return Status.OK_STATUS;
+                }
+                final List<String> report = createReport(suites, MINIMAL_SIMILARITY, monitor);
+                if (monitor.isCanceled()) {
+                    return Status.CANCEL_STATUS;
+                }
+                final IFile reportFile = suites.get(0).getFile().getProject().getFile(REPORT_FILE_NAME);
+                try {
+                    writeReport(reportFile, report, monitor);
+                    Display.getDefault().asyncExec(() -> openReport(reportFile));
+                } catch (final IOException | CoreException e) {
+                    Display.getDefault().asyncExec(() -> DetailedErrorDialog
+                            .openErrorDialog("Unable to write similar code report", e.getMessage()));
+                }
+                return Status.OK_STATUS;
+            }
+        };
+        job.setUser(true);
+        job.schedule();
+    }
+
+    @VisibleForTesting
+    static List<String> createReport(final List<RobotSuiteFile> suites, final int minimalSimilarity,
+            final IProgressMonitor monitor) {
+        final SimilarCodeFinder<String> finder = new SimilarCodeFinder<>();
+        for (final RobotSuiteFile suite : suites) {
+            if (monitor.isCanceled()) {
+                return new ArrayList<>();
+            }
+            suite.parse();
+            final RobotFile model = suite.getLinkedElement();
+            if (model != null) {
+                for (final CodeUnit unit : CodeUnit.collect(model)) {
+                    final String location = suite.getFile().getFullPath() + ":" + unit.getLine() + " ["
+                            + unit.getKind().name().toLowerCase().replace('_', ' ') + "] " + unit.getName();
+                    finder.add(location, unit.getContent());
+                }
+            }
+        }
+
+        final List<String> report = new ArrayList<>();
+        report.add("Similar test cases, tasks and keywords (similarity from -128 to 128, reported from "
+                + minimalSimilarity + ")");
+        for (final SimilarPair<String> pair : finder.find(minimalSimilarity, monitor::isCanceled)) {
+            report.add("");
+            report.add(pair.getSimilarity() + "\t" + pair.getFirst());
+            report.add("\t" + pair.getSecond());
+        }
+        return report;
+    }
+
+    @VisibleForTesting
+    static void writeReport(final IFile reportFile, final List<String> report, final IProgressMonitor monitor)
+            throws IOException, CoreException {
+        final String content = String.join("\n", report) + "\n";
+        try (InputStream input = new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8))) {
+            if (reportFile.exists()) {
+                reportFile.setContents(input, true, true, monitor);
+            } else {
+                reportFile.create(input, true, monitor);
+                reportFile.setCharset(StandardCharsets.UTF_8.name(), monitor);
+            }
+        }
+    }
+
+    private static void openReport(final IFile reportFile) {
+        final IWorkbenchPage page = PlatformUI.getWorkbench().getActiveWorkbenchWindow().getActivePage();
+        try {
+            IDE.openEditor(page, reportFile);
+        } catch (final PartInitException e) {
+            DetailedErrorDialog.openErrorDialog("Unable to open similar code report", e.getMessage());
+        }
+    }
+}
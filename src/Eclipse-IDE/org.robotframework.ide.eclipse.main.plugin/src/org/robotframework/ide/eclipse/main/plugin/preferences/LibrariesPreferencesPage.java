@@ -93,6 +93,15 @@ public class LibrariesPreferencesPage extends RedFieldEditorPreferencePage {
         GridDataFactory.fillDefaults().indent(5, 5).applyTo(libdocReloadButton);
         addField(libdocReloadEditor);
 
+        final IntegerFieldEditor sessionServersLimitEditor = new IntegerFieldEditor(
+                RedPreferences.LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT,
+                "Maximal number of libdocs generated in parallel", libGroup, 2);
+        GridDataFactory.fillDefaults().indent(5, 5).applyTo(sessionServersLimitEditor.getLabelControl(libGroup));
+        sessionServersLimitEditor.getLabelControl(libGroup)
+                .setToolTipText("Each library generated in parallel uses separate interpreter process");
+        sessionServersLimitEditor.setValidRange(1, 64);
+        addField(sessionServersLimitEditor);
+
         final BooleanFieldEditor libdocGenerationEditor = new BooleanFieldEditor(
                 RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED,
                 "Generate Python libraries libdocs in separate process", libGroup);
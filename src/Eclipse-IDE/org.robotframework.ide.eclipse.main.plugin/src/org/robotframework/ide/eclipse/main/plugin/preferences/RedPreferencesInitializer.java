@@ -150,6 +150,7 @@ public class RedPreferencesInitializer extends AbstractPreferenceInitializer {
         preferences.putBoolean(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_IN_SEPARATE_PROCESS_ENABLED, true);
         preferences.putInt(RedPreferences.PYTHON_LIBRARIES_LIBDOCS_GENERATION_TIMEOUT, 30);
         preferences.putBoolean(RedPreferences.LIBDOCS_AUTO_RELOAD_ENABLED, true);
+        preferences.putInt(RedPreferences.LIBDOCS_GENERATION_SESSION_SERVERS_LIMIT, 4);
     }
 
     private void initializeProblemSeverityPreferences(final IEclipsePreferences preferences) {
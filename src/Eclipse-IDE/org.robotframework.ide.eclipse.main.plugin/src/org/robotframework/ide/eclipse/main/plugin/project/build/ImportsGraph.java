@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspaceRoot;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.rf.ide.core.libraries.LibraryDescriptor;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.project.ImportPath;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.ModelType;
+import org.rf.ide.core.testdata.model.RobotExpressions;
+import org.rf.ide.core.testdata.model.RobotFileOutline;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Import;
+import org.robotframework.ide.eclipse.main.plugin.RedWorkspace;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProjectPathsProvider;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * Graph of resource, variables file and library imports of robot files inside the project. For
+ * each file the workspace paths it imports are kept together with reverse edges, so that all
+ * the files which directly or transitively import changed files can be found. The graph is
+ * updated incrementally for each validated file.
+ */
+public class ImportsGraph {
+
+    private static final Map<IProject, ImportsGraph> GRAPHS = new ConcurrentHashMap<>();
+
+    public static ImportsGraph forProject(final IProject project) {
+        return GRAPHS.computeIfAbsent(project, p -> new ImportsGraph());
+    }
+
+    /**
+     * Drops graph of given project, which should be done when project is closed or deleted.
+     */
+    public static void dispose(final IProject project) {
+        GRAPHS.remove(project);
+    }
+
+    private final Map<IFile, Set<IPath>> dependencies = new HashMap<>();
+
+    private final Map<IPath, Set<IFile>> importers = new HashMap<>();
+
+    private boolean isInitialized;
+
+    @VisibleForTesting
+    ImportsGraph() {
+        // use forProject method instead
+    }
+
+    public synchronized boolean isInitialized() {
+        return isInitialized;
+    }
+
+    public synchronized void markInitialized() {
+        isInitialized = true;
+    }
+
+    public synchronized void clear() {
+        dependencies.clear();
+        importers.clear();
+        isInitialized = false;
+    }
+
+    public synchronized void update(final IFile file, final Set<IPath> importedPaths) {
+        remove(file);
+        dependencies.put(file, importedPaths);
+        for (final IPath path : importedPaths) {
+            importers.computeIfAbsent(path, p -> new HashSet<>()).add(file);
+        }
+    }
+
+    public synchronized void remove(final IFile file) {
+        final Set<IPath> importedPaths = dependencies.remove(file);
+        if (importedPaths == null) {
+            return;
+        }
+        for (final IPath path : importedPaths) {
+            final Set<IFile> pathImporters = importers.get(path);
+            pathImporters.remove(file);
+            if (pathImporters.isEmpty()) {
+                importers.remove(path);
+            }
+        }
+    }
+
+    public synchronized Set<IPath> getDependencies(final IFile file) {
+        return new HashSet<>(dependencies.getOrDefault(file, new HashSet<>()));
+    }
+
+    /**
+     * Returns all the files which import given paths directly or through other files. Paths of
+     * imported folders (e.g. python packages) are also considered imported when any file inside
+     * of them changes. Files having given paths themselves are not returned unless they import
+     * some other changed file.
+     */
+    public synchronized Set<IFile> findImporters(final Collection<IPath> changedPaths) {
+        final Set<IFile> found = new LinkedHashSet<>();
+        final Set<IPath> visited = new HashSet<>();
+        final Queue<IPath> toVisit = new ArrayDeque<>(changedPaths);
+        while (!toVisit.isEmpty()) {
+            final IPath changedPath = toVisit.poll();
+            if (!visited.add(changedPath)) {
+                continue;
+            }
+            for (IPath path = changedPath; path.segmentCount() > 0; path = path.removeLastSegments(1)) {
+                for (final IFile importer : importers.getOrDefault(path, new HashSet<>())) {
+                    if (found.add(importer)) {
+                        toVisit.add(importer.getFullPath());
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Collects workspace paths imported by given file. Only the outline of the file is parsed, so
+     * that the imports of whole project can be collected without building full models. Libraries
+     * imported by name are matched with given specifications regardless of their arguments.
+     */
+    public static Set<IPath> collectImportedPaths(final RobotProject robotProject,
+            final ListMultimap<String, LibrarySpecification> libraries, final IFile file) {
+        final IPath location = file.getLocation();
+        if (location == null) {
+            return new HashSet<>();
+        }
+        final RobotParser parser = new RobotParser(robotProject.getRobotProjectHolder(),
+                robotProject.getRobotParserComplianceVersion());
+        return parser.parseOutline(location.toFile())
+                .map(outline -> collectImportedPaths(robotProject, libraries, file, outline))
+                .orElseGet(HashSet::new);
+    }
+
+    private static Set<IPath> collectImportedPaths(final RobotProject robotProject,
+            final ListMultimap<String, LibrarySpecification> libraries, final IFile file,
+            final RobotFileOutline outline) {
+        final RobotProjectPathsProvider pathsProvider = new RobotProjectPathsProvider(robotProject);
+        final IWorkspaceRoot root = file.getWorkspace().getRoot();
+        final RedWorkspace redWorkspace = new RedWorkspace(root);
+
+        final Set<IPath> paths = new HashSet<>();
+        for (final Import imported : outline.getImports()) {
+            final Optional<String> pathOrName = imported.getPathOrName().map(RobotExpressions::unescapeSpaces);
+            if (!pathOrName.isPresent()) {
+                continue;
+            }
+            if (imported.getType() == ModelType.LIBRARY_IMPORT_SETTING && libraries.containsKey(pathOrName.get())) {
+                for (final LibrarySpecification libSpec : libraries.get(pathOrName.get())) {
+                    getLibraryPath(libSpec.getDescriptor()).ifPresent(paths::add);
+                }
+            } else if (imported.getType() == ModelType.LIBRARY_IMPORT_SETTING) {
+                pathsProvider.tryToFindAbsoluteUri(file, ImportPath.from(pathOrName.get()))
+                        .map(redWorkspace::forUri)
+                        .map(IResource::getFullPath)
+                        .ifPresent(paths::add);
+            } else {
+                // all the candidates are recorded, so that importers are found also when imported
+                // file appears at some location which takes precedence or when it was missing
+                for (final URI candidate : pathsProvider.tryToFindCandidateUris(file,
+                        ImportPath.from(pathOrName.get()))) {
+                    for (final IFile candidateFile : root.findFilesForLocationURI(candidate)) {
+                        paths.add(candidateFile.getFullPath());
+                    }
+                }
+            }
+        }
+        return paths;
+    }
+
+    private static Optional<IPath> getLibraryPath(final LibraryDescriptor descriptor) {
+        if (descriptor == null || descriptor.isStandardLibrary() || descriptor.getPath() == null) {
+            return Optional.empty();
+        }
+        final IPath path = RedWorkspace.Paths
+                .toWorkspaceRelativeIfPossible(Path.fromPortableString(descriptor.getPath()));
+        return path.isAbsolute() ? Optional.empty() : Optional.of(Path.ROOT.append(path));
+    }
+}
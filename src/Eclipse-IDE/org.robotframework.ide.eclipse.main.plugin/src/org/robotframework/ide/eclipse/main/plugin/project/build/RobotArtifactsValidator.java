@@ -10,9 +10,12 @@ import static com.google.common.collect.Sets.newHashSet;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Queue;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -25,6 +28,7 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IncrementalProjectBuilder;
 import org.eclipse.core.resources.WorkspaceJob;
 import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
@@ -243,7 +247,7 @@ public class RobotArtifactsValidator {
             if (delta == null || kind == IncrementalProjectBuilder.FULL_BUILD) {
                 return createForWholeProject(project, reporter);
             } else {
-                return createForChangedFiles(delta, reporter);
+                return createForChangedFiles(project, delta, reporter);
             }
         }
 
@@ -269,15 +273,20 @@ public class RobotArtifactsValidator {
         private static ModelUnitValidatorConfig createForWholeProject(final IProject project,
                 final ValidationReportingStrategy reporter) {
             return context -> {
+                final ImportsGraph importsGraph = ImportsGraph.forProject(project);
+                importsGraph.clear();
+
                 final List<ModelUnitValidator> validators = new ArrayList<>();
                 project.accept(resource -> {
                     final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
                             reporter, false);
                     if (validator.isPresent()) {
-                        validators.add(validator.get());
+                        validators.add(createImportsRecordingValidator(context, importsGraph, resource,
+                                validator.get()));
                     }
                     return true;
                 });
+                importsGraph.markInitialized();
 
                 // those file could have markers reported by prior build job
                 final Collection<IResource> filesToOmit = newHashSet(project.getFile(".project"),
@@ -293,27 +302,87 @@ public class RobotArtifactsValidator {
             };
         }
 
-        private static ModelUnitValidatorConfig createForChangedFiles(final IResourceDelta delta,
-                final ValidationReportingStrategy reporter) {
+        private static ModelUnitValidatorConfig createForChangedFiles(final IProject project,
+                final IResourceDelta delta, final ValidationReportingStrategy reporter) {
             return context -> {
-                final List<ModelUnitValidator> validators = new ArrayList<>();
+                final ImportsGraph importsGraph = ImportsGraph.forProject(project);
+                if (!importsGraph.isInitialized()) {
+                    initializeImportsGraph(context, project, importsGraph);
+                }
+
+                final Set<IResource> changedFiles = new LinkedHashSet<>();
+                final Set<IPath> changedPaths = new HashSet<>();
                 delta.accept(d -> {
-                    if (d.getKind() != IResourceDelta.REMOVED && (d.getFlags() & IResourceDelta.CONTENT) != 0) {
-                        context.setIsValidatingChangedFiles(true);
-
-                        final IResource resource = d.getResource();
-                        final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
-                                reporter, false);
-                        if (validator.isPresent()) {
-                            validators.add(createSynchronizedValidator(resource, validator.get()));
+                    final IResource resource = d.getResource();
+                    if (d.getKind() == IResourceDelta.REMOVED) {
+                        changedPaths.add(resource.getFullPath());
+                        if (resource.getType() == IResource.FILE) {
+                            importsGraph.remove((IFile) resource);
                         }
+                    } else if ((d.getFlags() & IResourceDelta.CONTENT) != 0) {
+                        changedPaths.add(resource.getFullPath());
+                        changedFiles.add(resource);
+                    } else if (d.getKind() == IResourceDelta.ADDED) {
+                        changedPaths.add(resource.getFullPath());
                     }
                     return true;
                 });
+
+                // files importing changed files directly or transitively may have stale markers
+                final Set<IResource> filesToValidate = new LinkedHashSet<>(changedFiles);
+                filesToValidate.addAll(importsGraph.findImporters(changedPaths));
+
+                final List<ModelUnitValidator> validators = new ArrayList<>();
+                for (final IResource resource : filesToValidate) {
+                    if (!resource.exists()) {
+                        continue;
+                    }
+                    context.setIsValidatingChangedFiles(true);
+
+                    final Optional<? extends ModelUnitValidator> validator = createValidator(context, resource,
+                            reporter, false);
+                    if (validator.isPresent()) {
+                        validators.add(createSynchronizedValidator(resource,
+                                createImportsRecordingValidator(context, importsGraph, resource, validator.get())));
+                    }
+                }
                 return validators;
             };
         }
 
+        private static void initializeImportsGraph(final ValidationContext context, final IProject project,
+                final ImportsGraph importsGraph) throws CoreException {
+            project.accept(resource -> {
+                if (shouldValidate(context.getProjectConfiguration(), resource, false)
+                        && isRobotFile((IFile) resource)) {
+                    importsGraph.update((IFile) resource, collectImportedPaths(context, (IFile) resource));
+                }
+                return true;
+            });
+            importsGraph.markInitialized();
+        }
+
+        private static ModelUnitValidator createImportsRecordingValidator(final ValidationContext context,
+                final ImportsGraph importsGraph, final IResource resource, final ModelUnitValidator validator) {
+            if (!isRobotFile((IFile) resource)) {
+                return validator;
+            }
+            return monitor -> {
+                validator.validate(monitor);
+                importsGraph.update((IFile) resource, collectImportedPaths(context, (IFile) resource));
+            };
+        }
+
+        private static Set<IPath> collectImportedPaths(final ValidationContext context, final IFile file) {
+            return ImportsGraph.collectImportedPaths(context.getModel().createRobotProject(file.getProject()),
+                    context.getSpecifications(), file);
+        }
+
+        private static boolean isRobotFile(final IFile file) {
+            return ASuiteFileDescriber.isSuiteFile(file) || ASuiteFileDescriber.isRpaSuiteFile(file)
+                    || ASuiteFileDescriber.isResourceFile(file) || ASuiteFileDescriber.isInitializationFile(file);
+        }
+
         private static Optional<? extends ModelUnitValidator> createValidator(final ValidationContext context,
                 final IResource resource, final ValidationReportingStrategy reporter, final boolean isRevalidating)
                 throws CoreException {
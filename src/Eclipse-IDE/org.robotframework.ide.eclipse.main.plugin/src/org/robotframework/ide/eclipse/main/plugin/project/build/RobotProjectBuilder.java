@@ -126,6 +126,7 @@ public class RobotProjectBuilder extends IncrementalProjectBuilder {
                 .map(libspecsFolder::getXmlSpecFile)
                 .collect(toSet());
         filesToPreserve.addAll(libspecsFolder.getNewestHtmlSpecFiles());
+        filesToPreserve.add(libspecsFolder.getFingerprintsFile());
         try {
             libspecsFolder.preserveOnly(filesToPreserve);
         } catch (final CoreException e) {
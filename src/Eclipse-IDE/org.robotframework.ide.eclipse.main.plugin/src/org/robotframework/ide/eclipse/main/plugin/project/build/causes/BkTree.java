@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.causes;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>Burkhard-Keller tree of words using Levenshtein distance as a metric. Each child of a node
+ * keeps words which are in the same distance to the word of the node, so when looking for words
+ * within some distance from given word only children in distance range allowed by triangle
+ * inequality have to be visited.</p>
+ *
+ * <p>For the description of the structure see
+ * {@link https://en.wikipedia.org/wiki/BK-tree}</p>
+ */
+public class BkTree {
+
+    private Node root;
+
+    private int size;
+
+    public static BkTree create(final Collection<String> words) {
+        final BkTree tree = new BkTree();
+        words.forEach(tree::add);
+        return tree;
+    }
+
+    private void add(final String word) {
+        if (root == null) {
+            root = new Node(word, size++);
+            return;
+        }
+        Node current = root;
+        while (true) {
+            final int distance = SimilarityWithLevenshteinDistance.distance(current.word, word);
+            if (distance == 0) {
+                return;
+            }
+            final Node child = current.children.get(distance);
+            if (child == null) {
+                current.children.put(distance, new Node(word, size++));
+                return;
+            }
+            current = child;
+        }
+    }
+
+    /**
+     * Returns words which are within given distance from given word in the order in which they
+     * were added to the tree.
+     */
+    public List<String> findWithinDistance(final String word, final int maxDistance) {
+        final List<Node> found = new ArrayList<>();
+        final Deque<Node> toVisit = new ArrayDeque<>();
+        if (root != null) {
+            toVisit.push(root);
+        }
+        while (!toVisit.isEmpty()) {
+            final Node node = toVisit.pop();
+            final int distance = SimilarityWithLevenshteinDistance.distance(node.word, word);
+            if (distance <= maxDistance) {
+                found.add(node);
+            }
+            final int minChildDistance = Math.max(1, distance - maxDistance);
+            for (int childDistance = minChildDistance; childDistance <= distance + maxDistance; childDistance++) {
+                final Node child = node.children.get(childDistance);
+                if (child != null) {
+                    toVisit.push(child);
+                }
+            }
+        }
+        found.sort(Comparator.comparingInt(node -> node.index));
+
+        final List<String> words = new ArrayList<>();
+        found.forEach(node -> words.add(node.word));
+        return words;
+    }
+
+    private static final class Node {
+
+        private final String word;
+
+        private final int index;
+
+        private final Map<Integer, Node> children = new HashMap<>();
+
+        private Node(final String word, final int index) {
+            this.word = word;
+            this.index = index;
+        }
+    }
+}
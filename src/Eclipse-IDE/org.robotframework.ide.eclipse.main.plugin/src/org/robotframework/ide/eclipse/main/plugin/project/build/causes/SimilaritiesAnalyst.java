@@ -9,29 +9,20 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.util.Collection;
-import java.util.LinkedHashSet;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 
 import org.eclipse.core.resources.IFile;
-import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
-import org.rf.ide.core.project.RobotProjectConfig.ReferencedVariableFile;
-import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
 import org.robotframework.ide.eclipse.main.plugin.assist.RedSectionProposals;
 import org.robotframework.ide.eclipse.main.plugin.assist.RedSettingProposals;
 import org.robotframework.ide.eclipse.main.plugin.assist.RedSettingProposals.SettingTarget;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotFileInternalElement;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotKeywordDefinition;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotVariable;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.ContinueDecision;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordDefinitionLocator.KeywordDetector;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator;
-import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator.VariableDetector;
+import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+
+import com.google.common.cache.CacheBuilder;
 
 /**
  * @author Michal Anglart
@@ -41,6 +32,11 @@ class SimilaritiesAnalyst {
     private static final int DEFAULT_LIMIT = 5;
     private static final int DEFAULT_MAXIMUM_DISTANCE = 2;
 
+    // contexts are shared by analysts created for each problem, so that names trees cached in them are reused
+    private static final Map<RobotProject, ProjectContext> CONTEXTS = CacheBuilder.newBuilder()
+            .weakKeys()
+            .<RobotProject, ProjectContext> build()
+            .asMap();
 
     private final int limit;
 
@@ -61,7 +57,7 @@ class SimilaritiesAnalyst {
 
     Collection<String> provideSimilarLibraries(final IFile suiteFile, final String libraryName) {
         final RobotProject robotProject = RedPlugin.getModelManager().createProject(suiteFile.getProject());
-        final Collection<String> allLibs = robotProject.getLibrarySpecificationsStream()
+        final Set<String> allLibs = robotProject.getLibrarySpecificationsStream()
                 .map(LibrarySpecification::getName)
                 .collect(toSet());
         return similaritiesAlgorithm.onlyWordsWithinDistance(allLibs, libraryName, maximumDistance)
@@ -70,78 +66,33 @@ class SimilaritiesAnalyst {
     }
 
     Collection<String> provideSimilarAccessibleKeywords(final IFile suiteFile, final String keywordName) {
-        final Collection<String> allNames = collectAccessibleKeywordNames(suiteFile);
-        return similaritiesAlgorithm.onlyWordsWithinDistance(allNames, keywordName, maximumDistance)
+        final Set<String> candidates = getValidationContext(suiteFile).collectSimilarKeywordNames(suiteFile,
+                keywordName, maximumDistance);
+        return similaritiesAlgorithm.onlyWordsWithinDistance(candidates, keywordName, maximumDistance)
                 .limit(limit)
                 .collect(toList());
     }
 
-    private Collection<String> collectAccessibleKeywordNames(final IFile suiteFile) {
-        final Set<String> names = new LinkedHashSet<>();
-        new KeywordDefinitionLocator(suiteFile).locateKeywordDefinition(new KeywordDetector() {
-
-            @Override
-            public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAlias,
-                    final RobotSuiteFile exposingFile) {
-                names.add(kwSpec.getName());
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision keywordDetected(final RobotSuiteFile file, final RobotKeywordDefinition keyword) {
-                names.add(keyword.getName());
-                return ContinueDecision.CONTINUE;
-            }
-        });
-        return names;
-    }
-
     Collection<String> provideSimilarAccessibleVariables(final IFile suiteFile, final int offset,
             final String varName) {
-        final Collection<String> allNames = collectAccessibleVariableNames(suiteFile, offset);
-        return similaritiesAlgorithm.onlyWordsWithinDistance(allNames, varName, maximumDistance)
+        final Set<String> candidates = getValidationContext(suiteFile).collectSimilarVariableNames(suiteFile, offset,
+                varName, maximumDistance);
+        return similaritiesAlgorithm.onlyWordsWithinDistance(candidates, varName, maximumDistance)
                 .limit(limit)
                 .collect(toList());
     }
 
-    private Collection<String> collectAccessibleVariableNames(final IFile suiteFile, final int offset) {
-        final Set<String> names = new LinkedHashSet<>();
-        new VariableDefinitionLocator(suiteFile).locateVariableDefinitionWithLocalScope(new VariableDetector() {
-
-            @Override
-            public ContinueDecision variableDetected(final RobotVariable variable) {
-                names.add(variable.getName());
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file,
-                    final String variableName, final Object value) {
-                names.add(variableName);
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
-                    final RobotToken variable) {
-                names.add(variable.getText());
-                return ContinueDecision.CONTINUE;
-            }
-
-            @Override
-            public ContinueDecision globalVariableDetected(final String name, final Object value) {
-                names.add(name);
-                return ContinueDecision.CONTINUE;
-            }
-        }, offset);
-        return names;
+    private static ValidationContext getValidationContext(final IFile suiteFile) {
+        final RobotProject robotProject = RedPlugin.getModelManager().createProject(suiteFile.getProject());
+        // version is taken before creating the context, so it is never newer than libraries seen by the context
+        final long librariesVersion = robotProject.getLibrariesVersion();
+        final ProjectContext cached = CONTEXTS.get(robotProject);
+        if (cached != null && cached.librariesVersion == librariesVersion) {
+            return cached.context;
+        }
+        final ValidationContext context = new ValidationContext(robotProject, new BuildLogger());
+        CONTEXTS.put(robotProject, new ProjectContext(librariesVersion, context));
+        return context;
     }
 
     Collection<String> provideSimilarSectionNames(final String sectionName) {
@@ -157,4 +108,16 @@ class SimilaritiesAnalyst {
                 .limit(limit)
                 .collect(toList());
     }
+
+    private static final class ProjectContext {
+
+        private final long librariesVersion;
+
+        private final ValidationContext context;
+
+        ProjectContext(final long librariesVersion, final ValidationContext context) {
+            this.librariesVersion = librariesVersion;
+            this.context = context;
+        }
+    }
 }
@@ -14,18 +14,11 @@ import com.google.common.primitives.Ints;
 /**
  * <p>With great power comes great responsibility. Use wisely since this is a naive implementation
  * (not a Levenshtein automaton), so performance is poor for really big (hundreds of thousands)
- * candidates sets.</p>
+ * candidates sets. For such sets narrow down the candidates using {@link BkTree} first.</p>
  *
  * <p>For the definition of Levenshtein distance and algorithm for calculating it see
  * {@link https://en.wikipedia.org/wiki/Levenshtein_distance}</p>
  *
- * <p>TODO : if this functionality is needed for bigger sets then either:
- *    <ol>
- *      <li>use Trie representation as described in {@link http://stevehanov.ca/blog/index.php?id=114}</li>
- *      <li>implement automaton instead</li>
- *    </ol>
- * </p>
- *
  * @author Michal Anglart
  */
 class SimilarityWithLevenshteinDistance {
@@ -39,7 +32,7 @@ class SimilarityWithLevenshteinDistance {
                 .map(stringWithDistance -> stringWithDistance.word);
     }
 
-    private int distance(final String word1, final String word2) {
+    static int distance(final String word1, final String word2) {
         final int len1 = word1.length() + 1;
         final int len2 = word2.length() + 1;
         final int[][] dist = new int[len1][len2];
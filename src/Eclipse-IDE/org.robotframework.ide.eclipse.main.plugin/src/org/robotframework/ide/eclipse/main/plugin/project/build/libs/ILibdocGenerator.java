@@ -5,6 +5,9 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 
+import java.io.File;
+import java.util.Optional;
+
 import org.eclipse.core.resources.IFile;
 import org.rf.ide.core.environment.EnvironmentSearchPaths;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
@@ -17,4 +20,16 @@ interface ILibdocGenerator {
 
     IFile getTargetFile();
 
+    /**
+     * Returns key identifying generated library by its name, arguments and path. Unlike the
+     * message it is not meant to be displayed, so it stays the same between the builds.
+     */
+    String getLibraryKey();
+
+    /**
+     * Returns file or directory containing library sources, or empty optional when sources are
+     * provided by the runtime environment itself.
+     */
+    Optional<File> getLibraryLocation();
+
 }
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Runs libdoc generations using given number of threads. Each generation borrows separate session
+ * server of its environment for the time of generating, so the generations running at the same
+ * time do not interfere with each other, e.g. through python paths and class paths of the server.
+ * Servers additionally started for the generations are closed when all of them are finished.
+ * <p>
+ * Progress is reported and cancellation is checked only by the thread calling
+ * {@link #generate(List, IProgressMonitor)}, as progress monitors are not thread-safe.
+ */
+class LibdocGenerationScheduler {
+
+    private static final long POLLING_INTERVAL_MILLIS = 100;
+
+    private final int threadPoolSize;
+
+    private final long timeoutMillis;
+
+    LibdocGenerationScheduler(final int threadPoolSize) {
+        this(threadPoolSize, TimeUnit.HOURS.toMillis(1));
+    }
+
+    @VisibleForTesting
+    LibdocGenerationScheduler(final int threadPoolSize, final long timeoutMillis) {
+        this.threadPoolSize = Math.max(1, threadPoolSize);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Generates all the libdocs unless monitor is cancelled. Returns exceptions thrown by failed
+     * generations in order in which generations were given. Generations which were not finished
+     * within the timeout are cancelled and reported as failed.
+     */
+    Map<LibdocGeneration, RuntimeEnvironmentException> generate(final List<LibdocGeneration> generations,
+            final IProgressMonitor monitor) {
+        final Map<LibdocGeneration, RuntimeEnvironmentException> failures = new HashMap<>();
+        if (generations.isEmpty() || monitor.isCanceled()) {
+            return failures;
+        }
+
+        final ExecutorService threadPool = Executors.newFixedThreadPool(Math.min(threadPoolSize, generations.size()));
+        final CompletionService<LibdocGeneration> completionService = new ExecutorCompletionService<>(threadPool);
+        final Queue<LibdocGeneration> startedGenerations = new ConcurrentLinkedQueue<>();
+        final Map<Future<LibdocGeneration>, LibdocGeneration> pendingGenerations = new HashMap<>();
+        for (final LibdocGeneration generation : generations) {
+            final Future<LibdocGeneration> future = completionService.submit(() -> {
+                startedGenerations.add(generation);
+                generation.run();
+                return generation;
+            });
+            pendingGenerations.put(future, generation);
+        }
+        threadPool.shutdown();
+        try {
+            awaitGenerations(completionService, pendingGenerations, startedGenerations, failures, monitor);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingGenerations.keySet().forEach(future -> future.cancel(true));
+            threadPool.shutdownNow();
+            closeAdditionalCommandExecutors(generations);
+        }
+
+        final Map<LibdocGeneration, RuntimeEnvironmentException> orderedFailures = new LinkedHashMap<>();
+        for (final LibdocGeneration generation : generations) {
+            if (failures.containsKey(generation)) {
+                orderedFailures.put(generation, failures.get(generation));
+            }
+        }
+        return orderedFailures;
+    }
+
+    private void awaitGenerations(final CompletionService<LibdocGeneration> completionService,
+            final Map<Future<LibdocGeneration>, LibdocGeneration> pendingGenerations,
+            final Queue<LibdocGeneration> startedGenerations,
+            final Map<LibdocGeneration, RuntimeEnvironmentException> failures, final IProgressMonitor monitor)
+            throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMillis;
+        boolean cancelled = false;
+        while (!pendingGenerations.isEmpty()) {
+            if (!cancelled && monitor.isCanceled()) {
+                // generations which are already running will be finished
+                pendingGenerations.keySet().forEach(future -> future.cancel(false));
+                cancelled = true;
+            }
+
+            final Future<LibdocGeneration> future = completionService.poll(POLLING_INTERVAL_MILLIS,
+                    TimeUnit.MILLISECONDS);
+            LibdocGeneration started;
+            while ((started = startedGenerations.poll()) != null) {
+                monitor.subTask(started.getGenerator().getMessage());
+            }
+
+            if (future != null) {
+                final LibdocGeneration generation = pendingGenerations.remove(future);
+                handleResult(future, generation, failures);
+                monitor.worked(1);
+
+            } else if (System.currentTimeMillis() > deadline) {
+                for (final LibdocGeneration generation : pendingGenerations.values()) {
+                    failures.put(generation, new RuntimeEnvironmentException("Libdoc generation was cancelled, as "
+                            + "it was not finished within " + TimeUnit.MILLISECONDS.toSeconds(timeoutMillis) + "s"));
+                }
+                RedPlugin.logError("Unable to finish generation of " + pendingGenerations.size()
+                        + " libdoc(s) in time, the generation was cancelled", null);
+                return;
+            }
+        }
+    }
+
+    private static void handleResult(final Future<LibdocGeneration> future, final LibdocGeneration generation,
+            final Map<LibdocGeneration, RuntimeEnvironmentException> failures) throws InterruptedException {
+        try {
+            future.get();
+        } catch (final CancellationException e) {
+            // cancelled by the user
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof RuntimeEnvironmentException) {
+                failures.put(generation, (RuntimeEnvironmentException) e.getCause());
+            } else {
+                RedPlugin.logError("Unable to generate libdoc", e.getCause());
+            }
+        }
+    }
+
+    private static void closeAdditionalCommandExecutors(final List<LibdocGeneration> generations) {
+        final Set<IRuntimeEnvironment> environments = generations.stream()
+                .map(LibdocGeneration::getEnvironment)
+                .collect(toCollection(LinkedHashSet::new));
+        for (final IRuntimeEnvironment environment : environments) {
+            environment.closeAdditionalCommandExecutors();
+        }
+    }
+
+    static class LibdocGeneration {
+
+        private final ILibdocGenerator generator;
+
+        private final IRuntimeEnvironment environment;
+
+        private final EnvironmentSearchPaths additionalPaths;
+
+        LibdocGeneration(final ILibdocGenerator generator, final IRuntimeEnvironment environment,
+                final EnvironmentSearchPaths additionalPaths) {
+            this.generator = generator;
+            this.environment = environment;
+            this.additionalPaths = additionalPaths;
+        }
+
+        ILibdocGenerator getGenerator() {
+            return generator;
+        }
+
+        IRuntimeEnvironment getEnvironment() {
+            return environment;
+        }
+
+        void run() {
+            generator.generateLibdoc(environment, additionalPaths);
+        }
+    }
+}
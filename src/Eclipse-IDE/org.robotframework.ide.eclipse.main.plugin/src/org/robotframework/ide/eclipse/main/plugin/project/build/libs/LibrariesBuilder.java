@@ -9,6 +9,9 @@ import static com.google.common.collect.Lists.newArrayList;
 import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -30,7 +33,6 @@ import org.rf.ide.core.environment.SuiteExecutor;
 import org.rf.ide.core.libraries.LibraryDescriptor;
 import org.rf.ide.core.libraries.LibrarySpecification;
 import org.rf.ide.core.libraries.LibrarySpecification.LibdocFormat;
-import org.rf.ide.core.libraries.LibrarySpecificationReader;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.LibraryType;
 import org.rf.ide.core.project.RobotProjectConfig.RemoteLocation;
@@ -43,6 +45,7 @@ import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.project.RedEclipseProjectConfig;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.libs.LibdocGenerationScheduler.LibdocGeneration;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
@@ -126,49 +129,60 @@ public class LibrariesBuilder {
         });
 
         monitor.setWorkRemaining(groupedGenerators.size());
+
+        final List<LibdocGeneration> generations = new ArrayList<>();
+        final Map<LibdocGeneration, IProject> generationsProjects = new HashMap<>();
+        final Multimap<IProject, LibdocGeneration> projectsGenerations = LinkedHashMultimap.create();
+        final Map<ILibdocGenerator, String> generatorsFingerprints = new HashMap<>();
+        final LibspecFingerprints.SourceFiles sourceFiles = new LibspecFingerprints.SourceFiles();
         for (final IProject project : groupedGenerators.keySet()) {
-            if (monitor.isCanceled()) {
-                return;
+            if (!project.exists()) {
+                monitor.worked(groupedGenerators.get(project).size());
+                continue;
             }
-
             final RobotProject robotProject = RedPlugin.getModelManager().createProject(project);
             final IRuntimeEnvironment runtimeEnvironment = robotProject.getRuntimeEnvironment();
 
-            MultiStatus multiStatus = null;
             for (final ILibdocGenerator generator : groupedGenerators.get(project)) {
-                if (monitor.isCanceled()) {
-                    return;
-                }
-                monitor.subTask(generator.getMessage());
-
-                try {
-                    if (project.exists()) {
-                        generator.generateLibdoc(runtimeEnvironment,
-                                new RedEclipseProjectConfig(project, robotProject.getRobotProjectConfig())
-                                        .createAdditionalEnvironmentSearchPaths());
-                    }
-                } catch (final RuntimeEnvironmentException e) {
-                    final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
-                            "\nProblem occurred during " + generator.getMessage() + ".", e);
-                    if (multiStatus == null) {
-                        multiStatus = new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[] { status },
-                                "Library specification generation problem", null);
-                    } else {
-                        multiStatus.add(status);
-                    }
-
-                    try {
-                        generator.getTargetFile().delete(true, new NullProgressMonitor());
-                    } catch (final CoreException e1) {
-                        multiStatus.add(e1.getStatus());
-                    }
-                }
-                monitor.worked(1);
+                final LibdocGeneration generation = new LibdocGeneration(generator, runtimeEnvironment,
+                        createAdditionalSearchPaths(robotProject, robotProject.getRobotProjectConfig()));
+                generations.add(generation);
+                generationsProjects.put(generation, project);
+                projectsGenerations.put(project, generation);
+                generatorsFingerprints.put(generator, LibspecFingerprints.calculate(generator, runtimeEnvironment,
+                        createAdditionalSearchPaths(robotProject, robotProject.getRobotProjectConfig()), sourceFiles));
             }
+        }
+
+        final Map<LibdocGeneration, RuntimeEnvironmentException> failures = createScheduler().generate(generations,
+                monitor);
+        for (final IProject project : projectsGenerations.keySet()) {
+            recordFingerprints(LibspecFingerprints.load(LibspecsFolder.get(project)),
+                    projectsGenerations.get(project), failures.keySet(), generatorsFingerprints,
+                    monitor.isCanceled());
+        }
+        if (monitor.isCanceled()) {
+            return;
+        }
+
+        final Map<IProject, MultiStatus> projectsStatuses = new LinkedHashMap<>();
+        failures.forEach((generation, e) -> {
+            final ILibdocGenerator generator = generation.getGenerator();
+            final Status status = new Status(IStatus.ERROR, RedPlugin.PLUGIN_ID,
+                    "\nProblem occurred during " + generator.getMessage() + ".", e);
+            final MultiStatus multiStatus = projectsStatuses.computeIfAbsent(generationsProjects.get(generation),
+                    project -> new MultiStatus(RedPlugin.PLUGIN_ID, IStatus.ERROR, new Status[0],
+                            "Library specification generation problem", null));
+            multiStatus.add(status);
 
-            if (multiStatus != null) {
-                StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
+            try {
+                generator.getTargetFile().delete(true, new NullProgressMonitor());
+            } catch (final CoreException e1) {
+                multiStatus.add(e1.getStatus());
             }
+        });
+        for (final MultiStatus multiStatus : projectsStatuses.values()) {
+            StatusManager.getManager().handle(multiStatus, StatusManager.BLOCK);
         }
         monitor.done();
     }
@@ -211,54 +225,94 @@ public class LibrariesBuilder {
 
         final Map<String, String> varsMapping = robotProject.getRobotProjectHolder().getVariableMappings();
 
-        final List<ILibdocGenerator> libdocGenerators = new ArrayList<>();
+        final List<ILibdocGenerator> fingerprintedGenerators = new ArrayList<>();
 
         final LibspecsFolder libspecsFolder = LibspecsFolder.get(robotProject.getProject());
-        libdocGenerators.addAll(getStandardLibrariesToRecreate(environment, libspecsFolder));
-        libdocGenerators.addAll(getStandardRemoteLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
-        libdocGenerators.addAll(getReferencedVirtualLibrariesToRecreate(configuration, libspecsFolder));
-        libdocGenerators.addAll(getReferencedPythonLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
+        fingerprintedGenerators.addAll(getStandardLibraries(environment, libspecsFolder));
+        fingerprintedGenerators.addAll(getReferencedVirtualLibraries(configuration, libspecsFolder));
+        fingerprintedGenerators.addAll(getReferencedPythonLibraries(configuration, libspecsFolder, varsMapping));
         if (environment.getInterpreter() == SuiteExecutor.Jython) {
-            libdocGenerators.addAll(getReferencedJavaLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
+            fingerprintedGenerators.addAll(getReferencedJavaLibraries(configuration, libspecsFolder, varsMapping));
         }
 
+        // libspecs are regenerated only when generated from different library sources, arguments,
+        // search paths or environment than the last time
+        final LibspecFingerprints fingerprints = LibspecFingerprints.load(libspecsFolder);
+        final Map<ILibdocGenerator, String> generatorsFingerprints = new HashMap<>();
+        final List<ILibdocGenerator> libdocGenerators = new ArrayList<>();
+        final LibspecFingerprints.SourceFiles sourceFiles = new LibspecFingerprints.SourceFiles();
+        for (final ILibdocGenerator generator : fingerprintedGenerators) {
+            final String fingerprint = LibspecFingerprints.calculate(generator, environment,
+                    createAdditionalSearchPaths(robotProject, configuration), sourceFiles);
+            if (!fileExist(generator.getTargetFile())
+                    || !fingerprints.isUpToDate(generator.getTargetFile(), fingerprint)) {
+                libdocGenerators.add(generator);
+                generatorsFingerprints.put(generator, fingerprint);
+            }
+        }
+        libdocGenerators.addAll(getStandardRemoteLibrariesToRecreate(configuration, libspecsFolder, varsMapping));
+
         monitor.setWorkRemaining(libdocGenerators.size());
 
+        final List<LibdocGeneration> generations = new ArrayList<>();
         for (final ILibdocGenerator generator : libdocGenerators) {
-            if (monitor.isCanceled()) {
-                return;
-            }
-
             logger.log("BUILDING: " + generator.getMessage());
-            monitor.subTask(generator.getMessage());
-            try {
-                final EnvironmentSearchPaths additionalSearchPaths = new RedEclipseProjectConfig(
-                        robotProject.getProject(), configuration).createAdditionalEnvironmentSearchPaths();
-                generator.generateLibdoc(environment, additionalSearchPaths);
+            generations.add(new LibdocGeneration(generator, environment,
+                    createAdditionalSearchPaths(robotProject, configuration)));
+        }
+        // the libraries with missing libspec are reported in validation phase
+        final Map<LibdocGeneration, RuntimeEnvironmentException> failures = createScheduler().generate(generations,
+                monitor);
+
+        recordFingerprints(fingerprints, generations, failures.keySet(), generatorsFingerprints,
+                monitor.isCanceled());
+
+        monitor.done();
+    }
+
+    private static EnvironmentSearchPaths createAdditionalSearchPaths(final RobotProject robotProject,
+            final RobotProjectConfig configuration) {
+        // generators may add their own paths, so each of them requires separate instance
+        return new RedEclipseProjectConfig(robotProject.getProject(), configuration)
+                .createAdditionalEnvironmentSearchPaths();
+    }
+
+    private static void recordFingerprints(final LibspecFingerprints fingerprints,
+            final Collection<LibdocGeneration> generations, final Collection<LibdocGeneration> failedGenerations,
+            final Map<ILibdocGenerator, String> generatorsFingerprints, final boolean canceled) {
+        for (final LibdocGeneration generation : generations) {
+            final ILibdocGenerator generator = generation.getGenerator();
+            final String fingerprint = generatorsFingerprints.get(generator);
+            if (fingerprint == null) {
+                continue;
 
-            } catch (final RuntimeEnvironmentException e) {
-                // the libraries with missing libspec are reported in validation phase
+            } else if (canceled || failedGenerations.contains(generation)) {
+                // libspec may have been generated only partially or not at all
+                fingerprints.remove(generator.getTargetFile());
+
+            } else {
+                fingerprints.update(generator.getTargetFile(), fingerprint);
             }
-            monitor.worked(1);
         }
+        fingerprints.save();
+    }
 
-        monitor.done();
+    private static LibdocGenerationScheduler createScheduler() {
+        return new LibdocGenerationScheduler(
+                RedPlugin.getDefault().getPreferences().getLibdocGenerationSessionServersLimit());
     }
 
-    private List<ILibdocGenerator> getStandardLibrariesToRecreate(final IRuntimeEnvironment environment,
+    private List<ILibdocGenerator> getStandardLibraries(final IRuntimeEnvironment environment,
             final LibspecsFolder libspecsFolder) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
         for (final String stdLib : environment.getStandardLibrariesNames()) {
             final String fileName = LibraryDescriptor.ofStandardLibrary(stdLib).generateLibspecFileName();
 
+            // RF version is a part of fingerprint, so standard libraries are regenerated when it changes
             final IFile xmlSpecFile = libspecsFolder.getXmlSpecFile(fileName);
-            if (!fileExist(xmlSpecFile) || !hasSameVersion(xmlSpecFile, environment.getVersion())) {
-                // we always want to regenerate standard libraries when RF version have changed
-                // or libdoc does not exist
-                generators.add(
-                        new StandardLibraryLibdocGenerator(stdLib, new ArrayList<>(), xmlSpecFile, LibdocFormat.XML));
-            }
+            generators.add(
+                    new StandardLibraryLibdocGenerator(stdLib, new ArrayList<>(), xmlSpecFile, LibdocFormat.XML));
         }
         return generators;
     }
@@ -285,7 +339,7 @@ public class LibrariesBuilder {
         return generators;
     }
 
-    private List<ILibdocGenerator> getReferencedVirtualLibrariesToRecreate(final RobotProjectConfig configuration,
+    private List<ILibdocGenerator> getReferencedVirtualLibraries(final RobotProjectConfig configuration,
             final LibspecsFolder libspecsFolder) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
@@ -303,17 +357,14 @@ public class LibrariesBuilder {
                                     .generateLibspecFileName();
 
                             final IFile xmlSpecFile = libspecsFolder.getXmlSpecFile(fileName);
-                            if (!fileExist(xmlSpecFile)) {
-                                generators
-                                        .add(new VirtualLibraryLibdocGenerator(libPath, xmlSpecFile, LibdocFormat.XML));
-                            }
+                            generators.add(new VirtualLibraryLibdocGenerator(libPath, xmlSpecFile, LibdocFormat.XML));
                         }
                     });
                 });
         return generators;
     }
 
-    private List<ILibdocGenerator> getReferencedPythonLibrariesToRecreate(final RobotProjectConfig configuration,
+    private List<ILibdocGenerator> getReferencedPythonLibraries(final RobotProjectConfig configuration,
             final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
@@ -326,19 +377,17 @@ public class LibrariesBuilder {
                                 .generateLibspecFileName();
 
                         final IFile xmlSpecFile = libspecsFolder.getXmlSpecFile(fileName);
-                        if (!fileExist(xmlSpecFile)) {
-                            final List<String> resolvedArguments = argsVariant.getArgsStream()
-                                    .map(val -> RobotExpressions.resolve(varsMapping, val))
-                                    .collect(toList());
-                            generators.add(new PythonLibraryLibdocGenerator(lib.getName(), resolvedArguments,
-                                    toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
-                        }
+                        final List<String> resolvedArguments = argsVariant.getArgsStream()
+                                .map(val -> RobotExpressions.resolve(varsMapping, val))
+                                .collect(toList());
+                        generators.add(new PythonLibraryLibdocGenerator(lib.getName(), resolvedArguments,
+                                toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
                     });
                 });
         return generators;
     }
 
-    private List<ILibdocGenerator> getReferencedJavaLibrariesToRecreate(final RobotProjectConfig configuration,
+    private List<ILibdocGenerator> getReferencedJavaLibraries(final RobotProjectConfig configuration,
             final LibspecsFolder libspecsFolder, final Map<String, String> varsMapping) {
         final List<ILibdocGenerator> generators = new ArrayList<>();
 
@@ -351,13 +400,11 @@ public class LibrariesBuilder {
                                 .generateLibspecFileName();
 
                         final IFile xmlSpecFile = libspecsFolder.getXmlSpecFile(fileName);
-                        if (!fileExist(xmlSpecFile)) {
-                            final List<String> resolvedArguments = argsVariant.getArgsStream()
-                                    .map(val -> RobotExpressions.resolve(varsMapping, val))
-                                    .collect(toList());
-                            generators.add(new JavaLibraryLibdocGenerator(lib.getName(), resolvedArguments,
-                                    toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
-                        }
+                        final List<String> resolvedArguments = argsVariant.getArgsStream()
+                                .map(val -> RobotExpressions.resolve(varsMapping, val))
+                                .collect(toList());
+                        generators.add(new JavaLibraryLibdocGenerator(lib.getName(), resolvedArguments,
+                                toAbsolute(lib.getPath()), xmlSpecFile, LibdocFormat.XML));
                     });
                 });
         return generators;
@@ -367,14 +414,6 @@ public class LibrariesBuilder {
         return file.exists() && file.getLocation().toFile().exists();
     }
 
-    private static boolean hasSameVersion(final IFile file, final String version) {
-        final String fileVersion = RedWorkspace.getLocalFile(file)
-                .flatMap(LibrarySpecificationReader::readSpecification)
-                .map(LibrarySpecification::getVersion)
-                .orElse("unknown");
-        return version.startsWith(String.format("Robot Framework %s (", fileVersion));
-    }
-
     private static String toAbsolute(final String path) {
         return RedWorkspace.Paths.toAbsoluteFromWorkspaceRelativeIfPossible(Path.fromPortableString(path)).toOSString();
     }
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.NullProgressMonitor;
+import org.rf.ide.core.environment.EnvironmentSearchPaths;
+import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.robotframework.ide.eclipse.main.plugin.RedPlugin;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Fingerprints of inputs used to generate libspecs: the library itself (name, arguments, location
+ * and sizes with modification times of its source files), additional search paths and the
+ * runtime environment. Libspec has to be regenerated only when its fingerprint differs from the
+ * one recorded during last generation. Libraries of single build often share directories, so
+ * {@link SourceFiles} found in each directory are collected once per build.
+ * <p>
+ * Fingerprints are stored as properties file inside libspecs folder. The file is written through
+ * workspace during the build and its changes are not taken into account when deciding whether
+ * libspecs should be regenerated, so saving it does not cause another build.
+ */
+class LibspecFingerprints {
+
+    static LibspecFingerprints load(final LibspecsFolder libspecsFolder) {
+        return load(libspecsFolder.getFingerprintsFile());
+    }
+
+    @VisibleForTesting
+    static LibspecFingerprints load(final IFile file) {
+        final Properties fingerprints = new Properties();
+        if (file.exists()) {
+            try (InputStream stream = file.getContents(true)) {
+                fingerprints.load(stream);
+            } catch (final CoreException | IOException | IllegalArgumentException e) {
+                // all the libspecs will be regenerated
+                fingerprints.clear();
+            }
+        }
+        return new LibspecFingerprints(file, fingerprints);
+    }
+
+    @VisibleForTesting
+    static String calculate(final ILibdocGenerator generator, final IRuntimeEnvironment environment,
+            final EnvironmentSearchPaths additionalPaths) {
+        return calculate(generator, environment, additionalPaths, new SourceFiles());
+    }
+
+    static String calculate(final ILibdocGenerator generator, final IRuntimeEnvironment environment,
+            final EnvironmentSearchPaths additionalPaths, final SourceFiles sourceFiles) {
+        final Hasher hasher = Hashing.sha256().newHasher();
+        putString(hasher, generator.getClass().getName());
+        putString(hasher, generator.getLibraryKey());
+        putString(hasher, String.valueOf(environment.getFile()));
+        putString(hasher, environment.getVersion());
+        putString(hasher, String.valueOf(environment.getInterpreter()));
+        putString(hasher, String.join(File.pathSeparator, additionalPaths.getPythonPaths()));
+        putString(hasher, String.join(File.pathSeparator, additionalPaths.getClassPaths()));
+
+        final Optional<File> location = generator.getLibraryLocation();
+        if (location.isPresent()) {
+            putLocationState(hasher, location.get().toPath(), sourceFiles);
+        }
+        return hasher.hash().toString();
+    }
+
+    private static void putLocationState(final Hasher hasher, final Path location, final SourceFiles sourceFiles) {
+        if (Files.isRegularFile(location)) {
+            putFileState(hasher, location, location.getFileName().toString());
+
+        } else if (Files.isDirectory(location)) {
+            try {
+                for (final Path file : sourceFiles.findPythonSourceFiles(location)) {
+                    putFileState(hasher, file, location.relativize(file).toString());
+                }
+            } catch (final IOException e) {
+                // libspec will be regenerated once the location becomes readable again
+                putString(hasher, "unreadable");
+            }
+        } else {
+            putString(hasher, "missing");
+        }
+    }
+
+    private static List<Path> walkPythonSourceFiles(final Path directory) throws IOException {
+        // library directory may be shared with other files (e.g. libspecs folder when library is
+        // placed directly in project), so only python sources are taken into account
+        final List<Path> files = new ArrayList<>();
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+
+            @Override
+            public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attributes) {
+                final String name = dir.getFileName().toString();
+                return !dir.equals(directory) && (name.startsWith(".") || name.equals("__pycache__"))
+                        ? FileVisitResult.SKIP_SUBTREE
+                        : FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(final Path file, final BasicFileAttributes attributes) {
+                if (attributes.isRegularFile() && file.getFileName().toString().endsWith(".py")) {
+                    files.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        Collections.sort(files);
+        return files;
+    }
+
+    private static void putFileState(final Hasher hasher, final Path file, final String name) {
+        putString(hasher, name);
+        final File ioFile = file.toFile();
+        hasher.putLong(ioFile.length());
+        hasher.putLong(ioFile.lastModified());
+    }
+
+    private static void putString(final Hasher hasher, final String value) {
+        // length is put first, so that consecutive values cannot be shifted between each other
+        final String nonNullValue = value == null ? "" : value;
+        hasher.putInt(nonNullValue.length());
+        hasher.putString(nonNullValue, StandardCharsets.UTF_8);
+    }
+
+    private final IFile file;
+
+    private final Properties fingerprints;
+
+    private boolean changed;
+
+    private LibspecFingerprints(final IFile file, final Properties fingerprints) {
+        this.file = file;
+        this.fingerprints = fingerprints;
+    }
+
+    boolean isUpToDate(final IFile libspec, final String fingerprint) {
+        return fingerprint.equals(fingerprints.getProperty(libspec.getName()));
+    }
+
+    void update(final IFile libspec, final String fingerprint) {
+        final Object previous = fingerprints.setProperty(libspec.getName(), fingerprint);
+        changed |= !fingerprint.equals(previous);
+    }
+
+    void remove(final IFile libspec) {
+        changed |= fingerprints.remove(libspec.getName()) != null;
+    }
+
+    void save() {
+        if (!changed || !file.getParent().exists()) {
+            return;
+        }
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            fingerprints.store(bytes, null);
+            final InputStream stream = new ByteArrayInputStream(bytes.toByteArray());
+            if (file.exists()) {
+                file.setContents(stream, IResource.FORCE, new NullProgressMonitor());
+            } else {
+                file.create(stream, IResource.FORCE | IResource.DERIVED, new NullProgressMonitor());
+            }
+            changed = false;
+        } catch (final IOException | CoreException e) {
+            RedPlugin.logError("Unable to save libspecs fingerprints", e);
+        }
+    }
+
+    /**
+     * Python source files of library directories, each directory is walked only once.
+     */
+    static final class SourceFiles {
+
+        private final Map<Path, List<Path>> pythonSourceFiles = new HashMap<>();
+
+        List<Path> findPythonSourceFiles(final Path directory) throws IOException {
+            List<Path> files = pythonSourceFiles.get(directory);
+            if (files == null) {
+                files = walkPythonSourceFiles(directory);
+                pythonSourceFiles.put(directory, files);
+            }
+            return files;
+        }
+    }
+}
@@ -7,6 +7,7 @@ package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 
 import java.io.File;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.runtime.Path;
@@ -101,4 +102,22 @@ class PythonLibraryLibdocGenerator implements ILibdocGenerator {
     public IFile getTargetFile() {
         return targetSpecFile;
     }
+
+    @Override
+    public String getLibraryKey() {
+        return buildNameWithArgs(libName, arguments) + "@" + libPath;
+    }
+
+    @Override
+    public Optional<File> getLibraryLocation() {
+        final File location = new File(libPath);
+        if (location.isDirectory() || libPath.toLowerCase().endsWith(".jar")
+                || libPath.toLowerCase().endsWith(".zip")) {
+            return Optional.of(location);
+        }
+        // package may import its other modules, while single module is taken alone, so that its
+        // fingerprint does not depend on all the other files placed in the same directory
+        final File directory = location.getParentFile();
+        return Optional.of(location.getName().equals("__init__.py") && directory != null ? directory : location);
+    }
 }
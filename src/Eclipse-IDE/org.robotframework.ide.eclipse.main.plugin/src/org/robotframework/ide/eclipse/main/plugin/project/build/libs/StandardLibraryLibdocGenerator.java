@@ -5,7 +5,9 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 
+import java.io.File;
 import java.util.List;
+import java.util.Optional;
 
 import org.eclipse.core.resources.IFile;
 import org.rf.ide.core.environment.EnvironmentSearchPaths;
@@ -47,4 +49,14 @@ class StandardLibraryLibdocGenerator implements ILibdocGenerator {
     public IFile getTargetFile() {
         return targetSpecFile;
     }
+
+    @Override
+    public String getLibraryKey() {
+        return PythonLibraryLibdocGenerator.buildNameWithArgs(libName, arguments);
+    }
+
+    @Override
+    public Optional<File> getLibraryLocation() {
+        return Optional.empty();
+    }
 }
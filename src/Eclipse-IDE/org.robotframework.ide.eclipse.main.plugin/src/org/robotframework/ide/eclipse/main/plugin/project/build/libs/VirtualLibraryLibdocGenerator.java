@@ -5,9 +5,11 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.libs;
 
+import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IResource;
@@ -81,4 +83,14 @@ class VirtualLibraryLibdocGenerator implements ILibdocGenerator {
     public IFile getTargetFile() {
         return targetSpecFile;
     }
+
+    @Override
+    public String getLibraryKey() {
+        return path.toPortableString();
+    }
+
+    @Override
+    public Optional<File> getLibraryLocation() {
+        return path.isAbsolute() ? Optional.of(path.toFile()) : Optional.empty();
+    }
 }
@@ -24,6 +24,7 @@ import org.robotframework.ide.eclipse.main.plugin.project.build.ValidationReport
 import org.robotframework.ide.eclipse.main.plugin.project.build.causes.VariablesProblem;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
 
 public class UnknownVariables {
 
@@ -56,8 +57,9 @@ public class UnknownVariables {
 
     void reportUnknownVarsDeclarations(final Set<String> additionalKnownVariables,
             final List<? extends VariableUse> variableUsages) {
-        final Set<String> allVariables = new HashSet<>(validationContext.getAccessibleVariables());
-        allVariables.addAll(additionalKnownVariables);
+        // accessible variables are shared by whole file, so they are only viewed here instead of being copied
+        final Set<String> allVariables = Sets.union(validationContext.getAccessibleVariables(),
+                additionalKnownVariables);
 
         for (final VariableUse declaration : variableUsages) {
             final boolean isValid = checkValidity(declaration);
@@ -5,15 +5,24 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.project.build.validation;
 
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.rf.ide.core.environment.RobotVersion;
 import org.rf.ide.core.environment.SuiteExecutor;
 import org.rf.ide.core.libraries.KeywordSpecification;
@@ -37,9 +46,14 @@ import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator;
 import org.robotframework.ide.eclipse.main.plugin.model.locators.VariableDefinitionLocator.VariableDetector;
 import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.causes.BkTree;
 import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext.ValidationKeywordEntity;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.ListMultimap;
 import com.google.common.collect.Multimaps;
 import com.google.common.io.Files;
@@ -63,6 +77,17 @@ public class ValidationContext {
 
     private boolean isValidatingChangedFiles;
 
+    private final Map<List<IResource>, ResourcesClosure<Map<String, Collection<KeywordEntity>>>> resourcesKeywords =
+            new ConcurrentHashMap<>();
+
+    private final Map<List<IResource>, ResourcesClosure<Set<String>>> resourcesVariables = new ConcurrentHashMap<>();
+
+    private final LoadingCache<LibrarySpecification, BkTree> librariesKeywordsNames = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(ValidationContext::createKeywordsNamesTree));
+
+    private volatile BkTree projectVariablesNames;
+
     public ValidationContext(final RobotProject robotProject, final BuildLogger logger) {
         this.model = (RobotModel) robotProject.getParent();
         this.logger = logger;
@@ -124,86 +149,301 @@ public class ValidationContext {
     }
 
     public Set<String> collectAccessibleVariables(final IFile file) {
-        final Set<String> variables = new HashSet<>();
-        new VariableDefinitionLocator(file, model).locateVariableDefinition(new VariableDetector() {
-
-            @Override
-            public ContinueDecision variableDetected(final RobotVariable variable) {
-                if (!variable.getName().isEmpty()) {
-                    variables.add(VariablesAnalyzer.normalizeName(variable.getActualName()));
-                }
-                return ContinueDecision.CONTINUE;
-            }
+        final VariableDefinitionLocator locator = new VariableDefinitionLocator(file, model);
+        final AccessibleVariablesCollector collector = new AccessibleVariablesCollector();
+
+        final List<IResource> resources = model.createSuiteFile(file).getImportedResources();
+        final ResourcesClosure<Set<String>> resourcesVariables = getResourcesVariables(resources);
+        if (resourcesVariables.isImporting(file)) {
+            // file is imported by its own resources, so it has to be skipped when visiting them
+            locator.locateVariableDefinition(collector);
+        } else {
+            locator.locateVariableDefinitionInFile(collector);
+            collector.variables.addAll(resourcesVariables.content);
+            locator.locateVariableDefinitionInProject(collector);
+        }
+        return collector.variables;
+    }
 
-            @Override
-            public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
-                    final RobotToken variable) {
-                // local variables will be added to context during validation
-                return ContinueDecision.CONTINUE;
-            }
+    private ResourcesClosure<Set<String>> getResourcesVariables(final List<IResource> resources) {
+        final ResourcesClosure<Set<String>> cached = resourcesVariables.get(resources);
+        if (cached != null && cached.isUpToDate(model)) {
+            return cached;
+        }
+        final Set<IFile> visitedResources = new HashSet<>();
+        final AccessibleVariablesCollector collector = new AccessibleVariablesCollector();
+        // variables of resources do not depend on file importing them, unless the file is one of resources
+        new VariableDefinitionLocator(null, model).locateVariableDefinitionInResources(resources, visitedResources,
+                collector);
+
+        final List<IResource> resourcesCopy = new ArrayList<>(resources);
+        final ResourcesClosure<Set<String>> collected = new ResourcesClosure<>(model, visitedResources,
+                collector.variables, () -> {
+                    final Set<String> names = new LinkedHashSet<>();
+                    new VariableDefinitionLocator(null, model).locateVariableDefinitionInResources(resourcesCopy,
+                            new HashSet<>(), new VariableNamesCollector(names));
+                    return names;
+                });
+        resourcesVariables.put(resourcesCopy, collected);
+        return collected;
+    }
 
-            @Override
-            public ContinueDecision globalVariableDetected(final String name, final Object value) {
-                variables.add(VariablesAnalyzer.normalizeName(name));
-                return ContinueDecision.CONTINUE;
-            }
+    /**
+     * Returns names of variables accessible at given offset of the file, which may be similar to
+     * given name. Local variables and variables of the file itself are all returned, while names
+     * of variables from imported resources and from the project are looked up in trees cached
+     * together with resources closures and this context, so only those within given distance are
+     * returned.
+     */
+    public Set<String> collectSimilarVariableNames(final IFile file, final int offset, final String name,
+            final int maximumDistance) {
+        final Set<String> names = new LinkedHashSet<>();
+        final VariableDefinitionLocator locator = new VariableDefinitionLocator(file, model);
+        locator.locateVariableDefinitionInLocalScope(new VariableNamesCollector(names), offset);
+        locator.locateVariableDefinitionInFile(new VariableNamesCollector(names));
+
+        final List<IResource> resources = model.createSuiteFile(file).getImportedResources();
+        names.addAll(getResourcesVariables(resources).getNamesTree().findWithinDistance(name, maximumDistance));
+        names.addAll(getProjectVariablesNames(file).findWithinDistance(name, maximumDistance));
+        return names;
+    }
 
-            @Override
-            public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file, final String name,
-                    final Object value) {
-                variables.add(VariablesAnalyzer.normalizeName(name));
-                return ContinueDecision.CONTINUE;
-            }
-        });
-        return variables;
+    private BkTree getProjectVariablesNames(final IFile file) {
+        // variable files and global variables are fixed for the context lifetime, same as libraries
+        BkTree names = projectVariablesNames;
+        if (names == null) {
+            final Set<String> projectNames = new LinkedHashSet<>();
+            new VariableDefinitionLocator(file, model)
+                    .locateVariableDefinitionInProject(new VariableNamesCollector(projectNames));
+            names = BkTree.create(projectNames);
+            projectVariablesNames = names;
+        }
+        return names;
     }
 
     public Map<String, Collection<KeywordEntity>> collectAccessibleKeywords(final IFile file) {
-        final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
-        new KeywordDefinitionLocator(file, model).locateKeywordDefinition(new KeywordDetector() {
+        final KeywordDefinitionLocator locator = new KeywordDefinitionLocator(file, model);
+        final AccessibleKeywordsCollector collector = new AccessibleKeywordsCollector();
+
+        final List<IResource> resources = model.createSuiteFile(file).getImportedResources();
+        final ResourcesClosure<Map<String, Collection<KeywordEntity>>> resourcesKeywords = getResourcesKeywords(
+                resources);
+        if (resourcesKeywords.isImporting(file)) {
+            // file is imported by its own resources, so it has to be skipped when visiting them
+            locator.locateKeywordDefinition(collector);
+        } else {
+            locator.locateKeywordDefinitionInFile(collector);
+            collector.addAll(resourcesKeywords.content);
+            locator.locateKeywordDefinitionInImportedLibraries(collector);
+        }
+        return collector.accessibleKeywords;
+    }
 
-            @Override
-            public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
-                return ContinueDecision.CONTINUE;
-            }
+    private ResourcesClosure<Map<String, Collection<KeywordEntity>>> getResourcesKeywords(
+            final List<IResource> resources) {
+        final ResourcesClosure<Map<String, Collection<KeywordEntity>>> cached = resourcesKeywords.get(resources);
+        if (cached != null && cached.isUpToDate(model)) {
+            return cached;
+        }
+        final Set<IFile> visitedResources = new HashSet<>();
+        final AccessibleKeywordsCollector collector = new AccessibleKeywordsCollector();
+        // keywords of resources do not depend on file importing them, unless the file is one of resources
+        new KeywordDefinitionLocator(null, model).locateKeywordDefinitionInResources(resources, visitedResources,
+                collector);
+
+        final Map<String, Collection<KeywordEntity>> keywords = collector.accessibleKeywords;
+        final ResourcesClosure<Map<String, Collection<KeywordEntity>>> collected = new ResourcesClosure<>(model,
+                visitedResources, keywords, () -> keywords.values()
+                        .stream()
+                        .flatMap(Collection::stream)
+                        .map(KeywordEntity::getNameFromDefinition)
+                        .collect(toCollection(LinkedHashSet::new)));
+        resourcesKeywords.put(new ArrayList<>(resources), collected);
+        return collected;
+    }
 
-            @Override
-            public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
-                    final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
-                    final RobotSuiteFile exposingFile) {
+    /**
+     * Returns names of keywords accessible in given file, which may be similar to given name.
+     * Keywords of the file itself are all returned, while names of keywords from imported
+     * resources and libraries are looked up in trees cached together with resources closures and
+     * library specifications, so only those within given distance are returned.
+     */
+    public Set<String> collectSimilarKeywordNames(final IFile file, final String name, final int maximumDistance) {
+        final RobotSuiteFile suiteFile = model.createSuiteFile(file);
+        final Set<String> names = new LinkedHashSet<>();
+        for (final RobotKeywordDefinition keyword : suiteFile.getUserDefinedKeywords()) {
+            names.add(keyword.getName());
+        }
+        final List<IResource> resources = suiteFile.getImportedResources();
+        names.addAll(getResourcesKeywords(resources).getNamesTree().findWithinDistance(name, maximumDistance));
+        for (final LibrarySpecification libSpec : suiteFile.getImportedLibraries().keySet()) {
+            names.addAll(librariesKeywordsNames.getUnchecked(libSpec).findWithinDistance(name, maximumDistance));
+        }
+        return names;
+    }
 
-                final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
-                for (final Optional<String> libraryAlias : libraryAliases) {
-                    final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
-                            kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(),
-                            0, kwSpec.createArgumentsDescriptor());
+    private static BkTree createKeywordsNamesTree(final LibrarySpecification libSpec) {
+        return BkTree.create(libSpec.getKeywords().stream().map(KeywordSpecification::getName).collect(toList()));
+    }
 
-                    addAccessibleKeyword(kwSpec.getName(), keyword);
-                }
-                return ContinueDecision.CONTINUE;
+    private static class AccessibleKeywordsCollector implements KeywordDetector {
+
+        private final Map<String, Collection<KeywordEntity>> accessibleKeywords = new HashMap<>();
+
+        @Override
+        public ContinueDecision nonAccessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                final KeywordSpecification kwSpec, final RobotSuiteFile exposingFile) {
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision accessibleLibraryKeywordDetected(final LibrarySpecification libSpec,
+                final KeywordSpecification kwSpec, final Collection<Optional<String>> libraryAliases,
+                final RobotSuiteFile exposingFile) {
+
+            final KeywordScope scope = libSpec.getDescriptor().getKeywordsScope();
+            for (final Optional<String> libraryAlias : libraryAliases) {
+                final ValidationKeywordEntity keyword = new ValidationKeywordEntity(scope, libSpec.getName(),
+                        kwSpec.getName(), libraryAlias, kwSpec.isDeprecated(), exposingFile.getFile().getFullPath(),
+                        0, kwSpec.createArgumentsDescriptor());
+
+                addAccessibleKeyword(QualifiedKeywordName.unifyDefinition(kwSpec.getName()), keyword);
             }
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
+                final RobotKeywordDefinition kwDefinition) {
+            final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
+                    Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), Optional.empty(),
+                    kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
+                    kwDefinition.getDefinitionPosition().getOffset(), kwDefinition.createArgumentsDescriptor());
+
+            addAccessibleKeyword(QualifiedKeywordName.unifyDefinition(kwDefinition.getName()), keyword);
+            return ContinueDecision.CONTINUE;
+        }
+
+        private void addAll(final Map<String, Collection<KeywordEntity>> keywords) {
+            keywords.forEach((unifiedName, entities) -> entities.forEach(e -> addAccessibleKeyword(unifiedName, e)));
+        }
+
+        private void addAccessibleKeyword(final String unifiedName, final KeywordEntity keyword) {
+            accessibleKeywords.computeIfAbsent(unifiedName, name -> new LinkedHashSet<>()).add(keyword);
+        }
+    }
+
+    private static class AccessibleVariablesCollector implements VariableDetector {
 
-            @Override
-            public ContinueDecision keywordDetected(final RobotSuiteFile suiteFile,
-                    final RobotKeywordDefinition kwDefinition) {
-                final ValidationKeywordEntity keyword = new ValidationKeywordEntity(null,
-                        Files.getNameWithoutExtension(suiteFile.getName()), kwDefinition.getName(), Optional.empty(),
-                        kwDefinition.isDeprecated(), suiteFile.getFile().getFullPath(),
-                        kwDefinition.getDefinitionPosition().getOffset(), kwDefinition.createArgumentsDescriptor());
+        private final Set<String> variables = new HashSet<>();
 
-                addAccessibleKeyword(kwDefinition.getName(), keyword);
-                return ContinueDecision.CONTINUE;
+        @Override
+        public ContinueDecision variableDetected(final RobotVariable variable) {
+            if (!variable.getName().isEmpty()) {
+                variables.add(VariablesAnalyzer.normalizeName(variable.getActualName()));
             }
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
+                final RobotToken variable) {
+            // local variables will be added to context during validation
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision globalVariableDetected(final String name, final Object value) {
+            variables.add(VariablesAnalyzer.normalizeName(name));
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file, final String name,
+                final Object value) {
+            variables.add(VariablesAnalyzer.normalizeName(name));
+            return ContinueDecision.CONTINUE;
+        }
+    }
+
+    private static class VariableNamesCollector implements VariableDetector {
+
+        private final Set<String> names;
+
+        VariableNamesCollector(final Set<String> names) {
+            this.names = names;
+        }
+
+        @Override
+        public ContinueDecision variableDetected(final RobotVariable variable) {
+            names.add(variable.getName());
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision localVariableDetected(final RobotFileInternalElement element,
+                final RobotToken variable) {
+            names.add(variable.getText());
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision globalVariableDetected(final String name, final Object value) {
+            names.add(name);
+            return ContinueDecision.CONTINUE;
+        }
+
+        @Override
+        public ContinueDecision varFileVariableDetected(final ReferencedVariableFile file, final String name,
+                final Object value) {
+            names.add(name);
+            return ContinueDecision.CONTINUE;
+        }
+    }
+
+    /**
+     * Keywords or variables accessible through some list of imported resources, shared between
+     * all the files importing the same resources. Entry is valid as long as models of all the
+     * visited resources were not linked again, which happens whenever any of them changes,
+     * including changes of its imports and incremental reparsing of edited content. Library
+     * specifications and aliases are fixed for the context lifetime, as the whole project is
+     * revalidated with new context when libraries change. Tree of names used when looking for
+     * similar names is built on first use and shares the lifetime of the entry.
+     */
+    private static class ResourcesClosure<T> {
 
-            private void addAccessibleKeyword(final String keywordName, final ValidationKeywordEntity keyword) {
-                final String unifiedName = QualifiedKeywordName.unifyDefinition(keywordName);
-                if (!accessibleKeywords.containsKey(unifiedName)) {
-                    accessibleKeywords.put(unifiedName, new LinkedHashSet<>());
+        private final Map<IFile, Long> visitedModelsStamps = new HashMap<>();
+
+        private final T content;
+
+        private final Supplier<BkTree> namesTree;
+
+        ResourcesClosure(final RobotModel model, final Set<IFile> visitedResources, final T content,
+                final Supplier<? extends Collection<String>> names) {
+            for (final IFile resource : visitedResources) {
+                visitedModelsStamps.put(resource, model.createSuiteFile(resource).getModelModificationStamp());
+            }
+            this.content = content;
+            this.namesTree = Suppliers.memoize(() -> BkTree.create(names.get()));
+        }
+
+        BkTree getNamesTree() {
+            return namesTree.get();
+        }
+
+        boolean isImporting(final IFile file) {
+            return visitedModelsStamps.containsKey(file);
+        }
+
+        boolean isUpToDate(final RobotModel model) {
+            for (final Entry<IFile, Long> entry : visitedModelsStamps.entrySet()) {
+                final RobotSuiteFile currentModel = model.createSuiteFile(entry.getKey());
+                if (currentModel.getLinkedElement() == null
+                        || currentModel.getModelModificationStamp() != entry.getValue()) {
+                    return false;
                 }
-                accessibleKeywords.get(unifiedName).add(keyword);
             }
-        });
-        return accessibleKeywords;
+            return true;
+        }
     }
 }
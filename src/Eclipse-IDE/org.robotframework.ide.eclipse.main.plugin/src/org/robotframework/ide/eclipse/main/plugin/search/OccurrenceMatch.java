@@ -0,0 +1,37 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.jface.text.Position;
+import org.eclipse.jface.viewers.StyledString;
+import org.eclipse.search.ui.text.Match;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+
+public class OccurrenceMatch extends Match {
+
+    private final Occurrence occurrence;
+
+    public OccurrenceMatch(final IFile file, final Occurrence occurrence) {
+        this(file, occurrence, occurrence.getOffset(), occurrence.getLength());
+    }
+
+    public OccurrenceMatch(final IFile file, final Occurrence occurrence, final int offset, final int length) {
+        super(file, UNIT_CHARACTER, offset, length);
+        this.occurrence = occurrence;
+    }
+
+    public Occurrence getOccurrence() {
+        return occurrence;
+    }
+
+    StyledString getStyledLabel() {
+        final StyledString label = new StyledString(occurrence.getLine() + ": ");
+        label.append(new MatchLabelCreator().create(occurrence.getLineContent(),
+                new Position(occurrence.getOffsetInLine() + getOffset() - occurrence.getOffset(), getLength())));
+        return label;
+    }
+}
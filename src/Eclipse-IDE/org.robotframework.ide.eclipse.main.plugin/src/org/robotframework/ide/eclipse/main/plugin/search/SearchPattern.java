@@ -5,8 +5,12 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.search;
 
+import java.util.List;
 import java.util.regex.Pattern;
 
+import com.google.common.base.CharMatcher;
+import com.google.common.base.Splitter;
+
 /**
  * Class for simplified search regexes (where * and ? are possible as any string or any character
  * respectively). This object micro-caches the compiled pattern in order to be quickly re-use during
@@ -62,6 +66,13 @@ public final class SearchPattern {
         return compiledPattern;
     }
 
+    /**
+     * Returns fragments of the pattern which have to be found literally in matching text.
+     */
+    public List<String> getLiterals() {
+        return Splitter.on(CharMatcher.anyOf("*?")).omitEmptyStrings().splitToList(pattern);
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (obj != null && obj.getClass() == SearchPattern.class) {
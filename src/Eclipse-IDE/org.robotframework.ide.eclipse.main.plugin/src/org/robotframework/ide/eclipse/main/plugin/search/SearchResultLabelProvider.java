@@ -41,6 +41,9 @@ class SearchResultLabelProvider extends RedCommonLabelProvider {
 
         } else if (element instanceof DocumentationMatch) {
             return ((DocumentationMatch) element).getStyledLabel();
+
+        } else if (element instanceof OccurrenceMatch) {
+            return ((OccurrenceMatch) element).getStyledLabel();
         }
         return new StyledString();
     }
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.participants;
+
+import org.rf.ide.core.libraries.KeywordSpecification;
+import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
+import org.rf.ide.core.testdata.model.search.text.TrigramIndex;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+
+/**
+ * Trigram indexes of documentations used to narrow down documentations searched for a pattern.
+ * Indexes are kept for specifications and file occurrences as long as those are in use, so they
+ * are built again whenever libraries specifications are reloaded or changed files are indexed
+ * again.
+ */
+class DocumentationIndex {
+
+    /**
+     * Document standing for the documentation of library itself in libraries indexes. Cached
+     * values cannot refer to their weak keys, otherwise specifications would never be collected.
+     */
+    static final Object LIBRARY_DOCUMENTATION = new Object();
+
+    // weak keys are compared by identity, so specifications are not hashed with all their keywords
+    private static final LoadingCache<LibrarySpecification, TrigramIndex<Object>> LIBRARIES = CacheBuilder
+            .newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(DocumentationIndex::indexLibrary));
+
+    private static final LoadingCache<FileOccurrences, TrigramIndex<Occurrence>> FILES = CacheBuilder.newBuilder()
+            .weakKeys()
+            .build(CacheLoader.from(DocumentationIndex::indexFile));
+
+    /**
+     * Returns index containing {@link #LIBRARY_DOCUMENTATION} and all keywords specifications of
+     * given library as documents.
+     */
+    static TrigramIndex<Object> forLibrary(final LibrarySpecification librarySpecification) {
+        return LIBRARIES.getUnchecked(librarySpecification);
+    }
+
+    /**
+     * Returns index containing documentation occurrences as documents.
+     */
+    static TrigramIndex<Occurrence> forFile(final FileOccurrences occurrences) {
+        return FILES.getUnchecked(occurrences);
+    }
+
+    private static TrigramIndex<Object> indexLibrary(final LibrarySpecification librarySpecification) {
+        final TrigramIndex<Object> index = new TrigramIndex<>();
+        index.add(LIBRARY_DOCUMENTATION, librarySpecification.getDocumentation());
+        for (final KeywordSpecification keywordSpecification : librarySpecification.getKeywords()) {
+            index.add(keywordSpecification, keywordSpecification.getDocumentation());
+        }
+        return index;
+    }
+
+    private static TrigramIndex<Occurrence> indexFile(final FileOccurrences occurrences) {
+        final TrigramIndex<Occurrence> index = new TrigramIndex<>();
+        for (final Occurrence occurrence : occurrences.getOccurrences()) {
+            if (occurrence.getKind() == OccurrenceKind.DOCUMENTATION) {
+                index.add(occurrence, occurrence.getName());
+            }
+        }
+        return index;
+    }
+}
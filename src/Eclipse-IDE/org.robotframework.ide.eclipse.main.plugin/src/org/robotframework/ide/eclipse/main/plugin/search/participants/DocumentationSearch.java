@@ -5,32 +5,54 @@
  */
 package org.robotframework.ide.eclipse.main.plugin.search.participants;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.search.KeywordDocumentationMatch;
 import org.robotframework.ide.eclipse.main.plugin.search.LibraryDocumentationMatch;
+import org.robotframework.ide.eclipse.main.plugin.search.OccurrenceMatch;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
 
+import com.google.common.annotations.VisibleForTesting;
+
 /**
  * @author Michal Anglart
  *
  */
-public class DocumentationSearch extends TargetedSearch {
+public class DocumentationSearch extends OccurrencesSearch {
+
+    private LibrarySpecification candidatesLibrary;
+
+    private Set<Object> candidates;
 
     public DocumentationSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result) {
-        super(searchPattern, model, result);
+        this(searchPattern, model, result, OccurrencesIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    DocumentationSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final OccurrencesIndex index) {
+        super(searchPattern, model, result, index);
     }
 
     @Override
     protected void locateMatchesInLibrarySpecification(final IProject project,
             final LibrarySpecification librarySpecification) {
+        if (!isCandidate(librarySpecification, DocumentationIndex.LIBRARY_DOCUMENTATION)) {
+            return;
+        }
         final Pattern pattern = searchPattern.buildPattern();
 
         final Matcher matcher = pattern.matcher(librarySpecification.getDocumentation());
@@ -43,6 +65,9 @@ public class DocumentationSearch extends TargetedSearch {
     @Override
     protected void locateMatchesInKeywordSpecification(final IProject project,
             final LibrarySpecification librarySpecification, final KeywordSpecification keywordSpecification) {
+        if (!isCandidate(librarySpecification, keywordSpecification)) {
+            return;
+        }
         final Pattern pattern = searchPattern.buildPattern();
 
         final Matcher matcher = pattern.matcher(keywordSpecification.getDocumentation());
@@ -52,17 +77,33 @@ public class DocumentationSearch extends TargetedSearch {
         }
     }
 
+    private boolean isCandidate(final LibrarySpecification librarySpecification, final Object specification) {
+        // library and then all its keywords are searched, so candidates are found once per library
+        if (candidatesLibrary != librarySpecification) {
+            candidatesLibrary = librarySpecification;
+            candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+            candidates.addAll(
+                    DocumentationIndex.forLibrary(librarySpecification).findCandidates(searchPattern.getLiterals()));
+        }
+        return candidates.contains(specification);
+    }
+
+    @Override
+    protected void locateMatchesInOccurrences(final IFile file, final FileOccurrences occurrences) {
+        final Pattern pattern = searchPattern.buildPattern();
+
+        for (final Occurrence occurrence : DocumentationIndex.forFile(occurrences)
+                .findCandidates(searchPattern.getLiterals())) {
+            final Matcher matcher = pattern.matcher(occurrence.getName());
+            while (matcher.find()) {
+                result.addMatch(new OccurrenceMatch(file, occurrence, occurrence.getOffset() + matcher.start(),
+                        matcher.end() - matcher.start()));
+            }
+        }
+    }
+
     @Override
-    protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // final Optional<RobotKeywordsSection> kwSection =
-        // robotSuiteFile.findSection(RobotKeywordsSection.class);
-        // if (kwSection.isPresent()) {
-        // for (final RobotKeywordDefinition keywordDefinition : kwSection.get().getChildren()) {
-        // final RobotDefinitionSetting docSetting = keywordDefinition.getDocumentationSetting();
-        // if (docSetting != null) {
-        // result.addMatch(new FileMatch(robotSuiteFile.getFile()));
-        // }
-        // }
-        // }
+    protected boolean isSearched(final Occurrence occurrence) {
+        return occurrence.getKind() == OccurrenceKind.DOCUMENTATION;
     }
 }
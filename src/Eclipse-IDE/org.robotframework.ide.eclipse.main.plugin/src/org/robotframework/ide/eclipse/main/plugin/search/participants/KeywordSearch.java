@@ -8,19 +8,28 @@ package org.robotframework.ide.eclipse.main.plugin.search.participants;
 import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
 
+import com.google.common.annotations.VisibleForTesting;
+
 /**
  * @author Michal Anglart
  *
  */
-public class KeywordSearch extends TargetedSearch {
+public class KeywordSearch extends OccurrencesSearch {
 
     public KeywordSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result) {
-        super(searchPattern, model, result);
+        this(searchPattern, model, result, OccurrencesIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    KeywordSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final OccurrencesIndex index) {
+        super(searchPattern, model, result, index);
     }
 
     @Override
@@ -36,7 +45,15 @@ public class KeywordSearch extends TargetedSearch {
     }
 
     @Override
-    protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // TODO : implement
+    protected boolean isSearched(final Occurrence occurrence) {
+        if (occurrence.getKind() == OccurrenceKind.KEYWORD_DEFINITION) {
+            return matches(occurrence.getName());
+
+        } else if (occurrence.getKind() == OccurrenceKind.KEYWORD_CALL) {
+            // calls are also found by the name of keyword they are resolved to
+            return matches(occurrence.getName()) || matches(occurrence.getResolvedName())
+                    || matches(occurrence.getResolvedKeywordName());
+        }
+        return false;
     }
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.participants;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Path;
+import org.rf.ide.core.libraries.LibraryDescriptor;
+import org.rf.ide.core.libraries.LibraryType;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.CalledKeyword;
+import org.robotframework.ide.eclipse.main.plugin.model.LibspecsFolder;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotProject;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.model.locators.KeywordEntity;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.FileValidationContext;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Occurrences of keywords, test cases and variables in robot files, so that searching does not
+ * need to parse every file and resolve every keyword call again. Each entry remembers resources
+ * it depends on: the file, resources it imports directly or transitively, libspecs and
+ * configuration file of its project. Entries are dropped when resource deltas report that any of
+ * those resources was changed or removed, and all of them are dropped when some file is added, as
+ * it may be imported by a file which could not resolve the import before. Occurrences are kept per
+ * project and are dropped when files or projects are removed or closed.
+ */
+class OccurrencesIndex implements IResourceChangeListener {
+
+    private static class InstanceHolder {
+
+        private static final OccurrencesIndex INSTANCE = new OccurrencesIndex();
+
+        static {
+            ResourcesPlugin.getWorkspace().addResourceChangeListener(INSTANCE, IResourceChangeEvent.POST_CHANGE
+                    | IResourceChangeEvent.PRE_CLOSE | IResourceChangeEvent.PRE_DELETE);
+        }
+    }
+
+    static OccurrencesIndex getInstance() {
+        return InstanceHolder.INSTANCE;
+    }
+
+    private final Map<IProject, Map<IFile, IndexedFile>> projects = new ConcurrentHashMap<>();
+
+    private final AtomicLong invalidationsCount = new AtomicLong();
+
+    @VisibleForTesting
+    OccurrencesIndex() {
+        // use getInstance method instead
+    }
+
+    FileOccurrences getOccurrences(final RobotSuiteFile suiteFile, final ValidationContext context) {
+        final IFile file = suiteFile.getFile();
+        final Map<IFile, IndexedFile> files = projects.computeIfAbsent(file.getProject(),
+                project -> new ConcurrentHashMap<>());
+        final IndexedFile indexed = files.get(file);
+        if (indexed != null) {
+            return indexed.occurrences;
+        }
+        final long invalidations = invalidationsCount.get();
+        final Set<IResource> dependencies = getDependencies(suiteFile);
+        final FileOccurrences occurrences = collectOccurrences(suiteFile, context);
+        // entry is not stored when resources were changed in the meantime, as it could be outdated
+        if (invalidationsCount.get() == invalidations) {
+            files.put(file, new IndexedFile(dependencies, occurrences));
+        }
+        return occurrences;
+    }
+
+    @VisibleForTesting
+    boolean isIndexed(final IFile file) {
+        final Map<IFile, IndexedFile> files = projects.get(file.getProject());
+        return files != null && files.containsKey(file);
+    }
+
+    @Override
+    public void resourceChanged(final IResourceChangeEvent event) {
+        if (event.getType() == IResourceChangeEvent.PRE_CLOSE || event.getType() == IResourceChangeEvent.PRE_DELETE) {
+            projects.remove(event.getResource());
+
+        } else if (event.getType() == IResourceChangeEvent.POST_CHANGE && event.getDelta() != null) {
+            try {
+                event.getDelta().accept(delta -> {
+                    final IResource resource = delta.getResource();
+                    if (delta.getKind() == IResourceDelta.REMOVED) {
+                        remove(resource);
+                        return false;
+
+                    } else if (delta.getKind() == IResourceDelta.ADDED && resource.getType() == IResource.FILE) {
+                        invalidateAll();
+
+                    } else if (delta.getKind() == IResourceDelta.CHANGED && resource.getType() == IResource.FILE
+                            && (delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+                        invalidate(resource);
+                    }
+                    return true;
+                });
+            } catch (final CoreException e) {
+                // nothing to do
+            }
+        }
+    }
+
+    private void remove(final IResource resource) {
+        invalidationsCount.incrementAndGet();
+        if (resource.getType() == IResource.PROJECT) {
+            projects.remove(resource);
+        } else {
+            final Map<IFile, IndexedFile> files = projects.get(resource.getProject());
+            if (files != null) {
+                files.keySet().removeIf(file -> resource.getFullPath().isPrefixOf(file.getFullPath()));
+            }
+        }
+        invalidate(resource);
+    }
+
+    private void invalidate(final IResource resource) {
+        invalidationsCount.incrementAndGet();
+        // resources may be imported from other projects, so entries of all projects are checked
+        for (final Map<IFile, IndexedFile> files : projects.values()) {
+            files.values().removeIf(indexed -> indexed.dependsOn(resource));
+        }
+    }
+
+    private void invalidateAll() {
+        invalidationsCount.incrementAndGet();
+        projects.values().forEach(Map::clear);
+    }
+
+    private static FileOccurrences collectOccurrences(final RobotSuiteFile suiteFile,
+            final ValidationContext context) {
+        suiteFile.parse();
+        final RobotFile model = suiteFile.getLinkedElement();
+        if (model == null) {
+            return FileOccurrences.empty();
+        }
+        final FileValidationContext fileContext = new FileValidationContext(context, suiteFile.getFile());
+        return FileOccurrences.collect(model, call -> {
+            final KeywordEntity keyword = fileContext.findAccessibleKeyword(call);
+            return keyword == null ? null
+                    : new CalledKeyword(keyword.getSourceName(), keyword.getNameFromDefinition());
+        });
+    }
+
+    private static Set<IResource> getDependencies(final RobotSuiteFile suiteFile) {
+        final RobotModel model = (RobotModel) suiteFile.getRobotProject().getParent();
+
+        final Set<IResource> dependencies = new HashSet<>();
+        dependencies.add(suiteFile.getFile());
+        final Deque<RobotSuiteFile> toVisit = new ArrayDeque<>();
+        toVisit.add(suiteFile);
+        while (!toVisit.isEmpty()) {
+            for (final IResource resource : toVisit.poll().getImportedResources()) {
+                if (dependencies.add(resource) && resource.getType() == IResource.FILE) {
+                    toVisit.add(model.createSuiteFile((IFile) resource));
+                }
+            }
+        }
+        addProjectDependencies(suiteFile.getRobotProject(), dependencies);
+        return dependencies;
+    }
+
+    private static void addProjectDependencies(final RobotProject robotProject, final Set<IResource> dependencies) {
+        dependencies.add(robotProject.getConfigurationFile());
+
+        final LibspecsFolder libspecsFolder = LibspecsFolder.get(robotProject.getProject());
+        for (final LibraryDescriptor descriptor : robotProject.getLibraryDescriptors()) {
+            final IPath path = Path.fromPortableString(descriptor.getPath());
+            final IFile libspec = descriptor.getLibraryType() == LibraryType.VIRTUAL && !path.isAbsolute()
+                    ? robotProject.getProject().getParent().getFile(path)
+                    : libspecsFolder.getXmlSpecFile(descriptor.generateLibspecFileName());
+            dependencies.add(libspec);
+        }
+    }
+
+    private static final class IndexedFile {
+
+        private final Set<IResource> dependencies;
+
+        private final FileOccurrences occurrences;
+
+        private IndexedFile(final Set<IResource> dependencies, final FileOccurrences occurrences) {
+            this.dependencies = dependencies;
+            this.occurrences = occurrences;
+        }
+
+        private boolean dependsOn(final IResource resource) {
+            if (resource.getType() == IResource.FILE) {
+                return dependencies.contains(resource);
+            }
+            // whole folder or project was removed
+            final IPath path = resource.getFullPath();
+            return dependencies.stream().anyMatch(dependency -> path.isPrefixOf(dependency.getFullPath()));
+        }
+    }
+}
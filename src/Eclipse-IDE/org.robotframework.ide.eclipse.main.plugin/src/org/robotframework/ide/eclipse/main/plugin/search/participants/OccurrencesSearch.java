@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.robotframework.ide.eclipse.main.plugin.search.participants;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
+import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
+import org.robotframework.ide.eclipse.main.plugin.project.build.BuildLogger;
+import org.robotframework.ide.eclipse.main.plugin.project.build.validation.ValidationContext;
+import org.robotframework.ide.eclipse.main.plugin.search.OccurrenceMatch;
+import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
+import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
+
+/**
+ * Search which reports occurrences of names taken from {@link OccurrencesIndex}. Names are
+ * matched ignoring case and each distinct name is checked against the pattern only once.
+ */
+abstract class OccurrencesSearch extends TargetedSearch {
+
+    private final OccurrencesIndex index;
+
+    private final Map<IProject, ValidationContext> contexts = new HashMap<>();
+
+    private final Map<String, Boolean> matchingNames = new HashMap<>();
+
+    private Pattern pattern;
+
+    OccurrencesSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final OccurrencesIndex index) {
+        super(searchPattern, model, result);
+        this.index = index;
+    }
+
+    @Override
+    protected final void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
+        final ValidationContext context = contexts.computeIfAbsent(robotSuiteFile.getFile().getProject(),
+                project -> new ValidationContext(robotSuiteFile.getRobotProject(), new BuildLogger()));
+
+        locateMatchesInOccurrences(robotSuiteFile.getFile(), index.getOccurrences(robotSuiteFile, context));
+    }
+
+    protected void locateMatchesInOccurrences(final IFile file, final FileOccurrences occurrences) {
+        for (final Occurrence occurrence : occurrences.getOccurrences()) {
+            if (isSearched(occurrence)) {
+                result.addMatch(new OccurrenceMatch(file, occurrence));
+            }
+        }
+    }
+
+    protected abstract boolean isSearched(Occurrence occurrence);
+
+    protected final boolean matches(final String name) {
+        if (name == null) {
+            return false;
+        }
+        return matchingNames.computeIfAbsent(name, n -> getPattern().matcher(n).matches());
+    }
+
+    private Pattern getPattern() {
+        if (pattern == null) {
+            pattern = Pattern.compile(searchPattern.buildPattern().pattern(),
+                    Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        }
+        return pattern;
+    }
+}
@@ -8,19 +8,28 @@ package org.robotframework.ide.eclipse.main.plugin.search.participants;
 import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
 
+import com.google.common.annotations.VisibleForTesting;
+
 /**
  * @author Michal Anglart
  *
  */
-public class TestCaseSearch extends TargetedSearch {
+public class TestCaseSearch extends OccurrencesSearch {
 
     public TestCaseSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result) {
-        super(searchPattern, model, result);
+        this(searchPattern, model, result, OccurrencesIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    TestCaseSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final OccurrencesIndex index) {
+        super(searchPattern, model, result, index);
     }
 
     @Override
@@ -36,7 +45,7 @@ public class TestCaseSearch extends TargetedSearch {
     }
 
     @Override
-    protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // TODO : implement
+    protected boolean isSearched(final Occurrence occurrence) {
+        return occurrence.getKind() == OccurrenceKind.TEST_CASE && matches(occurrence.getName());
     }
 }
@@ -8,19 +8,29 @@ package org.robotframework.ide.eclipse.main.plugin.search.participants;
 import org.eclipse.core.resources.IProject;
 import org.rf.ide.core.libraries.KeywordSpecification;
 import org.rf.ide.core.libraries.LibrarySpecification;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
+import org.rf.ide.core.testdata.model.table.variables.descs.VariablesAnalyzer;
 import org.robotframework.ide.eclipse.main.plugin.model.RobotModel;
-import org.robotframework.ide.eclipse.main.plugin.model.RobotSuiteFile;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchPattern;
 import org.robotframework.ide.eclipse.main.plugin.search.SearchResult;
 
+import com.google.common.annotations.VisibleForTesting;
+
 /**
  * @author Michal Anglart
  *
  */
-public class VariableSearch extends TargetedSearch {
+public class VariableSearch extends OccurrencesSearch {
 
     public VariableSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result) {
-        super(searchPattern, model, result);
+        this(searchPattern, model, result, OccurrencesIndex.getInstance());
+    }
+
+    @VisibleForTesting
+    VariableSearch(final SearchPattern searchPattern, final RobotModel model, final SearchResult result,
+            final OccurrencesIndex index) {
+        super(searchPattern, model, result, index);
     }
 
     @Override
@@ -36,7 +46,8 @@ public class VariableSearch extends TargetedSearch {
     }
 
     @Override
-    protected void locateMatchesInRobotFile(final RobotSuiteFile robotSuiteFile) {
-        // TODO : implement
+    protected boolean isSearched(final Occurrence occurrence) {
+        return occurrence.getKind() == OccurrenceKind.VARIABLE && (matches(occurrence.getName())
+                || matches(VariablesAnalyzer.extractFromBrackets(occurrence.getName())));
     }
 }
@@ -45,7 +45,9 @@ public class RobotDocument extends Document {
     private RobotParser parser;
     private File file;
 
-    private RobotFileOutput output;
+    private volatile RobotFileOutput output;
+
+    private String parsedContent;
 
     private final List<IRobotDocumentParsingListener> parseListeners = new ArrayList<>();
     private ScheduledFuture<?> scheduledOperation;
@@ -108,7 +110,7 @@ public class RobotDocument extends Document {
             final RobotSuiteFile suiteFile = fileModelSupplier.get();
             parser = suiteFile.createRobotParser();
             file = suiteFile.getRobotParserFile();
-            reparse();
+            reparse(false);
         }
     }
 
@@ -117,15 +119,24 @@ public class RobotDocument extends Document {
         if (reparseInSameThread) {
             // short documents can be reparsed in the same thread as this does not
             // affect performance too much
-            reparse();
+            reparse(false);
         } else {
             reparseInSeparateThread();
         }
         super.fireDocumentChanged(event);
     }
 
-    private synchronized void reparse() {
-        output = parser.parseEditorContent(get(), file);
+    private synchronized void reparse(final boolean incrementally) {
+        final String content = get();
+        if (incrementally) {
+            // only the block enclosing the change is parsed again when possible; it is spliced into
+            // new output sharing the rest with previous output, which is published at once, as the
+            // previous one may be still read by other threads
+            output = parser.parseEditorContent(output, parsedContent, content, file);
+        } else {
+            output = parser.parseEditorContent(content, file);
+        }
+        parsedContent = content;
         for (final IRobotDocumentParsingListener listener : parseListeners) {
             listener.reparsingFinished(output);
         }
@@ -137,7 +148,7 @@ public class RobotDocument extends Document {
             scheduledOperation.cancel(true);
         }
         scheduledOperation = executor.schedule(() -> {
-            reparse();
+            reparse(true);
             parsingSemaphore.release();
         }, DELAY, TimeUnit.MILLISECONDS);
     }
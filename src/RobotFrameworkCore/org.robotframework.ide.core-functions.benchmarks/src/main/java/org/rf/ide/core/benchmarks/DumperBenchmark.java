@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.rf.ide.core.testdata.DumpContext;
+import org.rf.ide.core.testdata.RobotFileDumper;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DumperBenchmark {
+
+    @Param({ "SETTINGS_HEAVY", "TEMPLATE_TABLES", "EMBEDDED_ARGUMENTS", "PIPES", "TSV" })
+    private SyntheticCorpus.Kind kind;
+
+    @Param({ "200" })
+    private int size;
+
+    @Param({ "true", "false" })
+    private boolean dirty;
+
+    private final List<RobotFileOutput> outputs = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void parseCorpus() throws IOException {
+        final Path directory = Files.createTempDirectory("red-dumper-benchmark");
+        try {
+            final RobotParser parser = new RobotParser(new RobotProjectHolder(), ParserBenchmark.VERSION);
+            for (final Path file : new SyntheticCorpus(kind, size).writeTo(directory)) {
+                final String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+                outputs.add(parser.parseEditorContent(content, file.toFile()));
+            }
+        } finally {
+            Benchmarks.deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    public void dump(final Blackhole blackhole) {
+        final RobotFileDumper dumper = new RobotFileDumper();
+        for (final RobotFileOutput output : outputs) {
+            blackhole.consume(dumper.dump(new DumpContext(null, dirty), output).newContent());
+        }
+    }
+}
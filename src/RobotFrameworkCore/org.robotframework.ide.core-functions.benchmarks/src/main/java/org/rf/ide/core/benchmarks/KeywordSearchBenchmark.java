@@ -0,0 +1,120 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.rf.ide.core.benchmarks.SyntheticCorpus.Kind;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordNamesIndex;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ListMultimap;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeywordSearchBenchmark {
+
+    @Param({ "100", "1000" })
+    private int size;
+
+    private final List<Keyword> keywords = new ArrayList<>();
+
+    private final Map<String, Collection<Keyword>> accessibleKeywords = new HashMap<>();
+
+    private final List<String> usages = new ArrayList<>();
+
+    private KeywordNamesIndex<Keyword> index;
+
+    @Setup(Level.Trial)
+    public void createKeywords() {
+        final List<String> names = new SyntheticCorpus(Kind.EMBEDDED_ARGUMENTS, size).keywordNames();
+        for (int i = 0; i < names.size(); i++) {
+            final String name = names.get(i);
+            final Keyword keyword = new Keyword("source" + i % 7, name);
+            keywords.add(keyword);
+            accessibleKeywords.computeIfAbsent(QualifiedKeywordName.unifyDefinition(name), k -> new ArrayList<>())
+                    .add(keyword);
+
+            final String usage = name.replace("${arg}", "value " + i);
+            if (i % 3 == 0) {
+                usages.add("Given " + usage);
+            } else if (i % 3 == 1) {
+                usages.add(keyword.getSourceNameInUse() + "." + usage);
+            } else {
+                usages.add(usage.toUpperCase());
+            }
+        }
+        index = new KeywordSearcher().createIndex(keywords);
+    }
+
+    @Benchmark
+    public void findFirstMatchingKeyword(final Blackhole blackhole) {
+        final KeywordSearcher searcher = new KeywordSearcher();
+        for (final String usage : usages) {
+            final ListMultimap<String, Keyword> found = searcher.findKeywords(accessibleKeywords, index, usage, true);
+            blackhole.consume(searcher.getBestMatchingKeyword(found, usage));
+        }
+    }
+
+    @Benchmark
+    public void createIndex(final Blackhole blackhole) {
+        blackhole.consume(new KeywordSearcher().createIndex(keywords));
+    }
+
+    @Benchmark
+    public void findAllMatchingKeywords(final Blackhole blackhole) {
+        final KeywordSearcher searcher = new KeywordSearcher();
+        for (final String usage : usages) {
+            blackhole.consume(searcher.findKeywords(accessibleKeywords, index, usage, false));
+        }
+    }
+
+    private static class Keyword implements SearchableKeyword {
+
+        private final String sourceName;
+
+        private final String name;
+
+        Keyword(final String sourceName, final String name) {
+            this.sourceName = sourceName;
+            this.name = name;
+        }
+
+        @Override
+        public String getSourceNameInUse() {
+            return sourceName;
+        }
+
+        @Override
+        public String getKeywordName() {
+            return name;
+        }
+    }
+}
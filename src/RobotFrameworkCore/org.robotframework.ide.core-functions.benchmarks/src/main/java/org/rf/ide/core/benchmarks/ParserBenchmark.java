@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    static final RobotVersion VERSION = new RobotVersion(3, 2);
+
+    @Param
+    private SyntheticCorpus.Kind kind;
+
+    @Param({ "200" })
+    private int size;
+
+    private Path directory;
+
+    private final List<File> files = new ArrayList<>();
+
+    private final List<String> contents = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void generateCorpus() throws IOException {
+        directory = Files.createTempDirectory("red-parser-benchmark");
+        for (final Path file : new SyntheticCorpus(kind, size).writeTo(directory)) {
+            files.add(file.toFile());
+            contents.add(new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void removeCorpus() throws IOException {
+        Benchmarks.deleteRecursively(directory);
+    }
+
+    @Benchmark
+    public List<RobotFileOutput> parseFilesFromDisk() {
+        return new RobotParser(new RobotProjectHolder(), VERSION).parse(directory.toFile());
+    }
+
+    @Benchmark
+    public List<RobotFileOutput> parseFilesFromDiskInParallel() {
+        return new RobotParser(new RobotProjectHolder(), VERSION).parseInParallel(directory.toFile());
+    }
+
+    @Benchmark
+    public void parseEditorContent(final Blackhole blackhole) {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), VERSION);
+        for (int i = 0; i < files.size(); i++) {
+            blackhole.consume(parser.parseEditorContent(contents.get(i), files.get(i)));
+        }
+    }
+}
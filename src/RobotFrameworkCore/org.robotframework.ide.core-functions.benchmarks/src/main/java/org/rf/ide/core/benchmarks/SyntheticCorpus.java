@@ -0,0 +1,302 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generator of synthetic Robot Framework test data used by benchmarks. Generated content depends
+ * only on corpus kind and size, so every benchmark run works on exactly the same files.
+ */
+public class SyntheticCorpus {
+
+    private static final long SEED = 0x52454442L;
+
+    private static final String[] WORDS = { "open", "close", "browser", "user", "login", "page", "should", "be",
+            "visible", "click", "element", "input", "text", "wait", "until", "contains", "verify", "response",
+            "status", "create", "delete", "session", "request", "list", "dictionary", "value", "get", "set" };
+
+    public enum Kind {
+        SETTINGS_HEAVY,
+        TEMPLATE_TABLES,
+        IMPORT_CHAIN,
+        EMBEDDED_ARGUMENTS,
+        PIPES,
+        TSV
+    }
+
+    private final Random random = new Random(SEED);
+
+    private final Kind kind;
+
+    private final int size;
+
+    public SyntheticCorpus(final Kind kind, final int size) {
+        this.kind = kind;
+        this.size = size;
+    }
+
+    /**
+     * Writes corpus files into given directory and returns them in generation order. Import chain
+     * consists of many files importing one another, while other kinds are generated as single
+     * file.
+     */
+    public List<Path> writeTo(final Path directory) throws IOException {
+        final List<Path> files = new ArrayList<>();
+        switch (kind) {
+            case SETTINGS_HEAVY:
+                files.add(write(directory.resolve("settings.robot"), settingsHeavySuite()));
+                break;
+            case TEMPLATE_TABLES:
+                files.add(write(directory.resolve("templates.robot"), templatedSuite()));
+                break;
+            case IMPORT_CHAIN:
+                for (int i = 0; i < size; i++) {
+                    files.add(write(directory.resolve(resourceName(i)), chainedResource(i)));
+                }
+                files.add(write(directory.resolve("chain.robot"), chainSuite()));
+                break;
+            case EMBEDDED_ARGUMENTS:
+                files.add(write(directory.resolve("embedded.robot"), embeddedArgumentsSuite()));
+                break;
+            case PIPES:
+                files.add(write(directory.resolve("pipes.robot"), pipesSuite()));
+                break;
+            case TSV:
+                files.add(write(directory.resolve("tabs.tsv"), tsvSuite()));
+                break;
+            default:
+                throw new IllegalStateException("Unknown corpus kind: " + kind);
+        }
+        return files;
+    }
+
+    /**
+     * Returns unique keyword names, every tenth of which is defined with embedded argument.
+     */
+    public List<String> keywordNames() {
+        final List<String> names = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (i % 10 == 0) {
+                names.add(embeddedName(i));
+            } else {
+                names.add(name(2 + random.nextInt(3)) + " " + i);
+            }
+        }
+        return names;
+    }
+
+    private String settingsHeavySuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*** Settings ***\n");
+        builder.append("Documentation    ").append(sentence()).append('\n');
+        for (int i = 0; i < size; i++) {
+            builder.append("...    ").append(sentence()).append('\n');
+        }
+        for (int i = 0; i < size; i++) {
+            builder.append("Library    Lib").append(i).append("    arg=").append(i).append("    WITH NAME    L")
+                    .append(i).append('\n');
+            builder.append("Resource    ").append(resourceName(i)).append('\n');
+            builder.append("Variables    vars").append(i).append(".py    ").append(word()).append('\n');
+            builder.append("Metadata    meta").append(i).append("    ").append(sentence()).append('\n');
+        }
+        builder.append("Suite Setup    ").append(name(3)).append("    ${ARG}\n");
+        builder.append("Suite Teardown    ").append(name(2)).append('\n');
+        builder.append("Test Setup    ").append(name(2)).append("    1    2\n");
+        builder.append("Test Timeout    1 minute\n");
+        builder.append("Force Tags    ").append(tags(size / 4 + 1)).append('\n');
+        builder.append("Default Tags    ").append(tags(size / 4 + 1)).append('\n');
+        builder.append("*** Variables ***\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("${scalar").append(i).append("}    ").append(word()).append('\n');
+            builder.append("@{list").append(i).append("}    ").append(word()).append("    ").append(word())
+                    .append('\n');
+            builder.append("&{dict").append(i).append("}    key=").append(word()).append('\n');
+        }
+        builder.append("*** Test Cases ***\n");
+        builder.append("case\n");
+        builder.append("    Log    ${scalar0}\n");
+        return builder.toString();
+    }
+
+    private String templatedSuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*** Settings ***\n");
+        builder.append("Test Template    Templated Keyword\n");
+        builder.append("*** Test Cases ***\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("case ").append(i).append('\n');
+            if (i % 5 == 0) {
+                builder.append("    [Template]    Other Templated Keyword\n");
+            }
+            for (int j = 0; j < 20; j++) {
+                builder.append("    ").append(word()).append("    ${").append(word()).append("}    ").append(j)
+                        .append("    ").append(word()).append('\n');
+            }
+            builder.append('\n');
+        }
+        builder.append("*** Keywords ***\n");
+        builder.append("Templated Keyword\n");
+        builder.append("    [Arguments]    ${a}    ${b}    ${c}    ${d}\n");
+        builder.append("    Log Many    ${a}    ${b}    ${c}    ${d}\n");
+        builder.append("Other Templated Keyword\n");
+        builder.append("    [Arguments]    @{args}\n");
+        builder.append("    Log Many    @{args}\n");
+        return builder.toString();
+    }
+
+    private String chainedResource(final int index) {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*** Settings ***\n");
+        if (index + 1 < size) {
+            builder.append("Resource    ").append(resourceName(index + 1)).append('\n');
+        }
+        builder.append("Library    Collections\n");
+        builder.append("*** Variables ***\n");
+        builder.append("${RESOURCE_").append(index).append("}    ").append(word()).append('\n');
+        builder.append("*** Keywords ***\n");
+        for (int i = 0; i < 20; i++) {
+            builder.append(name(3)).append(' ').append(index).append('_').append(i).append('\n');
+            builder.append("    [Arguments]    ${arg}\n");
+            if (index + 1 < size) {
+                builder.append("    resource_").append(index + 1).append(".Keyword In Chain ")
+                        .append(index + 1).append("    ${arg}\n");
+            }
+            builder.append("    Log    ${RESOURCE_").append(index).append("}\n");
+        }
+        builder.append("Keyword In Chain ").append(index).append('\n');
+        builder.append("    [Arguments]    ${arg}\n");
+        builder.append("    Log    ${arg}\n");
+        return builder.toString();
+    }
+
+    private String chainSuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*** Settings ***\n");
+        builder.append("Resource    ").append(resourceName(0)).append('\n');
+        builder.append("*** Test Cases ***\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("case ").append(i).append('\n');
+            builder.append("    Keyword In Chain ").append(i).append("    ${RESOURCE_").append(i).append("}\n");
+        }
+        return builder.toString();
+    }
+
+    private String embeddedArgumentsSuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*** Test Cases ***\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("case ").append(i).append('\n');
+            for (int j = 0; j < 10; j++) {
+                final int keyword = random.nextInt(size);
+                builder.append("    User \"").append(word()).append("\" ").append(keyword % 2 == 0 ? "opens" : "closes")
+                        .append(" page ").append(keyword).append(" with ").append(word()).append('\n');
+                builder.append("    Given ").append(embeddedName(keyword).replace("${arg}", word())).append('\n');
+            }
+        }
+        builder.append("*** Keywords ***\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("User \"${name}\" ").append(i % 2 == 0 ? "opens" : "closes").append(" page ").append(i)
+                    .append(" with ${what}\n");
+            builder.append("    Log Many    ${name}    ${what}\n");
+            builder.append(embeddedName(i)).append('\n');
+            builder.append("    Log    ${arg}\n");
+        }
+        return builder.toString();
+    }
+
+    private String pipesSuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("| *** Settings *** |\n");
+        builder.append("| Library | Collections |\n");
+        builder.append("| *** Variables *** |\n");
+        builder.append("| ${var} | ").append(word()).append(" |\n");
+        builder.append("| *** Test Cases *** |\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("| case ").append(i).append(" | [Documentation] | ").append(sentence()).append(" |\n");
+            for (int j = 0; j < 20; j++) {
+                builder.append("| | ").append(name(2)).append(" | ${var} | ").append(word()).append(" | ")
+                        .append(j).append(" |\n");
+            }
+        }
+        builder.append("| *** Keywords *** |\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("| ").append(name(3)).append(' ').append(i).append(" | [Arguments] | ${a} |\n");
+            builder.append("| | Log | ${a} |\n");
+        }
+        return builder.toString();
+    }
+
+    private String tsvSuite() {
+        final StringBuilder builder = new StringBuilder();
+        builder.append("*Settings*\n");
+        builder.append("Library\tCollections\n");
+        builder.append("*Variables*\n");
+        builder.append("${var}\t").append(word()).append('\n');
+        builder.append("*Test Cases*\n");
+        for (int i = 0; i < size; i++) {
+            builder.append("case ").append(i).append("\t[Tags]\t").append(tags(3).replace("    ", "\t"))
+                    .append('\n');
+            for (int j = 0; j < 20; j++) {
+                builder.append('\t').append(name(2)).append("\t${var}\t").append(word()).append('\t').append(j)
+                        .append('\n');
+            }
+        }
+        builder.append("*Keywords*\n");
+        for (int i = 0; i < size; i++) {
+            builder.append(name(3)).append(' ').append(i).append("\t[Arguments]\t${a}\n");
+            builder.append("\tLog\t${a}\n");
+        }
+        return builder.toString();
+    }
+
+    private static String resourceName(final int index) {
+        return "resource_" + index + ".robot";
+    }
+
+    private String embeddedName(final int index) {
+        return "the " + WORDS[index % WORDS.length] + " ${arg} is " + index;
+    }
+
+    private String tags(final int count) {
+        final List<String> tags = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tags.add("tag_" + word());
+        }
+        return String.join("    ", tags);
+    }
+
+    private String sentence() {
+        return name(4 + random.nextInt(6));
+    }
+
+    private String name(final int length) {
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            final String word = word();
+            builder.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+        return builder.toString();
+    }
+
+    private String word() {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+
+    private static Path write(final Path file, final String content) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
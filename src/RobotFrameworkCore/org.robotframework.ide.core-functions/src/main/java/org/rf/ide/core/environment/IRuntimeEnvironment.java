@@ -33,6 +33,12 @@ public interface IRuntimeEnvironment {
 
     void resetCommandExecutors();
 
+    /**
+     * Closes session servers which were additionally started for running commands concurrently
+     * and are not used at the moment.
+     */
+    void closeAdditionalCommandExecutors();
+
     List<File> getModuleSearchPaths();
 
     Optional<File> getModulePath(String moduleName, EnvironmentSearchPaths additionalPaths);
@@ -66,6 +66,11 @@ public class InvalidPythonRuntimeEnvironment implements IRuntimeEnvironment {
         // nothing to do
     }
 
+    @Override
+    public void closeAdditionalCommandExecutors() {
+        // nothing to do
+    }
+
     @Override
     public List<File> getModuleSearchPaths() {
         return new ArrayList<>();
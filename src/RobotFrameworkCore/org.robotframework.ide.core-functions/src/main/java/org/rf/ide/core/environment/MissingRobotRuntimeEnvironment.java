@@ -44,6 +44,11 @@ public class MissingRobotRuntimeEnvironment extends RobotRuntimeEnvironment {
         // nothing to do
     }
 
+    @Override
+    public void closeAdditionalCommandExecutors() {
+        // nothing to do
+    }
+
     @Override
     public List<File> getModuleSearchPaths() {
         return new ArrayList<>();
@@ -5,17 +5,23 @@
  */
 package org.rf.ide.core.environment;
 
+import static java.util.stream.Collectors.toList;
+
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import org.rf.ide.core.RedSystemProperties;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.ExternalRobotCommandRpcExecutor;
 import org.rf.ide.core.environment.RobotCommandRpcExecutor.InternalRobotCommandRpcExecutor;
 
+import com.google.common.collect.Sets;
+
 /**
  * @author Michal Anglart
  */
@@ -32,6 +38,11 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
 
     private final Map<String, RobotCommandRpcExecutor> executors = new HashMap<>();
 
+    // additional session servers started when the main one was borrowed by some other thread
+    private final Map<String, List<RobotCommandRpcExecutor>> additionalExecutors = new HashMap<>();
+
+    private final Set<RobotCommandExecutor> borrowedExecutors = Sets.newIdentityHashSet();
+
     private final List<PythonProcessListener> processListeners = new ArrayList<>();
 
     private PythonInterpretersCommandExecutors() {
@@ -57,7 +68,14 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         final RobotCommandRpcExecutor executor = executors.remove(interpreterPath);
         if (executor != null) {
             executor.kill();
+            borrowedExecutors.remove(executor);
+        }
+        for (final RobotCommandRpcExecutor additionalExecutor : additionalExecutors.getOrDefault(interpreterPath,
+                new ArrayList<>())) {
+            additionalExecutor.kill();
+            borrowedExecutors.remove(additionalExecutor);
         }
+        additionalExecutors.remove(interpreterPath);
     }
 
     @Override
@@ -74,6 +92,63 @@ class PythonInterpretersCommandExecutors implements RobotCommandsExecutors {
         return executor;
     }
 
+    @Override
+    public RobotCommandExecutor borrowRobotCommandExecutor(final PythonInstallationDirectory location) {
+        final RobotCommandExecutor mainExecutor = getRobotCommandExecutor(location);
+        if (RedSystemProperties.shouldConnectToRunningServer()) {
+            // there is only one external server, so it is always shared
+            return mainExecutor;
+        }
+        final Optional<RobotCommandExecutor> availableExecutor = borrowAvailableExecutor(location, mainExecutor);
+        if (availableExecutor.isPresent()) {
+            return availableExecutor.get();
+        }
+
+        // starting new server takes a while, so it is done without blocking other threads
+        final RobotCommandRpcExecutor executor = createExecutor(location);
+        executor.initialize();
+        executor.establishConnection();
+        synchronized (this) {
+            additionalExecutors.computeIfAbsent(location.getInterpreterPath(), path -> new ArrayList<>()).add(executor);
+            borrowedExecutors.add(executor);
+        }
+        return executor;
+    }
+
+    private synchronized Optional<RobotCommandExecutor> borrowAvailableExecutor(
+            final PythonInstallationDirectory location, final RobotCommandExecutor mainExecutor) {
+        if (borrowedExecutors.add(mainExecutor)) {
+            return Optional.of(mainExecutor);
+        }
+        final List<RobotCommandRpcExecutor> additional = additionalExecutors
+                .getOrDefault(location.getInterpreterPath(), new ArrayList<>());
+        additional.removeIf(executor -> !executor.isAlive() && !borrowedExecutors.contains(executor));
+        for (final RobotCommandRpcExecutor executor : additional) {
+            if (executor.isAlive() && borrowedExecutors.add(executor)) {
+                executor.initialize();
+                return Optional.of(executor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public synchronized void returnRobotCommandExecutor(final PythonInstallationDirectory location,
+            final RobotCommandExecutor executor) {
+        borrowedExecutors.remove(executor);
+    }
+
+    @Override
+    public synchronized void closeAdditionalExecutorsFor(final PythonInstallationDirectory location) {
+        final List<RobotCommandRpcExecutor> additional = additionalExecutors
+                .getOrDefault(location.getInterpreterPath(), new ArrayList<>());
+        final List<RobotCommandRpcExecutor> unused = additional.stream()
+                .filter(executor -> !borrowedExecutors.contains(executor))
+                .collect(toList());
+        unused.forEach(RobotCommandRpcExecutor::kill);
+        additional.removeAll(unused);
+    }
+
     private RobotCommandRpcExecutor createExecutor(final PythonInstallationDirectory location) {
         if (RedSystemProperties.shouldConnectToRunningServer()) {
             return new ExternalRobotCommandRpcExecutor(location.getInterpreter(),
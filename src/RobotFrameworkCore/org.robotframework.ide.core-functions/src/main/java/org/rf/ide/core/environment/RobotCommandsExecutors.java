@@ -11,6 +11,23 @@ public interface RobotCommandsExecutors {
 
     RobotCommandExecutor getRobotCommandExecutor(PythonInstallationDirectory location);
 
+    /**
+     * Returns executor which is not used by other borrowers, so that the commands run with it are
+     * not interleaved with commands of other threads. New session server is started when all the
+     * servers of given interpreter are in use. Borrowed executor has to be given back using
+     * {@link #returnRobotCommandExecutor(PythonInstallationDirectory, RobotCommandExecutor)}.
+     */
+    RobotCommandExecutor borrowRobotCommandExecutor(PythonInstallationDirectory location);
+
+    void returnRobotCommandExecutor(PythonInstallationDirectory location, RobotCommandExecutor executor);
+
     void resetExecutorFor(PythonInstallationDirectory location);
 
+    /**
+     * Kills session servers of given interpreter which were started by
+     * {@link #borrowRobotCommandExecutor(PythonInstallationDirectory)} in addition to the main one
+     * and are not borrowed at the moment.
+     */
+    void closeAdditionalExecutorsFor(PythonInstallationDirectory location);
+
 }
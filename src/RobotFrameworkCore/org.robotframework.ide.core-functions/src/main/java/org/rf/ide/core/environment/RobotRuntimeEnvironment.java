@@ -90,6 +90,11 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
         executors.resetExecutorFor(location);
     }
 
+    @Override
+    public void closeAdditionalCommandExecutors() {
+        executors.closeAdditionalExecutorsFor(location);
+    }
+
     @Override
     public List<File> getModuleSearchPaths() {
         final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
@@ -113,15 +118,23 @@ public class RobotRuntimeEnvironment implements IRuntimeEnvironment {
     @Override
     public void createLibdoc(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdoc(libName, outputFile, format, additionalPaths);
+        final RobotCommandExecutor executor = executors.borrowRobotCommandExecutor(location);
+        try {
+            executor.createLibdoc(libName, outputFile, format, additionalPaths);
+        } finally {
+            executors.returnRobotCommandExecutor(location, executor);
+        }
     }
 
     @Override
     public void createLibdocInSeparateProcess(final String libName, final File outputFile, final LibdocFormat format,
             final EnvironmentSearchPaths additionalPaths, final int timeout) {
-        final RobotCommandExecutor executor = executors.getRobotCommandExecutor(location);
-        executor.createLibdocInSeparateProcess(libName, outputFile, format, additionalPaths, timeout);
+        final RobotCommandExecutor executor = executors.borrowRobotCommandExecutor(location);
+        try {
+            executor.createLibdocInSeparateProcess(libName, outputFile, format, additionalPaths, timeout);
+        } finally {
+            executors.returnRobotCommandExecutor(location, executor);
+        }
     }
 
     @Override
@@ -5,12 +5,15 @@
  */
 package org.rf.ide.core.environment;
 
+import java.io.Serializable;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
-public final class RobotVersion implements Comparable<RobotVersion> {
+public final class RobotVersion implements Comparable<RobotVersion>, Serializable {
+
+    private static final long serialVersionUID = 6108271245012735290L;
 
     public static final RobotVersion UNKNOWN = new RobotVersion(-1, -1);
 
@@ -18,7 +21,8 @@ public final class RobotVersion implements Comparable<RobotVersion> {
 
     private final int minor;
 
-    private final Optional<Integer> patch;
+    // kept nullable instead of optional, as versions are serialized together with parsed models
+    private final Integer patch;
 
     public static RobotVersion from(final String version) {
         if (version == null) {
@@ -40,20 +44,20 @@ public final class RobotVersion implements Comparable<RobotVersion> {
     public RobotVersion(final int major, final int minor) {
         this.major = major;
         this.minor = minor;
-        this.patch = Optional.empty();
+        this.patch = null;
     }
 
     public RobotVersion(final int major, final int minor, final int patch) {
         this.major = major;
         this.minor = minor;
-        this.patch = Optional.of(patch);
+        this.patch = patch;
     }
 
     public boolean isEqualTo(final RobotVersion otherVersion) {
         if (otherVersion == UNKNOWN) {
             return this == UNKNOWN;
         }
-        return major == otherVersion.major && minor == otherVersion.minor && patch.equals(otherVersion.patch);
+        return major == otherVersion.major && minor == otherVersion.minor && Objects.equals(patch, otherVersion.patch);
     }
 
     public boolean isNotEqualTo(final RobotVersion otherVersion) {
@@ -66,7 +70,7 @@ public final class RobotVersion implements Comparable<RobotVersion> {
         }
         return major < otherVersion.major || (major == otherVersion.major && minor < otherVersion.minor)
                 || (major == otherVersion.major && minor == otherVersion.minor
-                        && isLessPatch(patch, otherVersion.patch));
+                        && isLessPatch(getPatch(), otherVersion.getPatch()));
     }
 
     public boolean isOlderThanOrEqualTo(final RobotVersion otherVersion) {
@@ -79,7 +83,7 @@ public final class RobotVersion implements Comparable<RobotVersion> {
         }
         return major > otherVersion.major || (major == otherVersion.major && minor > otherVersion.minor)
                 || (major == otherVersion.major && minor == otherVersion.minor
-                        && isLessPatch(otherVersion.patch, patch));
+                        && isLessPatch(otherVersion.getPatch(), getPatch()));
     }
 
     public boolean isNewerOrEqualTo(final RobotVersion otherVersion) {
@@ -90,6 +94,10 @@ public final class RobotVersion implements Comparable<RobotVersion> {
         return isOlderThan(RobotVersion.from("3.0"));
     }
 
+    private Optional<Integer> getPatch() {
+        return Optional.ofNullable(patch);
+    }
+
     private boolean isLessPatch(final Optional<Integer> patch1, final Optional<Integer> patch2) {
         if (!patch1.isPresent() && !patch2.isPresent()) {
             return false;
@@ -130,8 +138,8 @@ public final class RobotVersion implements Comparable<RobotVersion> {
     }
 
     public String asString() {
-        if (patch.isPresent()) {
-            return major + "." + minor + "." + patch.get().intValue();
+        if (patch != null) {
+            return major + "." + minor + "." + patch.intValue();
         } else {
             return major + "." + minor;
         }
@@ -140,6 +148,11 @@ public final class RobotVersion implements Comparable<RobotVersion> {
     @Override
     public String toString() {
         return String.format(getClass().getName() + "[major=%s, minor=%s, patch=%s]", this.major, this.minor,
-                this.patch);
+                getPatch());
+    }
+
+    private Object readResolve() {
+        // unknown version is compared by identity
+        return equals(UNKNOWN) ? UNKNOWN : this;
     }
 }
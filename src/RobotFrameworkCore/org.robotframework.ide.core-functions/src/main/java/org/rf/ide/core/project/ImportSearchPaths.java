@@ -7,6 +7,7 @@ package org.rf.ide.core.project;
 
 import java.io.File;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +48,22 @@ public class ImportSearchPaths {
         return Optional.empty();
     }
 
+    /**
+     * Returns all the uris at which imported path is searched for, in order of searching,
+     * regardless of whether anything exists there.
+     */
+    public List<URI> findCandidateUris(final URI importingFileUri, final ResolvedImportPath importPath) {
+        final List<URI> candidates = new ArrayList<>();
+        candidates.add(importPath.resolveInRespectTo(importingFileUri));
+        for (final File moduleSearchPath : pathsProvider.providePythonModulesSearchPaths()) {
+            candidates.add(importPath.resolveInRespectTo(moduleSearchPath.toURI()));
+        }
+        for (final File userSearchPath : pathsProvider.provideUserSearchPaths()) {
+            candidates.add(importPath.resolveInRespectTo(userSearchPath.toURI()));
+        }
+        return candidates;
+    }
+
     /**
      * Provides paths which are used for relative paths resolution.
      * 
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.CodeSource;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+/**
+ * Persistent cache of parsed files. Each parsed file has a single snapshot file in the cache
+ * directory containing compressed, serialized {@link RobotFileOutput}. Snapshot is valid only for
+ * the same file content, Robot version and parser version it was created for, so modified files
+ * are simply parsed again and their snapshots are overwritten. Snapshots are written to the disk in
+ * background thread shared by all the caches.
+ * <p>
+ * Parser version is a hash of the classes of this library, so snapshots created by any other build
+ * of parser or model are never loaded.
+ */
+public class ParsedFilesCache {
+
+    private static final int MAGIC_NUMBER = 0x52454450;
+
+    private static final Supplier<String> PARSER_VERSION = Suppliers.memoize(ParsedFilesCache::calculateParserVersion);
+
+    private static final ExecutorService WRITING_EXECUTOR = Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder().setNameFormat("parsed-files-cache-writer").setDaemon(true).build());
+
+    private final File directory;
+
+    private final ExecutorService writingExecutor;
+
+    public ParsedFilesCache(final File directory) {
+        this(directory, WRITING_EXECUTOR);
+    }
+
+    @VisibleForTesting
+    ParsedFilesCache(final File directory, final ExecutorService writingExecutor) {
+        this.directory = directory;
+        this.writingExecutor = writingExecutor;
+    }
+
+    /**
+     * Returns cached output of given file, if it was stored for exactly the same content and
+     * version. Returned output is a fresh copy, so it can be freely modified.
+     */
+    public Optional<RobotFileOutput> load(final File file, final byte[] content, final RobotVersion version) {
+        final File snapshotFile = getSnapshotFile(file);
+        if (!snapshotFile.isFile()) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(snapshotFile.toPath()))) {
+            if (!isCompatible(input) || !input.readUTF().equals(version.asString())
+                    || !input.readUTF().equals(file.getAbsolutePath())
+                    || !Arrays.equals(readBytes(input), hash(content))) {
+                return Optional.empty();
+            }
+            final RobotFileOutput output = deserialize(input);
+            if (!version.equals(output.getRobotVersion())) {
+                return Optional.empty();
+            }
+            output.setProcessedFile(file);
+            return Optional.of(output);
+
+        } catch (final IOException | ClassNotFoundException | ClassCastException e) {
+            // broken or incompatible snapshot, it will be overwritten after parsing
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores snapshot of given output parsed from given content. The output is serialized
+     * immediately, so it can be modified afterwards, while writing is done in background.
+     */
+    public void store(final RobotFileOutput output, final byte[] content) {
+        if (output.getStatus() != Status.PASSED || output.getProcessedFile() == null) {
+            return;
+        }
+        final File file = output.getProcessedFile();
+        try {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream header = new DataOutputStream(bytes)) {
+                header.writeInt(MAGIC_NUMBER);
+                header.writeUTF(PARSER_VERSION.get());
+                header.writeUTF(output.getRobotVersion().asString());
+                header.writeUTF(file.getAbsolutePath());
+                writeBytes(header, hash(content));
+                serialize(header, output);
+            }
+            writingExecutor.execute(() -> write(getSnapshotFile(file), bytes.toByteArray()));
+
+        } catch (final IOException e) {
+            // the file will be simply parsed again next time
+        }
+    }
+
+    /**
+     * Waits until all scheduled snapshots are written.
+     */
+    @VisibleForTesting
+    void awaitWriting() throws Exception {
+        writingExecutor.submit(() -> {}).get();
+    }
+
+    /**
+     * Removes snapshot of given file, e.g. when the file was deleted or moved.
+     */
+    public void remove(final File file) {
+        writingExecutor.execute(() -> getSnapshotFile(file).delete());
+    }
+
+    /**
+     * Removes snapshots of files which do not exist anymore and snapshots which were created by
+     * different parser version. This is done in background.
+     */
+    public void prune() {
+        writingExecutor.execute(() -> {
+            for (final File snapshot : listSnapshots()) {
+                if (!isValidSnapshot(snapshot)) {
+                    snapshot.delete();
+                }
+            }
+        });
+    }
+
+    /**
+     * Removes all the snapshots. This is done in background.
+     */
+    public void clear() {
+        writingExecutor.execute(() -> listSnapshots().forEach(File::delete));
+    }
+
+    private List<File> listSnapshots() {
+        final File[] files = directory.listFiles();
+        return files == null ? Arrays.asList()
+                : Stream.of(files).filter(file -> file.getName().endsWith(".snapshot")).collect(Collectors.toList());
+    }
+
+    private static boolean isValidSnapshot(final File snapshot) {
+        try (DataInputStream input = new DataInputStream(Files.newInputStream(snapshot.toPath()))) {
+            if (!isCompatible(input)) {
+                return false;
+            }
+            input.readUTF();
+            return new File(input.readUTF()).isFile();
+
+        } catch (final IOException e) {
+            return false;
+        }
+    }
+
+    private static boolean isCompatible(final DataInputStream input) throws IOException {
+        return input.readInt() == MAGIC_NUMBER && input.readUTF().equals(PARSER_VERSION.get());
+    }
+
+    private File getSnapshotFile(final File file) {
+        final String name = Hashing.sha256().hashUnencodedChars(file.getAbsolutePath()).toString();
+        return new File(directory, name + ".snapshot");
+    }
+
+    @VisibleForTesting
+    static String getParserVersion() {
+        return PARSER_VERSION.get();
+    }
+
+    private static String calculateParserVersion() {
+        // hash of jar or classes directory from which this library is loaded
+        try {
+            final CodeSource codeSource = ParsedFilesCache.class.getProtectionDomain().getCodeSource();
+            if (codeSource == null || codeSource.getLocation() == null) {
+                return UUID.randomUUID().toString();
+            }
+            final Path location = Paths.get(codeSource.getLocation().toURI());
+            final Hasher hasher = Hashing.sha256().newHasher();
+            if (Files.isRegularFile(location)) {
+                hasher.putBytes(Files.readAllBytes(location));
+
+            } else {
+                try (Stream<Path> paths = Files.walk(location)) {
+                    final List<Path> classFiles = paths.filter(path -> path.toString().endsWith(".class"))
+                            .sorted()
+                            .collect(Collectors.toList());
+                    for (final Path classFile : classFiles) {
+                        hasher.putUnencodedChars(location.relativize(classFile).toString());
+                        hasher.putBytes(Files.readAllBytes(classFile));
+                    }
+                }
+            }
+            return hasher.hash().toString();
+
+        } catch (final IOException | URISyntaxException | RuntimeException e) {
+            // snapshots will be reused only within current session
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    private static byte[] hash(final byte[] content) {
+        return Hashing.sha256().hashBytes(content).asBytes();
+    }
+
+    private static void writeBytes(final DataOutputStream output, final byte[] bytes) throws IOException {
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static byte[] readBytes(final DataInputStream input) throws IOException {
+        final byte[] bytes = new byte[input.readInt()];
+        input.readFully(bytes);
+        return bytes;
+    }
+
+    private static void serialize(final OutputStream output, final RobotFileOutput fileOutput) throws IOException {
+        final DeflaterOutputStream compressedOutput = new DeflaterOutputStream(output);
+        RobotFileOutputSerializer.serialize(compressedOutput, fileOutput);
+        compressedOutput.finish();
+    }
+
+    private static RobotFileOutput deserialize(final InputStream input) throws IOException, ClassNotFoundException {
+        try (InputStream decompressedInput = new InflaterInputStream(input)) {
+            return RobotFileOutputSerializer.deserialize(decompressedInput);
+        }
+    }
+
+    private static void write(final File snapshotFile, final byte[] bytes) {
+        try {
+            Files.createDirectories(snapshotFile.getParentFile().toPath());
+            final Path tmpFile = Files.createTempFile(snapshotFile.getParentFile().toPath(), null, ".tmp");
+            try {
+                Files.write(tmpFile, bytes);
+                move(tmpFile, snapshotFile.toPath());
+            } finally {
+                Files.deleteIfExists(tmpFile);
+            }
+        } catch (final IOException e) {
+            // the file will be simply parsed again next time
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Set;
+
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Serializes whole {@link RobotFileOutput} keeping positions of all its elements, so that
+ * deserialized output is equal to the serialized one. Used for persistent snapshots of parsed
+ * files and for copying outputs which are going to be modified.
+ */
+public final class RobotFileOutputSerializer {
+
+    private RobotFileOutputSerializer() {
+        // utility class
+    }
+
+    public static void serialize(final OutputStream output, final RobotFileOutput fileOutput) throws IOException {
+        final ObjectOutputStream objectOutput = new PositionsKeepingOutputStream(output);
+        objectOutput.writeObject(fileOutput);
+        objectOutput.flush();
+    }
+
+    /**
+     * Reads output written by {@link #serialize(OutputStream, RobotFileOutput)}. Only classes of
+     * the model and JDK types used by it are resolved, so input read from disk cannot instantiate
+     * any other serializable class.
+     *
+     * @param input
+     * @return
+     * @throws IOException
+     *             when input cannot be read or contains objects of not allowed classes
+     * @throws ClassNotFoundException
+     */
+    public static RobotFileOutput deserialize(final InputStream input) throws IOException, ClassNotFoundException {
+        final ObjectInputStream objectInput = new ModelTypesInputStream(input);
+        return (RobotFileOutput) objectInput.readObject();
+    }
+
+    /**
+     * Creates deep copy of given output. The copy does not share any model elements, lines or
+     * tokens with the original, so it can be modified while the original is read by other threads.
+     *
+     * @param fileOutput
+     * @return
+     * @throws IOException
+     *             when some object of the model cannot be serialized
+     */
+    public static RobotFileOutput copy(final RobotFileOutput fileOutput) throws IOException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        serialize(bytes, fileOutput);
+        try {
+            return deserialize(new ByteArrayInputStream(bytes.toByteArray()));
+        } catch (final ClassNotFoundException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * {@link FilePosition} is always deserialized as not set (as it is used for copying model
+     * elements), but positions have to be kept in serialized output, so they are written using
+     * proxy.
+     */
+    private static class PositionsKeepingOutputStream extends ObjectOutputStream {
+
+        PositionsKeepingOutputStream(final OutputStream output) throws IOException {
+            super(output);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(final Object object) throws IOException {
+            if (object instanceof FilePosition) {
+                return new FilePositionProxy((FilePosition) object);
+            }
+            return object;
+        }
+    }
+
+    private static class ModelTypesInputStream extends ObjectInputStream {
+
+        private static final String MODEL_PACKAGE = "org.rf.ide.core.";
+
+        private static final Set<String> JDK_TYPES = ImmutableSet.of(
+                "java.io.File",
+                "java.lang.Boolean", "java.lang.Enum", "java.lang.Integer", "java.lang.Long", "java.lang.Number",
+                "java.util.ArrayList", "java.util.EnumMap", "java.util.HashMap", "java.util.HashSet",
+                "java.util.LinkedHashMap", "java.util.LinkedHashSet", "java.util.LinkedList");
+
+        ModelTypesInputStream(final InputStream input) throws IOException {
+            super(input);
+        }
+
+        @Override
+        protected Class<?> resolveClass(final ObjectStreamClass description)
+                throws IOException, ClassNotFoundException {
+            if (!isAllowed(description.getName())) {
+                throw new InvalidClassException(description.getName(), "Class is not allowed in robot file output");
+            }
+            return super.resolveClass(description);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(final String[] interfaces) throws IOException {
+            throw new InvalidClassException("Proxy classes are not allowed in robot file output");
+        }
+
+        private static boolean isAllowed(final String className) {
+            if (className.startsWith("[")) {
+                // arrays are named like [I or [[Ljava.lang.Integer;
+                final String componentName = className.substring(className.lastIndexOf('[') + 1);
+                return componentName.length() == 1 || componentName.startsWith("L") && componentName.endsWith(";")
+                        && isAllowed(componentName.substring(1, componentName.length() - 1));
+            }
+            return className.startsWith(MODEL_PACKAGE) || JDK_TYPES.contains(className);
+        }
+    }
+
+    private static class FilePositionProxy implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int line;
+
+        private final int column;
+
+        private final int offset;
+
+        FilePositionProxy(final FilePosition position) {
+            this.line = position.getLine();
+            this.column = position.getColumn();
+            this.offset = position.getOffset();
+        }
+
+        private Object readResolve() {
+            return new FilePosition(line, column, offset);
+        }
+    }
+}
@@ -5,36 +5,74 @@
  */
 package org.rf.ide.core.testdata;
 
+import static java.util.stream.Collectors.toList;
+
 import java.io.ByteArrayInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import org.rf.ide.core.environment.RobotVersion;
 import org.rf.ide.core.testdata.model.FileFormat;
 import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutline;
 import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
 import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.text.read.EditedBlockReparser;
+import org.rf.ide.core.testdata.text.read.OutlineParser;
 import org.rf.ide.core.testdata.text.read.TextualRobotFileParser;
 
+import com.google.common.collect.ImmutableMap;
+
 public class RobotParser {
 
     private static final int MAX_NUMBER_OF_TRASH_LINES = 5000;
 
-    private static final FileFormat[] AVAILABLE_FORMATS = new FileFormat[] { FileFormat.TXT_OR_ROBOT, FileFormat.TSV };
+    // textual parsers do not keep any state, so they are shared by all robot parsers and threads
+    private static final Map<FileFormat, TextualRobotFileParser> PARSERS = ImmutableMap.of(
+            FileFormat.TXT_OR_ROBOT, new TextualRobotFileParser(FileFormat.TXT_OR_ROBOT),
+            FileFormat.TSV, new TextualRobotFileParser(FileFormat.TSV));
+
+    private static final Map<FileFormat, OutlineParser> OUTLINE_PARSERS = ImmutableMap.of(
+            FileFormat.TXT_OR_ROBOT, new OutlineParser(FileFormat.TXT_OR_ROBOT),
+            FileFormat.TSV, new OutlineParser(FileFormat.TSV));
 
     private final RobotProjectHolder robotProject;
 
     private final RobotVersion version;
 
+    private final ParsedFilesCache parsedFilesCache;
+
     public RobotParser(final RobotProjectHolder robotProject, final RobotVersion version) {
+        this(robotProject, version, null);
+    }
+
+    /**
+     * Creates parser which consults given persistent cache before parsing files and stores newly
+     * parsed outputs in it. Cache is not used for editor content.
+     *
+     * @param robotProject
+     * @param version
+     * @param parsedFilesCache
+     */
+    public RobotParser(final RobotProjectHolder robotProject, final RobotVersion version,
+            final ParsedFilesCache parsedFilesCache) {
         this.robotProject = robotProject;
         this.version = version;
+        this.parsedFilesCache = parsedFilesCache;
     }
 
     /**
@@ -65,6 +103,80 @@ public class RobotParser {
         return robotFile;
     }
 
+    /**
+     * Should be used for unsaved editor content which was already parsed. When the change made since
+     * previous parsing is limited to single test case, task or keyword, only this part is parsed again
+     * and spliced into new output sharing unchanged parts with previous output. Otherwise whole
+     * content is parsed as in {@link #parseEditorContent(String, File)}. Structure of previous output
+     * is never modified, so it may be still used by other threads while new output is created, but
+     * positions of shared elements follow the new output once it is returned.
+     *
+     * @param previousOutput
+     * @param previousContent
+     * @param fileContent
+     * @param fileOrDir
+     * @return
+     */
+    public RobotFileOutput parseEditorContent(final RobotFileOutput previousOutput, final String previousContent,
+            final String fileContent, final File fileOrDir) {
+        if (previousOutput != null && previousContent != null && fileContent != null
+                && version.equals(previousOutput.getRobotVersion())
+                && Objects.equals(fileOrDir, previousOutput.getProcessedFile())) {
+            final TextualRobotFileParser parser = createParser(fileOrDir, true);
+
+            final Optional<RobotFileOutput> reparsedOutput = parser == null ? Optional.empty()
+                    : new EditedBlockReparser(parser).reparse(previousOutput, previousContent, fileContent);
+            if (reparsedOutput.isPresent()) {
+                clearIfNeeded(reparsedOutput.get());
+                return reparsedOutput.get();
+            }
+        }
+        return parseEditorContent(fileContent, fileOrDir);
+    }
+
+    /**
+     * Creates outline of given file without parsing it into full model. Outlines are not stored
+     * in {@link RobotProjectHolder} object.
+     *
+     * @param file
+     * @return outline or empty optional when given file is not a robot file or cannot be read
+     */
+    public Optional<RobotFileOutline> parseOutline(final File file) {
+        if (file == null || !file.isFile()) {
+            return Optional.empty();
+        }
+        try {
+            final byte[] content = Files.readAllBytes(file.toPath());
+            return parseOutline(new String(content, StandardCharsets.UTF_8), file);
+        } catch (final IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Creates outline of given content, which should be unsaved editor content of given file.
+     *
+     * @param fileContent
+     * @param file
+     * @return outline or empty optional when given file is not a robot file
+     */
+    public Optional<RobotFileOutline> parseOutline(final String fileContent, final File file) {
+        return Optional.ofNullable(OUTLINE_PARSERS.get(FileFormat.getByFile(file)))
+                .map(parser -> parser.parse(version, file, fileContent));
+    }
+
+    /**
+     * Parses content from which given outline was created into full model, just like it would be
+     * done by {@link #parseEditorContent(String, File)}. The file is not read again, so the model
+     * matches the outline even when the file was changed in the meantime.
+     *
+     * @param outline
+     * @return
+     */
+    public RobotFileOutput upgrade(final RobotFileOutline outline) {
+        return parseEditorContent(outline.getContent(), outline.getProcessedFile());
+    }
+
     public List<RobotFileOutput> parse(final File fileOrDir) {
         final List<RobotFileOutput> output = new ArrayList<>();
         parse(fileOrDir, output);
@@ -80,36 +192,84 @@ public class RobotParser {
                         parse(file, output);
                     }
                 }
-            } else if (robotProject.shouldBeParsed(fileOrDir)) {
-                final TextualRobotFileParser parser = createParser(fileOrDir, false);
+            } else {
+                parseFile(fileOrDir).ifPresent(output::add);
+            }
+        }
+    }
+
+    /**
+     * Parses given file or whole directory tree like {@link #parse(File)}, but files are parsed
+     * concurrently using common fork/join pool. Returned outputs are ordered in the same way as in
+     * sequential parsing.
+     *
+     * @param fileOrDir
+     * @return
+     */
+    public List<RobotFileOutput> parseInParallel(final File fileOrDir) {
+        return parseInParallel(fileOrDir, ForkJoinPool.commonPool());
+    }
 
-                if (parser != null) {
-                    final RobotFileOutput robotFile = new RobotFileOutput(version);
-                    output.add(robotFile);
+    /**
+     * Parses given file or whole directory tree like {@link #parse(File)}, but files are parsed
+     * concurrently using given fork/join pool. Returned outputs are ordered in the same way as in
+     * sequential parsing.
+     *
+     * @param fileOrDir
+     * @param pool
+     * @return
+     */
+    public List<RobotFileOutput> parseInParallel(final File fileOrDir, final ForkJoinPool pool) {
+        return pool.invoke(new ParsingTask(fileOrDir));
+    }
 
-                    parser.parse(robotFile, fileOrDir);
-                    robotProject.addParsedFile(robotFile);
+    private Optional<RobotFileOutput> parseFile(final File file) {
+        if (robotProject.shouldBeParsed(file)) {
+            final TextualRobotFileParser parser = createParser(file, false);
 
-                    clearIfNeeded(robotFile);
-                }
-            } else {
-                final RobotFileOutput robotFile = robotProject.findParsedFileByPath(fileOrDir);
-                if (robotFile != null) {
-                    output.add(robotFile);
-                }
+            if (parser != null) {
+                final RobotFileOutput robotFile = parsedFilesCache == null ? parse(parser, file)
+                        : parseUsingCache(parser, file);
+                robotProject.addParsedFile(robotFile);
+                return Optional.of(robotFile);
             }
+            return Optional.empty();
+        } else {
+            return Optional.ofNullable(robotProject.findParsedFileByPath(file));
+        }
+    }
+
+    private RobotFileOutput parse(final TextualRobotFileParser parser, final File file) {
+        final RobotFileOutput robotFile = new RobotFileOutput(version);
+        parser.parse(robotFile, file);
+        clearIfNeeded(robotFile);
+        return robotFile;
+    }
+
+    private RobotFileOutput parseUsingCache(final TextualRobotFileParser parser, final File file) {
+        final byte[] content;
+        try {
+            content = Files.readAllBytes(file.toPath());
+        } catch (final IOException e) {
+            return parse(parser, file);
+        }
+
+        final Optional<RobotFileOutput> cachedFile = parsedFilesCache.load(file, content, version);
+        if (cachedFile.isPresent()) {
+            return cachedFile.get();
         }
+        final RobotFileOutput robotFile = new RobotFileOutput(version);
+        parser.parse(robotFile, new ByteArrayInputStream(content), file);
+        clearIfNeeded(robotFile);
+        parsedFilesCache.store(robotFile, content);
+        return robotFile;
     }
 
     private TextualRobotFileParser createParser(final File fileOrDir, final boolean isFromStringContent) {
         if (fileOrDir == null || !fileOrDir.isFile() && !isFromStringContent) {
             return null;
         }
-        return Arrays.stream(AVAILABLE_FORMATS)
-                .filter(fileFormat -> FileFormat.getByFile(fileOrDir) == fileFormat)
-                .findFirst()
-                .map(TextualRobotFileParser::new)
-                .orElse(null);
+        return PARSERS.get(FileFormat.getByFile(fileOrDir));
     }
 
     private void clearIfNeeded(final RobotFileOutput robotFile) {
@@ -118,4 +278,36 @@ public class RobotParser {
             fileModel.removeLines();
         }
     }
+
+    @SuppressWarnings("serial")
+    private class ParsingTask extends RecursiveTask<List<RobotFileOutput>> {
+
+        private final File fileOrDir;
+
+        private ParsingTask(final File fileOrDir) {
+            this.fileOrDir = fileOrDir;
+        }
+
+        @Override
+        protected List<RobotFileOutput> compute() {
+            final List<RobotFileOutput> output = new ArrayList<>();
+            if (fileOrDir != null) {
+                if (fileOrDir.isDirectory()) {
+                    final File[] files = fileOrDir.listFiles();
+                    if (files != null) {
+                        final List<ParsingTask> subtasks = Arrays.stream(files)
+                                .map(ParsingTask::new)
+                                .collect(toList());
+                        invokeAll(subtasks);
+                        // joining in order of listed files keeps the outputs order deterministic
+                        subtasks.forEach(subtask -> output.addAll(subtask.join()));
+                    }
+                } else {
+                    // shared textual parsers are stateless, so each task only fills its own output
+                    parseFile(fileOrDir).ifPresent(output::add);
+                }
+            }
+            return output;
+        }
+    }
 }
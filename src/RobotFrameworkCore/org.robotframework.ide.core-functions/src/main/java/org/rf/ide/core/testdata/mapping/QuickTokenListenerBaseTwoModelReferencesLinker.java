@@ -24,6 +24,7 @@ public class QuickTokenListenerBaseTwoModelReferencesLinker {
     public void update(final RobotFileOutput output, final DumpedResult dumpResult) {
         updateTokensPosition(dumpResult);
         updateOldOutputTokenLines(dumpResult, output);
+        output.getDocumentationCacher().invalidate();
     }
 
     private void updateTokensPosition(final DumpedResult dumpResult) {
@@ -37,12 +37,6 @@ public class KeywordExecutableRowArgumentMapper implements IParsingMapper {
         this.specialTokensRecognizer = new RobotSpecialTokens();
     }
 
-    @Override
-    public boolean isApplicableFor(final RobotVersion robotVersion) {
-        specialTokensRecognizer.initializeFor(robotVersion);
-        return IParsingMapper.super.isApplicableFor(robotVersion);
-    }
-
     @Override
     public boolean checkIfCanBeMapped(final RobotFileOutput robotFileOutput, final RobotLine currentLine,
             final RobotToken rt, final String text, final Stack<ParsingState> processingState) {
@@ -58,7 +52,8 @@ public class KeywordExecutableRowArgumentMapper implements IParsingMapper {
         final List<IRobotTokenType> types = rt.getTypes();
         types.add(0, RobotTokenType.KEYWORD_ACTION_ARGUMENT);
 
-        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(fp, text);
+        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(robotFileOutput.getRobotVersion(),
+                fp, text);
         for (final RobotToken token : specialTokens) {
             types.addAll(token.getTypes());
         }
@@ -33,7 +33,6 @@ public class TaskExecutableRowArgumentMapper implements IParsingMapper {
 
     @Override
     public final boolean isApplicableFor(final RobotVersion robotVersion) {
-        specialTokensRecognizer.initializeFor(robotVersion);
         return robotVersion.isNewerOrEqualTo(new RobotVersion(3, 1));
     }
 
@@ -55,7 +54,8 @@ public class TaskExecutableRowArgumentMapper implements IParsingMapper {
         types.remove(RobotTokenType.UNKNOWN);
         types.add(0, RobotTokenType.TASK_ACTION_ARGUMENT);
 
-        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(fp, text);
+        final List<RobotToken> specialTokens = specialTokensRecognizer.recognize(robotFileOutput.getRobotVersion(),
+                fp, text);
         for (final RobotToken token : specialTokens) {
             types.addAll(token.getTypes());
         }
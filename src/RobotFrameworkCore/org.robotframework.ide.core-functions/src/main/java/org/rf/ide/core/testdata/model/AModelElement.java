@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -13,7 +14,9 @@ import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
-public abstract class AModelElement<T> implements IOptional, IChildElement<T> {
+public abstract class AModelElement<T> implements IOptional, IChildElement<T>, Serializable {
+
+    private static final long serialVersionUID = 2921778260619623320L;
 
     private T parent;
 
@@ -5,11 +5,15 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
 
 import com.google.common.annotations.Beta;
 import com.google.common.annotations.VisibleForTesting;
@@ -17,49 +21,89 @@ import com.google.common.annotations.VisibleForTesting;
 /**
  * Please considerate to move this logic to global region cacher, in case of refactor API will be
  * made
+ * <p>
+ * Lookups are done using interval trees of lines and offsets, which are built lazily from the
+ * regions of all registered elements. Elements registered afterwards are checked directly until
+ * the trees are rebuilt. Since regions are taken from model tokens, the trees are kept for the
+ * positions version given with lookups and are rebuilt once the version changes; the owner of
+ * registered elements has to change the version, or call {@link #invalidate()}, whenever
+ * positions of registered elements are changed.
  * 
  * @author wypych
  */
 @Beta
-public class FileRegionCacher<T> {
+public class FileRegionCacher<T> implements Serializable {
+
+    private static final long serialVersionUID = 1011886333064574506L;
+
+    private static final int MIN_CHANGES_BEFORE_REBUILD = 32;
 
     private final Set<IRegionCacheable<T>> cache = new LinkedHashSet<IRegionCacheable<T>>(0);
 
-    public void register(final IRegionCacheable<T> newCacheable) {
+    private transient RegionsIndex<T> index;
+
+    private transient long positionsVersion;
+
+    public synchronized void register(final IRegionCacheable<T> newCacheable) {
         unregister(newCacheable);
         cache.add(newCacheable);
+        if (index != null) {
+            index.notIndexed.add(newCacheable);
+        }
+    }
+
+    public void registerAll(final FileRegionCacher<T> cacher) {
+        final List<IRegionCacheable<T>> cacheables;
+        synchronized (cacher) {
+            cacheables = new ArrayList<>(cacher.cache);
+        }
+        synchronized (this) {
+            cacheables.forEach(this::register);
+        }
     }
 
-    public void unregister(final IRegionCacheable<T> removeCacheable) {
-        cache.remove(removeCacheable);
+    public synchronized void unregister(final IRegionCacheable<T> removeCacheable) {
+        if (cache.remove(removeCacheable) && index != null) {
+            index.notIndexed.remove(removeCacheable);
+            index.removedCount++;
+        }
     }
 
-    public List<IRegionCacheable<T>> findByLineNumber(final int lineNumber) {
-        final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
+    /**
+     * Drops lines and offsets index, so that it will be rebuilt using current regions of
+     * registered elements.
+     */
+    public synchronized void invalidate() {
+        index = null;
+    }
 
+    public synchronized List<IRegionCacheable<T>> findByLineNumber(final int lineNumber) {
+        return findByLineNumber(lineNumber, positionsVersion);
+    }
+
+    /**
+     * Finds elements containing given line, where positions of elements are in given version.
+     */
+    public synchronized List<IRegionCacheable<T>> findByLineNumber(final int lineNumber,
+            final long positionsVersion) {
         if (lineNumber > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
-                if (isRegionContainsLine(cacheElement, lineNumber)) {
-                    inPosition.add(cacheElement);
-                }
-            }
+            return find(lineNumber, positionsVersion, idx -> idx.lines, this::isRegionContainsLine);
         }
-
-        return inPosition;
+        return new ArrayList<IRegionCacheable<T>>(0);
     }
 
-    public List<IRegionCacheable<T>> findByOffset(final int offset) {
-        final List<IRegionCacheable<T>> inPosition = new ArrayList<IRegionCacheable<T>>(0);
+    public synchronized List<IRegionCacheable<T>> findByOffset(final int offset) {
+        return findByOffset(offset, positionsVersion);
+    }
 
+    /**
+     * Finds elements containing given offset, where positions of elements are in given version.
+     */
+    public synchronized List<IRegionCacheable<T>> findByOffset(final int offset, final long positionsVersion) {
         if (offset > FilePosition.NOT_SET) {
-            for (final IRegionCacheable<T> cacheElement : cache) {
-                if (isRegionContainsOffset(cacheElement, offset)) {
-                    inPosition.add(cacheElement);
-                }
-            }
+            return find(offset, positionsVersion, idx -> idx.offsets, this::isRegionContainsOffset);
         }
-
-        return inPosition;
+        return new ArrayList<IRegionCacheable<T>>(0);
     }
 
     @VisibleForTesting
@@ -67,6 +111,31 @@ public class FileRegionCacher<T> {
         return Collections.unmodifiableSet(cache);
     }
 
+    private List<IRegionCacheable<T>> find(final int point, final long positionsVersion,
+            final Function<RegionsIndex<T>, IntervalTree<IRegionCacheable<T>>> treeSelector,
+            final BiPredicate<IRegionCacheable<T>, Integer> liveCheck) {
+        if (index == null || this.positionsVersion != positionsVersion || index.requiresRebuild(cache.size())) {
+            index = new RegionsIndex<>(cache);
+            this.positionsVersion = positionsVersion;
+        }
+        final List<Interval<IRegionCacheable<T>>> found = treeSelector.apply(index).find(point);
+        found.sort(Comparator.comparingInt(interval -> interval.order));
+
+        final Set<IRegionCacheable<T>> inPosition = new LinkedHashSet<>(0);
+        for (final Interval<IRegionCacheable<T>> interval : found) {
+            final IRegionCacheable<T> cacheElement = interval.value;
+            if (cache.contains(cacheElement) && !index.notIndexed.contains(cacheElement)) {
+                inPosition.add(cacheElement);
+            }
+        }
+        for (final IRegionCacheable<T> cacheElement : index.notIndexed) {
+            if (liveCheck.test(cacheElement, point)) {
+                inPosition.add(cacheElement);
+            }
+        }
+        return new ArrayList<>(inPosition);
+    }
+
     private boolean isRegionContainsLine(final IRegionCacheable<T> region, final int line) {
         for (final FileRegion continuesRegion : region.getContinuousRegions()) {
             if (continuesRegion.containsLine(line)) {
@@ -86,4 +155,112 @@ public class FileRegionCacher<T> {
 
         return false;
     }
+
+    private static class RegionsIndex<T> {
+
+        private final IntervalTree<IRegionCacheable<T>> lines;
+
+        private final IntervalTree<IRegionCacheable<T>> offsets;
+
+        private final Set<IRegionCacheable<T>> notIndexed = new LinkedHashSet<>(0);
+
+        private int removedCount = 0;
+
+        RegionsIndex(final Set<IRegionCacheable<T>> cache) {
+            final List<Interval<IRegionCacheable<T>>> lineIntervals = new ArrayList<>();
+            final List<Interval<IRegionCacheable<T>>> offsetIntervals = new ArrayList<>();
+            int order = 0;
+            for (final IRegionCacheable<T> cacheElement : cache) {
+                for (final FileRegion region : cacheElement.getContinuousRegions()) {
+                    final FilePosition start = region.getStart();
+                    final FilePosition end = region.getEnd();
+                    if (start.getLine() <= end.getLine()) {
+                        lineIntervals.add(new Interval<>(start.getLine(), end.getLine(), order, cacheElement));
+                    }
+                    if (start.getOffset() <= end.getOffset()) {
+                        offsetIntervals.add(new Interval<>(start.getOffset(), end.getOffset(), order, cacheElement));
+                    }
+                }
+                order++;
+            }
+            this.lines = new IntervalTree<>(lineIntervals);
+            this.offsets = new IntervalTree<>(offsetIntervals);
+        }
+
+        boolean requiresRebuild(final int size) {
+            return notIndexed.size() + removedCount > Math.max(MIN_CHANGES_BEFORE_REBUILD, size / 8);
+        }
+    }
+
+    private static class Interval<V> {
+
+        private final int start;
+
+        private final int end;
+
+        private final int order;
+
+        private final V value;
+
+        Interval(final int start, final int end, final int order, final V value) {
+            this.start = start;
+            this.end = end;
+            this.order = order;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Static interval tree stored as balanced binary search tree over intervals sorted by start,
+     * where each subtree knows the maximal end of its intervals.
+     */
+    private static class IntervalTree<V> {
+
+        private final List<Interval<V>> intervals;
+
+        private final int[] maxEnds;
+
+        IntervalTree(final List<Interval<V>> intervals) {
+            this.intervals = new ArrayList<>(intervals);
+            this.intervals.sort(Comparator.comparingInt(interval -> interval.start));
+            this.maxEnds = new int[intervals.size()];
+            computeMaxEnds(0, intervals.size());
+        }
+
+        private int computeMaxEnds(final int from, final int to) {
+            if (from >= to) {
+                return Integer.MIN_VALUE;
+            }
+            final int middle = (from + to) >>> 1;
+            final int maxEnd = Math.max(intervals.get(middle).end,
+                    Math.max(computeMaxEnds(from, middle), computeMaxEnds(middle + 1, to)));
+            maxEnds[middle] = maxEnd;
+            return maxEnd;
+        }
+
+        List<Interval<V>> find(final int point) {
+            final List<Interval<V>> found = new ArrayList<>(0);
+            find(point, 0, intervals.size(), found);
+            return found;
+        }
+
+        private void find(final int point, final int from, final int to, final List<Interval<V>> found) {
+            if (from >= to) {
+                return;
+            }
+            final int middle = (from + to) >>> 1;
+            if (maxEnds[middle] < point) {
+                return;
+            }
+            find(point, from, middle, found);
+
+            final Interval<V> interval = intervals.get(middle);
+            if (interval.start <= point) {
+                if (point <= interval.end) {
+                    found.add(interval);
+                }
+                find(point, middle + 1, to, found);
+            }
+        }
+    }
 }
@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -25,7 +26,9 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 import com.google.common.collect.ImmutableList;
 
-public class RobotFile implements IChildElement<RobotFileOutput> {
+public class RobotFile implements IChildElement<RobotFileOutput>, Serializable {
+
+    private static final long serialVersionUID = -6517622058113494171L;
 
     public static final String INIT_NAME = "__init__";
     public static final List<String> INIT_NAMES = ImmutableList.of("__init__.robot", "__init__.tsv", "__init__.txt");
@@ -64,6 +67,12 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         this.fileContent.add(line);
     }
 
+    public void replaceLines(final int fromIndex, final int toIndex, final List<RobotLine> lines) {
+        final List<RobotLine> replacedLines = fileContent.subList(fromIndex, toIndex);
+        replacedLines.clear();
+        replacedLines.addAll(lines);
+    }
+
     public Optional<RobotLine> getRobotLineBy(final int offset) {
         return getRobotLineIndexBy(offset).map(fileContent::get);
     }
@@ -140,6 +149,14 @@ public class RobotFile implements IChildElement<RobotFileOutput> {
         }
     }
 
+    /**
+     * Makes given table, possibly taken from other file, the table of given type in this file.
+     */
+    public void adoptTable(final RobotTokenType headerType, final ARobotSectionTable table) {
+        table.setParent(this);
+        tables.put(headerType, table);
+    }
+
     public void includeSettingTableSection() {
         includeTableSection(RobotTokenType.SETTINGS_TABLE_HEADER);
     }
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+/**
+ * Lightweight outline of robot file containing only sections, imports, names of test cases, tasks
+ * and keywords together with their lines and documentation regions. It is created without mapping
+ * the file into full {@link RobotFile} model, which can be parsed when needed using
+ * {@link org.rf.ide.core.testdata.RobotParser#upgrade(RobotFileOutline)}. The outline keeps the
+ * content it was created from, so that upgraded model always matches the outline.
+ */
+public class RobotFileOutline {
+
+    private final File processedFile;
+
+    private final RobotVersion robotVersion;
+
+    private final String content;
+
+    private final List<Section> sections = new ArrayList<>();
+
+    private final List<Import> imports = new ArrayList<>();
+
+    private final List<Definition> definitions = new ArrayList<>();
+
+    private FileRegion suiteDocumentation;
+
+    public RobotFileOutline(final File processedFile, final RobotVersion robotVersion, final String content) {
+        this.processedFile = processedFile;
+        this.robotVersion = robotVersion;
+        this.content = content;
+    }
+
+    public File getProcessedFile() {
+        return processedFile;
+    }
+
+    public RobotVersion getRobotVersion() {
+        return robotVersion;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public List<Section> getSections() {
+        return Collections.unmodifiableList(sections);
+    }
+
+    public void addSection(final Section section) {
+        sections.add(section);
+    }
+
+    public List<Import> getImports() {
+        return Collections.unmodifiableList(imports);
+    }
+
+    public void addImport(final Import imported) {
+        imports.add(imported);
+    }
+
+    public List<Definition> getDefinitions() {
+        return Collections.unmodifiableList(definitions);
+    }
+
+    public void addDefinition(final Definition definition) {
+        definitions.add(definition);
+    }
+
+    public Optional<FileRegion> getSuiteDocumentation() {
+        return Optional.ofNullable(suiteDocumentation);
+    }
+
+    public void setSuiteDocumentation(final FileRegion suiteDocumentation) {
+        this.suiteDocumentation = suiteDocumentation;
+    }
+
+    public static class Section {
+
+        private final RobotTokenType headerType;
+
+        private final FilePosition headerPosition;
+
+        private int endLine;
+
+        public Section(final RobotTokenType headerType, final FilePosition headerPosition) {
+            this.headerType = headerType;
+            this.headerPosition = headerPosition;
+            this.endLine = headerPosition.getLine();
+        }
+
+        /**
+         * Returns type of section header or {@link RobotTokenType#USER_OWN_TABLE_HEADER} for
+         * sections not known by Robot.
+         */
+        public RobotTokenType getHeaderType() {
+            return headerType;
+        }
+
+        public FilePosition getHeaderPosition() {
+            return headerPosition;
+        }
+
+        public int getEndLine() {
+            return endLine;
+        }
+
+        public void setEndLine(final int endLine) {
+            this.endLine = endLine;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Section [%s, lines %d-%d]", headerType, headerPosition.getLine(), endLine);
+        }
+    }
+
+    public static class Import {
+
+        private final ModelType type;
+
+        private final FilePosition declarationPosition;
+
+        private final List<String> arguments = new ArrayList<>();
+
+        public Import(final ModelType type, final FilePosition declarationPosition) {
+            this.type = type;
+            this.declarationPosition = declarationPosition;
+        }
+
+        /**
+         * Returns one of {@link ModelType#LIBRARY_IMPORT_SETTING},
+         * {@link ModelType#RESOURCE_IMPORT_SETTING} or {@link ModelType#VARIABLES_IMPORT_SETTING}.
+         */
+        public ModelType getType() {
+            return type;
+        }
+
+        public FilePosition getDeclarationPosition() {
+            return declarationPosition;
+        }
+
+        public Optional<String> getPathOrName() {
+            return arguments.isEmpty() ? Optional.empty() : Optional.of(arguments.get(0));
+        }
+
+        /**
+         * Returns arguments of imported library or variables file, without library alias.
+         */
+        public List<String> getArguments() {
+            if (arguments.size() < 2) {
+                return new ArrayList<>();
+            }
+            final int aliasIndex = getAliasIndex();
+            return Collections.unmodifiableList(arguments.subList(1, aliasIndex < 0 ? arguments.size() : aliasIndex));
+        }
+
+        public Optional<String> getAlias() {
+            final int aliasIndex = getAliasIndex();
+            return aliasIndex >= 0 && aliasIndex + 1 < arguments.size() ? Optional.of(arguments.get(aliasIndex + 1))
+                    : Optional.empty();
+        }
+
+        private int getAliasIndex() {
+            return type == ModelType.LIBRARY_IMPORT_SETTING ? arguments.indexOf("WITH NAME") : -1;
+        }
+
+        public void addArgument(final String argument) {
+            arguments.add(argument);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Import [%s, %s, line %d]", type, arguments, declarationPosition.getLine());
+        }
+    }
+
+    public static class Definition {
+
+        private final ModelType type;
+
+        private final String name;
+
+        private final FilePosition namePosition;
+
+        private int endLine;
+
+        private FileRegion documentation;
+
+        public Definition(final ModelType type, final String name, final FilePosition namePosition) {
+            this.type = type;
+            this.name = name;
+            this.namePosition = namePosition;
+            this.endLine = namePosition.getLine();
+        }
+
+        /**
+         * Returns one of {@link ModelType#TEST_CASE}, {@link ModelType#TASK} or
+         * {@link ModelType#USER_KEYWORD}.
+         */
+        public ModelType getType() {
+            return type;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public FilePosition getNamePosition() {
+            return namePosition;
+        }
+
+        public int getEndLine() {
+            return endLine;
+        }
+
+        public void setEndLine(final int endLine) {
+            this.endLine = endLine;
+        }
+
+        public Optional<FileRegion> getDocumentation() {
+            return Optional.ofNullable(documentation);
+        }
+
+        public void setDocumentation(final FileRegion documentation) {
+            this.documentation = documentation;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Definition [%s, %s, lines %d-%d]", type, name, namePosition.getLine(), endLine);
+        }
+    }
+}
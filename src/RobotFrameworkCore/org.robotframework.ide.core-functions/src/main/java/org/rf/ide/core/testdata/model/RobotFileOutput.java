@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata.model;
 
 import java.io.File;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -20,7 +21,9 @@ import org.rf.ide.core.testdata.text.read.IRobotLineElement;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
 import org.rf.ide.core.testdata.text.read.RobotLine;
 
-public class RobotFileOutput {
+public class RobotFileOutput implements Serializable {
+
+    private static final long serialVersionUID = 5779607387327335756L;
 
     public static final long FILE_NOT_EXIST_EPOCH = 0;
 
@@ -32,7 +35,7 @@ public class RobotFileOutput {
 
     private long lastModificationEpoch = FILE_NOT_EXIST_EPOCH;
 
-    private List<VariablesFileImportReference> variablesReferenced = null;
+    private transient List<VariablesFileImportReference> variablesReferenced = null;
 
     private final List<BuildMessage> buildingMessages = new ArrayList<>();
 
@@ -48,6 +51,22 @@ public class RobotFileOutput {
         this.docCacher = new FileRegionCacher<>();
     }
 
+    /**
+     * Creates output of the same file having all the properties of this output, but empty model.
+     * Documentation cacher of created output contains the same elements and can be changed
+     * independently.
+     */
+    public RobotFileOutput copyWithEmptyModel() {
+        final RobotFileOutput copy = new RobotFileOutput(robotVersion);
+        copy.processedFile = processedFile;
+        copy.lastModificationEpoch = lastModificationEpoch;
+        copy.buildingMessages.addAll(buildingMessages);
+        copy.status = status;
+        copy.format = format;
+        copy.docCacher.registerAll(docCacher);
+        return copy;
+    }
+
     public String getFileLineSeparator() {
         String result = "";
 
@@ -68,8 +87,11 @@ public class RobotFileOutput {
     }
 
     public Optional<IDocumentationHolder> findDocumentation(final int offset, final int line) {
-        final List<IRegionCacheable<IDocumentationHolder>> docInOffset = docCacher.findByOffset(offset);
-        final List<IRegionCacheable<IDocumentationHolder>> docInLine = docCacher.findByLineNumber(line);
+        final long positionsVersion = getPositionsVersion();
+        final List<IRegionCacheable<IDocumentationHolder>> docInOffset = docCacher.findByOffset(offset,
+                positionsVersion);
+        final List<IRegionCacheable<IDocumentationHolder>> docInLine = docCacher.findByLineNumber(line,
+                positionsVersion);
 
         if (!docInLine.isEmpty()) {
             if (docInOffset.size() < docInLine.size() || docInOffset.size() == docInLine.size()) {
@@ -81,7 +103,8 @@ public class RobotFileOutput {
     }
 
     public Optional<IDocumentationHolder> findDocumentationForOffset(final int offset) {
-        final List<IRegionCacheable<IDocumentationHolder>> found = docCacher.findByOffset(offset);
+        final List<IRegionCacheable<IDocumentationHolder>> found = docCacher.findByOffset(offset,
+                getPositionsVersion());
         if (found.size() >= 1) {
             return Optional.of(found.get(0).getCached());
         }
@@ -90,7 +113,8 @@ public class RobotFileOutput {
     }
 
     public Optional<IDocumentationHolder> findDocumentationForLine(final int lineNumber) {
-        final List<IRegionCacheable<IDocumentationHolder>> found = docCacher.findByLineNumber(lineNumber);
+        final List<IRegionCacheable<IDocumentationHolder>> found = docCacher.findByLineNumber(lineNumber,
+                getPositionsVersion());
         if (found.size() >= 1) {
             return Optional.of(found.get(0).getCached());
         }
@@ -98,6 +122,12 @@ public class RobotFileOutput {
         return Optional.empty();
     }
 
+    private long getPositionsVersion() {
+        // lines of single model are moved lazily all together, so the first line is enough
+        final List<RobotLine> lines = fileModel.getFileContent();
+        return lines.isEmpty() ? 0 : lines.get(0).getPositionVersion();
+    }
+
     public FileRegionCacher<IDocumentationHolder> getDocumentationCacher() {
         return this.docCacher;
     }
@@ -197,7 +227,9 @@ public class RobotFileOutput {
         TEST_SUITE_INIT;
     }
 
-    public static class BuildMessage {
+    public static class BuildMessage implements Serializable {
+
+        private static final long serialVersionUID = -6859248271065266770L;
 
         public static BuildMessage createWarnMessage(final String message, final FileRegion fileRegion) {
             return new BuildMessage(LogLevel.WARN, message, fileRegion);
@@ -5,16 +5,20 @@
  */
 package org.rf.ide.core.testdata.model;
 
+import static java.util.stream.Collectors.toList;
+
 import java.io.File;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rf.ide.core.environment.IRuntimeEnvironment;
 import org.rf.ide.core.environment.NullRuntimeEnvironment;
@@ -34,7 +38,16 @@ public class RobotProjectHolder {
     private final List<File> modulesSearchPaths = new ArrayList<>();
 
     // files may be parsed in several threads
-    private final Set<RobotFileOutput> parsedModelFiles = Collections.synchronizedSet(new HashSet<>());
+    private final Object parsedFilesLock = new Object();
+
+    private final Map<String, RobotFileOutput> parsedFilesByPath = new ConcurrentHashMap<>();
+
+    // following maps are guarded by parsedFilesLock
+    private final Map<String, Set<RobotFileOutput>> importersByVariableFile = new HashMap<>();
+
+    private final Map<RobotFileOutput, List<String>> variableFilesByImporter = new IdentityHashMap<>();
+
+    private final Set<RobotFileOutput> notIndexedImporters = new LinkedHashSet<>();
 
     public RobotProjectHolder() {
         this(new NullRuntimeEnvironment());
@@ -111,16 +124,30 @@ public class RobotProjectHolder {
 
     public void addParsedFile(final RobotFileOutput robotFile) {
         if (robotFile != null) {
-            final File processedFile = robotFile.getProcessedFile();
-            if (processedFile != null) {
-                parsedModelFiles.remove(findParsedFileByPath(processedFile));
+            // files may be parsed in several threads, so replacing has to be atomic
+            synchronized (parsedFilesLock) {
+                final File processedFile = robotFile.getProcessedFile();
+                if (processedFile != null) {
+                    final RobotFileOutput previousFile = parsedFilesByPath.put(processedFile.getAbsolutePath(),
+                            robotFile);
+                    if (previousFile != null && previousFile != robotFile) {
+                        removeFromVariableFilesIndex(previousFile);
+                    }
+                }
+                if (!variableFilesByImporter.containsKey(robotFile)) {
+                    notIndexedImporters.add(robotFile);
+                }
             }
-            parsedModelFiles.add(robotFile);
         }
     }
 
     public void clearParsedFiles() {
-        parsedModelFiles.clear();
+        synchronized (parsedFilesLock) {
+            parsedFilesByPath.clear();
+            importersByVariableFile.clear();
+            variableFilesByImporter.clear();
+            notIndexedImporters.clear();
+        }
     }
 
     public boolean shouldBeParsed(final File file) {
@@ -131,11 +158,15 @@ public class RobotProjectHolder {
     public RobotFileOutput findParsedFileWithImportedVariableFile(final PathsProvider pathsProvider,
             final File variableFile) {
         // files may be parsed in several threads
-        synchronized (parsedModelFiles) {
-            for (final RobotFileOutput robotFile : parsedModelFiles) {
-                if (robotFile.getVariablesImportReferences(this, pathsProvider)
-                        .stream()
-                        .anyMatch(r -> r.getVariablesFile().getAbsolutePath().equals(variableFile.getAbsolutePath()))) {
+        synchronized (parsedFilesLock) {
+            indexVariableFiles(pathsProvider);
+
+            final String variableFilePath = variableFile.getAbsolutePath();
+            final Set<RobotFileOutput> importers = importersByVariableFile.getOrDefault(variableFilePath,
+                    Collections.emptySet());
+            for (final RobotFileOutput robotFile : importers) {
+                // references may have been changed since indexing
+                if (getVariableFilesPaths(robotFile, pathsProvider).contains(variableFilePath)) {
                     return robotFile;
                 }
             }
@@ -143,16 +174,48 @@ public class RobotProjectHolder {
         return null;
     }
 
-    public RobotFileOutput findParsedFileByPath(final File file) {
-        // files may be parsed in several threads
-        synchronized (parsedModelFiles) {
-            for (final RobotFileOutput robotFile : parsedModelFiles) {
-                if (robotFile.getProcessedFile() != null
-                        && robotFile.getProcessedFile().getAbsolutePath().equals(file.getAbsolutePath())) {
-                    return robotFile;
+    private void indexVariableFiles(final PathsProvider pathsProvider) {
+        // resolving imports may look up imported variable files again, so
+        // files are taken one by one and each of them is indexed only once
+        while (!notIndexedImporters.isEmpty()) {
+            final RobotFileOutput robotFile = notIndexedImporters.iterator().next();
+            notIndexedImporters.remove(robotFile);
+            variableFilesByImporter.put(robotFile, Collections.emptyList());
+
+            final List<String> paths = getVariableFilesPaths(robotFile, pathsProvider);
+            if (variableFilesByImporter.containsKey(robotFile)) {
+                variableFilesByImporter.put(robotFile, paths);
+                for (final String path : paths) {
+                    importersByVariableFile.computeIfAbsent(path, p -> new LinkedHashSet<>()).add(robotFile);
                 }
             }
         }
-        return null;
+    }
+
+    private List<String> getVariableFilesPaths(final RobotFileOutput robotFile, final PathsProvider pathsProvider) {
+        return robotFile.getVariablesImportReferences(this, pathsProvider)
+                .stream()
+                .map(r -> r.getVariablesFile().getAbsolutePath())
+                .collect(toList());
+    }
+
+    private void removeFromVariableFilesIndex(final RobotFileOutput robotFile) {
+        notIndexedImporters.remove(robotFile);
+        final List<String> paths = variableFilesByImporter.remove(robotFile);
+        if (paths != null) {
+            for (final String path : paths) {
+                final Set<RobotFileOutput> importers = importersByVariableFile.get(path);
+                if (importers != null) {
+                    importers.remove(robotFile);
+                    if (importers.isEmpty()) {
+                        importersByVariableFile.remove(path);
+                    }
+                }
+            }
+        }
+    }
+
+    public RobotFileOutput findParsedFileByPath(final File file) {
+        return parsedFilesByPath.get(file.getAbsolutePath());
     }
 }
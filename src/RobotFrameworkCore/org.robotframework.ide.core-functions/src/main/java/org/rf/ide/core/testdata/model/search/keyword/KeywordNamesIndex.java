@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordMatcher.MultiMatcher;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+
+/**
+ * Index of keywords names built once for given collection of keywords. Keywords with ordinary
+ * names are kept in hash maps under their unified names and under unified names qualified with
+ * source name, so only keywords which can match are checked for given name. Keywords with embedded
+ * arguments are kept separately in {@link MultiMatcher} which rejects most of them without using
+ * regular expressions.
+ *
+ * @see KeywordSearcher#createIndex(Collection)
+ */
+public class KeywordNamesIndex<T extends SearchableKeyword> {
+
+    private final ListMultimap<String, IndexedKeyword<T>> byName = ArrayListMultimap.create();
+
+    private final ListMultimap<String, IndexedKeyword<T>> byQualifiedName = ArrayListMultimap.create();
+
+    private final MultiMatcher<IndexedKeyword<T>> embedded = new MultiMatcher<>();
+
+    private final List<IndexedKeyword<T>> matchedByRegex = new ArrayList<>();
+
+    private final int size;
+
+    KeywordNamesIndex(final Collection<T> keywords) {
+        int index = 0;
+        for (final T keyword : keywords) {
+            final IndexedKeyword<T> indexed = new IndexedKeyword<>(index++, keyword);
+            if (indexed.isEmbedded) {
+                embedded.add(indexed.name, indexed);
+                if (keyword.getSourceNameInUse() != null) {
+                    embedded.add(keyword.getSourceNameInUse().toLowerCase() + "." + indexed.name, indexed);
+                }
+            } else if (indexed.name.indexOf('$') != -1) {
+                matchedByRegex.add(indexed);
+            } else {
+                byName.put(indexed.name, indexed);
+                if (keyword.getSourceNameInUse() != null) {
+                    byQualifiedName.put(QualifiedKeywordName
+                            .unifyDefinition(keyword.getSourceNameInUse().toLowerCase() + "." + indexed.name),
+                            indexed);
+                }
+            }
+        }
+        this.size = index;
+    }
+
+    /**
+     * Finds keywords matching any of given names. Found keywords are grouped under unified names
+     * and keep the order in which they were indexed.
+     *
+     * @param namesToCheck
+     *            names which are checked in given order
+     * @param stopIfOneWasMatching
+     *            when true, each keyword is reported only for the first name it matches
+     * @return
+     */
+    ListMultimap<String, T> find(final List<String> namesToCheck, final boolean stopIfOneWasMatching) {
+        final List<Match<T>> matches = new ArrayList<>();
+        final BitSet matched = new BitSet(size);
+
+        for (final String name : namesToCheck) {
+            final String unifiedName = QualifiedKeywordName.unifyDefinition(name);
+            // keyword name can never be equal to the same name qualified with source
+            final List<IndexedKeyword<T>> candidates = new ArrayList<>(byName.get(unifiedName));
+            candidates.addAll(byQualifiedName.get(unifiedName));
+            for (final IndexedKeyword<T> keyword : candidates) {
+                if (!stopIfOneWasMatching || !matched.get(keyword.index)) {
+                    matches.add(new Match<>(keyword, unifiedName));
+                    matched.set(keyword.index);
+                }
+            }
+            for (final IndexedKeyword<T> keyword : embedded.findMatching(name)) {
+                if (!stopIfOneWasMatching || !matched.get(keyword.index)) {
+                    matches.add(new Match<>(keyword, name.toLowerCase()));
+                    matched.set(keyword.index);
+                }
+            }
+            for (final IndexedKeyword<T> keyword : matchedByRegex) {
+                if ((!stopIfOneWasMatching || !matched.get(keyword.index)) && keyword.matches(unifiedName)) {
+                    matches.add(new Match<>(keyword, unifiedName));
+                    matched.set(keyword.index);
+                }
+            }
+        }
+
+        // keywords are reported in indexing order, just like when checking every keyword in turn
+        matches.sort(Comparator.comparingInt(match -> match.keyword.index));
+        final ListMultimap<String, T> found = ArrayListMultimap.create();
+        for (final Match<T> match : matches) {
+            found.put(match.name, match.keyword.keyword);
+        }
+        return found;
+    }
+
+    private static class IndexedKeyword<T extends SearchableKeyword> {
+
+        private final int index;
+
+        private final T keyword;
+
+        private final String name;
+
+        private final boolean isEmbedded;
+
+        IndexedKeyword(final int index, final T keyword) {
+            this.index = index;
+            this.keyword = keyword;
+            this.name = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
+            this.isEmbedded = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(name);
+        }
+
+        boolean matches(final String unifiedName) {
+            final String sourceName = keyword.getSourceNameInUse();
+            return EmbeddedKeywordNamesSupport.matchesIgnoreCase(name, unifiedName) || sourceName != null
+                    && EmbeddedKeywordNamesSupport.matchesIgnoreCase(
+                            QualifiedKeywordName.unifyDefinition(sourceName.toLowerCase() + "." + name), unifiedName);
+        }
+    }
+
+    private static class Match<T extends SearchableKeyword> {
+
+        private final IndexedKeyword<T> keyword;
+
+        private final String name;
+
+        Match(final IndexedKeyword<T> keyword, final String name) {
+            this.keyword = keyword;
+            this.name = name;
+        }
+    }
+}
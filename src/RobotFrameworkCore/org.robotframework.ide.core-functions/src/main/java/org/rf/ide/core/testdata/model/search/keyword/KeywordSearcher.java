@@ -17,9 +17,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.function.Predicate;
 
-import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordNamesSupport;
 import org.rf.ide.core.testdata.model.table.keywords.names.GherkinStyleSupport;
 import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
 
@@ -61,56 +59,36 @@ public class KeywordSearcher {
         return new ArrayList<>(keywords);
     }
 
+    /**
+     * Creates index of given keywords which can be reused for searching given keywords by many
+     * names.
+     *
+     * @param keywords
+     * @return
+     */
+    public <T extends SearchableKeyword> KeywordNamesIndex<T> createIndex(final Collection<T> keywords) {
+        return new KeywordNamesIndex<>(keywords);
+    }
+
     public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
             final Map<String, Collection<T>> accessibleKeywords, final Collection<T> keywords, final String usageName,
             final boolean stopIfOneWasMatching) {
-        final ListMultimap<String, T> foundByMatch = ArrayListMultimap.create();
+        return findKeywords(accessibleKeywords, createIndex(keywords), usageName, stopIfOneWasMatching);
+    }
 
+    public <T extends SearchableKeyword> ListMultimap<String, T> findKeywords(
+            final Map<String, Collection<T>> accessibleKeywords, final KeywordNamesIndex<T> keywordsIndex,
+            final String usageName, final boolean stopIfOneWasMatching) {
         if (stopIfOneWasMatching) {
             final Collection<T> collection = accessibleKeywords.get(QualifiedKeywordName.unifyDefinition(usageName));
             if (collection != null && collection.size() == 1) {
+                final ListMultimap<String, T> foundByMatch = ArrayListMultimap.create();
                 foundByMatch.putAll(QualifiedKeywordName.unifyDefinition(usageName), collection);
 
                 return foundByMatch;
             }
         }
-
-        final List<String> possibleNameCombinations = getNamesToCheck(usageName);
-        for (final T keyword : keywords) {
-            final String keywordName = QualifiedKeywordName.unifyDefinition(keyword.getKeywordName()).toLowerCase();
-            final boolean isEmbeddedKeywordName = EmbeddedKeywordNamesSupport.hasEmbeddedArguments(keywordName);
-
-            final List<String> unifiedNameCombinations = isEmbeddedKeywordName
-                    ? possibleNameCombinations
-                    : possibleNameCombinations.stream().map(QualifiedKeywordName::unifyDefinition).collect(toList());
-
-            for (final String nameCombination : unifiedNameCombinations) {
-                final Predicate<String> matcher = qualifier -> matchNameDirectlyOrAsEmbeddedName(keywordName, qualifier,
-                        isEmbeddedKeywordName, nameCombination);
-
-                if (matcher.test(null) || matcher.test(keyword.getSourceNameInUse())) {
-                    final String unifiedNameCombination = isEmbeddedKeywordName ? nameCombination.toLowerCase()
-                            : QualifiedKeywordName.unifyDefinition(nameCombination);
-                    foundByMatch.put(unifiedNameCombination, keyword);
-                    if (stopIfOneWasMatching) {
-                        break;
-                    } else {
-                        continue;
-                    }
-                }
-            }
-        }
-        return foundByMatch;
-    }
-
-    private boolean matchNameDirectlyOrAsEmbeddedName(final String keywordName, final String prefixName,
-            final boolean isEmbeddedKeywordName, final String nameCombination) {
-
-        String prefixedKeywordName = prefixName != null ? prefixName.toLowerCase() + "." + keywordName : keywordName;
-        if (!isEmbeddedKeywordName) {
-            prefixedKeywordName = QualifiedKeywordName.unifyDefinition(prefixedKeywordName);
-        }
-        return EmbeddedKeywordNamesSupport.matchesIgnoreCase(prefixedKeywordName, nameCombination);
+        return keywordsIndex.find(getNamesToCheck(usageName), stopIfOneWasMatching);
     }
 
     private List<String> getNamesToCheck(final String usageName) {
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.occurrences;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor.RowType;
+import org.rf.ide.core.testdata.model.table.variables.descs.VariableUse;
+import org.rf.ide.core.testdata.model.table.variables.descs.VariablesAnalyzer;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+/**
+ * Occurrences of keywords, test cases and variables names found in single file. Occurrences are
+ * collected once from the file model and keep only the data needed to search through them, so
+ * they can be stored instead of the model.
+ */
+public final class FileOccurrences {
+
+    private static final Set<RobotTokenType> SETTING_KEYWORD_CALL_TYPES = EnumSet.of(
+            RobotTokenType.SETTING_SUITE_SETUP_KEYWORD_NAME, RobotTokenType.SETTING_SUITE_TEARDOWN_KEYWORD_NAME,
+            RobotTokenType.SETTING_TEST_SETUP_KEYWORD_NAME, RobotTokenType.SETTING_TEST_TEARDOWN_KEYWORD_NAME,
+            RobotTokenType.SETTING_TEST_TEMPLATE_KEYWORD_NAME, RobotTokenType.SETTING_TASK_SETUP_KEYWORD_NAME,
+            RobotTokenType.SETTING_TASK_TEARDOWN_KEYWORD_NAME, RobotTokenType.SETTING_TASK_TEMPLATE_KEYWORD_NAME,
+            RobotTokenType.TEST_CASE_SETTING_SETUP_KEYWORD_NAME,
+            RobotTokenType.TEST_CASE_SETTING_TEARDOWN_KEYWORD_NAME,
+            RobotTokenType.TEST_CASE_SETTING_TEMPLATE_KEYWORD_NAME, RobotTokenType.TASK_SETTING_SETUP_KEYWORD_NAME,
+            RobotTokenType.TASK_SETTING_TEARDOWN_KEYWORD_NAME, RobotTokenType.TASK_SETTING_TEMPLATE_KEYWORD_NAME,
+            RobotTokenType.KEYWORD_SETTING_TEARDOWN_KEYWORD_NAME);
+
+    private static final Set<RobotTokenType> DOCUMENTATION_TYPES = EnumSet.of(RobotTokenType.SETTING_DOCUMENTATION_TEXT,
+            RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION_TEXT, RobotTokenType.TASK_SETTING_DOCUMENTATION_TEXT,
+            RobotTokenType.KEYWORD_SETTING_DOCUMENTATION_TEXT);
+
+    public static FileOccurrences empty() {
+        return new FileOccurrences(new ArrayList<>());
+    }
+
+    public static FileOccurrences collect(final RobotFile model) {
+        return collect(model, call -> null);
+    }
+
+    /**
+     * Collects occurrences from given model. Each keyword call is resolved with given function,
+     * which should return called keyword definition or null if call cannot be resolved
+     * unambiguously.
+     */
+    public static FileOccurrences collect(final RobotFile model,
+            final Function<String, CalledKeyword> callsResolver) {
+        final RobotVersion version = model.getParent().getRobotVersion();
+        final VariablesAnalyzer analyzer = VariablesAnalyzer.analyzer(version);
+
+        // first token of executable row is not always called keyword, e.g. when assigning
+        final Set<Integer> executableCallsOffsets = collectExecutableRowsCallsOffsets(model);
+
+        final List<Occurrence> occurrences = new ArrayList<>();
+        for (final RobotLine line : model.getFileContent()) {
+            final List<IRobotLineElement> elements = line.getLineElements();
+            if (elements.isEmpty()) {
+                continue;
+            }
+            final int lineOffset = elements.get(0).getStartOffset();
+            final String lineContent = getContent(elements);
+
+            for (final RobotToken token : line.getLineTokens()) {
+                final OccurrenceKind kind = executableCallsOffsets.contains(token.getStartOffset())
+                        ? OccurrenceKind.KEYWORD_CALL
+                        : getKind(token.getTypes());
+                if (kind == OccurrenceKind.KEYWORD_CALL) {
+                    occurrences.add(new Occurrence(kind, token.getText(), callsResolver.apply(token.getText()),
+                            token, lineOffset, lineContent));
+                } else if (kind != null) {
+                    occurrences.add(new Occurrence(kind, token.getText(), null, token, lineOffset, lineContent));
+                }
+                if (!token.getTypes().contains(RobotTokenType.COMMENT)) {
+                    analyzer.getDefinedVariablesUses(token).map(VariableUse::asToken).forEach(varToken -> occurrences
+                            .add(new Occurrence(OccurrenceKind.VARIABLE, varToken.getText(), null, varToken,
+                                    lineOffset, lineContent)));
+                }
+            }
+        }
+        return new FileOccurrences(occurrences);
+    }
+
+    private static Set<Integer> collectExecutableRowsCallsOffsets(final RobotFile model) {
+        final List<RobotExecutableRow<?>> rows = new ArrayList<>();
+        model.getTestCaseTable().getTestCases().forEach(test -> rows.addAll(test.getExecutionContext()));
+        model.getTasksTable().getTasks().forEach(task -> rows.addAll(task.getExecutionContext()));
+        model.getKeywordTable().getKeywords().forEach(keyword -> rows.addAll(keyword.getExecutionContext()));
+
+        final Set<Integer> offsets = new HashSet<>();
+        for (final RobotExecutableRow<?> row : rows) {
+            final IExecutableRowDescriptor<?> descriptor = row.buildLineDescription();
+            if (descriptor.getRowType() == RowType.SIMPLE || descriptor.getRowType() == RowType.FOR_CONTINUE) {
+                final RobotToken action = descriptor.getKeywordAction();
+                if (action != null && !action.getText().isEmpty()) {
+                    offsets.add(action.getStartOffset());
+                }
+            }
+        }
+        return offsets;
+    }
+
+    private static String getContent(final List<IRobotLineElement> elements) {
+        final StringBuilder content = new StringBuilder();
+        for (final IRobotLineElement element : elements) {
+            content.append(element.getText());
+        }
+        return content.toString();
+    }
+
+    private static OccurrenceKind getKind(final List<IRobotTokenType> types) {
+        final IRobotTokenType type = types.isEmpty() ? null : types.get(0);
+        if (type == RobotTokenType.TEST_CASE_NAME || type == RobotTokenType.TASK_NAME) {
+            return OccurrenceKind.TEST_CASE;
+        } else if (type == RobotTokenType.KEYWORD_NAME) {
+            return OccurrenceKind.KEYWORD_DEFINITION;
+        } else if (SETTING_KEYWORD_CALL_TYPES.contains(type)) {
+            return OccurrenceKind.KEYWORD_CALL;
+        } else if (DOCUMENTATION_TYPES.contains(type)) {
+            return OccurrenceKind.DOCUMENTATION;
+        }
+        return null;
+    }
+
+    private final List<Occurrence> occurrences;
+
+    private FileOccurrences(final List<Occurrence> occurrences) {
+        this.occurrences = Collections.unmodifiableList(occurrences);
+    }
+
+    public List<Occurrence> getOccurrences() {
+        return occurrences;
+    }
+
+    public enum OccurrenceKind {
+        KEYWORD_DEFINITION,
+        KEYWORD_CALL,
+        TEST_CASE,
+        VARIABLE,
+        DOCUMENTATION
+    }
+
+    /**
+     * Keyword definition to which keyword call was resolved.
+     */
+    public static final class CalledKeyword {
+
+        private final String sourceName;
+
+        private final String name;
+
+        public CalledKeyword(final String sourceName, final String name) {
+            this.sourceName = sourceName;
+            this.name = name;
+        }
+    }
+
+    public static final class Occurrence {
+
+        private final OccurrenceKind kind;
+
+        private final String name;
+
+        private final String resolvedName;
+
+        private final int resolvedSourceNameLength;
+
+        private final int offset;
+
+        private final int length;
+
+        private final int line;
+
+        private final int lineOffset;
+
+        private final String lineContent;
+
+        private Occurrence(final OccurrenceKind kind, final String name, final CalledKeyword calledKeyword,
+                final RobotToken token, final int lineOffset, final String lineContent) {
+            this.kind = kind;
+            this.name = name;
+            this.resolvedName = calledKeyword == null ? null : calledKeyword.sourceName + "." + calledKeyword.name;
+            this.resolvedSourceNameLength = calledKeyword == null ? -1 : calledKeyword.sourceName.length();
+            this.offset = token.getStartOffset();
+            this.length = token.getText().length();
+            this.line = token.getLineNumber();
+            this.lineOffset = lineOffset;
+            this.lineContent = lineContent;
+        }
+
+        public OccurrenceKind getKind() {
+            return kind;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Returns qualified name of keyword definition called by this occurrence or null if it
+         * was not resolved.
+         */
+        public String getResolvedName() {
+            return resolvedName;
+        }
+
+        /**
+         * Returns name of keyword definition called by this occurrence without its source name or
+         * null if it was not resolved. Source names may contain dots, e.g. for libraries imported
+         * with module names, so the name is not split at the first dot.
+         */
+        public String getResolvedKeywordName() {
+            return resolvedName == null ? null : resolvedName.substring(resolvedSourceNameLength + 1);
+        }
+
+        public int getOffset() {
+            return offset;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public int getLine() {
+            return line;
+        }
+
+        public String getLineContent() {
+            return lineContent;
+        }
+
+        public int getOffsetInLine() {
+            return offset - lineOffset;
+        }
+    }
+}
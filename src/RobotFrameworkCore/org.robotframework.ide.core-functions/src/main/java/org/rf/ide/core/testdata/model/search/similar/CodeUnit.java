@@ -0,0 +1,103 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+/**
+ * Test case, task or keyword with the text of its executable rows normalized for comparing
+ * with other code units: comments and empty rows are skipped, cells are trimmed, lower-cased and
+ * separated with single space, while rows are separated with new lines.
+ */
+public final class CodeUnit {
+
+    public static List<CodeUnit> collect(final RobotFile model) {
+        final List<CodeUnit> units = new ArrayList<>();
+        model.getTestCaseTable().getTestCases().forEach(test -> units.add(new CodeUnit(CodeUnitKind.TEST_CASE,
+                test.getName(), normalize(test.getExecutionContext()))));
+        model.getTasksTable().getTasks().forEach(task -> units.add(new CodeUnit(CodeUnitKind.TASK,
+                task.getName(), normalize(task.getExecutionContext()))));
+        model.getKeywordTable().getKeywords().forEach(keyword -> units.add(new CodeUnit(CodeUnitKind.KEYWORD,
+                keyword.getName(), normalize(keyword.getExecutionContext()))));
+        return units;
+    }
+
+    static String normalize(final List<? extends RobotExecutableRow<?>> rows) {
+        final StringBuilder content = new StringBuilder();
+        for (final RobotExecutableRow<?> row : rows) {
+            if (!row.isExecutable()) {
+                continue;
+            }
+            final List<RobotToken> cells = new ArrayList<>();
+            cells.add(row.getAction());
+            cells.addAll(row.getArguments());
+            // leading empty cells are used e.g. inside of old FOR loops bodies
+            while (!cells.isEmpty() && cells.get(0).getText().trim().isEmpty()) {
+                cells.remove(0);
+            }
+            while (!cells.isEmpty() && cells.get(cells.size() - 1).getText().trim().isEmpty()) {
+                cells.remove(cells.size() - 1);
+            }
+            if (cells.isEmpty()) {
+                continue;
+            }
+            if (content.length() > 0) {
+                content.append('\n');
+            }
+            for (int i = 0; i < cells.size(); i++) {
+                content.append(i == 0 ? "" : " ").append(cells.get(i).getText().trim().toLowerCase(Locale.ROOT));
+            }
+        }
+        return content.toString();
+    }
+
+    private final CodeUnitKind kind;
+
+    private final String name;
+
+    private final int line;
+
+    private final String content;
+
+    private CodeUnit(final CodeUnitKind kind, final RobotToken name, final String content) {
+        this(kind, name.getText(), name.getLineNumber(), content);
+    }
+
+    CodeUnit(final CodeUnitKind kind, final String name, final int line, final String content) {
+        this.kind = kind;
+        this.name = name;
+        this.line = line;
+        this.content = content;
+    }
+
+    public CodeUnitKind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public enum CodeUnitKind {
+        TEST_CASE,
+        TASK,
+        KEYWORD
+    }
+}
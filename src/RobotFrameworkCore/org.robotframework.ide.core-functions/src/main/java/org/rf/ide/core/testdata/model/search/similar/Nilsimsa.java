@@ -0,0 +1,139 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+/**
+ * <p>Nilsimsa locality-sensitive digest of a text. Similar texts have digests differing only on
+ * few of their 256 bits, so similarity of texts is measured by comparing the digests, from -128
+ * for completely different to 128 for identical digests.</p>
+ *
+ * <p>For the description of the algorithm see
+ * {@link https://en.wikipedia.org/wiki/Nilsimsa_Hash}</p>
+ */
+public final class Nilsimsa {
+
+    static final int DIGEST_BITS = 256;
+
+    private static final int[] TRAN = createTransitionTable();
+
+    private static int[] createTransitionTable() {
+        // the same pseudo-random table as in the reference implementation
+        final int[] table = new int[256];
+        int j = 0;
+        for (int i = 0; i < 256; i++) {
+            j = (j * 53 + 1) & 255;
+            j += j;
+            if (j > 255) {
+                j -= 255;
+            }
+            for (int k = 0; k < i; k++) {
+                if (table[k] == j) {
+                    j = (j + 1) & 255;
+                    k = 0;
+                }
+            }
+            table[i] = j;
+        }
+        return table;
+    }
+
+    public static Nilsimsa of(final String text) {
+        final byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        final int[] accumulator = new int[256];
+        final int[] last = { -1, -1, -1, -1 };
+
+        for (final byte b : bytes) {
+            final int ch = b & 0xFF;
+            if (last[1] > -1) {
+                accumulator[tran3(ch, last[0], last[1], 0)]++;
+            }
+            if (last[2] > -1) {
+                accumulator[tran3(ch, last[0], last[2], 1)]++;
+                accumulator[tran3(ch, last[1], last[2], 2)]++;
+            }
+            if (last[3] > -1) {
+                accumulator[tran3(ch, last[0], last[3], 3)]++;
+                accumulator[tran3(ch, last[1], last[3], 4)]++;
+                accumulator[tran3(ch, last[2], last[3], 5)]++;
+                accumulator[tran3(last[3], last[0], ch, 6)]++;
+                accumulator[tran3(last[3], last[2], ch, 7)]++;
+            }
+            last[3] = last[2];
+            last[2] = last[1];
+            last[1] = last[0];
+            last[0] = ch;
+        }
+
+        final double threshold = numberOfTrigrams(bytes.length) / 256.0;
+        final BitSet bits = new BitSet(DIGEST_BITS);
+        for (int i = 0; i < 256; i++) {
+            if (accumulator[i] > threshold) {
+                bits.set(i);
+            }
+        }
+        return new Nilsimsa(bits);
+    }
+
+    private static int tran3(final int a, final int b, final int c, final int n) {
+        return ((TRAN[(a + n) & 255] ^ TRAN[b] * (n + n + 1)) + TRAN[c ^ TRAN[n]]) & 255;
+    }
+
+    private static int numberOfTrigrams(final int length) {
+        if (length == 3) {
+            return 1;
+        } else if (length == 4) {
+            return 4;
+        } else if (length > 4) {
+            return 8 * length - 28;
+        }
+        return 0;
+    }
+
+    private final BitSet bits;
+
+    private Nilsimsa(final BitSet bits) {
+        this.bits = bits;
+    }
+
+    /**
+     * Returns similarity of this and given digests, the number of equal bits minus 128.
+     */
+    public int compare(final Nilsimsa other) {
+        final BitSet differentBits = (BitSet) bits.clone();
+        differentBits.xor(other.bits);
+        return 128 - differentBits.cardinality();
+    }
+
+    BitSet getBits(final int from, final int to) {
+        return bits.get(from, to);
+    }
+
+    boolean hasSameBits(final Nilsimsa other, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            if (bits.get(i) != other.bits.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public String toHexString() {
+        final StringBuilder hex = new StringBuilder();
+        for (int i = DIGEST_BITS / 8 - 1; i >= 0; i--) {
+            int value = 0;
+            for (int bit = 0; bit < 8; bit++) {
+                if (bits.get(i * 8 + bit)) {
+                    value |= 1 << bit;
+                }
+            }
+            hex.append(String.format("%02x", value));
+        }
+        return hex.toString();
+    }
+}
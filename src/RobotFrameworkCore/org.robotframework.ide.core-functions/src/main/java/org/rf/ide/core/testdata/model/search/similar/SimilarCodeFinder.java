@@ -0,0 +1,168 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+
+/**
+ * <p>Finds pairs of similar items by comparing {@link Nilsimsa} digests of their contents. Instead
+ * of comparing all the pairs, digests are split into bands and only items having identical
+ * bits in at least one band are compared. When digests are split into n bands, then each pair
+ * of digests differing on less than n bits has to have some band identical, so no pair with
+ * requested similarity is missed. Pair having several identical bands is compared only in the
+ * first of them.</p>
+ *
+ * <p>For the description of banding technique see
+ * {@link https://en.wikipedia.org/wiki/Locality-sensitive_hashing}</p>
+ *
+ * @param <T>
+ *            type of compared items
+ */
+public class SimilarCodeFinder<T> {
+
+    private final List<T> items = new ArrayList<>();
+
+    private final List<Nilsimsa> digests = new ArrayList<>();
+
+    /**
+     * Adds item with given content. Items without content are not compared with others.
+     */
+    public void add(final T item, final String content) {
+        if (!content.isEmpty()) {
+            items.add(item);
+            digests.add(Nilsimsa.of(content));
+        }
+    }
+
+    /**
+     * Returns pairs of items which digests similarity is at least equal to given one, starting
+     * from the most similar pairs.
+     */
+    public List<SimilarPair<T>> find(final int minimalSimilarity) {
+        return find(minimalSimilarity, () -> false);
+    }
+
+    /**
+     * Returns pairs of items which digests similarity is at least equal to given one, starting
+     * from the most similar pairs. Cancellation is checked before each band is compared; empty
+     * list is returned when search was canceled.
+     */
+    public List<SimilarPair<T>> find(final int minimalSimilarity, final BooleanSupplier isCanceled) {
+        if (minimalSimilarity < -128 || minimalSimilarity > 128) {
+            throw new IllegalArgumentException("Similarity has to be in range [-128, 128]");
+        }
+        final int bands = Math.min(Nilsimsa.DIGEST_BITS, 128 - minimalSimilarity + 1);
+
+        final List<Pair> found = new ArrayList<>();
+        for (int band = 0; band < bands; band++) {
+            if (isCanceled.getAsBoolean()) {
+                return new ArrayList<>();
+            }
+            final int from = bandStart(band, bands);
+            final int to = bandStart(band + 1, bands);
+
+            for (final List<Integer> bucket : createBuckets(from, to)) {
+                for (int i = 0; i < bucket.size(); i++) {
+                    for (int j = i + 1; j < bucket.size(); j++) {
+                        final Nilsimsa first = digests.get(bucket.get(i));
+                        final Nilsimsa second = digests.get(bucket.get(j));
+                        if (!hasIdenticalEarlierBand(first, second, band, bands)) {
+                            final int similarity = first.compare(second);
+                            if (similarity >= minimalSimilarity) {
+                                found.add(new Pair(bucket.get(i), bucket.get(j), similarity));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        found.sort(Comparator.<Pair> comparingInt(pair -> -pair.similarity)
+                .thenComparingInt(pair -> pair.first)
+                .thenComparingInt(pair -> pair.second));
+
+        final List<SimilarPair<T>> pairs = new ArrayList<>();
+        for (final Pair pair : found) {
+            pairs.add(new SimilarPair<>(items.get(pair.first), items.get(pair.second), pair.similarity));
+        }
+        return pairs;
+    }
+
+    private static int bandStart(final int band, final int bands) {
+        return band * Nilsimsa.DIGEST_BITS / bands;
+    }
+
+    private static boolean hasIdenticalEarlierBand(final Nilsimsa first, final Nilsimsa second, final int band,
+            final int bands) {
+        for (int earlierBand = 0; earlierBand < band; earlierBand++) {
+            if (first.hasSameBits(second, bandStart(earlierBand, bands), bandStart(earlierBand + 1, bands))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private List<List<Integer>> createBuckets(final int from, final int to) {
+        final Map<BitSet, List<Integer>> buckets = new HashMap<>();
+        for (int i = 0; i < digests.size(); i++) {
+            buckets.computeIfAbsent(digests.get(i).getBits(from, to), band -> new ArrayList<>()).add(i);
+        }
+        final List<List<Integer>> bucketsToCompare = new ArrayList<>();
+        for (final List<Integer> bucket : buckets.values()) {
+            if (bucket.size() > 1) {
+                bucketsToCompare.add(bucket);
+            }
+        }
+        return bucketsToCompare;
+    }
+
+    private static final class Pair {
+
+        private final int first;
+
+        private final int second;
+
+        private final int similarity;
+
+        private Pair(final int first, final int second, final int similarity) {
+            this.first = first;
+            this.second = second;
+            this.similarity = similarity;
+        }
+    }
+
+    public static final class SimilarPair<T> {
+
+        private final T first;
+
+        private final T second;
+
+        private final int similarity;
+
+        SimilarPair(final T first, final T second, final int similarity) {
+            this.first = first;
+            this.second = second;
+            this.similarity = similarity;
+        }
+
+        public T getFirst() {
+            return first;
+        }
+
+        public T getSecond() {
+            return second;
+        }
+
+        public int getSimilarity() {
+            return similarity;
+        }
+    }
+}
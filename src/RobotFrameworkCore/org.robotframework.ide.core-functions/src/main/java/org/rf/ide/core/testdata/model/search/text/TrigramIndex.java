@@ -0,0 +1,90 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.text;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Inverted index of trigrams found in texts of documents. It is used to narrow down documents
+ * before searching for some pattern inside of them: when the pattern contains literal fragments,
+ * only documents having all the trigrams of those fragments can match. Trigrams are indexed
+ * ignoring case, so the candidates are also valid for case sensitive search.
+ *
+ * @param <T>
+ *            type of indexed documents
+ */
+public class TrigramIndex<T> {
+
+    private static final int GRAM_LENGTH = 3;
+
+    private final List<T> documents = new ArrayList<>();
+
+    private final Map<String, BitSet> postings = new HashMap<>();
+
+    /**
+     * Adds given document with its text to the index. Document can be added multiple times with
+     * different texts, it will then be a candidate when any of its texts matches.
+     */
+    public void add(final T document, final String text) {
+        final int id = documents.size();
+        documents.add(document);
+        for (final String trigram : trigrams(text)) {
+            postings.computeIfAbsent(trigram, t -> new BitSet()).set(id);
+        }
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Finds documents which may contain all given literal fragments. Fragments shorter than three
+     * characters do not narrow down the search, so all documents are returned when none of
+     * fragments is long enough.
+     */
+    public List<T> findCandidates(final Collection<String> literals) {
+        BitSet candidates = null;
+        for (final String literal : literals) {
+            for (final String trigram : trigrams(literal)) {
+                final BitSet documentsWithTrigram = postings.get(trigram);
+                if (documentsWithTrigram == null) {
+                    return new ArrayList<>();
+                } else if (candidates == null) {
+                    candidates = (BitSet) documentsWithTrigram.clone();
+                } else {
+                    candidates.and(documentsWithTrigram);
+                }
+            }
+        }
+        if (candidates == null) {
+            return new ArrayList<>(documents);
+        }
+        final List<T> found = new ArrayList<>();
+        for (int id = candidates.nextSetBit(0); id >= 0; id = candidates.nextSetBit(id + 1)) {
+            found.add(documents.get(id));
+        }
+        return found;
+    }
+
+    static Set<String> trigrams(final String text) {
+        final Set<String> trigrams = new LinkedHashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+        final String lowerCaseText = text.toLowerCase();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            trigrams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
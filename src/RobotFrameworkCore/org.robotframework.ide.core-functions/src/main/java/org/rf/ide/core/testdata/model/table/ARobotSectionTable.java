@@ -5,6 +5,7 @@
  */
 package org.rf.ide.core.testdata.model.table;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -14,9 +15,11 @@ import org.rf.ide.core.testdata.model.IChildElement;
 import org.rf.ide.core.testdata.model.IOptional;
 import org.rf.ide.core.testdata.model.RobotFile;
 
-public abstract class ARobotSectionTable implements IOptional, IChildElement<RobotFile> {
+public abstract class ARobotSectionTable implements IOptional, IChildElement<RobotFile>, Serializable {
 
-    private final RobotFile parent;
+    private static final long serialVersionUID = 740348763444133697L;
+
+    private RobotFile parent;
 
     private final List<TableHeader<? extends ARobotSectionTable>> headers = new ArrayList<>();
 
@@ -29,6 +32,10 @@ public abstract class ARobotSectionTable implements IOptional, IChildElement<Rob
         return parent;
     }
 
+    public void setParent(final RobotFile parent) {
+        this.parent = parent;
+    }
+
     @SuppressWarnings("unchecked")
     public void addHeader(@SuppressWarnings("rawtypes") final TableHeader header) {
         header.setParent(this);
@@ -13,6 +13,8 @@ import org.rf.ide.core.testdata.model.ExecutableSetting;
 public abstract class CommonCase<T, C extends AModelElement<? extends ARobotSectionTable>> extends AModelElement<T>
         implements IExecutableStepsHolder<C> {
 
+    private static final long serialVersionUID = -3008209822366495316L;
+
     public abstract List<? extends ExecutableSetting> getSetupExecutables();
 
     public abstract List<? extends ExecutableSetting> getTeardownExecutables();
@@ -9,6 +9,8 @@ import org.rf.ide.core.testdata.model.AModelElement;
 
 public abstract class CommonStep<T> extends AModelElement<T> {
 
+    private static final long serialVersionUID = -8073413712630831455L;
+
     public abstract void createToken(final int index);
 
     public abstract void updateToken(final int index, final String newValue);
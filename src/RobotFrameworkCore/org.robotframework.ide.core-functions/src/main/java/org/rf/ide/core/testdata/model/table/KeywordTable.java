@@ -17,6 +17,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 public class KeywordTable extends ARobotSectionTable {
 
+    private static final long serialVersionUID = 1453839789207041894L;
+
     private final List<UserKeyword> userKeywords = new ArrayList<>();
 
     public KeywordTable(final RobotFile parent) {
@@ -454,7 +454,9 @@ public class LocalSetting<T> extends CommonStep<T> implements ICommentHolder, Se
         }
     }
 
-    private class DocumentationHolderAdapter implements IDocumentationHolder {
+    private class DocumentationHolderAdapter implements IDocumentationHolder, Serializable {
+
+        private static final long serialVersionUID = 3010374849528441887L;
 
         @Override
         public List<FileRegion> getContinuousRegions() {
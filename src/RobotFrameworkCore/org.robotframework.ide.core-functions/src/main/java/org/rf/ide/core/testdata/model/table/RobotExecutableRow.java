@@ -19,6 +19,7 @@ import org.rf.ide.core.testdata.model.ICommentHolder;
 import org.rf.ide.core.testdata.model.ModelType;
 import org.rf.ide.core.testdata.model.RobotFile;
 import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.table.exec.descs.CachedRowDescriptor;
 import org.rf.ide.core.testdata.model.table.exec.descs.ExecutableRowDescriptorBuilder;
 import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor;
 import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
@@ -38,6 +39,8 @@ public class RobotExecutableRow<T> extends CommonStep<T> implements ICommentHold
 
     private final List<RobotToken> comments = new ArrayList<>();
 
+    private transient CachedRowDescriptor<T> cachedDescriptor;
+
     public static boolean isExecutable(final FileFormat fileFormat, final List<RobotToken> tokens) {
         final RobotToken action = !tokens.isEmpty() ? tokens.get(0) : null;
         if (action == null) {
@@ -262,8 +265,20 @@ public class RobotExecutableRow<T> extends CommonStep<T> implements ICommentHold
         }
     }
 
+    /**
+     * Returns description of this row. The description is built once and reused until tokens of
+     * the row or the FOR loop it continues change.
+     */
     public IExecutableRowDescriptor<T> buildLineDescription() {
-        return new ExecutableRowDescriptorBuilder().buildLineDescriptor(this);
+        if (action == null) {
+            return new ExecutableRowDescriptorBuilder().buildLineDescriptor(this);
+        }
+        CachedRowDescriptor<T> cached = cachedDescriptor;
+        if (cached == null || !cached.isValidFor(this)) {
+            cached = CachedRowDescriptor.build(this);
+            cachedDescriptor = cached;
+        }
+        return cached.getDescriptor();
     }
 
     @Override
@@ -44,6 +44,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 public class SettingTable extends ARobotSectionTable {
 
+    private static final long serialVersionUID = 7389166175546897093L;
+
     private final List<AImported> imports = new ArrayList<>();
 
     private final List<SuiteDocumentation> documentations = new ArrayList<>();
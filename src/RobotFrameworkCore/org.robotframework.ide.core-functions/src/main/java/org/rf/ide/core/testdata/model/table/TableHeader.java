@@ -19,6 +19,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 public class TableHeader<T> extends AModelElement<T> implements ICommentHolder {
 
+    private static final long serialVersionUID = 8372299137324069237L;
+
     private final RobotToken tableHeader;
 
     private final List<RobotToken> columnNames = new ArrayList<>();
@@ -17,6 +17,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 public class TaskTable extends ARobotSectionTable {
 
+    private static final long serialVersionUID = -1891946140718010428L;
+
     private final List<Task> tasks = new ArrayList<>();
 
     public TaskTable(final RobotFile parent) {
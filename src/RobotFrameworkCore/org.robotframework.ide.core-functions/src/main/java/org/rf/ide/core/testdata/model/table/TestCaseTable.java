@@ -17,6 +17,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 public class TestCaseTable extends ARobotSectionTable {
 
+    private static final long serialVersionUID = 2245110701240998303L;
+
     private final List<TestCase> testCases = new ArrayList<>();
 
     public TestCaseTable(final RobotFile parent) {
@@ -26,6 +26,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 public class VariableTable extends ARobotSectionTable {
 
+    private static final long serialVersionUID = -347615521010483609L;
+
     private final List<AVariable> variables = new ArrayList<>();
 
     public VariableTable(final RobotFile parent) {
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.table.exec.descs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.table.IExecutableStepsHolder;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor.RowType;
+import org.rf.ide.core.testdata.model.table.exec.descs.impl.ForLoopContinueRowDescriptor;
+import org.rf.ide.core.testdata.model.table.exec.descs.impl.ForLoopContinueRowDescriptorBuilder;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+/**
+ * Descriptor of executable row remembered together with the state of the row it was built from.
+ * The descriptor can be reused as long as row tokens (their texts, types and positions), row
+ * parent and robot version are the same. Rows which may continue FOR loop additionally remember
+ * their own index in execution context together with the state of all the rows preceding them
+ * starting from the loop declaration, as only those rows decide which loop is continued. Rows in
+ * between can be edited in place, so their tokens are verified the same way as tokens of the
+ * row itself.
+ */
+public final class CachedRowDescriptor<T> {
+
+    public static <T> CachedRowDescriptor<T> build(final RobotExecutableRow<T> row) {
+        final IExecutableRowDescriptor<T> descriptor = new ExecutableRowDescriptorBuilder().buildLineDescriptor(row);
+        // declarations of FOR loops and not executable rows never continue other loop
+        if (!row.isExecutable() || descriptor.getRowType() == RowType.FOR
+                || !ForLoopContinueRowDescriptorBuilder.mayContinueForLoop(row)) {
+            return new CachedRowDescriptor<>(row, descriptor, false, -1, new ArrayList<>());
+        }
+        final List<?> executionContext = ((IExecutableStepsHolder<?>) row.getParent()).getExecutionContext();
+        final int rowIndex = executionContext.indexOf(row);
+        final int forLoopStartRowIndex = descriptor.getRowType() == RowType.FOR_CONTINUE
+                ? ((ForLoopContinueRowDescriptor<T>) descriptor).getForLoopStartRowIndex()
+                : -1;
+        // when no declaration was found all the preceding rows were looked at
+        final List<RowState> precedingRows = new ArrayList<>();
+        for (int i = Math.max(forLoopStartRowIndex, 0); i < rowIndex; i++) {
+            precedingRows.add(new RowState((RobotExecutableRow<?>) executionContext.get(i)));
+        }
+        return new CachedRowDescriptor<>(row, descriptor, true, rowIndex, precedingRows);
+    }
+
+    private final IExecutableRowDescriptor<T> descriptor;
+
+    private final T parent;
+
+    private final RobotVersion version;
+
+    private final List<TokenState> tokens;
+
+    private final boolean mayContinueForLoop;
+
+    private final int rowIndex;
+
+    private final List<RowState> precedingRows;
+
+    private CachedRowDescriptor(final RobotExecutableRow<T> row, final IExecutableRowDescriptor<T> descriptor,
+            final boolean mayContinueForLoop, final int rowIndex, final List<RowState> precedingRows) {
+        this.descriptor = descriptor;
+        this.parent = row.getParent();
+        this.version = ExecutableRowDescriptorBuilder.getVersion(row);
+        this.tokens = collectTokensStates(row);
+        this.mayContinueForLoop = mayContinueForLoop;
+        this.rowIndex = rowIndex;
+        this.precedingRows = precedingRows;
+    }
+
+    private static List<TokenState> collectTokensStates(final RobotExecutableRow<?> row) {
+        final List<TokenState> states = new ArrayList<>();
+        states.add(new TokenState(row.getAction()));
+        row.getArguments().forEach(token -> states.add(new TokenState(token)));
+        row.getComment().forEach(token -> states.add(new TokenState(token)));
+        return states;
+    }
+
+    public IExecutableRowDescriptor<T> getDescriptor() {
+        return descriptor;
+    }
+
+    public boolean isValidFor(final RobotExecutableRow<T> row) {
+        if (row.getParent() != parent || !hasSameTokens(tokens, row)
+                || !ExecutableRowDescriptorBuilder.getVersion(row).equals(version)) {
+            return false;
+        }
+        return !mayContinueForLoop || continuesSameForLoop(row);
+    }
+
+    private boolean continuesSameForLoop(final RobotExecutableRow<T> row) {
+        // any row inserted or removed before given row moves it to other index
+        final List<?> executionContext = ((IExecutableStepsHolder<?>) parent).getExecutionContext();
+        if (rowIndex < 0 || rowIndex >= executionContext.size() || executionContext.get(rowIndex) != row) {
+            return false;
+        }
+        final int firstRowIndex = rowIndex - precedingRows.size();
+        for (int i = 0; i < precedingRows.size(); i++) {
+            if (!precedingRows.get(i).isStateOf(executionContext.get(firstRowIndex + i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasSameTokens(final List<TokenState> tokens, final RobotExecutableRow<?> row) {
+        final List<RobotToken> arguments = row.getArguments();
+        final List<RobotToken> comments = row.getComment();
+        if (tokens.size() != 1 + arguments.size() + comments.size() || !tokens.get(0).isStateOf(row.getAction())) {
+            return false;
+        }
+        for (int i = 0; i < arguments.size(); i++) {
+            if (!tokens.get(1 + i).isStateOf(arguments.get(i))) {
+                return false;
+            }
+        }
+        for (int i = 0; i < comments.size(); i++) {
+            if (!tokens.get(1 + arguments.size() + i).isStateOf(comments.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class RowState {
+
+        private final RobotExecutableRow<?> row;
+
+        private final List<TokenState> tokens;
+
+        RowState(final RobotExecutableRow<?> row) {
+            this.row = row;
+            this.tokens = collectTokensStates(row);
+        }
+
+        boolean isStateOf(final Object row) {
+            return this.row == row && hasSameTokens(tokens, this.row);
+        }
+    }
+
+    private static final class TokenState {
+
+        private final RobotToken token;
+
+        private final String text;
+
+        private final List<IRobotTokenType> types;
+
+        private final int offset;
+
+        private final int line;
+
+        private final int column;
+
+        TokenState(final RobotToken token) {
+            this.token = token;
+            this.text = token.getText();
+            this.types = new ArrayList<>(token.getTypes());
+            this.offset = token.getStartOffset();
+            this.line = token.getLineNumber();
+            this.column = token.getStartColumn();
+        }
+
+        boolean isStateOf(final RobotToken token) {
+            return this.token == token && text.equals(token.getText()) && offset == token.getStartOffset()
+                    && line == token.getLineNumber() && column == token.getStartColumn()
+                    && types.equals(token.getTypes());
+        }
+    }
+}
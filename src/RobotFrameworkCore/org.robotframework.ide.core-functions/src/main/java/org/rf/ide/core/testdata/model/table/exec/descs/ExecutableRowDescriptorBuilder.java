@@ -45,7 +45,7 @@ public class ExecutableRowDescriptorBuilder {
                 new SimpleRowDescriptorBuilder(version));
     }
 
-    private <T> RobotVersion getVersion(final RobotExecutableRow<T> execRowLine) {
+    static <T> RobotVersion getVersion(final RobotExecutableRow<T> execRowLine) {
         final Optional<ARobotSectionTable> table;
         if (execRowLine.getParent() instanceof AModelElement) {
             final AModelElement<?> execParent = (AModelElement<?>) execRowLine.getParent();
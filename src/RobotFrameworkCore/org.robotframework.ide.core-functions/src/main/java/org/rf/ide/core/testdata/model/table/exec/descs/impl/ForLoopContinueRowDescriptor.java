@@ -63,7 +63,7 @@ public class ForLoopContinueRowDescriptor<T> implements IExecutableRowDescriptor
         return continueAction;
     }
 
-    int getForLoopStartRowIndex() {
+    public int getForLoopStartRowIndex() {
         return forLoopStartRowIndex;
     }
 
@@ -31,29 +31,45 @@ public class ForLoopContinueRowDescriptorBuilder implements IRowDescriptorBuilde
         this.version = version;
     }
 
+    /**
+     * Returns true when given row, judging by its own tokens only, may continue some FOR loop. Only
+     * description of such rows depends on other rows, i.e. on the loop declaration preceding them.
+     */
+    public static <T> boolean mayContinueForLoop(final RobotExecutableRow<T> execRowLine) {
+        return isEndTerminatedLoopContinuation(execRowLine) || isOldStyleLoopContinuation(execRowLine);
+    }
+
     @Override
     public <T> boolean isAcceptable(final RobotExecutableRow<T> execRowLine) {
-        final RobotToken action = execRowLine.getAction();
-        final String text = action.getText();
-
-        if (text != null && execRowLine.getParent() instanceof IExecutableStepsHolder<?>) {
-            if (action.getTypes().contains(RobotTokenType.FOR_WITH_END_CONTINUATION)) {
-                final int newForLoopDeclarationLine = getEndTerminatedForLoopDeclarationLine(execRowLine);
-                this.forLoopDeclarationLine = Optional.of(newForLoopDeclarationLine);
-                return true;
-            }
+        if (isEndTerminatedLoopContinuation(execRowLine)) {
+            final int newForLoopDeclarationLine = getEndTerminatedForLoopDeclarationLine(execRowLine);
+            this.forLoopDeclarationLine = Optional.of(newForLoopDeclarationLine);
+            return true;
+
+        } else if (isOldStyleLoopContinuation(execRowLine)) {
+            final int forLoopDeclarationLine = getForLoopDeclarationLine(execRowLine);
+            this.forLoopDeclarationLine = Optional.of(forLoopDeclarationLine);
+            return forLoopDeclarationLine >= 0;
+        }
+        return false;
+    }
 
-            final String trimmed = text.trim();
-            if (RobotTokenType.FOR_CONTINUE_TOKEN.getRepresentation().get(0).equalsIgnoreCase(trimmed)
-                    || (trimmed.isEmpty() && isTsv(execRowLine))
-                    || action.getTypes().contains(RobotTokenType.FOR_CONTINUE_ARTIFICIAL_TOKEN)) {
+    private static <T> boolean isEndTerminatedLoopContinuation(final RobotExecutableRow<T> execRowLine) {
+        final RobotToken action = execRowLine.getAction();
+        return action.getText() != null && execRowLine.getParent() instanceof IExecutableStepsHolder<?>
+                && action.getTypes().contains(RobotTokenType.FOR_WITH_END_CONTINUATION);
+    }
 
-                final int forLoopDeclarationLine = getForLoopDeclarationLine(execRowLine);
-                this.forLoopDeclarationLine = Optional.of(forLoopDeclarationLine);
-                return forLoopDeclarationLine >= 0;
-            }
+    private static <T> boolean isOldStyleLoopContinuation(final RobotExecutableRow<T> execRowLine) {
+        final RobotToken action = execRowLine.getAction();
+        final String text = action.getText();
+        if (text == null || !(execRowLine.getParent() instanceof IExecutableStepsHolder<?>)) {
+            return false;
         }
-        return false;
+        final String trimmed = text.trim();
+        return RobotTokenType.FOR_CONTINUE_TOKEN.getRepresentation().get(0).equalsIgnoreCase(trimmed)
+                || (trimmed.isEmpty() && isTsv(execRowLine))
+                || action.getTypes().contains(RobotTokenType.FOR_CONTINUE_ARTIFICIAL_TOKEN);
     }
 
     private static <T> int getEndTerminatedForLoopDeclarationLine(final RobotExecutableRow<T> execRowLine) {
@@ -94,7 +110,7 @@ public class ForLoopContinueRowDescriptorBuilder implements IRowDescriptorBuilde
         return -1;
     }
 
-    private <T> boolean isTsv(final RobotExecutableRow<T> execRowLine) {
+    private static <T> boolean isTsv(final RobotExecutableRow<T> execRowLine) {
         final AModelElement<?> execParent = (AModelElement<?>) execRowLine.getParent();
         final ARobotSectionTable table = (ARobotSectionTable) execParent.getParent();
         final RobotFileOutput output = table.getParent().getParent();
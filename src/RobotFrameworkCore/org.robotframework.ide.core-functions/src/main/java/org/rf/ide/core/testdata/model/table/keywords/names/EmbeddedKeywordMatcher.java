@@ -0,0 +1,200 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.table.keywords.names;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+
+/**
+ * Compiled form of keyword definition name which may contain embedded arguments. Matchers are
+ * immutable, so the ones obtained with {@link #forDefinition(String)} are cached and shared.
+ *
+ * @see EmbeddedKeywordNamesSupport#matchesIgnoreCase(String, String)
+ */
+public final class EmbeddedKeywordMatcher {
+
+    private static final int CACHE_SIZE = 10_000;
+
+    private static final Cache<String, EmbeddedKeywordMatcher> MATCHERS = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    public static EmbeddedKeywordMatcher forDefinition(final String definitionName) {
+        final EmbeddedKeywordMatcher matcher = MATCHERS.getIfPresent(definitionName);
+        if (matcher != null) {
+            return matcher;
+        }
+        final EmbeddedKeywordMatcher newMatcher = compile(definitionName);
+        MATCHERS.put(definitionName, newMatcher);
+        return newMatcher;
+    }
+
+    static EmbeddedKeywordMatcher compile(final String definitionName) {
+        final RangeSet<Integer> varRanges = EmbeddedKeywordNamesSupport.findEmbeddedArgumentsRanges(definitionName);
+        if (varRanges.isEmpty()) {
+            return new EmbeddedKeywordMatcher(definitionName, definitionName, "");
+        }
+        final Range<Integer> span = varRanges.span();
+        return new EmbeddedKeywordMatcher(definitionName, definitionName.substring(0, span.lowerEndpoint()),
+                definitionName.substring(span.upperEndpoint() + 1));
+    }
+
+    private final String definitionName;
+
+    private final String literalPrefix;
+
+    private final String literalSuffix;
+
+    // null when regex given in embedded argument is invalid, so only occurrences with variables can match
+    private final Pattern pattern;
+
+    private final Pattern patternForOccurrenceWithVariables;
+
+    private EmbeddedKeywordMatcher(final String definitionName, final String literalPrefix,
+            final String literalSuffix) {
+        this.definitionName = definitionName;
+        this.literalPrefix = literalPrefix;
+        this.literalSuffix = literalSuffix;
+        this.pattern = compilePattern(definitionName);
+        this.patternForOccurrenceWithVariables = Pattern.compile("(?iu)^" + EmbeddedKeywordNamesSupport
+                .substituteVariablesWithRegex(definitionName, Pattern::quote, (n, r) -> ".+") + "$");
+    }
+
+    private static Pattern compilePattern(final String definitionName) {
+        try {
+            return Pattern.compile("(?iu)^" + EmbeddedKeywordNamesSupport.substituteVariablesWithRegex(definitionName,
+                    Pattern::quote, EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex) + "$");
+        } catch (final PatternSyntaxException e) {
+            return null;
+        }
+    }
+
+    public String getDefinitionName() {
+        return definitionName;
+    }
+
+    public boolean matches(final String occurrenceName) {
+        return matches(occurrenceName, substituteVariables(occurrenceName));
+    }
+
+    private boolean matches(final String occurrenceName, final String occurrenceWithoutVariables) {
+        if (definitionName.equalsIgnoreCase(occurrenceName)) {
+            return true;
+        } else if (occurrenceWithoutVariables != null) {
+            return hasMatchingLiterals(occurrenceWithoutVariables)
+                    && patternForOccurrenceWithVariables.matcher(occurrenceWithoutVariables).matches();
+        } else {
+            return hasMatchingLiterals(occurrenceName) && pattern != null
+                    && pattern.matcher(occurrenceName).matches();
+        }
+    }
+
+    private boolean hasMatchingLiterals(final String name) {
+        final int length = name.length();
+        return length >= literalPrefix.length() + literalSuffix.length()
+                && name.regionMatches(true, 0, literalPrefix, 0, literalPrefix.length())
+                && name.regionMatches(true, length - literalSuffix.length(), literalSuffix, 0,
+                        literalSuffix.length());
+    }
+
+    /**
+     * When there are variables used in occurrence they are changed into ordinary dots and such
+     * occurrence is matched against definition with all embedded arguments matching anything.
+     * Returns null when there are no variables used.
+     */
+    private static String substituteVariables(final String occurrenceName) {
+        return EmbeddedKeywordNamesSupport.hasVariablesUsed(occurrenceName)
+                ? EmbeddedKeywordNamesSupport.substituteVariablesWithRegex(occurrenceName, s -> s, (n, r) -> ".")
+                : null;
+    }
+
+    private static char caseless(final char character) {
+        return Character.toLowerCase(Character.toUpperCase(character));
+    }
+
+    /**
+     * Matches occurrence against many definitions at once. Definitions are grouped by first
+     * character of their literal prefix, so for given occurrence only the definitions starting
+     * with the same character or with embedded argument are checked. Then prefixes and suffixes
+     * are compared and only for definitions having both matching the regex is used.
+     *
+     * @param <T>
+     *            type of values associated with definitions
+     */
+    public static final class MultiMatcher<T> {
+
+        private final ListMultimap<Character, Entry<T>> byFirstCharacter = ArrayListMultimap.create();
+
+        private final List<Entry<T>> startingWithArgument = new ArrayList<>();
+
+        public void add(final String definitionName, final T value) {
+            final Entry<T> entry = new Entry<>(forDefinition(definitionName), value);
+            final String prefix = entry.matcher.literalPrefix;
+            if (prefix.isEmpty()) {
+                startingWithArgument.add(entry);
+            } else {
+                byFirstCharacter.put(caseless(prefix.charAt(0)), entry);
+            }
+        }
+
+        public boolean isEmpty() {
+            return byFirstCharacter.isEmpty() && startingWithArgument.isEmpty();
+        }
+
+        /**
+         * Returns values of definitions matching given occurrence. Each value is returned at most
+         * once.
+         */
+        public Set<T> findMatching(final String occurrenceName) {
+            final Set<T> values = new LinkedHashSet<>();
+            final String occurrenceWithoutVariables = substituteVariables(occurrenceName);
+            if (!occurrenceName.isEmpty()) {
+                collect(byFirstCharacter.get(caseless(occurrenceName.charAt(0))), occurrenceName,
+                        occurrenceWithoutVariables, values);
+            }
+            if (occurrenceWithoutVariables != null && !occurrenceWithoutVariables.isEmpty()
+                    && occurrenceWithoutVariables.charAt(0) != occurrenceName.charAt(0)) {
+                collect(byFirstCharacter.get(caseless(occurrenceWithoutVariables.charAt(0))), occurrenceName,
+                        occurrenceWithoutVariables, values);
+            }
+            collect(startingWithArgument, occurrenceName, occurrenceWithoutVariables, values);
+            return values;
+        }
+
+        private static <T> void collect(final List<Entry<T>> entries, final String occurrenceName,
+                final String occurrenceWithoutVariables, final Set<T> values) {
+            for (final Entry<T> entry : entries) {
+                if (!values.contains(entry.value)
+                        && entry.matcher.matches(occurrenceName, occurrenceWithoutVariables)) {
+                    values.add(entry.value);
+                }
+            }
+        }
+    }
+
+    private static final class Entry<T> {
+
+        private final EmbeddedKeywordMatcher matcher;
+
+        private final T value;
+
+        private Entry(final EmbeddedKeywordMatcher matcher, final T value) {
+            this.matcher = matcher;
+            this.value = value;
+        }
+    }
+}
@@ -8,8 +8,6 @@ package org.rf.ide.core.testdata.model.table.keywords.names;
 import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
 
 import com.google.common.collect.Range;
 import com.google.common.collect.RangeSet;
@@ -53,7 +51,9 @@ public class EmbeddedKeywordNamesSupport {
                 }
 
                 final String shortenedDefinition = definitionName.substring(lowerIndex, upperIndex);
-                if (matchesIgnoreCase(shortenedDefinition, occurrenceName)) {
+                // shortened definitions are not cached as they are used only once
+                if (shortenedDefinition.equalsIgnoreCase(occurrenceName) || shortenedDefinition.indexOf('$') != -1
+                        && EmbeddedKeywordMatcher.compile(shortenedDefinition).matches(occurrenceName)) {
                     return Optional.of(Range.closedOpen(lowerIndex, upperIndex));
                 }
 
@@ -75,29 +75,10 @@ public class EmbeddedKeywordNamesSupport {
         } else if (definitionName.indexOf('$') == -1) {
             return false;
         }
-
-        try {
-            if (hasVariablesUsed(occurrenceName)) {
-                // There is a variable used in occurrence - we'll change all variables to ordinary
-                // dots and try if they matches regex with variables replaced by .+ regex
-                final String occurrenceNameWithoutVariables = substituteVariablesWithRegex(occurrenceName, s -> s,
-                        (n, r) -> ".");
-                final String regex = "(?iu)^"
-                        + substituteVariablesWithRegex(definitionName, Pattern::quote, (n, r) -> ".+") + "$";
-                return Pattern.matches(regex, occurrenceNameWithoutVariables);
-
-            } else {
-                final String regex = "(?iu)^" + substituteVariablesWithRegex(definitionName, Pattern::quote,
-                        EmbeddedKeywordNamesSupport::getEmbeddedArgumentRegex) + "$";
-                return Pattern.matches(regex, occurrenceName);
-            }
-
-        } catch (final PatternSyntaxException e) {
-            return false;
-        }
+        return EmbeddedKeywordMatcher.forDefinition(definitionName).matches(occurrenceName);
     }
 
-    private static String substituteVariablesWithRegex(final String definitionName,
+    static String substituteVariablesWithRegex(final String definitionName,
             final Function<String, String> outOfVariableTransformation,
             final BiFunction<String, Range<Integer>, String> regexExtractor) {
         final StringBuilder wholeRegex = new StringBuilder();
@@ -127,7 +108,7 @@ public class EmbeddedKeywordNamesSupport {
         return wholeRegex.toString();
     }
 
-    private static String getEmbeddedArgumentRegex(final String definitionName, final Range<Integer> varRange) {
+    static String getEmbeddedArgumentRegex(final String definitionName, final Range<Integer> varRange) {
         final String varContent = definitionName.substring(varRange.lowerEndpoint() + 2, varRange.upperEndpoint());
         final String unescapedRegex = varContent.indexOf(':') != -1 ? varContent.substring(varContent.indexOf(':') + 1)
                 : ".+";
@@ -22,6 +22,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 public class SuiteDocumentation extends AModelElement<SettingTable> implements ICommentHolder, IDocumentationHolder {
 
+    private static final long serialVersionUID = -361766200225840190L;
+
     private final RobotToken declaration;
 
     private final List<RobotToken> text = new ArrayList<>();
@@ -18,6 +18,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 public class UnknownSetting extends AModelElement<SettingTable> {
 
+    private static final long serialVersionUID = -6194870096077965670L;
+
     private final RobotToken declaration;
 
     private final List<RobotToken> trashs = new ArrayList<>();
@@ -12,6 +12,8 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 public class SuiteDocumentationView extends SuiteDocumentation {
 
+    private static final long serialVersionUID = -3822175853557650819L;
+
     private final List<SuiteDocumentation> suiteDocs;
 
     public SuiteDocumentationView(final List<SuiteDocumentation> suiteDocs) {
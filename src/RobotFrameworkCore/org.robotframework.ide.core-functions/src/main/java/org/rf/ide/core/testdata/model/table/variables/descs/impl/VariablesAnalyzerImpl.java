@@ -19,15 +19,30 @@ import org.rf.ide.core.testdata.model.table.variables.descs.VariablesAnalyzer;
 import org.rf.ide.core.testdata.model.table.variables.descs.VariablesVisitor;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 
 public class VariablesAnalyzerImpl implements VariablesAnalyzer {
 
+    private static final int CACHE_SIZE = 20_000;
+
+    // trees are built by many analyzers for the same tokens, so they are shared between them;
+    // tokens are compared by identity and trees are rebuilt when token text changes
+    private static final Cache<RobotToken, CachedTree> TREES = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
     private final RobotVersion version;
+    private final String possibleVariableMarks;
+    private final boolean isPre32;
     private final ExpressionAstBuilder astBuilder;
     private final VariableSyntaxValidator syntaxValidator;
 
     public VariablesAnalyzerImpl(final RobotVersion version, final String possibleVariableMarks) {
         this.version = version;
+        this.possibleVariableMarks = possibleVariableMarks;
+        this.isPre32 = version.isOlderThan(new RobotVersion(3, 2));
         this.astBuilder = version.isOlderThan(new RobotVersion(3, 2))
                 ? new ExpressionAstBuilderPre32(possibleVariableMarks)
                 : new ExpressionAstBuilder(possibleVariableMarks);
@@ -45,12 +60,23 @@ public class VariablesAnalyzerImpl implements VariablesAnalyzer {
 
     @Override
     public void visitVariables(final RobotToken token, final VariablesVisitor visitor) {
-        visitTree(astBuilder.buildTree(token), visitor, n -> true);
+        visitTree(buildTree(token), visitor, n -> true);
     }
 
     @Override
     public void visitPythonExpressions(final RobotToken token, final PythonExpressionVisitor visitor) {
-        visitTree(astBuilder.buildTree(token), n -> true, visitor);
+        visitTree(buildTree(token), n -> true, visitor);
+    }
+
+    ExpressionAstNode buildTree(final RobotToken token) {
+        final String text = token.getText();
+        final CachedTree cached = TREES.getIfPresent(token);
+        if (cached != null && cached.isTreeOf(text, possibleVariableMarks, isPre32)) {
+            return cached.tree;
+        }
+        final ExpressionAstNode tree = astBuilder.buildTree(token);
+        TREES.put(token, new CachedTree(text, possibleVariableMarks, isPre32, tree));
+        return tree;
     }
 
     private boolean visitTree(final ExpressionAstNode node, final VariablesVisitor varVisitor,
@@ -79,7 +105,7 @@ public class VariablesAnalyzerImpl implements VariablesAnalyzer {
 
     @Override
     public void visitExpression(final RobotToken token, final ExpressionVisitor visitor) {
-        final ExpressionAstNode tree = astBuilder.buildTree(token);
+        final ExpressionAstNode tree = buildTree(token);
         boolean shouldContinue = true;
 
         final int line = token.getLineNumber();
@@ -144,4 +170,28 @@ public class VariablesAnalyzerImpl implements VariablesAnalyzer {
         }
         return topLevelVars;
     }
+
+    private static final class CachedTree {
+
+        private final String text;
+
+        private final String possibleVariableMarks;
+
+        private final boolean isPre32;
+
+        private final ExpressionAstNode tree;
+
+        CachedTree(final String text, final String possibleVariableMarks, final boolean isPre32,
+                final ExpressionAstNode tree) {
+            this.text = text;
+            this.possibleVariableMarks = possibleVariableMarks;
+            this.isPre32 = isPre32;
+            this.tree = tree;
+        }
+
+        boolean isTreeOf(final String text, final String possibleVariableMarks, final boolean isPre32) {
+            return this.text.equals(text) && this.possibleVariableMarks.equals(possibleVariableMarks)
+                    && this.isPre32 == isPre32;
+        }
+    }
 }
@@ -0,0 +1,486 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegionCacher;
+import org.rf.ide.core.testdata.model.IDocumentationHolder;
+import org.rf.ide.core.testdata.model.ModelType;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.table.IExecutableStepsHolder;
+import org.rf.ide.core.testdata.model.table.KeywordTable;
+import org.rf.ide.core.testdata.model.table.LocalSetting;
+import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
+import org.rf.ide.core.testdata.model.table.TaskTable;
+import org.rf.ide.core.testdata.model.table.TestCaseTable;
+import org.rf.ide.core.testdata.model.table.tasks.Task;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.EndOfLineBuilder.EndOfLineTypes;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+import com.google.common.collect.Sets;
+
+/**
+ * Creates output of edited content from previously parsed output, by parsing again only the test case, task or
+ * keyword enclosing the change and splicing new lines and model elements into the new file model. Only the table
+ * holding edited block is copied; all the other tables, units and lines are shared with previous output. Elements
+ * placed after the edited block are moved lazily using {@link PositionShift position shifts}, so the cost of
+ * reparsing does not depend on the size of the rest of the file.
+ * <p>
+ * Structure of previous output (its lines, tables and units) is never modified, as it may be still read by other
+ * threads, so the new output can be published at once when it is complete. However shared elements always follow
+ * the newest output: their positions and parents are changed when the new output is published.
+ * <p>
+ * Block starts with the line holding the name of executable unit and ends right before next line starting in the
+ * first column, which has to be either another unit name or table header. Whenever the change reaches outside of
+ * such block (or creates/removes a block boundary) the output is left untouched and the content has to be parsed
+ * as a whole.
+ */
+public class EditedBlockReparser {
+
+    private static final Set<RobotTokenType> UNIT_NAME_TYPES = EnumSet.of(RobotTokenType.TEST_CASE_NAME,
+            RobotTokenType.TASK_NAME, RobotTokenType.KEYWORD_NAME);
+
+    private static final Set<ModelType> DOCUMENTATION_TYPES = EnumSet.of(ModelType.TEST_CASE_DOCUMENTATION,
+            ModelType.TASK_DOCUMENTATION, ModelType.USER_KEYWORD_DOCUMENTATION);
+
+    private final TextualRobotFileParser parser;
+
+    public EditedBlockReparser(final TextualRobotFileParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Tries to create output reflecting current content from the output parsed from previous content.
+     *
+     * @param output
+     *            output parsed from previous content; its structure is not modified
+     * @param previousContent
+     * @param content
+     * @return new output of current content (or given output when content is the same), or empty
+     *         optional when the change has to be handled by parsing the content as a whole
+     */
+    public Optional<RobotFileOutput> reparse(final RobotFileOutput output, final String previousContent,
+            final String content) {
+        if (output.getStatus() != Status.PASSED || output.getFileModel().getFileContent().isEmpty()
+                || !isNewestOfShiftsChain(output.getFileModel())) {
+            return Optional.empty();
+        }
+
+        final int prefixLength = commonPrefixLength(previousContent, content);
+        if (prefixLength == previousContent.length() && prefixLength == content.length()) {
+            return Optional.of(output);
+        }
+        final int changeEnd = content.length() - commonSuffixLength(previousContent, content, prefixLength);
+
+        // change made at the beginning of line may belong to the block above as well as to the one below
+        if (prefixLength > 0 && isLineStart(content, prefixLength)) {
+            final Optional<RobotFileOutput> reparsedOutput = reparseBlock(output, previousContent, content,
+                    prefixLength - 1, changeEnd);
+            if (reparsedOutput.isPresent()) {
+                return reparsedOutput;
+            }
+        }
+        return reparseBlock(output, previousContent, content, prefixLength, changeEnd);
+    }
+
+    private Optional<RobotFileOutput> reparseBlock(final RobotFileOutput previousOutput, final String previousContent,
+            final String content, final int changeStart, final int changeEnd) {
+        final int blockStart = findBlockStart(content, changeStart);
+        if (blockStart < 0) {
+            return Optional.empty();
+        }
+        final int blockEnd = findBlockEnd(content, blockStart);
+        if (blockEnd < changeEnd) {
+            return Optional.empty();
+        }
+        final int lengthShift = content.length() - previousContent.length();
+
+        final List<RobotLine> previousLines = previousOutput.getFileModel().getFileContent();
+        final int firstLineIndex = findLineStartingAt(previousLines, blockStart);
+        final int endLineIndex = blockEnd == content.length() ? previousLines.size()
+                : findLineStartingAt(previousLines, blockEnd - lengthShift);
+        if (firstLineIndex < 0 || endLineIndex <= firstLineIndex) {
+            return Optional.empty();
+        }
+
+        final Optional<RobotTokenType> unitNameType = getFirstColumnType(previousLines.get(firstLineIndex))
+                .filter(UNIT_NAME_TYPES::contains);
+        if (!unitNameType.isPresent() || !isBlockBoundary(previousLines, endLineIndex)) {
+            return Optional.empty();
+        }
+        final List<Integer> replacedNamesLineIndexes = new ArrayList<>();
+        for (int i = firstLineIndex; i < endLineIndex; i++) {
+            final Optional<RobotTokenType> type = getFirstColumnType(previousLines.get(i));
+            if (type.isPresent() && type.get() != unitNameType.get()) {
+                return Optional.empty();
+            } else if (type.isPresent()) {
+                replacedNamesLineIndexes.add(i);
+            }
+        }
+
+        final RobotTokenType headerType = getHeaderType(unitNameType.get());
+        final String header = "*** " + headerType.getRepresentation().get(0) + " ***\n";
+        final String blockContent = content.substring(blockStart, blockEnd);
+
+        final RobotFileOutput blockOutput = new RobotFileOutput(previousOutput.getRobotVersion());
+        parser.parse(blockOutput,
+                new ByteArrayInputStream((header + blockContent).getBytes(StandardCharsets.UTF_8)),
+                previousOutput.getProcessedFile());
+        final List<? extends IExecutableStepsHolder<?>> blockUnits = getUnits(blockOutput.getFileModel(),
+                unitNameType.get());
+        if (blockOutput.getStatus() != Status.PASSED || blockUnits.size() != 1
+                || blockUnits.get(0).getName().getLineNumber() != 2) {
+            return Optional.empty();
+        }
+
+        final List<RobotLine> blockLines = new ArrayList<>(blockOutput.getFileModel().getFileContent());
+        if (blockLines.size() < 2) {
+            return Optional.empty();
+        }
+        blockLines.remove(0);
+        if (blockEnd < content.length()) {
+            // block content ends with line separator, so artificial empty line was created at the end
+            final RobotLine lastLine = blockLines.get(blockLines.size() - 1);
+            if (blockLines.size() < 2 || !lastLine.getLineElements().isEmpty()
+                    || !lastLine.getEndOfLine().getTypes().contains(EndOfLineTypes.EOF)) {
+                return Optional.empty();
+            }
+            blockLines.remove(blockLines.size() - 1);
+        }
+
+        final RobotFile previousModel = previousOutput.getFileModel();
+        final PositionShift.Chain chain = attachToShifts(previousModel);
+
+        final Set<RobotToken> replacedNames = Sets.newIdentityHashSet();
+        for (final int lineIndex : replacedNamesLineIndexes) {
+            replacedNames.add((RobotToken) previousLines.get(lineIndex).getLineElements().get(0));
+        }
+        final int firstLineNumber = previousLines.get(firstLineIndex).getLineNumber();
+        final int linesShift = blockLines.size() - (endLineIndex - firstLineIndex);
+
+        // only the table of edited block is copied, while other tables and lines are shared with previous output
+        final RobotFileOutput output = previousOutput.copyWithEmptyModel();
+        final RobotFile model = output.getFileModel();
+
+        final PositionShift blockShift = new PositionShift(chain,
+                firstLineIndex == 0 ? null : previousLines.get(firstLineIndex - 1).getPositionShift());
+        final List<RobotLine> newLines = new ArrayList<>(previousLines.size() + linesShift);
+        newLines.addAll(previousLines.subList(0, firstLineIndex));
+        // tokens created during post-processing are not placed in lines, so those have to be moved separately
+        final List<RobotToken> detachedBlockTokens = findDetachedTokens(blockOutput.getFileModel().getFileContent(),
+                blockUnits.get(0));
+        for (final RobotLine line : blockLines) {
+            final RobotLine movedLine = line.moveTo(model, firstLineNumber - 2, blockStart - header.length());
+            movedLine.attachTo(blockShift);
+            newLines.add(movedLine);
+        }
+        for (final RobotToken token : detachedBlockTokens) {
+            move(token, firstLineNumber - 2, blockStart - header.length());
+            token.attachTo(blockShift);
+        }
+        newLines.addAll(previousLines.subList(endLineIndex, previousLines.size()));
+
+        model.adoptTable(RobotTokenType.SETTINGS_TABLE_HEADER, previousModel.getSettingTable());
+        model.adoptTable(RobotTokenType.VARIABLES_TABLE_HEADER, previousModel.getVariableTable());
+        switch (unitNameType.get()) {
+            case TEST_CASE_NAME:
+                model.adoptTable(RobotTokenType.TASKS_TABLE_HEADER, previousModel.getTasksTable());
+                model.adoptTable(RobotTokenType.KEYWORDS_TABLE_HEADER, previousModel.getKeywordTable());
+                final TestCaseTable testCaseTable = model.getTestCaseTable();
+                final TestCase testCase = blockOutput.getFileModel().getTestCaseTable().getTestCases().get(0);
+                previousModel.getTestCaseTable().getHeaders().forEach(testCaseTable::addHeader);
+                replaceUnits(output, previousModel.getTestCaseTable().getTestCases(), replacedNames, testCase,
+                        testCaseTable::addTest);
+                fixTemplateArguments(testCase, testCase.getTemplateKeywordName().isPresent(),
+                        RobotTokenType.TEST_CASE_TEMPLATE_ARGUMENT);
+                break;
+            case TASK_NAME:
+                model.adoptTable(RobotTokenType.TEST_CASES_TABLE_HEADER, previousModel.getTestCaseTable());
+                model.adoptTable(RobotTokenType.KEYWORDS_TABLE_HEADER, previousModel.getKeywordTable());
+                final TaskTable tasksTable = model.getTasksTable();
+                final Task task = blockOutput.getFileModel().getTasksTable().getTasks().get(0);
+                previousModel.getTasksTable().getHeaders().forEach(tasksTable::addHeader);
+                replaceUnits(output, previousModel.getTasksTable().getTasks(), replacedNames, task,
+                        tasksTable::addTask);
+                fixTemplateArguments(task, task.getTemplateKeywordName().isPresent(),
+                        RobotTokenType.TASK_TEMPLATE_ARGUMENT);
+                break;
+            default:
+                model.adoptTable(RobotTokenType.TEST_CASES_TABLE_HEADER, previousModel.getTestCaseTable());
+                model.adoptTable(RobotTokenType.TASKS_TABLE_HEADER, previousModel.getTasksTable());
+                final KeywordTable keywordTable = model.getKeywordTable();
+                previousModel.getKeywordTable().getHeaders().forEach(keywordTable::addHeader);
+                replaceUnits(output, previousModel.getKeywordTable().getKeywords(), replacedNames,
+                        blockOutput.getFileModel().getKeywordTable().getKeywords().get(0), keywordTable::addKeyword);
+                break;
+        }
+        model.replaceLines(0, 0, newLines);
+
+        // elements after the block are moved lazily by moving the shift of the first of them
+        if (endLineIndex < previousLines.size()) {
+            previousLines.get(endLineIndex).getPositionShift().follow(blockShift, linesShift, lengthShift);
+        }
+        chain.publish(model);
+        return Optional.of(output);
+    }
+
+    private static boolean isNewestOfShiftsChain(final RobotFile model) {
+        // positions of elements shared with newer output are not positions in previous content anymore
+        final PositionShift shift = model.getFileContent().get(0).getPositionShift();
+        return shift == null || shift.getFile() == model;
+    }
+
+    /**
+     * Makes all the lines of given file follow shifts of new chain, with separate shift for each
+     * block, so that blocks can be moved independently. Nothing is done when the lines already
+     * follow shifts.
+     */
+    private static PositionShift.Chain attachToShifts(final RobotFile model) {
+        final List<RobotLine> lines = model.getFileContent();
+        final PositionShift firstShift = lines.get(0).getPositionShift();
+        if (firstShift != null) {
+            return firstShift.getChain();
+        }
+        final PositionShift.Chain chain = new PositionShift.Chain(model);
+        PositionShift shift = new PositionShift(chain, null);
+        for (int i = 0; i < lines.size(); i++) {
+            if (i > 0 && isBlockBoundary(lines, i)) {
+                shift = new PositionShift(chain, shift);
+            }
+            lines.get(i).attachTo(shift);
+        }
+        attachDetachedTokens(lines, model.getTestCaseTable().getTestCases());
+        attachDetachedTokens(lines, model.getTasksTable().getTasks());
+        attachDetachedTokens(lines, model.getKeywordTable().getKeywords());
+        return chain;
+    }
+
+    private static void attachDetachedTokens(final List<RobotLine> lines,
+            final List<? extends IExecutableStepsHolder<?>> units) {
+        for (final IExecutableStepsHolder<?> unit : units) {
+            final int lineIndex = unit.getName().getLineNumber() - 1;
+            if (lineIndex >= 0 && lineIndex < lines.size()) {
+                final PositionShift shift = lines.get(lineIndex).getPositionShift();
+                findDetachedTokens(lines, unit).forEach(token -> token.attachTo(shift));
+            }
+        }
+    }
+
+    private static List<RobotToken> findDetachedTokens(final List<RobotLine> lines,
+            final IExecutableStepsHolder<?> unit) {
+        final List<RobotToken> tokens = new ArrayList<>();
+        for (final AModelElement<?> element : unit.getElements()) {
+            for (final RobotToken token : element.getElementTokens()) {
+                final int lineIndex = token.getLineNumber() - 1;
+                if (token.getLineNumber() != IRobotLineElement.NOT_SET && (lineIndex >= lines.size()
+                        || !lines.get(lineIndex).getElementPositionInLine(token).isPresent())) {
+                    tokens.add(token);
+                }
+            }
+        }
+        return tokens;
+    }
+
+    private static void move(final RobotToken token, final int linesShift, final int offsetShift) {
+        final int offset = token.getStartOffset();
+        token.setFilePosition(new FilePosition(token.getLineNumber() + linesShift, token.getStartColumn(),
+                offset == IRobotLineElement.NOT_SET ? offset : offset + offsetShift));
+    }
+
+    private static int commonPrefixLength(final String previousContent, final String content) {
+        final int limit = Math.min(previousContent.length(), content.length());
+        int i = 0;
+        while (i < limit && previousContent.charAt(i) == content.charAt(i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int commonSuffixLength(final String previousContent, final String content,
+            final int prefixLength) {
+        final int limit = Math.min(previousContent.length(), content.length()) - prefixLength;
+        int i = 0;
+        while (i < limit && previousContent.charAt(previousContent.length() - 1 - i) == content
+                .charAt(content.length() - 1 - i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int findBlockStart(final String content, final int offset) {
+        int lineStart = lineStartOf(content, Math.min(offset, content.length()));
+        while (!startsWithData(content, lineStart)) {
+            if (lineStart == 0) {
+                return -1;
+            }
+            lineStart = lineStartOf(content, lineStart - 1);
+        }
+        return lineStart;
+    }
+
+    private static int findBlockEnd(final String content, final int blockStart) {
+        int lineStart = nextLineStart(content, blockStart);
+        while (lineStart < content.length() && !startsWithData(content, lineStart)) {
+            lineStart = nextLineStart(content, lineStart);
+        }
+        return lineStart;
+    }
+
+    private static int lineStartOf(final String content, final int offset) {
+        int i = offset;
+        while (!isLineStart(content, i)) {
+            i--;
+        }
+        return i;
+    }
+
+    private static int nextLineStart(final String content, final int offset) {
+        int i = offset;
+        while (i < content.length() && content.charAt(i) != '\n' && content.charAt(i) != '\r') {
+            i++;
+        }
+        if (i + 1 < content.length() && content.charAt(i) == '\r' && content.charAt(i + 1) == '\n') {
+            return i + 2;
+        }
+        return Math.min(i + 1, content.length());
+    }
+
+    private static boolean isLineStart(final String content, final int offset) {
+        if (offset == 0) {
+            return true;
+        }
+        final char previous = content.charAt(offset - 1);
+        return previous == '\n' || previous == '\r' && (offset == content.length() || content.charAt(offset) != '\n');
+    }
+
+    private static boolean startsWithData(final String content, final int offset) {
+        if (offset >= content.length()) {
+            return false;
+        }
+        final char c = content.charAt(offset);
+        return c != ' ' && c != '\t' && c != '\n' && c != '\r';
+    }
+
+    private static int findLineStartingAt(final List<RobotLine> lines, final int offset) {
+        int low = 0;
+        int high = lines.size() - 1;
+        while (low <= high) {
+            final int middle = (low + high) >>> 1;
+            final int middleOffset = getStartOffset(lines.get(middle));
+            if (middleOffset < offset) {
+                low = middle + 1;
+            } else if (middleOffset > offset) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    private static int getStartOffset(final RobotLine line) {
+        return line.getLineElements().isEmpty() ? line.getEndOfLine().getStartOffset()
+                : line.getLineElements().get(0).getStartOffset();
+    }
+
+    private static Optional<RobotTokenType> getFirstColumnType(final RobotLine line) {
+        if (line.getLineElements().isEmpty()) {
+            return Optional.empty();
+        }
+        final IRobotLineElement element = line.getLineElements().get(0);
+        if (!(element instanceof RobotToken) || element.getStartColumn() != 0 || element.getText().isEmpty()
+                || element.getTypes().contains(RobotTokenType.PRETTY_ALIGN_SPACE)) {
+            return Optional.empty();
+        }
+        final IRobotTokenType type = element.getTypes().get(0);
+        return Optional.of(type instanceof RobotTokenType ? (RobotTokenType) type : RobotTokenType.UNKNOWN);
+    }
+
+    private static boolean isBlockBoundary(final List<RobotLine> lines, final int lineIndex) {
+        if (lineIndex == lines.size()) {
+            return true;
+        }
+        final Optional<RobotTokenType> type = getFirstColumnType(lines.get(lineIndex));
+        return type.isPresent() && (UNIT_NAME_TYPES.contains(type.get()) || RobotTokenType.isTableHeader(type.get()));
+    }
+
+    private static List<? extends IExecutableStepsHolder<?>> getUnits(final RobotFile model,
+            final RobotTokenType unitNameType) {
+        switch (unitNameType) {
+            case TEST_CASE_NAME:
+                return model.getTestCaseTable().getTestCases();
+            case TASK_NAME:
+                return model.getTasksTable().getTasks();
+            default:
+                return model.getKeywordTable().getKeywords();
+        }
+    }
+
+    private static RobotTokenType getHeaderType(final RobotTokenType unitNameType) {
+        switch (unitNameType) {
+            case TEST_CASE_NAME:
+                return RobotTokenType.TEST_CASES_TABLE_HEADER;
+            case TASK_NAME:
+                return RobotTokenType.TASKS_TABLE_HEADER;
+            default:
+                return RobotTokenType.KEYWORDS_TABLE_HEADER;
+        }
+    }
+
+    private static <T extends IExecutableStepsHolder<?>> void replaceUnits(final RobotFileOutput output,
+            final List<T> previousUnits, final Set<RobotToken> replacedNames, final T newUnit,
+            final Consumer<T> adder) {
+        final FileRegionCacher<IDocumentationHolder> docCacher = output.getDocumentationCacher();
+
+        boolean isNewUnitAdded = false;
+        for (final T unit : previousUnits) {
+            if (!replacedNames.contains(unit.getName())) {
+                adder.accept(unit);
+            } else {
+                getDocumentations(unit).forEach(docCacher::unregister);
+                if (!isNewUnitAdded) {
+                    adder.accept(newUnit);
+                    isNewUnitAdded = true;
+                }
+            }
+        }
+        if (!isNewUnitAdded) {
+            adder.accept(newUnit);
+        }
+        getDocumentations(newUnit).forEach(docCacher::register);
+    }
+
+    private static List<IDocumentationHolder> getDocumentations(final IExecutableStepsHolder<?> unit) {
+        final List<IDocumentationHolder> documentations = new ArrayList<>();
+        for (final AModelElement<?> element : unit.getElements()) {
+            if (DOCUMENTATION_TYPES.contains(element.getModelType())) {
+                documentations.add(((LocalSetting<?>) element).adaptTo(IDocumentationHolder.class));
+            }
+        }
+        return documentations;
+    }
+
+    private static void fixTemplateArguments(final IExecutableStepsHolder<?> unit, final boolean isTemplateUsed,
+            final RobotTokenType templateArgumentType) {
+        for (final RobotExecutableRow<?> row : unit.getExecutionContext()) {
+            row.fixTemplateArgumentsTypes(isTemplateUsed, templateArgumentType);
+        }
+    }
+}
@@ -5,7 +5,10 @@
  */
 package org.rf.ide.core.testdata.text.read;
 
+import java.io.ObjectStreamException;
+import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -96,8 +99,42 @@ public class EndOfLineBuilder {
         return eol;
     }
 
+    /**
+     * Creates end of line of the same type as given one, but placed in different line and offset.
+     */
+    public static IRobotLineElement relocate(final IRobotLineElement endOfLine, final int lineNumber,
+            final int startOffset) {
+        final int startColumn = endOfLine.getStartColumn();
+        final IRobotTokenType type = endOfLine.getTypes().isEmpty() ? EndOfLineTypes.NON
+                : endOfLine.getTypes().get(0);
+        if (type == EndOfLineTypes.CR) {
+            return new CarriageReturnEndOfLine(startOffset, lineNumber, startColumn);
+        } else if (type == EndOfLineTypes.LF) {
+            return new LineFeedEndOfLine(startOffset, lineNumber, startColumn);
+        } else if (type == EndOfLineTypes.CRLF) {
+            return new CRLFEndOfLine(startOffset, lineNumber, startColumn);
+        } else if (type == EndOfLineTypes.LFCR) {
+            return new LFCREndOfLine(startOffset, lineNumber, startColumn);
+        } else if (type == EndOfLineTypes.EOF) {
+            return new EndOfFile(startOffset, lineNumber, startColumn);
+        }
+        return new UndeclaredEndOfLine(startOffset, lineNumber, startColumn);
+    }
+
+    /**
+     * Creates end of line of the same type and position as given one, but following given shift.
+     */
+    static IRobotLineElement attachTo(final IRobotLineElement endOfLine, final PositionShift shift) {
+        final AEndOfLine attached = (AEndOfLine) relocate(endOfLine, shift.unshiftLine(endOfLine.getLineNumber()),
+                shift.unshiftOffset(endOfLine.getStartOffset()));
+        attached.shift = shift;
+        return attached;
+    }
+
     private static class LFCREndOfLine extends AEndOfLine {
 
+        private static final long serialVersionUID = 6684849984535357542L;
+
         public LFCREndOfLine(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.LFCR, startOffset, lineNumber, startColumn);
         }
@@ -105,6 +142,8 @@ public class EndOfLineBuilder {
 
     private static class CRLFEndOfLine extends AEndOfLine {
 
+        private static final long serialVersionUID = -6421609867662451084L;
+
         public CRLFEndOfLine(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.CRLF, startOffset, lineNumber, startColumn);
         }
@@ -112,6 +151,8 @@ public class EndOfLineBuilder {
 
     private static class EndOfFile extends AEndOfLine {
 
+        private static final long serialVersionUID = -6315936842152007302L;
+
         public EndOfFile(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.EOF, startOffset, lineNumber, startColumn);
         }
@@ -119,6 +160,8 @@ public class EndOfLineBuilder {
 
     private static class LineFeedEndOfLine extends AEndOfLine {
 
+        private static final long serialVersionUID = -7240710258077235766L;
+
         public LineFeedEndOfLine(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.LF, startOffset, lineNumber, startColumn);
         }
@@ -127,6 +170,8 @@ public class EndOfLineBuilder {
 
     private static class CarriageReturnEndOfLine extends AEndOfLine {
 
+        private static final long serialVersionUID = -2463215116566430471L;
+
         public CarriageReturnEndOfLine(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.CR, startOffset, lineNumber, startColumn);
         }
@@ -135,13 +180,17 @@ public class EndOfLineBuilder {
 
     private static class UndeclaredEndOfLine extends AEndOfLine {
 
+        private static final long serialVersionUID = -3374950021784304689L;
+
         public UndeclaredEndOfLine(final int startOffset, final int lineNumber, final int startColumn) {
             super(EndOfLineTypes.NON, startOffset, lineNumber, startColumn);
         }
 
     }
 
-    private abstract static class AEndOfLine implements IRobotLineElement {
+    private abstract static class AEndOfLine implements IRobotLineElement, Serializable {
+
+        private static final long serialVersionUID = -2911823046675408273L;
 
         private final int lineNumber;
 
@@ -149,20 +198,22 @@ public class EndOfLineBuilder {
 
         private final int startOffset;
 
-        private final List<IRobotTokenType> types;
+        private final EndOfLineTypes type;
+
+        // when set, line number and offset are relative to this shift
+        private transient PositionShift shift;
 
         public AEndOfLine(final EndOfLineTypes type, final int startOffset, final int lineNumber,
                 final int startColumn) {
             this.lineNumber = lineNumber;
             this.startColumn = startColumn;
             this.startOffset = startOffset;
-            this.types = new ArrayList<>(0);
-            this.types.add(type);
+            this.type = type;
         }
 
         @Override
         public int getLineNumber() {
-            return lineNumber;
+            return shift == null ? lineNumber : shift.shiftLine(lineNumber);
         }
 
         @Override
@@ -177,7 +228,7 @@ public class EndOfLineBuilder {
 
         @Override
         public int getStartOffset() {
-            return startOffset;
+            return shift == null ? startOffset : shift.shiftOffset(startOffset);
         }
 
         @Override
@@ -187,19 +238,17 @@ public class EndOfLineBuilder {
 
         @Override
         public FilePosition getFilePosition() {
-            return new FilePosition(lineNumber, getStartColumn(), getStartOffset());
+            return new FilePosition(getLineNumber(), getStartColumn(), getStartOffset());
         }
 
         @Override
         public String getText() {
-            return !getTypes().isEmpty() && !getTypes().get(0).getRepresentation().isEmpty()
-                    ? getTypes().get(0).getRepresentation().get(0)
-                    : "";
+            return !type.getRepresentation().isEmpty() ? type.getRepresentation().get(0) : "";
         }
 
         @Override
         public List<IRobotTokenType> getTypes() {
-            return types;
+            return Collections.singletonList(type);
         }
 
         @Override
@@ -210,17 +259,12 @@ public class EndOfLineBuilder {
         @Override
         public String toString() {
             return String.format("%s [lineNumber=%s, startColumn=%s, startOffset=%s, types=%s]", this.getClass(),
-                    lineNumber, startColumn, startOffset, types);
+                    getLineNumber(), startColumn, getStartOffset(), getTypes());
         }
 
         @Override
         public VersionAvailabilityInfo getVersionInformation() {
-            VersionAvailabilityInfo var = null;
-            if (!types.isEmpty()) {
-                var = types.get(0).findVersionAvailabilityInfo(getText());
-            }
-
-            return var;
+            return type.findVersionAvailabilityInfo(getText());
         }
 
         @Override
@@ -253,6 +297,10 @@ public class EndOfLineBuilder {
         public final boolean equals(final Object obj) {
             return super.equals(obj);
         }
+
+        protected Object writeReplace() throws ObjectStreamException {
+            return shift == null ? this : relocate(this, getLineNumber(), getStartOffset());
+        }
     }
 
     public static enum EndOfLineTypes implements IRobotTokenType {
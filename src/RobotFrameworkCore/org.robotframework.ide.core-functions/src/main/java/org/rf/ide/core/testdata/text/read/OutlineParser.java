@@ -0,0 +1,296 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.FileFormat;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.ModelType;
+import org.rf.ide.core.testdata.model.RobotFileOutline;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Definition;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Import;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Section;
+import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
+import org.rf.ide.core.testdata.text.read.separators.Separator;
+import org.rf.ide.core.testdata.text.read.separators.Separator.SeparatorType;
+import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder;
+
+/**
+ * Creates {@link RobotFileOutline} in single pass over file lines. Lines are split into cells in
+ * the same way as done by {@link TextualRobotFileParser} and only the first cells of lines are
+ * recognized, without building model elements. Just like textual parser it does not keep any
+ * state between parsings.
+ */
+public class OutlineParser {
+
+    private final TokenSeparatorBuilder tokenSeparatorBuilder;
+
+    public OutlineParser(final FileFormat fileFormat) {
+        this.tokenSeparatorBuilder = new TokenSeparatorBuilder(fileFormat);
+    }
+
+    public RobotFileOutline parse(final RobotVersion version, final File file, final String content) {
+        final OutlineBuilder builder = new OutlineBuilder(RecognizersAndMappersRegistry.forVersion(version),
+                new RobotFileOutline(file, version, content));
+
+        final int length = content.length();
+        int lineNumber = 1;
+        int lineStart = 0;
+        while (true) {
+            int lineEnd = lineStart;
+            while (lineEnd < length && content.charAt(lineEnd) != '\r' && content.charAt(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            String text = content.substring(lineStart, lineEnd);
+            int lineOffset = lineStart;
+            if (lineNumber == 1 && text.startsWith("\uFEFF")) {
+                text = text.substring(1);
+                lineOffset++;
+            }
+            builder.processLine(lineNumber, splitIntoCells(lineNumber, lineOffset, text));
+
+            if (lineEnd == length) {
+                break;
+            }
+            final boolean isCrLf = content.charAt(lineEnd) == '\r' && lineEnd + 1 < length
+                    && content.charAt(lineEnd + 1) == '\n';
+            lineStart = lineEnd + (isCrLf ? 2 : 1);
+            lineNumber++;
+        }
+        return builder.outline;
+    }
+
+    private List<Cell> splitIntoCells(final int lineNumber, final int lineOffset, final String text) {
+        final List<Cell> cells = new ArrayList<>();
+        final ALineSeparator separator = tokenSeparatorBuilder.createSeparator(lineNumber, text);
+        int lastColumn = 0;
+        while (separator.hasNext()) {
+            final Separator currentSeparator = separator.next();
+            final boolean isLeadingPipe = lastColumn == 0 && currentSeparator.getStartColumn() == 0
+                    && separator.getProducedType() == SeparatorType.PIPE;
+            if (!isLeadingPipe) {
+                cells.add(new Cell(lineNumber, lineOffset, lastColumn, text.substring(lastColumn,
+                        currentSeparator.getStartColumn())));
+            }
+            lastColumn = currentSeparator.getEndColumn();
+        }
+        cells.add(new Cell(lineNumber, lineOffset, lastColumn, text.substring(lastColumn)));
+
+        // comments and trailing empty cells are not interesting
+        for (int i = 0; i < cells.size(); i++) {
+            if (cells.get(i).text.startsWith("#")) {
+                cells.subList(i, cells.size()).clear();
+                break;
+            }
+        }
+        while (!cells.isEmpty() && cells.get(cells.size() - 1).text.isEmpty()) {
+            cells.remove(cells.size() - 1);
+        }
+        return cells;
+    }
+
+    private static class OutlineBuilder {
+
+        private final RecognizersAndMappersRegistry registry;
+
+        private final RobotFileOutline outline;
+
+        private Section currentSection;
+
+        private Definition currentDefinition;
+
+        // handles cells of lines starting with '...' which continue previous element
+        private Consumer<List<Cell>> continuation;
+
+        OutlineBuilder(final RecognizersAndMappersRegistry registry, final RobotFileOutline outline) {
+            this.registry = registry;
+            this.outline = outline;
+        }
+
+        void processLine(final int lineNumber, final List<Cell> cells) {
+            if (cells.isEmpty()) {
+                return;
+            }
+            final Cell first = cells.get(0);
+            if (first.text.length() > 1 && first.text.startsWith("*")) {
+                startSection(first);
+                return;
+            } else if (currentSection == null) {
+                return;
+            }
+            currentSection.setEndLine(lineNumber);
+
+            switch (currentSection.getHeaderType()) {
+                case SETTINGS_TABLE_HEADER:
+                    processSettingsLine(cells);
+                    break;
+                case TEST_CASES_TABLE_HEADER:
+                    processExecutableLine(cells, ModelType.TEST_CASE, RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION);
+                    break;
+                case TASKS_TABLE_HEADER:
+                    processExecutableLine(cells, ModelType.TASK, RobotTokenType.TASK_SETTING_DOCUMENTATION);
+                    break;
+                case KEYWORDS_TABLE_HEADER:
+                    processExecutableLine(cells, ModelType.USER_KEYWORD,
+                            RobotTokenType.KEYWORD_SETTING_DOCUMENTATION);
+                    break;
+                default:
+                    continuation = null;
+                    break;
+            }
+        }
+
+        private void startSection(final Cell headerCell) {
+            final RobotTokenType headerType = recognize(headerCell).stream()
+                    .filter(TextualRobotFileParser::isCorrectTableHeader)
+                    .flatMap(token -> token.getTypes().stream())
+                    .filter(RobotTokenType.class::isInstance)
+                    .map(RobotTokenType.class::cast)
+                    .filter(RobotTokenType::isTableHeader)
+                    .findFirst()
+                    .orElse(RobotTokenType.USER_OWN_TABLE_HEADER);
+
+            currentSection = new Section(headerType, headerCell.getPosition());
+            currentDefinition = null;
+            continuation = null;
+            outline.addSection(currentSection);
+        }
+
+        private void processSettingsLine(final List<Cell> cells) {
+            final Cell first = cells.get(0);
+            if (first.text.equals("...")) {
+                if (continuation != null) {
+                    continuation.accept(cells.subList(1, cells.size()));
+                }
+                return;
+            }
+            continuation = null;
+
+            final List<RobotToken> tokens = recognize(first);
+            final Optional<ModelType> importType = getImportType(tokens);
+            if (importType.isPresent()) {
+                final Import imported = new Import(importType.get(), first.getPosition());
+                outline.addImport(imported);
+                continuation = importCells -> importCells.forEach(cell -> imported.addArgument(cell.text));
+                continuation.accept(cells.subList(1, cells.size()));
+
+            } else if (hasType(tokens, RobotTokenType.SETTING_DOCUMENTATION_DECLARATION)
+                    && !outline.getSuiteDocumentation().isPresent()) {
+                // only the first documentation is used by Robot
+                final FileRegion documentation = new FileRegion(first.getPosition(), first.getEndPosition());
+                outline.setSuiteDocumentation(documentation);
+                continuation = docCells -> extendRegion(documentation, docCells);
+                continuation.accept(cells.subList(1, cells.size()));
+            }
+        }
+
+        private void processExecutableLine(final List<Cell> cells, final ModelType definitionType,
+                final RobotTokenType documentationType) {
+            final Cell first = cells.get(0);
+            // continuation marker placed in first column is treated as name just like in model
+            if (!first.text.isEmpty()) {
+                currentDefinition = new Definition(definitionType, first.text, first.getPosition());
+                outline.addDefinition(currentDefinition);
+                continuation = null;
+            }
+            if (currentDefinition == null) {
+                return;
+            }
+            currentDefinition.setEndLine(first.line);
+
+            final List<Cell> settingCells = cells.subList(1, cells.size());
+            if (settingCells.isEmpty()) {
+                return;
+            } else if (settingCells.get(0).text.equals("...")) {
+                if (continuation != null) {
+                    continuation.accept(settingCells.subList(1, settingCells.size()));
+                }
+                return;
+            }
+            continuation = null;
+
+            final Cell setting = settingCells.get(0);
+            if (setting.text.startsWith("[") && hasType(recognize(setting), documentationType)) {
+                final FileRegion documentation = new FileRegion(setting.getPosition(), setting.getEndPosition());
+                currentDefinition.setDocumentation(documentation);
+                continuation = docCells -> extendRegion(documentation, docCells);
+                continuation.accept(settingCells.subList(1, settingCells.size()));
+            }
+        }
+
+        private static void extendRegion(final FileRegion region, final List<Cell> cells) {
+            if (!cells.isEmpty()) {
+                region.setEnd(cells.get(cells.size() - 1).getEndPosition());
+            }
+        }
+
+        private static Optional<ModelType> getImportType(final List<RobotToken> tokens) {
+            if (hasType(tokens, RobotTokenType.SETTING_LIBRARY_DECLARATION)) {
+                return Optional.of(ModelType.LIBRARY_IMPORT_SETTING);
+            } else if (hasType(tokens, RobotTokenType.SETTING_RESOURCE_DECLARATION)) {
+                return Optional.of(ModelType.RESOURCE_IMPORT_SETTING);
+            } else if (hasType(tokens, RobotTokenType.SETTING_VARIABLES_DECLARATION)) {
+                return Optional.of(ModelType.VARIABLES_IMPORT_SETTING);
+            }
+            return Optional.empty();
+        }
+
+        private static boolean hasType(final List<RobotToken> tokens, final RobotTokenType type) {
+            return tokens.stream().anyMatch(token -> token.getTypes().contains(type));
+        }
+
+        private List<RobotToken> recognize(final Cell cell) {
+            final List<RobotToken> tokens = new ArrayList<>();
+            for (final ATokenRecognizer recognizer : registry.getCandidateRecognizers(cell.text)) {
+                final Optional<RobotToken> token = recognizer.recognize(cell.text, cell.line, cell.column);
+                if (token.isPresent()) {
+                    tokens.add(token.get());
+                    if (!recognizer.shouldContinueWithOtherRecognizers()) {
+                        break;
+                    }
+                }
+            }
+            return tokens;
+        }
+    }
+
+    private static class Cell {
+
+        private final int line;
+
+        private final int lineOffset;
+
+        private final int column;
+
+        private final String text;
+
+        Cell(final int line, final int lineOffset, final int column, final String text) {
+            final String trimmedText = text.trim();
+            this.line = line;
+            this.lineOffset = lineOffset;
+            this.column = column + (trimmedText.isEmpty() ? 0 : text.indexOf(trimmedText.charAt(0)));
+            this.text = trimmedText;
+        }
+
+        FilePosition getPosition() {
+            return new FilePosition(line, column, lineOffset + column);
+        }
+
+        FilePosition getEndPosition() {
+            return new FilePosition(line, column + text.length(), lineOffset + column + text.length());
+        }
+    }
+}
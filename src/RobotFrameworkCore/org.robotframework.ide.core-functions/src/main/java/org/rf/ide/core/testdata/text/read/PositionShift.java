@@ -0,0 +1,163 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.rf.ide.core.testdata.model.RobotFile;
+
+/**
+ * Lines and offsets shift of elements placed in consecutive blocks of file, used to move elements
+ * lazily after the file was edited. Shifts of single file form a chain following the order of
+ * blocks, where each shift is relative to the previous one, so that moving all the blocks after
+ * edited one only requires changing the shift of the first of them. Totals are memoized until the
+ * chain is changed again.
+ * <p>
+ * Elements following a shift store positions relative to it; their line number and offset are
+ * computed when asked. Lines following a shift belong to the newest file of the chain.
+ */
+public final class PositionShift {
+
+    private final Chain chain;
+
+    private PositionShift previous;
+
+    private int linesDelta;
+
+    private int offsetDelta;
+
+    private volatile Total total;
+
+    /**
+     * Creates shift placed right after given one, which does not move elements until the chain is
+     * changed.
+     */
+    PositionShift(final Chain chain, final PositionShift previous) {
+        this.chain = chain;
+        this.previous = previous;
+        this.linesDelta = previous == null ? 0 : -previous.getTotalLines();
+        this.offsetDelta = previous == null ? 0 : -previous.getTotalOffset();
+    }
+
+    public int shiftLine(final int line) {
+        return line == IRobotLineElement.NOT_SET ? line : line + getTotal().lines;
+    }
+
+    public int shiftOffset(final int offset) {
+        return offset == IRobotLineElement.NOT_SET ? offset : offset + getTotal().offset;
+    }
+
+    public int unshiftLine(final int line) {
+        return line == IRobotLineElement.NOT_SET ? line : line - getTotal().lines;
+    }
+
+    public int unshiftOffset(final int offset) {
+        return offset == IRobotLineElement.NOT_SET ? offset : offset - getTotal().offset;
+    }
+
+    Chain getChain() {
+        return chain;
+    }
+
+    RobotFile getFile() {
+        return chain.file;
+    }
+
+    int getVersion() {
+        return chain.version;
+    }
+
+    int getTotalLines() {
+        return getTotal().lines;
+    }
+
+    int getTotalOffset() {
+        return getTotal().offset;
+    }
+
+    /**
+     * Places this shift right after given one, so that it is moved together with it. The total
+     * shift is changed by given number of lines and characters. The change is visible after the
+     * chain is {@link Chain#publish(RobotFile) published}.
+     */
+    void follow(final PositionShift previous, final int linesShift, final int offsetShift) {
+        final int lines = getTotalLines() + linesShift - (previous == null ? 0 : previous.getTotalLines());
+        final int offset = getTotalOffset() + offsetShift - (previous == null ? 0 : previous.getTotalOffset());
+        this.previous = previous;
+        this.linesDelta = lines;
+        this.offsetDelta = offset;
+    }
+
+    private Total getTotal() {
+        final int version = chain.version;
+        final Total currentTotal = total;
+        if (currentTotal != null && currentTotal.version == version) {
+            return currentTotal;
+        }
+        // chain may be long, so totals are computed iteratively starting from the last valid one
+        final Deque<PositionShift> shifts = new ArrayDeque<>();
+        Total base = null;
+        PositionShift shift = this;
+        while (shift != null) {
+            final Total shiftTotal = shift.total;
+            if (shiftTotal != null && shiftTotal.version == version) {
+                base = shiftTotal;
+                break;
+            }
+            shifts.push(shift);
+            shift = shift.previous;
+        }
+        int lines = base == null ? 0 : base.lines;
+        int offset = base == null ? 0 : base.offset;
+        Total result = base;
+        while (!shifts.isEmpty()) {
+            final PositionShift next = shifts.pop();
+            lines += next.linesDelta;
+            offset += next.offsetDelta;
+            result = new Total(version, lines, offset);
+            next.total = result;
+        }
+        return result;
+    }
+
+    /**
+     * Shared state of all shifts of single file.
+     */
+    static final class Chain {
+
+        private volatile int version;
+
+        private volatile RobotFile file;
+
+        Chain(final RobotFile file) {
+            this.file = file;
+        }
+
+        /**
+         * Makes all the changes of shifts in this chain visible and moves lines to given file.
+         */
+        void publish(final RobotFile file) {
+            this.file = file;
+            this.version++;
+        }
+    }
+
+    private static final class Total {
+
+        private final int version;
+
+        private final int lines;
+
+        private final int offset;
+
+        Total(final int version, final int lines, final int offset) {
+            this.version = version;
+            this.lines = lines;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.mapping.table.CommentsMapperProvider;
+import org.rf.ide.core.testdata.mapping.table.IParsingMapper;
+import org.rf.ide.core.testdata.mapping.table.SettingsMapperProvider;
+import org.rf.ide.core.testdata.mapping.table.TaskMapperProvider;
+import org.rf.ide.core.testdata.mapping.table.TestCaseMapperProvider;
+import org.rf.ide.core.testdata.mapping.table.UnknownTableElementsMapper;
+import org.rf.ide.core.testdata.mapping.table.UserKeywordMapperProvider;
+import org.rf.ide.core.testdata.mapping.table.VariablesDeclarationMapperProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
+import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TableHeadersRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TaskRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.TokenRecognizersAutomaton;
+import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
+import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ * Recognizers and mappers used for parsing files of given Robot version. Those are created once
+ * per version and shared by all parsers, so they are only used in stateless way: recognizers
+ * through {@link ATokenRecognizer#recognize(String, int, int)} and mappers, which do not keep any
+ * parsing state.
+ */
+final class RecognizersAndMappersRegistry {
+
+    private static final Map<RobotVersion, RecognizersAndMappersRegistry> REGISTRIES = new ConcurrentHashMap<>();
+
+    static RecognizersAndMappersRegistry forVersion(final RobotVersion version) {
+        return REGISTRIES.computeIfAbsent(version, RecognizersAndMappersRegistry::new);
+    }
+
+    private final List<ATokenRecognizer> recognizers;
+
+    private final TokenRecognizersAutomaton recognizersAutomaton;
+
+    private final List<IParsingMapper> mappers;
+
+    private final List<IParsingMapper> unknownTableElementsMappers;
+
+    private RecognizersAndMappersRegistry(final RobotVersion version) {
+        final List<ATokenRecognizer> allRecognizers = new ArrayList<>();
+        allRecognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(version));
+        allRecognizers.addAll(new SettingsRecognizersProvider().getRecognizers(version));
+        allRecognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        allRecognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(version));
+        allRecognizers.addAll(new TaskRecognizersProvider().getRecognizers(version));
+        allRecognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(version));
+        this.recognizers = ImmutableList.copyOf(allRecognizers);
+        this.recognizersAutomaton = TokenRecognizersAutomaton.create(recognizers);
+
+        final List<IParsingMapper> allMappers = new ArrayList<>();
+        allMappers.addAll(new SettingsMapperProvider().getMappers(version));
+        allMappers.addAll(new VariablesDeclarationMapperProvider().getMappers());
+        allMappers.addAll(new TestCaseMapperProvider().getMappers());
+        allMappers.addAll(new TaskMapperProvider().getMappers(version));
+        allMappers.addAll(new UserKeywordMapperProvider().getMappers());
+        allMappers.addAll(new CommentsMapperProvider().getMappers(version));
+        this.mappers = ImmutableList.copyOf(allMappers);
+
+        this.unknownTableElementsMappers = ImmutableList
+                .copyOf(new UnknownTableElementsMapper().getMappers(version));
+    }
+
+    List<ATokenRecognizer> getCandidateRecognizers(final String text) {
+        final List<ATokenRecognizer> candidates = new ArrayList<>();
+        for (final int recognizerIndex : recognizersAutomaton.findCandidates(text)) {
+            candidates.add(recognizers.get(recognizerIndex));
+        }
+        return candidates;
+    }
+
+    List<IParsingMapper> getMappers() {
+        return mappers;
+    }
+
+    List<IParsingMapper> getUnknownTableElementsMappers() {
+        return unknownTableElementsMappers;
+    }
+}
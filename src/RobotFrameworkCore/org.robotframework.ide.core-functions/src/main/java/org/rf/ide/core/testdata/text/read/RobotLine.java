@@ -5,12 +5,16 @@
  */
 package org.rf.ide.core.testdata.text.read;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.rf.ide.core.testdata.model.FilePosition;
 import org.rf.ide.core.testdata.model.IChildElement;
 import org.rf.ide.core.testdata.model.RobotFile;
 import org.rf.ide.core.testdata.text.read.LineReader.Constant;
@@ -18,7 +22,9 @@ import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.separators.Separator;
 import org.rf.ide.core.testdata.text.read.separators.Separator.SeparatorType;
 
-public class RobotLine implements IChildElement<RobotFile> {
+public class RobotLine implements IChildElement<RobotFile>, Serializable {
+
+    private static final long serialVersionUID = -8569367921257488699L;
 
     public static RobotLine create(final IRobotLineElement... lineElements) {
         final RobotLine line = new RobotLine(-1, null);
@@ -30,11 +36,14 @@ public class RobotLine implements IChildElement<RobotFile> {
 
     private final RobotFile parent;
 
-    private final int lineNumber;
+    private int lineNumber;
+
+    // when set, line number is relative to this shift and the line belongs to the newest file of shifts chain
+    private transient PositionShift shift;
 
     private List<IRobotLineElement> lineElements = new ArrayList<>(0);
 
-    private Optional<SeparatorType> separatorForLine = Optional.empty();
+    private SeparatorType separatorForLine;
 
     private IRobotLineElement eol = EndOfLineBuilder.newInstance()
             .setEndOfLines(null)
@@ -49,16 +58,16 @@ public class RobotLine implements IChildElement<RobotFile> {
     }
 
     public void setSeparatorType(final SeparatorType separatorForLine) {
-        this.separatorForLine = Optional.ofNullable(separatorForLine);
+        this.separatorForLine = separatorForLine;
     }
 
     public Optional<SeparatorType> getSeparatorForLine() {
-        return separatorForLine;
+        return Optional.ofNullable(separatorForLine);
     }
 
     @Override
     public RobotFile getParent() {
-        return parent;
+        return shift == null ? parent : shift.getFile();
     }
 
     public List<IRobotLineElement> getLineElements() {
@@ -118,7 +127,19 @@ public class RobotLine implements IChildElement<RobotFile> {
     }
 
     public int getLineNumber() {
-        return lineNumber;
+        return shift == null ? lineNumber : shift.shiftLine(lineNumber);
+    }
+
+    PositionShift getPositionShift() {
+        return shift;
+    }
+
+    /**
+     * Returns version of position of this line. It changes whenever the line is moved lazily
+     * together with other lines after reparsing of edited block.
+     */
+    public int getPositionVersion() {
+        return shift == null ? 0 : shift.getVersion();
     }
 
     public IRobotLineElement getEndOfLine() {
@@ -130,13 +151,64 @@ public class RobotLine implements IChildElement<RobotFile> {
                 .setEndOfLines(endOfLine)
                 .setStartColumn(currentColumn)
                 .setStartOffset(currentOffset)
-                .setLineNumber(lineNumber)
+                .setLineNumber(getLineNumber())
                 .buildEOL();
     }
 
     @Override
     public String toString() {
-        return String.format("RobotLine [lineNumber=%s, lineElements=%s, endOfLine=%s]", lineNumber, lineElements, eol);
+        return String.format("RobotLine [lineNumber=%s, lineElements=%s, endOfLine=%s]", getLineNumber(), lineElements,
+                eol);
+    }
+
+    /**
+     * Moves all the elements of this line by given number of lines and characters. As the line number of
+     * existing line cannot change, new line holding the moved elements is returned.
+     *
+     * @param parent
+     *            file to which moved line belongs
+     * @param linesShift
+     * @param offsetShift
+     * @return
+     */
+    public RobotLine moveTo(final RobotFile parent, final int linesShift, final int offsetShift) {
+        final RobotLine movedLine = new RobotLine(getLineNumber() + linesShift, parent);
+        movedLine.lineElements = lineElements;
+        movedLine.separatorForLine = separatorForLine;
+        for (final IRobotLineElement element : lineElements) {
+            if (element instanceof RobotToken) {
+                final RobotToken token = (RobotToken) element;
+                token.setFilePosition(new FilePosition(shift(token.getLineNumber(), linesShift),
+                        token.getStartColumn(), shift(token.getStartOffset(), offsetShift)));
+            } else if (element instanceof Separator) {
+                final Separator separator = (Separator) element;
+                separator.setLineNumber(shift(separator.getLineNumber(), linesShift));
+                separator.setStartOffset(shift(separator.getStartOffset(), offsetShift));
+            }
+        }
+        movedLine.eol = EndOfLineBuilder.relocate(eol, movedLine.lineNumber, shift(eol.getStartOffset(), offsetShift));
+        return movedLine;
+    }
+
+    private static int shift(final int position, final int shift) {
+        return position == IRobotLineElement.NOT_SET ? position : position + shift;
+    }
+
+    /**
+     * Makes this line and all its elements follow given shift, so that they are moved whenever the
+     * shift changes. Current positions are kept.
+     */
+    void attachTo(final PositionShift shift) {
+        for (final IRobotLineElement element : lineElements) {
+            if (element instanceof RobotToken) {
+                ((RobotToken) element).attachTo(shift);
+            } else if (element instanceof Separator) {
+                ((Separator) element).attachTo(shift);
+            }
+        }
+        eol = EndOfLineBuilder.attachTo(eol, shift);
+        lineNumber = shift.unshiftLine(getLineNumber());
+        this.shift = shift;
     }
 
     public RobotLine deepCopy() {
@@ -153,6 +225,16 @@ public class RobotLine implements IChildElement<RobotFile> {
         return copy;
     }
 
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        final ObjectOutputStream.PutField fields = output.putFields();
+        fields.put("parent", getParent());
+        fields.put("lineNumber", getLineNumber());
+        fields.put("lineElements", lineElements);
+        fields.put("separatorForLine", separatorForLine);
+        fields.put("eol", eol);
+        output.writeFields();
+    }
+
     public static enum PositionCheck {
         STARTS {
 
@@ -18,12 +18,11 @@ import java.io.Reader;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 import java.util.Stack;
 
-import org.rf.ide.core.environment.RobotVersion;
 import org.rf.ide.core.testdata.mapping.PreviousLineHandler;
 import org.rf.ide.core.testdata.mapping.PreviousLineHandler.LineContinueType;
-import org.rf.ide.core.testdata.mapping.table.CommentsMapperProvider;
 import org.rf.ide.core.testdata.mapping.table.ElementPositionResolver;
 import org.rf.ide.core.testdata.mapping.table.ElementPositionResolver.PositionExpected;
 import org.rf.ide.core.testdata.mapping.table.ElementsUtility;
@@ -31,12 +30,6 @@ import org.rf.ide.core.testdata.mapping.table.IParsingMapper;
 import org.rf.ide.core.testdata.mapping.table.MetadataOldSyntaxUtility;
 import org.rf.ide.core.testdata.mapping.table.ParsingStateHelper;
 import org.rf.ide.core.testdata.mapping.table.PrettyAlignSpaceUtility;
-import org.rf.ide.core.testdata.mapping.table.SettingsMapperProvider;
-import org.rf.ide.core.testdata.mapping.table.TaskMapperProvider;
-import org.rf.ide.core.testdata.mapping.table.TestCaseMapperProvider;
-import org.rf.ide.core.testdata.mapping.table.UnknownTableElementsMapper;
-import org.rf.ide.core.testdata.mapping.table.UserKeywordMapperProvider;
-import org.rf.ide.core.testdata.mapping.table.VariablesDeclarationMapperProvider;
 import org.rf.ide.core.testdata.mapping.variables.CommonVariableHelper;
 import org.rf.ide.core.testdata.model.FileFormat;
 import org.rf.ide.core.testdata.model.FilePosition;
@@ -53,26 +46,19 @@ import org.rf.ide.core.testdata.text.read.postfixes.PostProcessingFixActions;
 import org.rf.ide.core.testdata.text.read.recognizer.ATokenRecognizer;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
-import org.rf.ide.core.testdata.text.read.recognizer.SettingsRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TableHeadersRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TaskRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.TestCaseRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.UserKeywordRecognizersProvider;
-import org.rf.ide.core.testdata.text.read.recognizer.VariablesDeclarationRecognizersProvider;
 import org.rf.ide.core.testdata.text.read.separators.ALineSeparator;
 import org.rf.ide.core.testdata.text.read.separators.Separator;
 import org.rf.ide.core.testdata.text.read.separators.TokenSeparatorBuilder;
 
 import com.google.common.annotations.VisibleForTesting;
 
+/**
+ * Parser of textual robot files. It does not keep any state between parsings (the state of single
+ * parsing is held in {@link ParsingContext}), so single instance can be used for many files and by
+ * many threads at once.
+ */
 public class TextualRobotFileParser {
 
-    private final List<ATokenRecognizer> recognizers = new ArrayList<>();
-
-    private final List<IParsingMapper> mappers = new ArrayList<>();
-
-    private final List<IParsingMapper> unknownTableElementsMapper = new ArrayList<>();
-
     private final ElementsUtility utility;
 
     private final PrettyAlignSpaceUtility alignUtility;
@@ -81,8 +67,6 @@ public class TextualRobotFileParser {
 
     private final ParsingStateHelper parsingStateHelper;
 
-    private final PreviousLineHandler previousLineHandler;
-
     private final CommonVariableHelper variableHelper;
 
     private final ElementPositionResolver positionResolvers;
@@ -98,15 +82,12 @@ public class TextualRobotFileParser {
         this.alignUtility = new PrettyAlignSpaceUtility();
         this.variableHelper = new CommonVariableHelper();
         this.parsingStateHelper = new ParsingStateHelper();
-        this.previousLineHandler = new PreviousLineHandler();
         this.positionResolvers = new ElementPositionResolver();
         this.postFixerActions = new PostProcessingFixActions();
 
     }
 
     public void parse(final RobotFileOutput parsingOutput, final InputStream inputStream, final File robotFile) {
-        initializeRecognizersAndMappers(parsingOutput.getRobotVersion());
-
         try {
             parsingOutput.setProcessedFile(robotFile);
             parse(parsingOutput, robotFile, new InputStreamReader(inputStream, Charset.forName("UTF-8")));
@@ -123,8 +104,6 @@ public class TextualRobotFileParser {
     }
 
     public void parse(final RobotFileOutput parsingOutput, final File robotFile) {
-        initializeRecognizersAndMappers(parsingOutput.getRobotVersion());
-
         try {
             parsingOutput.setProcessedFile(robotFile);
             final FileInputStream fis = new FileInputStream(robotFile);
@@ -146,29 +125,8 @@ public class TextualRobotFileParser {
         }
     }
 
-    private void initializeRecognizersAndMappers(final RobotVersion robotVersion) {
-        recognizers.clear();
-        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
-        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(robotVersion));
-        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(robotVersion));
-
-        mappers.clear();
-        mappers.addAll(new SettingsMapperProvider().getMappers(robotVersion));
-        mappers.addAll(new VariablesDeclarationMapperProvider().getMappers());
-        mappers.addAll(new TestCaseMapperProvider().getMappers());
-        mappers.addAll(new TaskMapperProvider().getMappers(robotVersion));
-        mappers.addAll(new UserKeywordMapperProvider().getMappers());
-        mappers.addAll(new CommentsMapperProvider().getMappers(robotVersion));
-
-        unknownTableElementsMapper.clear();
-        unknownTableElementsMapper.addAll(new UnknownTableElementsMapper().getMappers(robotVersion));
-    }
-
     private RobotFileOutput parse(final RobotFileOutput parsingOutput, final File robotFile, final Reader reader) {
-        previousLineHandler.clear();
+        final ParsingContext context = new ParsingContext(parsingOutput);
 
         int lineNumber = 1;
         int currentOffset = 0;
@@ -199,7 +157,7 @@ public class TextualRobotFileParser {
                 final int textLength = currentLineText.length();
                 // check if is any data to process
                 if (isPrettyAlignLineOnly(currentLineText)) {
-                    final RobotToken token = processEmptyLine(line, processingState, parsingOutput,
+                    final RobotToken token = processEmptyLine(context, line, processingState, parsingOutput,
                             new FilePosition(lineNumber, lastColumnProcessed, currentOffset), currentLineText);
                     token.setStartOffset(currentOffset);
                     line.addLineElement(token);
@@ -219,7 +177,7 @@ public class TextualRobotFileParser {
                             // before '|' pipe separator
                             if (remainingData > 0 || utility.shouldGiveEmptyToProcess(parsingOutput, separator,
                                     currentSeparator, line, processingState)) {
-                                currentOffset = parseSimpleTokenAndReturnCurrentOffset(
+                                currentOffset = parseSimpleTokenAndReturnCurrentOffset(context,
                                         text.substring(lastColumnProcessed, startColumn), lastColumnProcessed,
                                         lineNumber, currentOffset, line, isNewLine, processingState, parsingOutput);
 
@@ -239,9 +197,9 @@ public class TextualRobotFileParser {
                                 processingState.remove(ParsingState.KEYWORD_DECLARATION);
                             }
 
-                            currentOffset = parseSimpleTokenAndReturnCurrentOffset(text.substring(lastColumnProcessed),
-                                    lastColumnProcessed, lineNumber, currentOffset, line, isNewLine, processingState,
-                                    parsingOutput);
+                            currentOffset = parseSimpleTokenAndReturnCurrentOffset(context,
+                                    text.substring(lastColumnProcessed), lastColumnProcessed, lineNumber, currentOffset,
+                                    line, isNewLine, processingState, parsingOutput);
 
                             lastColumnProcessed = textLength;
                             isNewLine = false;
@@ -279,7 +237,7 @@ public class TextualRobotFileParser {
                     if (currentState != ParsingState.KEYWORD_SETTING_ARGUMENTS_ARGUMENT_VALUE) {
                         variableHelper.markVariableAssignmentPart(line);
                     }
-                    previousLineHandler.flushNew(processingState);
+                    context.previousLineHandler.flushNew(processingState);
                 }
                 fileModel.addNewLine(line);
 
@@ -335,11 +293,11 @@ public class TextualRobotFileParser {
         return parsingOutput;
     }
 
-    private int parseSimpleTokenAndReturnCurrentOffset(final String rawText, final int lastColumnProcessed,
-            final int lineNumber, final int currentOffset, final RobotLine line, final boolean isNewLine,
-            final Stack<ParsingState> processingState, final RobotFileOutput parsingOutput) {
+    private int parseSimpleTokenAndReturnCurrentOffset(final ParsingContext context, final String rawText,
+            final int lastColumnProcessed, final int lineNumber, final int currentOffset, final RobotLine line,
+            final boolean isNewLine, final Stack<ParsingState> processingState, final RobotFileOutput parsingOutput) {
 
-        final RobotToken token = processLineElement(line, processingState, parsingOutput,
+        final RobotToken token = processLineElement(context, line, processingState, parsingOutput,
                 new FilePosition(lineNumber, lastColumnProcessed, currentOffset), rawText, isNewLine);
         token.setStartOffset(currentOffset);
         final int offset = currentOffset + token.getText().length();
@@ -383,18 +341,21 @@ public class TextualRobotFileParser {
         return 0;
     }
 
-    private RobotToken processEmptyLine(final RobotLine currentLine, final Stack<ParsingState> processingState,
-            final RobotFileOutput robotFileOutput, final FilePosition fp, final String text) {
+    private RobotToken processEmptyLine(final ParsingContext context, final RobotLine currentLine,
+            final Stack<ParsingState> processingState, final RobotFileOutput robotFileOutput, final FilePosition fp,
+            final String text) {
 
         final RobotToken robotToken = RobotToken.create(text, fp, RobotTokenType.PRETTY_ALIGN_SPACE);
-        return mapToCorrectTokenAndPutInCorrectPlaceInModel(currentLine, processingState, robotFileOutput, fp, text,
-                robotToken);
+        return mapToCorrectTokenAndPutInCorrectPlaceInModel(context, currentLine, processingState, robotFileOutput, fp,
+                text, robotToken);
     }
 
-    private RobotToken processLineElement(final RobotLine currentLine, final Stack<ParsingState> processingState,
-            final RobotFileOutput robotFileOutput, final FilePosition fp, final String text, final boolean isNewLine) {
+    private RobotToken processLineElement(final ParsingContext context, final RobotLine currentLine,
+            final Stack<ParsingState> processingState, final RobotFileOutput robotFileOutput, final FilePosition fp,
+            final String text, final boolean isNewLine) {
 
-        final List<RobotToken> robotTokens = recognize(fp, text);
+        final PreviousLineHandler previousLineHandler = context.previousLineHandler;
+        final List<RobotToken> robotTokens = recognize(context, fp, text);
         RobotToken robotToken = utility.computeCorrectRobotToken(robotFileOutput.getRobotVersion(), processingState, fp,
                 text, robotTokens);
 
@@ -465,8 +426,8 @@ public class TextualRobotFileParser {
             robotToken = alignUtility.applyPrettyAlignTokenIfIsValid(processingState, text, robotToken);
 
             if (useMapper && !robotToken.getTypes().contains(RobotTokenType.PRETTY_ALIGN_SPACE)) {
-                robotToken = mapToCorrectTokenAndPutInCorrectPlaceInModel(currentLine, processingState, robotFileOutput,
-                        fp, text, robotToken);
+                robotToken = mapToCorrectTokenAndPutInCorrectPlaceInModel(context, currentLine, processingState,
+                        robotFileOutput, fp, text, robotToken);
             }
         }
 
@@ -475,7 +436,7 @@ public class TextualRobotFileParser {
         return robotToken;
     }
 
-    private boolean isCorrectTableHeader(final RobotToken robotToken) {
+    static boolean isCorrectTableHeader(final RobotToken robotToken) {
         final List<RobotTokenType> tableHeadersTypes = newArrayList(RobotTokenType.SETTINGS_TABLE_HEADER,
                 RobotTokenType.VARIABLES_TABLE_HEADER, RobotTokenType.TEST_CASES_TABLE_HEADER,
                 RobotTokenType.TASKS_TABLE_HEADER, RobotTokenType.KEYWORDS_TABLE_HEADER,
@@ -498,11 +459,12 @@ public class TextualRobotFileParser {
 
     }
 
-    private RobotToken mapToCorrectTokenAndPutInCorrectPlaceInModel(final RobotLine currentLine,
-            final Stack<ParsingState> processingState, final RobotFileOutput robotFileOutput, final FilePosition fp,
-            final String text, final RobotToken robotToken) {
+    private RobotToken mapToCorrectTokenAndPutInCorrectPlaceInModel(final ParsingContext context,
+            final RobotLine currentLine, final Stack<ParsingState> processingState,
+            final RobotFileOutput robotFileOutput, final FilePosition fp, final String text,
+            final RobotToken robotToken) {
         final List<IParsingMapper> matchedMappers = new ArrayList<>();
-        for (final IParsingMapper mapper : mappers) {
+        for (final IParsingMapper mapper : context.registry.getMappers()) {
             if (mapper.checkIfCanBeMapped(robotFileOutput, currentLine, robotToken, text, processingState)) {
                 matchedMappers.add(mapper);
             }
@@ -510,7 +472,7 @@ public class TextualRobotFileParser {
 
         // check for unknown setting
         if (matchedMappers.size() == 0) {
-            for (final IParsingMapper mapper : unknownTableElementsMapper) {
+            for (final IParsingMapper mapper : context.registry.getUnknownTableElementsMappers()) {
                 if (mapper.checkIfCanBeMapped(robotFileOutput, currentLine, robotToken, text, processingState)) {
                     matchedMappers.add(mapper);
                 }
@@ -523,14 +485,13 @@ public class TextualRobotFileParser {
         return robotToken;
     }
 
-    private List<RobotToken> recognize(final FilePosition fp, final String text) {
+    private List<RobotToken> recognize(final ParsingContext context, final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
 
-        for (final ATokenRecognizer rec : recognizers) {
-            if (rec.hasNext(text, fp.getLine(), fp.getColumn())) {
-                final RobotToken token = rec.next();
-                token.setStartColumn(token.getStartColumn() + fp.getColumn());
-                possibleRobotTokens.add(token);
+        for (final ATokenRecognizer rec : context.registry.getCandidateRecognizers(text)) {
+            final Optional<RobotToken> token = rec.recognize(text, fp.getLine(), fp.getColumn());
+            if (token.isPresent()) {
+                possibleRobotTokens.add(token.get());
                 if (!rec.shouldContinueWithOtherRecognizers()) {
                     break;
                 }
@@ -541,4 +502,18 @@ public class TextualRobotFileParser {
         }
         return possibleRobotTokens;
     }
+
+    /**
+     * State of single parsing.
+     */
+    private static class ParsingContext {
+
+        private final RecognizersAndMappersRegistry registry;
+
+        private final PreviousLineHandler previousLineHandler = new PreviousLineHandler();
+
+        private ParsingContext(final RobotFileOutput parsingOutput) {
+            this.registry = RecognizersAndMappersRegistry.forVersion(parsingOutput.getRobotVersion());
+        }
+    }
 }
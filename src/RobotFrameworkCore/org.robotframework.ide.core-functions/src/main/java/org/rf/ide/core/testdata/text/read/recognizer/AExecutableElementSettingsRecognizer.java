@@ -17,7 +17,11 @@ public abstract class AExecutableElementSettingsRecognizer extends ATokenRecogni
     private static final Pattern BRACKET_EXTRACTION = Pattern.compile("(?!\\[)([^\\]])+(?!\\\\])");
 
     protected AExecutableElementSettingsRecognizer(final RobotTokenType type) {
-        super(build(buildVariants(type)), type);
+        super(build(buildVariants(type)), type, requiredFragments(type));
+    }
+
+    private static String[] requiredFragments(final RobotTokenType type) {
+        return type.getRepresentation().isEmpty() ? new String[0] : new String[] { "[", "]" };
     }
 
     private static List<String> buildVariants(final RobotTokenType type) {
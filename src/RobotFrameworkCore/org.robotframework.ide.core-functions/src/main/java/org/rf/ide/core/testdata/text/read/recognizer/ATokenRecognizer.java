@@ -7,6 +7,9 @@ package org.rf.ide.core.testdata.text.read.recognizer;
 
 import static java.util.stream.Collectors.joining;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -28,9 +31,18 @@ public abstract class ATokenRecognizer {
 
     private String text;
 
-    protected ATokenRecognizer(final Pattern pattern, final RobotTokenType type) {
+    private final List<String> requiredFragments;
+
+    /**
+     * @param requiredFragments
+     *            lower-cased fragments of text which all have to occur (case-insensitively) in the text in
+     *            order for the pattern to find a match; recognizers without required fragments are always
+     *            checked by {@link TokenRecognizersAutomaton}
+     */
+    protected ATokenRecognizer(final Pattern pattern, final RobotTokenType type, final String... requiredFragments) {
         this.pattern = pattern;
         this.type = type;
+        this.requiredFragments = Arrays.asList(requiredFragments);
     }
 
     public RobotTokenType getProducedType() {
@@ -41,6 +53,10 @@ public abstract class ATokenRecognizer {
         return pattern;
     }
 
+    public List<String> getRequiredFragments() {
+        return requiredFragments;
+    }
+
     public boolean isApplicableFor(@SuppressWarnings("unused") final RobotVersion robotVersion) {
         return true;
     }
@@ -55,7 +71,7 @@ public abstract class ATokenRecognizer {
     public boolean hasNext(final String newText, final int currentLineNumber, final int currentColumnNumber) {
         if (matcher == null || lineNumber != currentLineNumber || !text.equals(newText)
                 || columnNumber != currentColumnNumber) {
-            this.matcher = pattern.matcher(newText);
+            this.matcher = matcher == null ? pattern.matcher(newText) : matcher.reset(newText);
             this.text = newText;
             this.lineNumber = currentLineNumber;
             this.columnNumber = currentColumnNumber;
@@ -70,6 +86,21 @@ public abstract class ATokenRecognizer {
         return RobotToken.create(text.substring(start, end), lineNumber, start, type);
     }
 
+    /**
+     * Returns first token found in given text. Contrary to {@link #hasNext(String, int, int)} and
+     * {@link #next()} the state of recognizer is not changed, so this method can be called by many
+     * threads using the same recognizer.
+     */
+    public Optional<RobotToken> recognize(final String text, final int lineNumber, final int columnNumber) {
+        final Matcher textMatcher = pattern.matcher(text);
+        if (textMatcher.find()) {
+            final int start = textMatcher.start();
+            final int end = textMatcher.end();
+            return Optional.of(RobotToken.create(text.substring(start, end), lineNumber, start + columnNumber, type));
+        }
+        return Optional.empty();
+    }
+
     public static String createUpperLowerCaseWordWithOptionalSpaceInside(final String text) {
         return createUpperLowerCaseWordWithPatternBetweenLetters(text, "[\\s]?");
     }
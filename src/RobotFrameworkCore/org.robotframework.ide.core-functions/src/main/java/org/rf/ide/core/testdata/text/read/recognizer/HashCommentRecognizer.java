@@ -17,7 +17,7 @@ public class HashCommentRecognizer extends ATokenRecognizer {
 
 
     public HashCommentRecognizer() {
-        super(EXPECTED, RobotTokenType.COMMENT);
+        super(EXPECTED, RobotTokenType.COMMENT, "#");
     }
 
 
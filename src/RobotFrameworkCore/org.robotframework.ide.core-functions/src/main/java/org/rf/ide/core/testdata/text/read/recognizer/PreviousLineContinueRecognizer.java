@@ -17,7 +17,7 @@ public class PreviousLineContinueRecognizer extends ATokenRecognizer {
 
 
     public PreviousLineContinueRecognizer() {
-        super(EXPECTED, RobotTokenType.PREVIOUS_LINE_CONTINUE);
+        super(EXPECTED, RobotTokenType.PREVIOUS_LINE_CONTINUE, "...");
     }
 
 
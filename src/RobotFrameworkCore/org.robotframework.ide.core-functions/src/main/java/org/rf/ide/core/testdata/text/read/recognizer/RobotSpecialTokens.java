@@ -10,6 +10,8 @@ import static java.util.stream.Collectors.toList;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
@@ -26,23 +28,17 @@ public class RobotSpecialTokens {
             new EndTerminatedForLoopActionLiteral(),
             new EndTerminatedForLoopEndLiteral());
 
-    private List<ATokenRecognizer> recognizersToUse;
+    private static final Map<RobotVersion, List<ATokenRecognizer>> RECOGNIZERS_BY_VERSION = new ConcurrentHashMap<>();
 
-    public void initializeFor(final RobotVersion version) {
-        recognizersToUse = SPECIAL_RECOGNIZERS.stream()
-                .filter(recognizer -> recognizer.isApplicableFor(version))
-                .collect(toList());
-    }
+    public List<RobotToken> recognize(final RobotVersion version, final FilePosition fp, final String text) {
+        final List<ATokenRecognizer> recognizersToUse = RECOGNIZERS_BY_VERSION.computeIfAbsent(version,
+                v -> SPECIAL_RECOGNIZERS.stream()
+                        .filter(recognizer -> recognizer.isApplicableFor(v))
+                        .collect(toList()));
 
-    public List<RobotToken> recognize(final FilePosition fp, final String text) {
         final List<RobotToken> possibleRobotTokens = new ArrayList<>();
-        for (final ATokenRecognizer rec : recognizersToUse) {
-            final ATokenRecognizer recognizer = rec.newInstance();
-            if (recognizer.hasNext(text, fp.getLine(), fp.getColumn())) {
-                final RobotToken token = recognizer.next();
-                token.setStartColumn(token.getStartColumn() + fp.getColumn());
-                possibleRobotTokens.add(token);
-            }
+        for (final ATokenRecognizer recognizer : recognizersToUse) {
+            recognizer.recognize(text, fp.getLine(), fp.getColumn()).ifPresent(possibleRobotTokens::add);
         }
         return possibleRobotTokens;
     }
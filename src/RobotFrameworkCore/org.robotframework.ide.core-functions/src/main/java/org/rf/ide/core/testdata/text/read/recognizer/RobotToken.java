@@ -7,17 +7,27 @@ package org.rf.ide.core.testdata.text.read.recognizer;
 
 import static com.google.common.collect.Lists.newArrayList;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.rf.ide.core.testdata.model.FilePosition;
 import org.rf.ide.core.testdata.model.FileRegion;
 import org.rf.ide.core.testdata.text.read.IRobotLineElement;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+import org.rf.ide.core.testdata.text.read.PositionShift;
 import org.rf.ide.core.testdata.text.read.VersionAvailabilityInfo;
 
 import com.google.common.collect.Range;
@@ -26,11 +36,29 @@ public class RobotToken implements IRobotLineElement, Serializable {
 
     private static final long serialVersionUID = -7333635148571215189L;
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    // the serialized form is kept the same as it was before positions and types became compact
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("fp", FilePosition.class), new ObjectStreamField("text", String.class),
+            new ObjectStreamField("types", List.class), new ObjectStreamField("isDirty", boolean.class),
+            new ObjectStreamField("wasFirstInit", boolean.class) };
+
+    private static final IRobotTokenType[] NO_TYPES = new IRobotTokenType[0];
+
+    // arrays of types are never modified in place, so single-type arrays can be shared by tokens
+    private static final Map<IRobotTokenType, IRobotTokenType[]> SINGLE_TYPES = new ConcurrentHashMap<>();
+
+    private int line = NOT_SET;
+
+    private int column = NOT_SET;
+
+    private int offset = NOT_SET;
+
+    // when set, line and offset are relative to this shift
+    private transient PositionShift shift;
 
     private String text = "";
 
-    private final List<IRobotTokenType> types = new ArrayList<>(0);
+    private IRobotTokenType[] types = singleType(RobotTokenType.UNKNOWN);
 
     private boolean isDirty = false;
 
@@ -93,34 +121,38 @@ public class RobotToken implements IRobotLineElement, Serializable {
         return token;
     }
 
-    public RobotToken() {
-        types.add(RobotTokenType.UNKNOWN);
+    private static IRobotTokenType[] singleType(final IRobotTokenType type) {
+        if (type instanceof Enum<?>) {
+            return SINGLE_TYPES.computeIfAbsent(type, t -> new IRobotTokenType[] { t });
+        }
+        return new IRobotTokenType[] { type };
     }
 
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return shift == null ? line : shift.shiftLine(line);
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        detachFromShift();
+        this.line = lineNumber;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return column;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.column = startColumn;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (column != NOT_SET) {
+            endColumn = column + text.length();
         }
 
         return endColumn;
@@ -132,12 +164,13 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        detachFromShift();
+        this.offset = startOffset;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return shift == null ? offset : shift.shiftOffset(offset);
     }
 
     public int getLength() {
@@ -179,28 +212,54 @@ public class RobotToken implements IRobotLineElement, Serializable {
         return !isEmpty();
     }
 
+    /**
+     * Returns modifiable view of token types.
+     */
     @Override
     public List<IRobotTokenType> getTypes() {
-        return types;
+        return new TypesView();
     }
 
     public void setType(final IRobotTokenType type) {
-        types.clear();
-        types.add(type);
+        types = singleType(type);
     }
 
     @Override
     public String toString() {
-        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", fp, text, types, isDirty);
+        return String.format("RobotToken [filePosition=%s, text=%s, types=%s, isDirty=%s]", getFilePosition(), text,
+                getTypes(), isDirty);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        return new FilePosition(getLineNumber(), column, getStartOffset());
     }
 
     public void setFilePosition(final FilePosition fp) {
-        this.fp = fp;
+        this.shift = null;
+        this.line = fp.getLine();
+        this.column = fp.getColumn();
+        this.offset = fp.getOffset();
+    }
+
+    /**
+     * Makes line number and offset of this token follow given shift, so that the token is moved
+     * whenever the shift changes. Current position is kept.
+     */
+    public void attachTo(final PositionShift shift) {
+        final int currentLine = getLineNumber();
+        final int currentOffset = getStartOffset();
+        this.line = shift.unshiftLine(currentLine);
+        this.offset = shift.unshiftOffset(currentOffset);
+        this.shift = shift;
+    }
+
+    private void detachFromShift() {
+        if (shift != null) {
+            line = shift.shiftLine(line);
+            offset = shift.shiftOffset(offset);
+            shift = null;
+        }
     }
 
     public FilePosition getEndFilePosition() {
@@ -208,7 +267,7 @@ public class RobotToken implements IRobotLineElement, Serializable {
     }
 
     public FileRegion getFileRegion() {
-        return new FileRegion(fp.copy(), new FilePosition(getLineNumber(), getEndColumn(), getEndOffset()));
+        return new FileRegion(getFilePosition(), getEndFilePosition());
     }
 
     @Override
@@ -219,8 +278,8 @@ public class RobotToken implements IRobotLineElement, Serializable {
     @Override
     public VersionAvailabilityInfo getVersionInformation() {
         VersionAvailabilityInfo vai = null;
-        if (types != null && !types.isEmpty()) {
-            vai = types.get(0).findVersionAvailabilityInfo(getText());
+        if (types.length > 0) {
+            vai = types[0].findVersionAvailabilityInfo(getText());
         }
         return vai;
     }
@@ -238,12 +297,11 @@ public class RobotToken implements IRobotLineElement, Serializable {
     private RobotToken copy(final boolean posInclude) {
         final RobotToken t = new RobotToken();
         t.setText(getText());
-        t.types.clear();
-        t.types.addAll(getTypes());
+        t.types = this.types;
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.line = this.getLineNumber();
+            t.column = this.column;
+            t.offset = this.getStartOffset();
         }
         t.clearDirtyFlag();
 
@@ -259,4 +317,117 @@ public class RobotToken implements IRobotLineElement, Serializable {
     public final boolean equals(final Object obj) {
         return super.equals(obj);
     }
+
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        final ObjectOutputStream.PutField fields = output.putFields();
+        fields.put("fp", getFilePosition());
+        fields.put("text", text);
+        fields.put("types", new ArrayList<>(getTypes()));
+        fields.put("isDirty", isDirty);
+        fields.put("wasFirstInit", wasFirstInit);
+        output.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = input.readFields();
+        setFilePosition((FilePosition) fields.get("fp", FilePosition.createNotSet()));
+        text = (String) fields.get("text", "");
+        text = text == null ? null : text.intern();
+        @SuppressWarnings("unchecked")
+        final List<IRobotTokenType> serializedTypes = (List<IRobotTokenType>) fields.get("types", new ArrayList<>());
+        types = NO_TYPES;
+        getTypes().addAll(serializedTypes);
+        isDirty = fields.get("isDirty", false);
+        wasFirstInit = fields.get("wasFirstInit", false);
+    }
+
+    /**
+     * Modifiable list backed by types array of this token. The array is replaced on each
+     * modification.
+     */
+    private class TypesView extends AbstractList<IRobotTokenType> implements RandomAccess {
+
+        @Override
+        public IRobotTokenType get(final int index) {
+            return types[index];
+        }
+
+        @Override
+        public int size() {
+            return types.length;
+        }
+
+        @Override
+        public IRobotTokenType set(final int index, final IRobotTokenType type) {
+            final IRobotTokenType previous = types[index];
+            if (types.length == 1) {
+                types = singleType(type);
+            } else {
+                final IRobotTokenType[] newTypes = types.clone();
+                newTypes[index] = type;
+                types = newTypes;
+            }
+            return previous;
+        }
+
+        @Override
+        public void add(final int index, final IRobotTokenType type) {
+            if (index < 0 || index > types.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + types.length);
+            }
+            if (types.length == 0) {
+                types = singleType(type);
+            } else {
+                final IRobotTokenType[] newTypes = new IRobotTokenType[types.length + 1];
+                System.arraycopy(types, 0, newTypes, 0, index);
+                newTypes[index] = type;
+                System.arraycopy(types, index, newTypes, index + 1, types.length - index);
+                types = newTypes;
+            }
+            modCount++;
+        }
+
+        @Override
+        public boolean addAll(final Collection<? extends IRobotTokenType> newTypes) {
+            if (newTypes.isEmpty()) {
+                return false;
+            } else if (types.length == 0 && newTypes.size() == 1) {
+                types = singleType(newTypes.iterator().next());
+            } else {
+                final IRobotTokenType[] allTypes = Arrays.copyOf(types, types.length + newTypes.size());
+                int i = types.length;
+                for (final IRobotTokenType type : newTypes) {
+                    allTypes[i++] = type;
+                }
+                types = allTypes;
+            }
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public IRobotTokenType remove(final int index) {
+            final IRobotTokenType previous = types[index];
+            if (types.length == 1) {
+                types = NO_TYPES;
+            } else if (types.length == 2) {
+                types = singleType(types[1 - index]);
+            } else {
+                final IRobotTokenType[] newTypes = new IRobotTokenType[types.length - 1];
+                System.arraycopy(types, 0, newTypes, 0, index);
+                System.arraycopy(types, index + 1, newTypes, index, types.length - index - 1);
+                types = newTypes;
+            }
+            modCount++;
+            return previous;
+        }
+
+        @Override
+        public void clear() {
+            if (types.length > 0) {
+                types = NO_TYPES;
+                modCount++;
+            }
+        }
+    }
 }
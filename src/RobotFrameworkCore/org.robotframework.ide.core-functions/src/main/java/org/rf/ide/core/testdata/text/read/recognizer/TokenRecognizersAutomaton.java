@@ -0,0 +1,175 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Case-insensitive Aho-Corasick automaton built over required fragments of given recognizers. Single pass over
+ * the token text finds all the recognizers which are able to match it, so only patterns of those recognizers
+ * have to be checked afterwards. The automaton is immutable, so it can be shared between threads.
+ */
+public final class TokenRecognizersAutomaton {
+
+    private static final int ALPHABET_SIZE = 128;
+
+    private final int recognizersCount;
+
+    private final int[][] transitions;
+
+    private final int[][] outputs;
+
+    private final int[][] recognizersByFragment;
+
+    private final int[] fragmentsCountByRecognizer;
+
+    private final int[] alwaysCheckedRecognizers;
+
+    public static TokenRecognizersAutomaton create(final List<? extends ATokenRecognizer> recognizers) {
+        final Map<String, Integer> fragmentIds = new HashMap<>();
+        final List<List<Integer>> recognizersByFragment = new ArrayList<>();
+        final int[] fragmentsCountByRecognizer = new int[recognizers.size()];
+        final List<Integer> alwaysChecked = new ArrayList<>();
+
+        for (int i = 0; i < recognizers.size(); i++) {
+            final Set<String> fragments = new LinkedHashSet<>(recognizers.get(i).getRequiredFragments());
+            if (fragments.isEmpty() || !fragments.stream().allMatch(TokenRecognizersAutomaton::isSupported)) {
+                alwaysChecked.add(i);
+                continue;
+            }
+            for (final String fragment : fragments) {
+                final int id = fragmentIds.computeIfAbsent(toLowerCase(fragment), f -> {
+                    recognizersByFragment.add(new ArrayList<>());
+                    return recognizersByFragment.size() - 1;
+                });
+                recognizersByFragment.get(id).add(i);
+            }
+            fragmentsCountByRecognizer[i] = fragments.size();
+        }
+        return new TokenRecognizersAutomaton(recognizers.size(), fragmentIds, recognizersByFragment,
+                fragmentsCountByRecognizer, alwaysChecked);
+    }
+
+    private static boolean isSupported(final String fragment) {
+        return !fragment.isEmpty() && fragment.chars().allMatch(c -> c < ALPHABET_SIZE);
+    }
+
+    private TokenRecognizersAutomaton(final int recognizersCount, final Map<String, Integer> fragmentIds,
+            final List<List<Integer>> recognizersByFragment, final int[] fragmentsCountByRecognizer,
+            final List<Integer> alwaysChecked) {
+        this.recognizersCount = recognizersCount;
+        this.recognizersByFragment = recognizersByFragment.stream()
+                .map(indexes -> indexes.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+        this.fragmentsCountByRecognizer = fragmentsCountByRecognizer;
+        this.alwaysCheckedRecognizers = alwaysChecked.stream().mapToInt(Integer::intValue).toArray();
+
+        final List<int[]> trie = new ArrayList<>();
+        final List<Set<Integer>> trieOutputs = new ArrayList<>();
+        addState(trie, trieOutputs);
+        for (final Map.Entry<String, Integer> entry : fragmentIds.entrySet()) {
+            int state = 0;
+            for (final char c : entry.getKey().toCharArray()) {
+                if (trie.get(state)[c] == -1) {
+                    trie.get(state)[c] = addState(trie, trieOutputs);
+                }
+                state = trie.get(state)[c];
+            }
+            trieOutputs.get(state).add(entry.getValue());
+        }
+
+        // breadth-first completion of the trie into deterministic automaton
+        final int[] failures = new int[trie.size()];
+        final Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET_SIZE; c++) {
+            final int next = trie.get(0)[c];
+            if (next == -1) {
+                trie.get(0)[c] = 0;
+            } else {
+                failures[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            final int state = queue.poll();
+            trieOutputs.get(state).addAll(trieOutputs.get(failures[state]));
+            for (int c = 0; c < ALPHABET_SIZE; c++) {
+                final int next = trie.get(state)[c];
+                if (next == -1) {
+                    trie.get(state)[c] = trie.get(failures[state])[c];
+                } else {
+                    failures[next] = trie.get(failures[state])[c];
+                    queue.add(next);
+                }
+            }
+        }
+        this.transitions = trie.toArray(new int[0][]);
+        this.outputs = trieOutputs.stream()
+                .map(ids -> ids.stream().mapToInt(Integer::intValue).toArray())
+                .toArray(int[][]::new);
+    }
+
+    private static int addState(final List<int[]> trie, final List<Set<Integer>> outputs) {
+        final int[] transitions = new int[ALPHABET_SIZE];
+        Arrays.fill(transitions, -1);
+        trie.add(transitions);
+        outputs.add(new LinkedHashSet<>());
+        return trie.size() - 1;
+    }
+
+    /**
+     * Returns indexes of recognizers (in ascending order) which may possibly find a match in given text. Other
+     * recognizers are guaranteed not to match it.
+     */
+    public int[] findCandidates(final String text) {
+        final int[] missingFragments = fragmentsCountByRecognizer.clone();
+        final boolean[] foundFragments = new boolean[recognizersByFragment.length];
+
+        final int[] candidates = new int[recognizersCount];
+        System.arraycopy(alwaysCheckedRecognizers, 0, candidates, 0, alwaysCheckedRecognizers.length);
+        int candidatesCount = alwaysCheckedRecognizers.length;
+
+        int state = 0;
+        for (int i = 0; i < text.length(); i++) {
+            final char c = text.charAt(i);
+            state = c < ALPHABET_SIZE ? transitions[state][toLowerCase(c)] : 0;
+
+            for (final int fragmentId : outputs[state]) {
+                if (!foundFragments[fragmentId]) {
+                    foundFragments[fragmentId] = true;
+                    for (final int recognizerIndex : recognizersByFragment[fragmentId]) {
+                        if (--missingFragments[recognizerIndex] == 0) {
+                            candidates[candidatesCount++] = recognizerIndex;
+                        }
+                    }
+                }
+            }
+        }
+        final int[] result = Arrays.copyOf(candidates, candidatesCount);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static String toLowerCase(final String fragment) {
+        final StringBuilder lowerCased = new StringBuilder(fragment.length());
+        for (final char c : fragment.toCharArray()) {
+            lowerCased.append(toLowerCase(c));
+        }
+        return lowerCased.toString();
+    }
+
+    private static char toLowerCase(final char c) {
+        return 'A' <= c && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+}
@@ -17,7 +17,7 @@ public class CommentsTableHeaderRecognizer extends ATokenRecognizer {
             + createUpperLowerCaseWord("Comments") + "|" + createUpperLowerCaseWord("Comment") + ")([\\s]*[*])*");
 
     public CommentsTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.COMMENTS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.COMMENTS_TABLE_HEADER, "*", "comment");
     }
 
     @Override
@@ -16,7 +16,7 @@ public class SettingsTableHeaderRecognizer extends ATokenRecognizer {
             + createUpperLowerCaseWord("Settings") + "|" + createUpperLowerCaseWord("Setting") + ")([\\s]*[*])*");
 
     public SettingsTableHeaderRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTINGS_TABLE_HEADER);
+        super(EXPECTED, RobotTokenType.SETTINGS_TABLE_HEADER, "*", "setting");
     }
 
     @Override
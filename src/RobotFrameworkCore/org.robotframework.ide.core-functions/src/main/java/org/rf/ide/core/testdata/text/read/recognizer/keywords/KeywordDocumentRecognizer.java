@@ -18,7 +18,7 @@ public class KeywordDocumentRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Document") + "\\s*\\]))");
 
     public KeywordDocumentRecognizer() {
-        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_DOCUMENTATION);
+        super(EXPECTED, RobotTokenType.KEYWORD_SETTING_DOCUMENTATION, "[", "document", "]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class SettingDocumentationRecognizer extends ATokenRecognizer {
             + "[\\s]*:" + "|" + createUpperLowerCaseWord("Documentation") + ")");
 
     public SettingDocumentationRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_DOCUMENTATION_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_DOCUMENTATION_DECLARATION, "documentation");
     }
 
     @Override
@@ -19,7 +19,7 @@ public class SuiteSetupRecognizer extends ATokenRecognizer {
 
 
     public SuiteSetupRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_SUITE_SETUP_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_SUITE_SETUP_DECLARATION, "suite", "setup");
     }
 
 
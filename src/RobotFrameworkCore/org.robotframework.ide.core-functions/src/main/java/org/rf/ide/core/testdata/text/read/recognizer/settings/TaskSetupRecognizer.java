@@ -17,7 +17,7 @@ public class TaskSetupRecognizer extends ATokenRecognizer {
             "[ ]?" + createUpperLowerCaseWord("Task") + "[\\s]+" + createUpperLowerCaseWord("Setup") + "([\\s]*:)?");
 
     public TaskSetupRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TASK_SETUP_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TASK_SETUP_DECLARATION, "task", "setup");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class TaskTemplateRecognizer extends ATokenRecognizer {
             "[ ]?" + createUpperLowerCaseWord("Task") + "[\\s]+" + createUpperLowerCaseWord("Template") + "([\\s]*:)?");
 
     public TaskTemplateRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TASK_TEMPLATE_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TASK_TEMPLATE_DECLARATION, "task", "template");
     }
 
     @Override
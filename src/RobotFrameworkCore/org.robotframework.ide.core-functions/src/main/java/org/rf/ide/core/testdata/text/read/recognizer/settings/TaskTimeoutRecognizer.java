@@ -18,7 +18,7 @@ public class TaskTimeoutRecognizer extends ATokenRecognizer {
             "[ ]?" + createUpperLowerCaseWord("Task") + "[\\s]+" + createUpperLowerCaseWord("Timeout") + "([\\s]*:)?");
 
     public TaskTimeoutRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TASK_TIMEOUT_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TASK_TIMEOUT_DECLARATION, "task", "timeout");
     }
 
     @Override
@@ -20,7 +20,7 @@ public class TestPreconditionRecognizer extends ATokenRecognizer {
 
 
     public TestPreconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_SETUP_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_SETUP_DECLARATION, "test", "precondition");
     }
 
     @Override
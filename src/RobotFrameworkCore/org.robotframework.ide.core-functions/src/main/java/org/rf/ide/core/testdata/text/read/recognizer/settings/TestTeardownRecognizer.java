@@ -19,7 +19,7 @@ public class TestTeardownRecognizer extends ATokenRecognizer {
 
 
     public TestTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_TEARDOWN_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_TEARDOWN_DECLARATION, "test", "teardown");
     }
 
 
@@ -21,7 +21,7 @@ public class TestTimeoutRecognizer extends ATokenRecognizer {
 
 
     public TestTimeoutRecognizer() {
-        super(EXPECTED, RobotTokenType.SETTING_TEST_TIMEOUT_DECLARATION);
+        super(EXPECTED, RobotTokenType.SETTING_TEST_TIMEOUT_DECLARATION, "test", "timeout");
     }
 
 
@@ -18,7 +18,7 @@ public class TaskTeardownRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Teardown") + "\\s*\\]))");
 
     public TaskTeardownRecognizer() {
-        super(EXPECTED, RobotTokenType.TASK_SETTING_TEARDOWN);
+        super(EXPECTED, RobotTokenType.TASK_SETTING_TEARDOWN, "[", "teardown", "]");
     }
 
     @Override
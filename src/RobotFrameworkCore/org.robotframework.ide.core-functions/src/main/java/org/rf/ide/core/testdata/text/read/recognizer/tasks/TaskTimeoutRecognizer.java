@@ -18,7 +18,7 @@ public class TaskTimeoutRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Timeout") + "\\s*\\]))");
 
     public TaskTimeoutRecognizer() {
-        super(EXPECTED, RobotTokenType.TASK_SETTING_TIMEOUT);
+        super(EXPECTED, RobotTokenType.TASK_SETTING_TIMEOUT, "[", "timeout", "]");
     }
 
     @Override
@@ -17,7 +17,7 @@ public class TestCaseDocumentationRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Documentation") + "\\s*\\]))");
 
     public TestCaseDocumentationRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_DOCUMENTATION, "[", "documentation", "]");
     }
 
     @Override
@@ -18,7 +18,7 @@ public class TestCasePostconditionRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Postcondition") + "\\s*\\]))");
 
     public TestCasePostconditionRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_TEARDOWN);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_TEARDOWN, "[", "postcondition", "]");
     }
 
     @Override
@@ -17,7 +17,7 @@ public class TestCaseSetupRecognizer extends ATokenRecognizer {
             .compile("[ ]?((\\[\\s*" + createUpperLowerCaseWord("Setup") + "\\s*\\]))");
 
     public TestCaseSetupRecognizer() {
-        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_SETUP);
+        super(EXPECTED, RobotTokenType.TEST_CASE_SETTING_SETUP, "[", "setup", "]");
     }
 
     @Override
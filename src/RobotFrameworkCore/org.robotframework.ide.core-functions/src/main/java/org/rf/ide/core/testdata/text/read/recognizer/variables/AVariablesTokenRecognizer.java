@@ -18,7 +18,7 @@ public abstract class AVariablesTokenRecognizer extends ATokenRecognizer {
             + "(\\s*)[{].*([}]$|$)";
 
     protected AVariablesTokenRecognizer(final VariableType varType) {
-        super(createVariablePattern(varType), varType.getType());
+        super(createVariablePattern(varType), varType.getType(), varType.getIdentificator(), "{");
     }
 
     @VisibleForTesting
@@ -5,6 +5,11 @@
  */
 package org.rf.ide.core.testdata.text.read.separators;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -12,12 +17,21 @@ import java.util.Objects;
 import org.rf.ide.core.testdata.model.FilePosition;
 import org.rf.ide.core.testdata.text.read.IRobotLineElement;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+import org.rf.ide.core.testdata.text.read.PositionShift;
 import org.rf.ide.core.testdata.text.read.VersionAvailabilityInfo;
 import org.rf.ide.core.testdata.text.read.VersionAvailabilityInfo.VersionAvailabilityInfoBuilder;
 
 import com.google.common.base.Strings;
 
-public class Separator implements IRobotLineElement {
+public class Separator implements IRobotLineElement, Serializable {
+
+    private static final long serialVersionUID = -3221082073400814295L;
+
+    // the serialized form is kept the same as it was before positions became compact
+    private static final ObjectStreamField[] serialPersistentFields = {
+            new ObjectStreamField("fp", FilePosition.class), new ObjectStreamField("raw", String.class),
+            new ObjectStreamField("text", String.class), new ObjectStreamField("type", SeparatorType.class),
+            new ObjectStreamField("isDirty", boolean.class), new ObjectStreamField("wasFirstInit", boolean.class) };
 
     public static Separator pipeSeparator() {
         final Separator sep = new Separator();
@@ -48,7 +62,14 @@ public class Separator implements IRobotLineElement {
         return sep;
     }
 
-    private FilePosition fp = new FilePosition(NOT_SET, NOT_SET, NOT_SET);
+    private int line = NOT_SET;
+
+    private int column = NOT_SET;
+
+    private int offset = NOT_SET;
+
+    // when set, line and offset are relative to this shift
+    private transient PositionShift shift;
 
     private String raw = "";
 
@@ -113,40 +134,62 @@ public class Separator implements IRobotLineElement {
 
     @Override
     public int getLineNumber() {
-        return fp.getLine();
+        return shift == null ? line : shift.shiftLine(line);
     }
 
     public void setLineNumber(final int lineNumber) {
-        fp = new FilePosition(lineNumber, fp.getColumn(), fp.getOffset());
+        detachFromShift();
+        this.line = lineNumber;
     }
 
     @Override
     public int getStartColumn() {
-        return fp.getColumn();
+        return column;
     }
 
     public void setStartColumn(final int startColumn) {
-        fp = new FilePosition(fp.getLine(), startColumn, fp.getOffset());
+        this.column = startColumn;
     }
 
     @Override
     public int getEndColumn() {
         int endColumn = NOT_SET;
 
-        if (fp.getColumn() != NOT_SET) {
-            endColumn = fp.getColumn() + text.length();
+        if (column != NOT_SET) {
+            endColumn = column + text.length();
         }
 
         return endColumn;
     }
 
     public void setStartOffset(final int startOffset) {
-        fp = new FilePosition(fp.getLine(), fp.getColumn(), startOffset);
+        detachFromShift();
+        this.offset = startOffset;
     }
 
     @Override
     public int getStartOffset() {
-        return fp.getOffset();
+        return shift == null ? offset : shift.shiftOffset(offset);
+    }
+
+    /**
+     * Makes line number and offset of this separator follow given shift, so that the separator is
+     * moved whenever the shift changes. Current position is kept.
+     */
+    public void attachTo(final PositionShift shift) {
+        final int currentLine = getLineNumber();
+        final int currentOffset = getStartOffset();
+        this.line = shift.unshiftLine(currentLine);
+        this.offset = shift.unshiftOffset(currentOffset);
+        this.shift = shift;
+    }
+
+    private void detachFromShift() {
+        if (shift != null) {
+            line = shift.shiftLine(line);
+            offset = shift.shiftOffset(offset);
+            shift = null;
+        }
     }
 
     @Override
@@ -190,12 +233,12 @@ public class Separator implements IRobotLineElement {
 
     @Override
     public String toString() {
-        return String.format("Separator [filePos=%s, text=%s, type=%s]", fp, text, type);
+        return String.format("Separator [filePos=%s, text=%s, type=%s]", getFilePosition(), text, type);
     }
 
     @Override
     public FilePosition getFilePosition() {
-        return fp;
+        return new FilePosition(getLineNumber(), column, getStartOffset());
     }
 
     @Override
@@ -260,9 +303,9 @@ public class Separator implements IRobotLineElement {
         t.setRaw(getRaw());
         t.type = this.type;
         if (posInclude) {
-            t.fp = this.fp.copy();
-        } else {
-            t.fp = FilePosition.createNotSet();
+            t.line = this.getLineNumber();
+            t.column = this.column;
+            t.offset = this.getStartOffset();
         }
         t.clearDirtyFlag();
 
@@ -278,4 +321,28 @@ public class Separator implements IRobotLineElement {
     public final boolean equals(final Object obj) {
         return super.equals(obj);
     }
+
+    private void writeObject(final ObjectOutputStream output) throws IOException {
+        final ObjectOutputStream.PutField fields = output.putFields();
+        fields.put("fp", getFilePosition());
+        fields.put("raw", raw);
+        fields.put("text", text);
+        fields.put("type", type);
+        fields.put("isDirty", isDirty);
+        fields.put("wasFirstInit", wasFirstInit);
+        output.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream input) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = input.readFields();
+        final FilePosition fp = (FilePosition) fields.get("fp", FilePosition.createNotSet());
+        line = fp.getLine();
+        column = fp.getColumn();
+        offset = fp.getOffset();
+        raw = (String) fields.get("raw", "");
+        text = (String) fields.get("text", "");
+        type = (SeparatorType) fields.get("type", SeparatorType.TABULATOR_OR_DOUBLE_SPACE);
+        isDirty = fields.get("isDirty", false);
+        wasFirstInit = fields.get("wasFirstInit", false);
+    }
 }
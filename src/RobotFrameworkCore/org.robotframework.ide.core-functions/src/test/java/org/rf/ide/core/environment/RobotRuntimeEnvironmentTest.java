@@ -7,7 +7,12 @@ package org.rf.ide.core.environment;
 
 import static com.google.common.collect.Lists.newArrayList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
@@ -21,7 +26,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledOnOs;
 import org.junit.jupiter.api.condition.OS;
 import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.rf.ide.core.environment.IRuntimeEnvironment.RuntimeEnvironmentException;
 import org.rf.ide.core.environment.PythonInstallationDirectoryFinder.PythonInstallationDirectory;
+import org.rf.ide.core.libraries.LibrarySpecification.LibdocFormat;
 
 public class RobotRuntimeEnvironmentTest {
 
@@ -91,6 +99,60 @@ public class RobotRuntimeEnvironmentTest {
         assertThat(stdLibNames).containsExactly("BuiltIn", "Dialogs", "XML");
     }
 
+    @Test
+    public void libdocIsCreatedWithBorrowedExecutor_andExecutorIsReturnedAfterwards() {
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+        final File output = new File(tempDir, "lib.libspec");
+
+        final RobotCommandExecutor executor = mock(RobotCommandExecutor.class);
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+        when(executors.borrowRobotCommandExecutor(location)).thenReturn(executor);
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+        env.createLibdoc("lib", output, LibdocFormat.XML, searchPaths);
+
+        final InOrder inOrder = inOrder(executors, executor);
+        inOrder.verify(executors).borrowRobotCommandExecutor(location);
+        inOrder.verify(executor).createLibdoc("lib", output, LibdocFormat.XML, searchPaths);
+        inOrder.verify(executors).returnRobotCommandExecutor(location, executor);
+        verify(executors, never()).getRobotCommandExecutor(location);
+    }
+
+    @Test
+    public void borrowedExecutorIsReturned_evenWhenLibdocGenerationFails() {
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+        final EnvironmentSearchPaths searchPaths = new EnvironmentSearchPaths();
+        final File output = new File(tempDir, "lib.libspec");
+
+        final RobotCommandExecutor executor = mock(RobotCommandExecutor.class);
+        doThrow(RuntimeEnvironmentException.class).when(executor)
+                .createLibdocInSeparateProcess("lib", output, LibdocFormat.XML, searchPaths, 10);
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+        when(executors.borrowRobotCommandExecutor(location)).thenReturn(executor);
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+
+        assertThatExceptionOfType(RuntimeEnvironmentException.class)
+                .isThrownBy(() -> env.createLibdocInSeparateProcess("lib", output, LibdocFormat.XML, searchPaths, 10));
+        verify(executors).returnRobotCommandExecutor(location, executor);
+    }
+
+    @Test
+    public void additionalExecutorsOfEnvironmentLocationAreClosed() {
+        final PythonInstallationDirectory location = new PythonInstallationDirectory(
+                URI.create("file:///path/to/python"), SuiteExecutor.Python);
+        final RobotCommandsExecutors executors = mock(RobotCommandsExecutors.class);
+
+        final RobotRuntimeEnvironment env = new RobotRuntimeEnvironment(executors, location, "3.0.0");
+        env.closeAdditionalCommandExecutors();
+
+        verify(executors).closeAdditionalExecutorsFor(location);
+        verify(executors, never()).resetExecutorFor(location);
+    }
+
     private RobotRuntimeEnvironment createEnvironment(final RobotCommandExecutor executor) {
         final PythonInstallationDirectory location = new PythonInstallationDirectory(
                 URI.create("file:///path/to/python"), SuiteExecutor.Python);
@@ -178,6 +178,19 @@ public class ImportSearchPathsTest {
         assertThat(absUri).isNotPresent();
     }
 
+    @Test
+    public void allCandidatesAreProvided_regardlessOfTheirExistence() throws URISyntaxException {
+        final ResolvedImportPath importPath = ResolvedImportPath.from(ImportPath.from("file4.ext")).get();
+
+        final PathsProvider pathsProvider = createProvider(newArrayList(new File(tempDir, "python")),
+                newArrayList(new File(tempDir, "user")));
+        final ImportSearchPaths pathsSupport = new ImportSearchPaths(pathsProvider);
+
+        assertThat(pathsSupport.findCandidateUris(importerUri, importPath)).containsExactly(
+                new File(tempDir, "file4.ext").toURI(), new File(tempDir, "python/file4.ext").toURI(),
+                new File(tempDir, "user/file4.ext").toURI());
+    }
+
     private static PathsProvider createProvider(final List<File> pythonPaths, final List<File> userPaths) {
         return new PathsProvider() {
 
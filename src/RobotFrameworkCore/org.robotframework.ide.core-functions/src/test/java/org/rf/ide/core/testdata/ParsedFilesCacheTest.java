@@ -0,0 +1,236 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.IExecutableStepsHolder;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.MoreExecutors;
+
+public class ParsedFilesCacheTest {
+
+    private static final RobotVersion VERSION = new RobotVersion(3, 1);
+
+    private static final String CONTENT = String.join("\n",
+            "*** Settings ***",
+            "Documentation    suite doc",
+            "Library    Collections",
+            "*** Variables ***",
+            "${var}    1",
+            "@{list}    a    b",
+            "*** Test Cases ***",
+            "case",
+            "    [Documentation]    case doc",
+            "    [Tags]    t1    t2",
+            "    FOR    ${i}    IN RANGE    ${var}",
+            "        kw    ${i}",
+            "    END",
+            "*** Keywords ***",
+            "kw",
+            "    [Arguments]    ${arg}",
+            "    Log    ${arg}    # comment",
+            "");
+
+    @TempDir
+    File tempDir;
+
+    private File cacheDir;
+
+    private File suite;
+
+    private ParsedFilesCache cache;
+
+    @BeforeEach
+    public void beforeTest() throws Exception {
+        cacheDir = new File(tempDir, "cache");
+        suite = new File(tempDir, "suite.robot");
+        write(suite, CONTENT);
+        cache = new ParsedFilesCache(cacheDir, MoreExecutors.newDirectExecutorService());
+    }
+
+    @Test
+    public void outputIsLoadedFromCache_whenFileIsParsedAgainWithTheSameContent() throws Exception {
+        final RobotFileOutput parsedOutput = parse(suite, VERSION, cache);
+        final RobotFileOutput loadedOutput = parse(suite, VERSION, cache);
+        final RobotFileOutput expectedOutput = parse(suite, VERSION, null);
+
+        assertThat(cacheDir.listFiles()).hasSize(1);
+        assertThat(loadedOutput).isNotSameAs(parsedOutput);
+        assertThat(loadedOutput.getStatus()).isEqualTo(Status.PASSED);
+        assertThat(loadedOutput.getRobotVersion()).isEqualTo(VERSION);
+        assertThat(loadedOutput.getProcessedFile()).isEqualTo(suite);
+        assertThat(loadedOutput.getLastModificationEpochTime()).isEqualTo(suite.lastModified());
+        assertThat(loadedOutput.getFileModel().getParent()).isSameAs(loadedOutput);
+        assertThat(dump(loadedOutput)).isEqualTo(dump(expectedOutput));
+        assertThat(loadedOutput.findDocumentationForLine(9)).isPresent();
+    }
+
+    @Test
+    public void outputIsNotLoadedFromCache_whenFileContentIsChanged() throws Exception {
+        parse(suite, VERSION, cache);
+
+        write(suite, CONTENT.replace("case doc", "changed doc"));
+        final RobotFileOutput loadedOutput = cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)
+                .orElse(null);
+        final RobotFileOutput parsedOutput = parse(suite, VERSION, cache);
+
+        assertThat(loadedOutput).isNull();
+        assertThat(dump(parsedOutput)).contains("changed doc");
+        assertThat(cacheDir.listFiles()).hasSize(1);
+        assertThat(dump(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION).get()))
+                .isEqualTo(dump(parsedOutput));
+    }
+
+    @Test
+    public void outputIsNotLoadedFromCache_whenRobotVersionIsDifferent() throws Exception {
+        parse(suite, VERSION, cache);
+
+        final byte[] content = Files.readAllBytes(suite.toPath());
+        assertThat(cache.load(suite, content, new RobotVersion(3, 0))).isEmpty();
+        assertThat(cache.load(suite, content, new RobotVersion(3, 1, 2))).isEmpty();
+        assertThat(cache.load(suite, content, VERSION)).isPresent();
+    }
+
+    @Test
+    public void outputIsNotLoadedFromCache_whenFileIsDifferent() throws Exception {
+        parse(suite, VERSION, cache);
+
+        final File otherSuite = new File(tempDir, "other.robot");
+        write(otherSuite, CONTENT);
+
+        assertThat(cache.load(otherSuite, Files.readAllBytes(otherSuite.toPath()), VERSION)).isEmpty();
+    }
+
+    @Test
+    public void outputIsNotLoadedFromCache_whenSnapshotIsBroken() throws Exception {
+        parse(suite, VERSION, cache);
+
+        final File snapshot = cacheDir.listFiles()[0];
+        final byte[] bytes = Files.readAllBytes(snapshot.toPath());
+        Files.write(snapshot.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThat(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isEmpty();
+        assertThat(dump(parse(suite, VERSION, cache))).isEqualTo(dump(parse(suite, VERSION, null)));
+        assertThat(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isPresent();
+    }
+
+    @Test
+    public void snapshotsAreRemoved_whenCacheIsCleared() throws Exception {
+        parse(suite, VERSION, cache);
+        assertThat(cacheDir.listFiles()).hasSize(1);
+
+        cache.clear();
+
+        assertThat(cacheDir.listFiles()).isEmpty();
+        assertThat(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isEmpty();
+    }
+
+    @Test
+    public void snapshotIsRemoved_whenFileIsRemovedFromCache() throws Exception {
+        final File otherSuite = new File(tempDir, "other.robot");
+        write(otherSuite, CONTENT);
+        parse(suite, VERSION, cache);
+        parse(otherSuite, VERSION, cache);
+        assertThat(cacheDir.listFiles()).hasSize(2);
+
+        cache.remove(suite);
+
+        assertThat(cacheDir.listFiles()).hasSize(1);
+        assertThat(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isEmpty();
+        assertThat(cache.load(otherSuite, Files.readAllBytes(otherSuite.toPath()), VERSION)).isPresent();
+    }
+
+    @Test
+    public void snapshotsOfNotExistingFilesAndBrokenSnapshotsAreRemoved_whenCacheIsPruned() throws Exception {
+        final File otherSuite = new File(tempDir, "other.robot");
+        write(otherSuite, CONTENT);
+        parse(suite, VERSION, cache);
+        parse(otherSuite, VERSION, cache);
+        write(new File(cacheDir, "broken.snapshot"), "broken");
+        otherSuite.delete();
+        assertThat(cacheDir.listFiles()).hasSize(3);
+
+        cache.prune();
+
+        assertThat(cacheDir.listFiles()).hasSize(1);
+        assertThat(cache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isPresent();
+    }
+
+    @Test
+    public void parserVersionIsCalculatedFromLibraryClasses() {
+        assertThat(ParsedFilesCache.getParserVersion()).hasSize(64).isEqualTo(ParsedFilesCache.getParserVersion());
+    }
+
+    @Test
+    public void snapshotIsWrittenInBackground() throws Exception {
+        final ParsedFilesCache backgroundCache = new ParsedFilesCache(cacheDir);
+
+        parse(suite, VERSION, backgroundCache);
+        backgroundCache.awaitWriting();
+
+        assertThat(backgroundCache.load(suite, Files.readAllBytes(suite.toPath()), VERSION)).isPresent();
+    }
+
+    private static RobotFileOutput parse(final File file, final RobotVersion version, final ParsedFilesCache cache) {
+        final List<RobotFileOutput> outputs = new RobotParser(new RobotProjectHolder(), version, cache).parse(file);
+        assertThat(outputs).hasSize(1);
+        return outputs.get(0);
+    }
+
+    private static void write(final File file, final String content) throws Exception {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String dump(final RobotFileOutput output) {
+        final StringBuilder builder = new StringBuilder();
+        final RobotFile model = output.getFileModel();
+        for (final RobotLine line : model.getFileContent()) {
+            for (final IRobotLineElement element : line.getLineElements()) {
+                builder.append(element.getText())
+                        .append(element.getTypes())
+                        .append(element.getFilePosition())
+                        .append(' ');
+            }
+            builder.append(line.getEndOfLine().getTypes()).append('\n');
+        }
+        builder.append(model.getSettingTable().getDocumentation().size())
+                .append(model.getSettingTable().getImports().size())
+                .append(model.getVariableTable().getVariables().size())
+                .append('\n');
+        for (final IExecutableStepsHolder<?> unit : Iterables.concat(model.getTestCaseTable().getTestCases(),
+                model.getKeywordTable().getKeywords())) {
+            builder.append(unit.getName().getText()).append('\n');
+            for (final AModelElement<?> element : unit.getElements()) {
+                builder.append(element.getModelType())
+                        .append(element.getElementTokens().stream().map(RobotToken::getText).collect(toList()))
+                        .append('\n');
+            }
+        }
+        builder.append(output.getDocumentationCacher().getUnmodificableCacheContent().size());
+        return builder.toString();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.util.Date;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.IRobotLineElement;
+import org.rf.ide.core.testdata.text.read.RobotLine;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class RobotFileOutputSerializerTest {
+
+    @Test
+    public void copiedOutputHasTheSameContentAndPositions_butDoesNotShareElementsWithOriginal() throws Exception {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput output = parser.parseEditorContent(
+                String.join("\n", "*** Test Cases ***", "case", "    Log    1", "    Log    2"),
+                new File("f.robot"));
+
+        final RobotFileOutput copy = RobotFileOutputSerializer.copy(output);
+
+        assertThat(copy).isNotSameAs(output);
+        assertThat(copy.getRobotVersion()).isEqualTo(output.getRobotVersion());
+        assertThat(copy.getProcessedFile()).isEqualTo(output.getProcessedFile());
+        assertThat(copy.getFileModel().getParent()).isSameAs(copy);
+
+        final RobotLine line = output.getFileModel().getFileContent().get(2);
+        final RobotLine copiedLine = copy.getFileModel().getFileContent().get(2);
+        assertThat(copiedLine).isNotSameAs(line);
+        assertThat(copiedLine.getParent()).isSameAs(copy.getFileModel());
+        assertThat(copiedLine.getLineElements()).hasSameSizeAs(line.getLineElements());
+        for (int i = 0; i < line.getLineElements().size(); i++) {
+            final IRobotLineElement element = line.getLineElements().get(i);
+            final IRobotLineElement copiedElement = copiedLine.getLineElements().get(i);
+            assertThat(copiedElement).isNotSameAs(element);
+            assertThat(copiedElement.getText()).isEqualTo(element.getText());
+            assertThat(copiedElement.getStartOffset()).isEqualTo(element.getStartOffset());
+        }
+
+        final TestCase testCase = output.getFileModel().getTestCaseTable().getTestCases().get(0);
+        final TestCase copiedTestCase = copy.getFileModel().getTestCaseTable().getTestCases().get(0);
+        final RobotToken copiedName = copiedTestCase.getName();
+        assertThat(copiedTestCase).isNotSameAs(testCase);
+        assertThat(copiedName.getText()).isEqualTo("case");
+        assertThat(copiedName.getFilePosition()).isEqualTo(testCase.getName().getFilePosition());
+        assertThat(copiedName).isSameAs(copy.getFileModel().getFileContent().get(1).getLineElements().get(0));
+    }
+
+    @Test
+    public void objectsOfClassesOutsideOfModel_areNotDeserialized() throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(new Date());
+        }
+
+        assertThatExceptionOfType(InvalidClassException.class)
+                .isThrownBy(() -> RobotFileOutputSerializer.deserialize(new ByteArrayInputStream(bytes.toByteArray())))
+                .withMessageContaining("java.util.Date");
+    }
+}
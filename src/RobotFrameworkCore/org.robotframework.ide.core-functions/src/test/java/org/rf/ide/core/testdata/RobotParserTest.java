@@ -6,6 +6,7 @@
 package org.rf.ide.core.testdata;
 
 import static com.google.common.collect.Sets.newHashSet;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.File;
@@ -13,6 +14,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -22,6 +27,7 @@ import org.rf.ide.core.testdata.model.RobotFile;
 import org.rf.ide.core.testdata.model.RobotFileOutput;
 import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage;
 import org.rf.ide.core.testdata.model.RobotFileOutput.BuildMessage.LogLevel;
+import org.rf.ide.core.testdata.model.RobotFileOutput.Status;
 import org.rf.ide.core.testdata.model.RobotProjectHolder;
 import org.rf.ide.core.testdata.model.table.RobotExecutableRow;
 import org.rf.ide.core.testdata.model.table.TestCaseTable;
@@ -35,6 +41,7 @@ import org.rf.ide.core.testdata.model.table.variables.UnknownVariable;
 import org.rf.ide.core.testdata.text.read.EndOfLineBuilder.EndOfLineTypes;
 import org.rf.ide.core.testdata.text.read.RobotLine;
 import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
 
 import com.google.common.io.Files;
 
@@ -380,4 +387,95 @@ public class RobotParserTest {
         assertThat(output.get(2).getFileModel().getFileContent()).isNotEmpty();
     }
 
+    @Test
+    public void directoryShouldBeParsedInParallel_inTheSameOrderAsSequentially() throws Exception {
+        final File startDir = new File(tempDir, "dir_with_nested_suites");
+        startDir.mkdir();
+        for (int i = 0; i < 4; i++) {
+            final File nestedDir = new File(startDir, "nested_" + i);
+            nestedDir.mkdir();
+            for (int j = 0; j < 5; j++) {
+                Files.write(("*** Test Cases ***\ncase " + j).getBytes(), new File(nestedDir, "file" + j + ".robot"));
+            }
+            Files.write("not a suite".getBytes(), new File(nestedDir, "file.unknown"));
+        }
+        Files.write("*** Keywords ***".getBytes(), new File(startDir, "file.robot"));
+
+        final List<RobotFileOutput> sequentialOutput = new RobotParser(new RobotProjectHolder(), ROBOT_VERSION)
+                .parse(startDir);
+        final List<RobotFileOutput> parallelOutput = new RobotParser(new RobotProjectHolder(), ROBOT_VERSION)
+                .parseInParallel(startDir, new ForkJoinPool(4));
+
+        assertThat(parallelOutput).hasSize(21);
+        assertThat(parallelOutput).extracting(RobotFileOutput::getProcessedFile)
+                .containsExactlyElementsOf(
+                        sequentialOutput.stream().map(RobotFileOutput::getProcessedFile).collect(toList()));
+        assertThat(parallelOutput).allMatch(output -> output.getStatus() == Status.PASSED);
+    }
+
+    @Test
+    public void filesParsedInParallelShouldBeStoredInProjectHolder_andParsedOnlyOnce() throws Exception {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+
+        final RobotParser parser = new RobotParser(projectHolder, ROBOT_VERSION);
+
+        final File startDir = new File(tempDir, "dir_with_suites_parsed_in_parallel");
+        startDir.mkdir();
+        for (int i = 0; i < 10; i++) {
+            Files.write("***Settings***".getBytes(), new File(startDir, "file" + i + ".robot"));
+        }
+
+        final List<RobotFileOutput> output1 = parser.parseInParallel(startDir);
+        final List<RobotFileOutput> output2 = parser.parseInParallel(startDir);
+
+        assertThat(output1).hasSize(10);
+        assertThat(output2).hasSize(10);
+        for (int i = 0; i < 10; i++) {
+            assertThat(output2.get(i)).isSameAs(output1.get(i));
+            assertThat(projectHolder.findParsedFileByPath(output1.get(i).getProcessedFile()))
+                    .isSameAs(output1.get(i));
+        }
+    }
+
+    @Test
+    public void filesParsedConcurrentlyForDifferentVersions_areParsedAccordingToTheirVersions() throws Exception {
+        final File startDir = new File(tempDir, "dir_with_for_loops");
+        startDir.mkdir();
+        for (int i = 0; i < 20; i++) {
+            Files.write("*** Test Cases ***\ncase\n    FOR    ${i}    IN RANGE    10\n        Log    ${i}\n    END"
+                    .getBytes(), new File(startDir, "file" + i + ".robot"));
+        }
+
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final CompletableFuture<List<RobotFileOutput>> rf30Outputs = CompletableFuture.supplyAsync(
+                    () -> new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 0)).parseInParallel(startDir,
+                            pool),
+                    executor);
+            final CompletableFuture<List<RobotFileOutput>> rf31Outputs = CompletableFuture.supplyAsync(
+                    () -> new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1)).parseInParallel(startDir,
+                            pool),
+                    executor);
+
+            assertThat(rf30Outputs.get()).hasSize(20)
+                    .allMatch(output -> !getFirstAction(output).getTypes().contains(RobotTokenType.FOR_TOKEN));
+            assertThat(rf31Outputs.get()).hasSize(20)
+                    .allMatch(output -> getFirstAction(output).getTypes().contains(RobotTokenType.FOR_TOKEN));
+        } finally {
+            executor.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void emptyOutputIsReturned_whenFileIsNull_andParsedInParallel() throws Exception {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), ROBOT_VERSION);
+
+        assertThat(parser.parseInParallel(null)).isEmpty();
+    }
+
+    private static RobotToken getFirstAction(final RobotFileOutput output) {
+        return output.getFileModel().getTestCaseTable().getTestCases().get(0).getExecutionContext().get(0).getAction();
+    }
 }
@@ -0,0 +1,198 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class FileRegionCacherTest {
+
+    @Test
+    public void nothingIsFound_whenNothingIsRegistered() {
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+
+        assertThat(cacher.findByLineNumber(1)).isEmpty();
+        assertThat(cacher.findByOffset(0)).isEmpty();
+    }
+
+    @Test
+    public void elementsAreFoundInAllTheirRegions_inRegistrationOrder() {
+        final Cacheable a = new Cacheable("a", region(1, 0, 2, 20), region(5, 50, 5, 60));
+        final Cacheable b = new Cacheable("b", region(2, 15, 6, 70));
+        final Cacheable c = new Cacheable("c", region(10, 100, 10, 110));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(b);
+        cacher.register(a);
+        cacher.register(c);
+
+        assertThat(cacher.findByLineNumber(1)).containsExactly(a);
+        assertThat(cacher.findByLineNumber(2)).containsExactly(b, a);
+        assertThat(cacher.findByLineNumber(3)).containsExactly(b);
+        assertThat(cacher.findByLineNumber(5)).containsExactly(b, a);
+        assertThat(cacher.findByLineNumber(7)).isEmpty();
+        assertThat(cacher.findByLineNumber(10)).containsExactly(c);
+        assertThat(cacher.findByLineNumber(FilePosition.NOT_SET)).isEmpty();
+
+        assertThat(cacher.findByOffset(0)).containsExactly(a);
+        assertThat(cacher.findByOffset(20)).containsExactly(b, a);
+        assertThat(cacher.findByOffset(21)).containsExactly(b);
+        assertThat(cacher.findByOffset(55)).containsExactly(b, a);
+        assertThat(cacher.findByOffset(110)).containsExactly(c);
+        assertThat(cacher.findByOffset(111)).isEmpty();
+        assertThat(cacher.findByOffset(FilePosition.NOT_SET)).isEmpty();
+    }
+
+    @Test
+    public void elementsWithoutPositionAreNeverFound() {
+        final Cacheable a = new Cacheable("a",
+                new FileRegion(FilePosition.createNotSet(), FilePosition.createNotSet()));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+
+        assertThat(cacher.findByLineNumber(0)).isEmpty();
+        assertThat(cacher.findByOffset(0)).isEmpty();
+    }
+
+    @Test
+    public void registrationChangesAreVisible_afterElementsWereAlreadyLookedUp() {
+        final Cacheable a = new Cacheable("a", region(1, 0, 3, 30));
+        final Cacheable b = new Cacheable("b", region(2, 10, 2, 20));
+        final Cacheable c = new Cacheable("c", region(3, 25, 4, 40));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        cacher.register(b);
+        assertThat(cacher.findByOffset(15)).containsExactly(a, b);
+
+        cacher.register(c);
+        cacher.unregister(b);
+        assertThat(cacher.findByOffset(15)).containsExactly(a);
+        assertThat(cacher.findByOffset(28)).containsExactly(a, c);
+
+        cacher.register(a);
+        assertThat(cacher.findByOffset(28)).containsExactly(c, a);
+        assertThat(cacher.findByLineNumber(3)).containsExactly(c, a);
+        assertThat(cacher.getUnmodificableCacheContent()).containsExactly(c, a);
+    }
+
+    @Test
+    public void movedElementsAreFound_whenCacherIsInvalidated() {
+        final Cacheable a = new Cacheable("a", region(1, 0, 1, 10));
+        final Cacheable b = new Cacheable("b", region(3, 20, 3, 30));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        cacher.register(b);
+        assertThat(cacher.findByOffset(25)).containsExactly(b);
+
+        b.regions = Arrays.asList(region(5, 40, 5, 50));
+        cacher.invalidate();
+
+        assertThat(cacher.findByOffset(25)).isEmpty();
+        assertThat(cacher.findByOffset(45)).containsExactly(b);
+        assertThat(cacher.findByLineNumber(5)).containsExactly(b);
+    }
+
+    @Test
+    public void movedElementsAreFound_whenPositionsVersionIsChanged() {
+        final Cacheable a = new Cacheable("a", region(1, 0, 1, 10));
+        final Cacheable b = new Cacheable("b", region(3, 20, 3, 30));
+
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        cacher.register(a);
+        cacher.register(b);
+        assertThat(cacher.findByOffset(25, 1)).containsExactly(b);
+        assertThat(cacher.findByOffset(6, 1)).containsExactly(a);
+
+        b.regions = Arrays.asList(region(1, 5, 1, 8));
+
+        assertThat(cacher.findByOffset(25, 2)).isEmpty();
+        assertThat(cacher.findByOffset(6, 2)).containsExactly(a, b);
+        assertThat(cacher.findByLineNumber(3, 2)).isEmpty();
+        assertThat(cacher.findByLineNumber(1, 2)).containsExactly(a, b);
+    }
+
+    @Test
+    public void lookupsGiveTheSameResultsAsCheckingEveryElement_forManyRandomElements() {
+        final Random random = new Random(42);
+        final List<Cacheable> elements = new ArrayList<>();
+        final FileRegionCacher<String> cacher = new FileRegionCacher<>();
+        for (int i = 0; i < 2000; i++) {
+            final int startLine = random.nextInt(1000);
+            final int endLine = startLine + random.nextInt(5);
+            final Cacheable element = new Cacheable("e" + i,
+                    region(startLine, startLine * 10, endLine, endLine * 10 + random.nextInt(10)));
+            elements.add(element);
+            cacher.register(element);
+
+            if (i % 100 == 0) {
+                cacher.unregister(elements.remove(random.nextInt(elements.size())));
+                assertThat(cacher.findByLineNumber(random.nextInt(1000))).isNotNull();
+            }
+        }
+
+        for (int i = 0; i < 500; i++) {
+            final int line = random.nextInt(1010);
+            final int offset = random.nextInt(10100);
+            assertThat(cacher.findByLineNumber(line)).containsExactlyElementsOf(bruteForce(elements, line, true));
+            assertThat(cacher.findByOffset(offset)).containsExactlyElementsOf(bruteForce(elements, offset, false));
+        }
+    }
+
+    private static List<Cacheable> bruteForce(final List<Cacheable> elements, final int point,
+            final boolean byLine) {
+        final List<Cacheable> found = new ArrayList<>();
+        for (final Cacheable element : elements) {
+            for (final FileRegion region : element.regions) {
+                if (byLine ? region.containsLine(point) : region.isInside(point)) {
+                    found.add(element);
+                    break;
+                }
+            }
+        }
+        return found;
+    }
+
+    private static FileRegion region(final int startLine, final int startOffset, final int endLine,
+            final int endOffset) {
+        return new FileRegion(new FilePosition(startLine, 0, startOffset), new FilePosition(endLine, 0, endOffset));
+    }
+
+    private static class Cacheable implements IRegionCacheable<String> {
+
+        private final String name;
+
+        private List<FileRegion> regions;
+
+        Cacheable(final String name, final FileRegion... regions) {
+            this.name = name;
+            this.regions = Arrays.asList(regions);
+        }
+
+        @Override
+        public List<FileRegion> getContinuousRegions() {
+            return regions;
+        }
+
+        @Override
+        public String getCached() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+}
@@ -13,14 +13,23 @@ import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.Test;
 import org.rf.ide.core.environment.IRuntimeEnvironment;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.project.ImportSearchPaths.PathsProvider;
 import org.rf.ide.core.project.NullRobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig;
 import org.rf.ide.core.project.RobotProjectConfig.VariableMapping;
+import org.rf.ide.core.testdata.importer.VariablesFileImportReference;
+import org.rf.ide.core.testdata.model.table.setting.VariablesImport;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 import com.google.common.collect.ImmutableMap;
 
@@ -166,4 +175,107 @@ public class RobotProjectHolderTest {
         verify(env, times(2)).getModuleSearchPaths();
         verifyNoMoreInteractions(env);
     }
+
+    @Test
+    public void onlyLastOutputIsKeptForEachFile_whenOutputsAreAddedConcurrently() throws Exception {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 800; i++) {
+                final File file = new File("file" + i % 20 + ".robot");
+                futures.add(executor.submit(() -> {
+                    final RobotFileOutput output = new RobotFileOutput(new RobotVersion(3, 1));
+                    output.setProcessedFile(file);
+                    projectHolder.addParsedFile(output);
+                }));
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // stale duplicates would be left after replacing, if adding was not atomic
+        for (int i = 0; i < 20; i++) {
+            final RobotFileOutput output = new RobotFileOutput(new RobotVersion(3, 1));
+            output.setProcessedFile(new File("file" + i + ".robot"));
+            projectHolder.addParsedFile(output);
+
+            assertThat(projectHolder.findParsedFileByPath(new File("file" + i + ".robot"))).isSameAs(output);
+        }
+    }
+
+    @Test
+    public void parsedFileIsFoundByPath_andReplacedWithNewerOutput() {
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite.robot");
+        final RobotFileOutput output2 = createOutput("suite.robot");
+        final RobotFileOutput output3 = createOutput("other.robot");
+
+        projectHolder.addParsedFile(output1);
+        projectHolder.addParsedFile(output3);
+        assertThat(projectHolder.findParsedFileByPath(new File("suite.robot"))).isSameAs(output1);
+        assertThat(projectHolder.findParsedFileByPath(new File("suite.robot").getAbsoluteFile())).isSameAs(output1);
+        assertThat(projectHolder.findParsedFileByPath(new File("other.robot"))).isSameAs(output3);
+        assertThat(projectHolder.findParsedFileByPath(new File("unknown.robot"))).isNull();
+
+        projectHolder.addParsedFile(output2);
+        assertThat(projectHolder.findParsedFileByPath(new File("suite.robot"))).isSameAs(output2);
+        assertThat(projectHolder.findParsedFileByPath(new File("other.robot"))).isSameAs(output3);
+
+        projectHolder.clearParsedFiles();
+        assertThat(projectHolder.findParsedFileByPath(new File("suite.robot"))).isNull();
+        assertThat(projectHolder.findParsedFileByPath(new File("other.robot"))).isNull();
+    }
+
+    @Test
+    public void parsedFileImportingVariableFileIsFound_andIndexIsUpdatedWhenFileIsReplacedOrCleared() {
+        final PathsProvider pathsProvider = mock(PathsProvider.class);
+        final RobotProjectHolder projectHolder = new RobotProjectHolder();
+        final RobotFileOutput output1 = createOutput("suite.robot", "vars1.py", "vars2.py");
+        final RobotFileOutput output2 = createOutput("suite.robot", "vars2.py");
+        final RobotFileOutput output3 = createOutput("other.robot", "vars3.py");
+
+        projectHolder.addParsedFile(output1);
+        projectHolder.addParsedFile(output3);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars1.py")))
+                .isSameAs(output1);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars2.py")))
+                .isSameAs(output1);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars3.py")))
+                .isSameAs(output3);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars4.py")))
+                .isNull();
+
+        projectHolder.addParsedFile(output2);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars1.py")))
+                .isNull();
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars2.py")))
+                .isSameAs(output2);
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars3.py")))
+                .isSameAs(output3);
+
+        projectHolder.clearParsedFiles();
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars2.py")))
+                .isNull();
+        assertThat(projectHolder.findParsedFileWithImportedVariableFile(pathsProvider, new File("vars3.py")))
+                .isNull();
+    }
+
+    private static RobotFileOutput createOutput(final String path, final String... variableFilesPaths) {
+        final RobotFileOutput output = new RobotFileOutput(new RobotVersion(3, 1));
+        output.setProcessedFile(new File(path));
+        final List<VariablesFileImportReference> references = new ArrayList<>();
+        for (final String variableFilePath : variableFilesPaths) {
+            final VariablesFileImportReference reference = new VariablesFileImportReference(
+                    new VariablesImport(RobotToken.create("Variables")));
+            reference.setVariablesFile(new File(variableFilePath).getAbsoluteFile());
+            references.add(reference);
+        }
+        output.setVariablesImportReferences(references);
+        return output;
+    }
 }
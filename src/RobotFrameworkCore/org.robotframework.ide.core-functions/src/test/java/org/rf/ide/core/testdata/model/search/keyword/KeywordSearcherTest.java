@@ -0,0 +1,150 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.search.keyword.KeywordSearcher.SearchableKeyword;
+import org.rf.ide.core.testdata.model.table.keywords.names.QualifiedKeywordName;
+
+import com.google.common.collect.ListMultimap;
+
+public class KeywordSearcherTest {
+
+    private final KeywordSearcher searcher = new KeywordSearcher();
+
+    @Test
+    public void keywordsAreFoundByNormalizedName() {
+        final Keyword kw1 = new Keyword("lib", "Log Many");
+        final Keyword kw2 = new Keyword("res", "log_many");
+        final Keyword kw3 = new Keyword("res", "Log");
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw1, kw2, kw3));
+
+        final ListMultimap<String, Keyword> found = searcher.findKeywords(new HashMap<>(), index, "LOG  MANY", false);
+
+        assertThat(found.keySet()).containsOnly("logmany");
+        assertThat(found.get("logmany")).containsExactly(kw1, kw2);
+    }
+
+    @Test
+    public void keywordsAreFoundByQualifiedAndGherkinNames() {
+        final Keyword kw1 = new Keyword("lib", "Log Many");
+        final Keyword kw2 = new Keyword("res", "Log Many");
+        final Keyword kw3 = new Keyword("other", "Log");
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw1, kw2, kw3));
+
+        final ListMultimap<String, Keyword> found = searcher.findKeywords(new HashMap<>(), index,
+                "Given res.Log Many", false);
+
+        assertThat(found.keySet()).containsOnly("res.logmany", "logmany");
+        assertThat(found.get("res.logmany")).containsExactly(kw2);
+        assertThat(found.get("logmany")).containsExactly(kw1, kw2);
+    }
+
+    @Test
+    public void keywordIsReportedOnlyForLongestMatchingName_whenStoppingOnFirstMatch() {
+        final Keyword kw1 = new Keyword("lib", "Log Many");
+        final Keyword kw2 = new Keyword("res", "Log Many");
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw1, kw2));
+
+        final ListMultimap<String, Keyword> found = searcher.findKeywords(new HashMap<>(), index,
+                "Given res.Log Many", true);
+
+        assertThat(found.keySet()).containsOnly("res.logmany", "logmany");
+        assertThat(found.get("res.logmany")).containsExactly(kw2);
+        assertThat(found.get("logmany")).containsExactly(kw1);
+    }
+
+    @Test
+    public void keywordsWithEmbeddedArgumentsAreFound() {
+        final Keyword kw1 = new Keyword("res", "User ${name} logs in");
+        final Keyword kw2 = new Keyword("res", "User ${id:\\d+} logs in");
+        final Keyword kw3 = new Keyword("res", "User logs in");
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw1, kw2, kw3));
+
+        assertThat(searcher.findKeywords(new HashMap<>(), index, "When user John logs in", false).asMap())
+                .containsOnlyKeys("user john logs in")
+                .containsEntry("user john logs in", newArrayList(kw1));
+        assertThat(searcher.findKeywords(new HashMap<>(), index, "res.User 12 logs in", false).asMap())
+                .containsOnlyKeys("res.user 12 logs in", "user 12 logs in")
+                .containsEntry("res.user 12 logs in", newArrayList(kw1, kw2))
+                .containsEntry("user 12 logs in", newArrayList(kw1, kw2));
+    }
+
+    @Test
+    public void foundKeywordsKeepIndexedOrder_regardlessOfWayTheyWereMatched() {
+        final Keyword kw1 = new Keyword("res", "${x}kw");
+        final Keyword kw2 = new Keyword("lib", "my kw");
+        final Keyword kw3 = new Keyword("res", "My_Kw");
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw1, kw2, kw3));
+
+        final ListMultimap<String, Keyword> found = searcher.findKeywords(new HashMap<>(), index, "mykw", false);
+
+        assertThat(found.get("mykw")).containsExactly(kw1, kw2, kw3);
+    }
+
+    @Test
+    public void uniqueAccessibleKeywordIsReturned_whenStoppingOnFirstMatch() {
+        final Keyword kw1 = new Keyword("lib", "Log Many");
+        final Keyword kw2 = new Keyword("res", "Log");
+        final Map<String, Collection<Keyword>> accessibleKeywords = new HashMap<>();
+        accessibleKeywords.put(QualifiedKeywordName.unifyDefinition(kw1.getKeywordName()), newArrayList(kw1));
+        final KeywordNamesIndex<Keyword> index = searcher.createIndex(Arrays.asList(kw2));
+
+        final ListMultimap<String, Keyword> found = searcher.findKeywords(accessibleKeywords, index, "log many",
+                true);
+
+        assertThat(found.get("logmany")).containsExactly(kw1);
+    }
+
+    @Test
+    public void nothingIsFound_whenThereIsNoMatchingKeyword() {
+        final KeywordNamesIndex<Keyword> index = searcher
+                .createIndex(Arrays.asList(new Keyword("lib", "Log"), new Keyword("res", "kw ${arg}")));
+
+        assertThat(searcher.findKeywords(new HashMap<>(), index, "Other", false).isEmpty()).isTrue();
+        assertThat(searcher.findKeywords(new HashMap<>(), index, "res.kw", true).isEmpty()).isTrue();
+    }
+
+    private static List<Keyword> newArrayList(final Keyword... keywords) {
+        return new ArrayList<>(Arrays.asList(keywords));
+    }
+
+    private static class Keyword implements SearchableKeyword {
+
+        private final String sourceName;
+
+        private final String name;
+
+        Keyword(final String sourceName, final String name) {
+            this.sourceName = sourceName;
+            this.name = name;
+        }
+
+        @Override
+        public String getSourceNameInUse() {
+            return sourceName;
+        }
+
+        @Override
+        public String getKeywordName() {
+            return name;
+        }
+
+        @Override
+        public String toString() {
+            return sourceName + "." + name;
+        }
+    }
+}
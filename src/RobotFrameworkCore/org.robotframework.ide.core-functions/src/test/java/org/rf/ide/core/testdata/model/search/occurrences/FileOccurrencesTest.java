@@ -0,0 +1,144 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.occurrences;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.CalledKeyword;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.Occurrence;
+import org.rf.ide.core.testdata.model.search.occurrences.FileOccurrences.OccurrenceKind;
+
+public class FileOccurrencesTest {
+
+    @Test
+    public void occurrencesOfKeywordsTestCasesAndVariablesAreCollected() {
+        final RobotFile model = parse(
+                "*** Settings ***",
+                "Suite Setup    Prepare    ${arg}",
+                "*** Test Cases ***",
+                "case",
+                "    [Teardown]    Clean",
+                "    ${x}=    Compute    @{list}",
+                "    Log    ${x}    # ${commented}",
+                "*** Keywords ***",
+                "Compute",
+                "    [Arguments]    @{items}",
+                "    Log Many    @{items}");
+
+        final FileOccurrences occurrences = FileOccurrences.collect(model);
+
+        assertThat(occurrences.getOccurrences()).extracting(Occurrence::getKind, Occurrence::getName,
+                Occurrence::getLine)
+                .containsExactly(
+                        tuple(OccurrenceKind.KEYWORD_CALL, "Prepare", 2),
+                        tuple(OccurrenceKind.VARIABLE, "${arg}", 2),
+                        tuple(OccurrenceKind.TEST_CASE, "case", 4),
+                        tuple(OccurrenceKind.KEYWORD_CALL, "Clean", 5),
+                        tuple(OccurrenceKind.VARIABLE, "${x}", 6),
+                        tuple(OccurrenceKind.KEYWORD_CALL, "Compute", 6),
+                        tuple(OccurrenceKind.VARIABLE, "@{list}", 6),
+                        tuple(OccurrenceKind.KEYWORD_CALL, "Log", 7),
+                        tuple(OccurrenceKind.VARIABLE, "${x}", 7),
+                        tuple(OccurrenceKind.KEYWORD_DEFINITION, "Compute", 9),
+                        tuple(OccurrenceKind.VARIABLE, "@{items}", 10),
+                        tuple(OccurrenceKind.KEYWORD_CALL, "Log Many", 11),
+                        tuple(OccurrenceKind.VARIABLE, "@{items}", 11));
+    }
+
+    @Test
+    public void occurrencesKnowTheirPositionAndLineContent() {
+        final RobotFile model = parse(
+                "*** Test Cases ***",
+                "case",
+                "    Log    prefix ${var} suffix");
+
+        final Occurrence variable = FileOccurrences.collect(model).getOccurrences().get(2);
+
+        assertThat(variable.getName()).isEqualTo("${var}");
+        assertThat(variable.getOffset()).isEqualTo(42);
+        assertThat(variable.getLength()).isEqualTo(6);
+        assertThat(variable.getLineContent()).isEqualTo("    Log    prefix ${var} suffix");
+        assertThat(variable.getOffsetInLine()).isEqualTo(18);
+    }
+
+    @Test
+    public void keywordCallsAreResolvedWithGivenFunction() {
+        final RobotFile model = parse(
+                "*** Test Cases ***",
+                "case",
+                "    Log    1",
+                "    Unknown");
+
+        final FileOccurrences occurrences = FileOccurrences.collect(model,
+                name -> name.equals("Log") ? new CalledKeyword("BuiltIn", "Log") : null);
+
+        assertThat(occurrences.getOccurrences()).extracting(Occurrence::getName, Occurrence::getResolvedName)
+                .containsExactly(tuple("case", null), tuple("Log", "BuiltIn.Log"), tuple("Unknown", null));
+    }
+
+    @Test
+    public void resolvedKeywordNameIsSplitFromSourceName_whenSourceNameContainsDots() {
+        final RobotFile model = parse(
+                "*** Test Cases ***",
+                "case",
+                "    Log.Msg    1");
+
+        final FileOccurrences occurrences = FileOccurrences.collect(model,
+                name -> new CalledKeyword("pkg.module.Library", "Log.Msg"));
+
+        final Occurrence call = occurrences.getOccurrences().get(1);
+        assertThat(call.getResolvedName()).isEqualTo("pkg.module.Library.Log.Msg");
+        assertThat(call.getResolvedKeywordName()).isEqualTo("Log.Msg");
+        assertThat(occurrences.getOccurrences().get(0).getResolvedKeywordName()).isNull();
+    }
+
+    @Test
+    public void keywordsCalledInsideLoopsAreCollected() {
+        final RobotFile model = parse(
+                "*** Keywords ***",
+                "kw",
+                "    FOR    ${i}    IN    a    b",
+                "        Log    ${i}",
+                "    END");
+
+        assertThat(FileOccurrences.collect(model).getOccurrences())
+                .filteredOn(occurrence -> occurrence.getKind() == OccurrenceKind.KEYWORD_CALL)
+                .extracting(Occurrence::getName, Occurrence::getLine)
+                .containsExactly(tuple("Log", 4));
+    }
+
+    @Test
+    public void documentationsOfSuiteTestsAndKeywordsAreCollected() {
+        final RobotFile model = parse(
+                "*** Settings ***",
+                "Documentation    suite doc",
+                "*** Test Cases ***",
+                "case",
+                "    [Documentation]    case doc    continued",
+                "*** Keywords ***",
+                "kw",
+                "    [Documentation]    kw doc");
+
+        assertThat(FileOccurrences.collect(model).getOccurrences())
+                .filteredOn(occurrence -> occurrence.getKind() == OccurrenceKind.DOCUMENTATION)
+                .extracting(Occurrence::getName, Occurrence::getLine)
+                .containsExactly(tuple("suite doc", 2), tuple("case doc", 5), tuple("continued", 5),
+                        tuple("kw doc", 8));
+    }
+
+    private static RobotFile parse(final String... lines) {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 2));
+        return parser.parseEditorContent(String.join("\n", lines), new File("f.robot")).getFileModel();
+    }
+}
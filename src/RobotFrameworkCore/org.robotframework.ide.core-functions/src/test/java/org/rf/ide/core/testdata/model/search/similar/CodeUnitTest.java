@@ -0,0 +1,59 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.File;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.search.similar.CodeUnit.CodeUnitKind;
+
+public class CodeUnitTest {
+
+    @Test
+    public void executableRowsOfTestsAndKeywordsAreNormalized() {
+        final RobotFile model = parse(
+                "*** Test Cases ***",
+                "case",
+                "    [Documentation]    doc",
+                "    # comment",
+                "    Log    ${X}    # comment",
+                "",
+                "    Should Be Equal    A    b",
+                "*** Keywords ***",
+                "kw",
+                "    FOR    ${i}    IN    a",
+                "        Log  ${i}",
+                "    END");
+
+        assertThat(CodeUnit.collect(model)).extracting(CodeUnit::getKind, CodeUnit::getName, CodeUnit::getLine,
+                CodeUnit::getContent)
+                .containsExactly(tuple(CodeUnitKind.TEST_CASE, "case", 2, "log ${x}\nshould be equal a b"),
+                        tuple(CodeUnitKind.KEYWORD, "kw", 9, "for ${i} in a\nlog ${i}\nend"));
+    }
+
+    @Test
+    public void tasksAreCollected() {
+        final RobotFile model = parse(
+                "*** Tasks ***",
+                "task",
+                "    Log    1");
+
+        assertThat(CodeUnit.collect(model)).extracting(CodeUnit::getKind, CodeUnit::getName, CodeUnit::getContent)
+                .containsExactly(tuple(CodeUnitKind.TASK, "task", "log 1"));
+    }
+
+    private static RobotFile parse(final String... lines) {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 2));
+        return parser.parseEditorContent(String.join("\n", lines), new File("f.robot")).getFileModel();
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+public class NilsimsaTest {
+
+    @Test
+    public void digestIsEmpty_forTextsShorterThanThreeCharacters() {
+        assertThat(Nilsimsa.of("").toHexString()).matches("0{64}");
+        assertThat(Nilsimsa.of("ab").toHexString()).matches("0{64}");
+    }
+
+    @Test
+    public void sameDigestsAreComputed_forSameTexts() {
+        final String text = "log    ${x}\nshould be equal    ${x}    1";
+
+        assertThat(Nilsimsa.of(text).toHexString()).isEqualTo(Nilsimsa.of(text).toHexString());
+        assertThat(Nilsimsa.of(text).compare(Nilsimsa.of(text))).isEqualTo(128);
+    }
+
+    @Test
+    public void similarTextsHaveMoreSimilarDigestsThanDifferentTexts() {
+        final Nilsimsa digest = Nilsimsa.of("open browser ${url} chrome\ninput text id=user ${user}\n"
+                + "input text id=password ${password}\nclick button login");
+        final Nilsimsa similar = Nilsimsa.of("open browser ${url} firefox\ninput text id=user ${user}\n"
+                + "input text id=password ${password}\nclick button login");
+        final Nilsimsa different = Nilsimsa.of("create dictionary a=1 b=2\nshould be equal ${x} ${y}\n"
+                + "log many @{items}\nrun keyword if ${condition} fail");
+
+        assertThat(digest.compare(similar)).isGreaterThan(90);
+        assertThat(digest.compare(different)).isLessThan(digest.compare(similar));
+        assertThat(digest.compare(similar)).isEqualTo(similar.compare(digest));
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.similar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.search.similar.SimilarCodeFinder.SimilarPair;
+
+public class SimilarCodeFinderTest {
+
+    @Test
+    public void similarityOutsideOfDigestsRangeIsNotAccepted() {
+        final SimilarCodeFinder<String> finder = new SimilarCodeFinder<>();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> finder.find(129));
+        assertThatIllegalArgumentException().isThrownBy(() -> finder.find(-129));
+    }
+
+    @Test
+    public void identicalAndSimilarItemsAreFound_startingFromMostSimilar() {
+        final SimilarCodeFinder<String> finder = new SimilarCodeFinder<>();
+        finder.add("login1", "open browser ${url} chrome\ninput text id=user ${user}\n"
+                + "input text id=password ${password}\nclick button login");
+        finder.add("other", "create dictionary a=1 b=2\nshould be equal ${x} ${y}\n"
+                + "log many @{items}\nrun keyword if ${condition} fail");
+        finder.add("login2", "open browser ${url} firefox\ninput text id=user ${user}\n"
+                + "input text id=password ${password}\nclick button login");
+        finder.add("login3", "open browser ${url} chrome\ninput text id=user ${user}\n"
+                + "input text id=password ${password}\nclick button login");
+        finder.add("empty", "");
+
+        final List<SimilarPair<String>> pairs = finder.find(100);
+
+        assertThat(pairs).extracting(SimilarPair::getFirst, SimilarPair::getSecond)
+                .startsWith(tuple("login1", "login3"))
+                .contains(tuple("login1", "login2"), tuple("login2", "login3"))
+                .doesNotContain(tuple("empty", "empty"));
+        assertThat(pairs.get(0).getSimilarity()).isEqualTo(128);
+        assertThat(pairs).allMatch(pair -> !pair.getFirst().equals("other") && !pair.getSecond().equals("other"));
+    }
+
+    @Test
+    public void samePairsAreFoundAsWhenComparingAllPairs() {
+        final Random random = new Random(7);
+        final String base = "open browser ${url} chrome\ninput text id=user ${user}\nclick button login";
+        final List<String> contents = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            final StringBuilder content = new StringBuilder(base);
+            for (int j = 0; j < 1 + random.nextInt(6); j++) {
+                content.setCharAt(random.nextInt(content.length()), (char) ('a' + random.nextInt(26)));
+            }
+            contents.add(content.toString());
+        }
+        final SimilarCodeFinder<Integer> finder = new SimilarCodeFinder<>();
+        for (int i = 0; i < contents.size(); i++) {
+            finder.add(i, contents.get(i));
+        }
+
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < contents.size(); i++) {
+            for (int j = i + 1; j < contents.size(); j++) {
+                if (Nilsimsa.of(contents.get(i)).compare(Nilsimsa.of(contents.get(j))) >= 110) {
+                    expected.add(i + "-" + j);
+                }
+            }
+        }
+        final List<String> actual = new ArrayList<>();
+        finder.find(110).forEach(pair -> actual.add(pair.getFirst() + "-" + pair.getSecond()));
+
+        assertThat(expected).isNotEmpty();
+        assertThat(actual).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    public void nothingIsFound_whenSearchIsCanceled() {
+        final SimilarCodeFinder<String> finder = new SimilarCodeFinder<>();
+        finder.add("first", "open browser ${url} chrome\ninput text id=user ${user}\nclick button login");
+        finder.add("second", "open browser ${url} chrome\ninput text id=user ${user}\nclick button login");
+
+        final AtomicInteger checks = new AtomicInteger();
+        final List<SimilarPair<String>> pairs = finder.find(100, () -> checks.incrementAndGet() > 1);
+
+        assertThat(pairs).isEmpty();
+        assertThat(checks).hasValue(2);
+        assertThat(finder.find(100)).hasSize(1);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.search.text;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.common.collect.Lists;
+
+public class TrigramIndexTest {
+
+    @Test
+    public void trigramsOfTextAreCollectedIgnoringCase() {
+        assertThat(TrigramIndex.trigrams("AbCd")).containsExactly("abc", "bcd");
+        assertThat(TrigramIndex.trigrams("aaaa")).containsExactly("aaa");
+        assertThat(TrigramIndex.trigrams("ab")).isEmpty();
+        assertThat(TrigramIndex.trigrams(null)).isEmpty();
+    }
+
+    @Test
+    public void onlyDocumentsHavingAllTrigramsOfLiteralsAreCandidates() {
+        final TrigramIndex<String> index = createIndex();
+
+        assertThat(index.findCandidates(Lists.newArrayList("Keyword"))).containsExactly("d1", "d3");
+        assertThat(index.findCandidates(Lists.newArrayList("keyword", "library"))).containsExactly("d3");
+        assertThat(index.findCandidates(Lists.newArrayList("documentation"))).containsExactly("d1", "d2");
+        assertThat(index.findCandidates(Lists.newArrayList("missing"))).isEmpty();
+    }
+
+    @Test
+    public void allDocumentsAreCandidates_whenLiteralsAreTooShort() {
+        final TrigramIndex<String> index = createIndex();
+
+        assertThat(index.findCandidates(new ArrayList<>())).containsExactly("d1", "d2", "d3");
+        assertThat(index.findCandidates(Lists.newArrayList("ke", "y"))).containsExactly("d1", "d2", "d3");
+    }
+
+    @Test
+    public void documentIsCandidate_whenAnyOfItsTextsMatches() {
+        final TrigramIndex<String> index = new TrigramIndex<>();
+        index.add("d", "first text");
+        index.add("d", "second text");
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.findCandidates(Lists.newArrayList("first"))).containsExactly("d");
+        assertThat(index.findCandidates(Lists.newArrayList("second"))).containsExactly("d");
+        assertThat(index.findCandidates(Lists.newArrayList("first", "second"))).isEmpty();
+    }
+
+    private static TrigramIndex<String> createIndex() {
+        final TrigramIndex<String> index = new TrigramIndex<>();
+        index.add("d1", "documentation of keyword");
+        index.add("d2", "Library documentation");
+        index.add("d3", "KEYWORD of library");
+        return index;
+    }
+}
@@ -10,12 +10,17 @@ import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
+import java.io.File;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
 import org.rf.ide.core.testdata.model.RobotFile;
 import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor;
+import org.rf.ide.core.testdata.model.table.exec.descs.IExecutableRowDescriptor.RowType;
 import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
 import org.rf.ide.core.testdata.model.table.testcases.TestCase;
 import org.rf.ide.core.testdata.text.read.IRobotTokenType;
@@ -594,6 +599,116 @@ public class RobotExecutableRowTest {
         assertThat(elementTokens.get(4).getTypes()).containsExactly(RobotTokenType.COMMENT);
     }
 
+    @Test
+    public void descriptionIsReused_untilRowTokensAreChanged() {
+        final TestCase test = createTest();
+        final RobotExecutableRow<TestCase> row = createRow(test, "${x}=", args("kw", "arg"), comment());
+        test.addElement(row);
+
+        final IExecutableRowDescriptor<TestCase> descriptor = row.buildLineDescription();
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+        assertThat(descriptor.getKeywordAction().getText()).isEqualTo("kw");
+
+        row.updateToken(1, "other");
+        final IExecutableRowDescriptor<TestCase> changedDescriptor = row.buildLineDescription();
+        assertThat(changedDescriptor).isNotSameAs(descriptor);
+        assertThat(changedDescriptor.getKeywordAction().getText()).isEqualTo("other");
+
+        row.getArguments().get(1).setText("${y}");
+        assertThat(row.buildLineDescription()).isNotSameAs(changedDescriptor);
+        assertThat(row.buildLineDescription().getUsedVariables()).hasSize(1);
+    }
+
+    @Test
+    public void forLoopContinuationDescriptionIsRebuilt_whenLoopDeclarationIsRemoved() {
+        final RobotFile model = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 2)).parseEditorContent(
+                String.join("\n",
+                        "*** Keywords ***",
+                        "kw",
+                        "    FOR    ${i}    IN    a",
+                        "        Log    ${i}",
+                        "    END"),
+                new File("f.robot")).getFileModel();
+        final UserKeyword keyword = model.getKeywordTable().getKeywords().get(0);
+        final RobotExecutableRow<UserKeyword> row = keyword.getExecutionContext().get(1);
+
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+        assertThat(descriptor.getRowType()).isEqualTo(RowType.FOR_CONTINUE);
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+
+        keyword.removeElement(0);
+        assertThat(row.buildLineDescription()).isNotSameAs(descriptor);
+    }
+
+    @Test
+    public void forLoopContinuationDescriptionIsRebuilt_whenLoopDeclarationIsReplaced() {
+        final RobotFile model = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1)).parseEditorContent(
+                String.join("\n",
+                        "*** Keywords ***",
+                        "kw",
+                        "    :FOR    ${i}    IN    a",
+                        "    \\    Log    ${i}",
+                        "    \\    Log    ${i}"),
+                new File("f.robot")).getFileModel();
+        final UserKeyword keyword = model.getKeywordTable().getKeywords().get(0);
+        final RobotExecutableRow<UserKeyword> row = keyword.getExecutionContext().get(2);
+
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+        assertThat(descriptor.getRowType()).isEqualTo(RowType.FOR_CONTINUE);
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+
+        final RobotExecutableRow<UserKeyword> newRow = new RobotExecutableRow<>();
+        newRow.setAction(RobotToken.create("Log"));
+        keyword.replaceElement(keyword.getExecutionContext().get(0), newRow);
+        assertThat(row.buildLineDescription()).isNotSameAs(descriptor);
+        assertThat(row.buildLineDescription().getRowType()).isNotEqualTo(RowType.FOR_CONTINUE);
+    }
+
+    @Test
+    public void forLoopContinuationDescriptionIsRebuilt_whenRowBetweenItAndLoopDeclarationIsEdited() {
+        final RobotFile model = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1)).parseEditorContent(
+                String.join("\n",
+                        "*** Keywords ***",
+                        "kw",
+                        "    :FOR    ${i}    IN    a",
+                        "    \\    Log    ${i}",
+                        "    \\    Log    ${i}"),
+                new File("f.robot")).getFileModel();
+        final UserKeyword keyword = model.getKeywordTable().getKeywords().get(0);
+        final RobotExecutableRow<UserKeyword> row = keyword.getExecutionContext().get(2);
+
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+        assertThat(descriptor.getRowType()).isEqualTo(RowType.FOR_CONTINUE);
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+
+        keyword.getExecutionContext().get(1).updateToken(0, "Log");
+        assertThat(row.buildLineDescription()).isNotSameAs(descriptor);
+        assertThat(row.buildLineDescription().getRowType()).isNotEqualTo(RowType.FOR_CONTINUE);
+    }
+
+    @Test
+    public void forLoopContinuationDescriptionIsReused_whenRowsAreAddedAfterIt() {
+        final RobotFile model = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 2)).parseEditorContent(
+                String.join("\n",
+                        "*** Keywords ***",
+                        "kw",
+                        "    FOR    ${i}    IN    a",
+                        "        Log    ${i}",
+                        "    END"),
+                new File("f.robot")).getFileModel();
+        final UserKeyword keyword = model.getKeywordTable().getKeywords().get(0);
+        final RobotExecutableRow<UserKeyword> row = keyword.getExecutionContext().get(1);
+
+        final IExecutableRowDescriptor<UserKeyword> descriptor = row.buildLineDescription();
+        final RobotExecutableRow<UserKeyword> newRow = new RobotExecutableRow<>();
+        newRow.setAction(RobotToken.create("Log"));
+        keyword.addElement(newRow);
+        assertThat(row.buildLineDescription()).isSameAs(descriptor);
+
+        keyword.addElement(0, new RobotExecutableRow<>());
+        assertThat(row.buildLineDescription()).isNotSameAs(descriptor);
+    }
+
     private static List<String> args(final String... arguments) {
         return newArrayList(arguments);
     }
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.model.table.keywords.names;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.table.keywords.names.EmbeddedKeywordMatcher.MultiMatcher;
+
+public class EmbeddedKeywordMatcherTest {
+
+    @Test
+    public void matchersAreSharedForSameDefinition() {
+        final EmbeddedKeywordMatcher matcher = EmbeddedKeywordMatcher.forDefinition("user ${name} logs in");
+
+        assertThat(EmbeddedKeywordMatcher.forDefinition("user ${name} logs in")).isSameAs(matcher);
+        assertThat(EmbeddedKeywordMatcher.forDefinition("user ${id} logs in")).isNotSameAs(matcher);
+    }
+
+    @Test
+    public void occurrencesAreMatchedIgnoringCase() {
+        final EmbeddedKeywordMatcher matcher = EmbeddedKeywordMatcher.forDefinition("User ${name} logs in");
+
+        assertThat(matcher.matches("user john logs in")).isTrue();
+        assertThat(matcher.matches("USER JOHN LOGS IN")).isTrue();
+        assertThat(matcher.matches("User ${x} logs in")).isTrue();
+        assertThat(matcher.matches("User ${name} logs in")).isTrue();
+
+        assertThat(matcher.matches("User  logs in")).isFalse();
+        assertThat(matcher.matches("Userlogs in")).isFalse();
+        assertThat(matcher.matches("Admin john logs in")).isFalse();
+        assertThat(matcher.matches("User john logs out")).isFalse();
+        assertThat(matcher.matches("")).isFalse();
+    }
+
+    @Test
+    public void argumentsRegexesAreUsed_unlessVariableIsUsedInOccurrence() {
+        final EmbeddedKeywordMatcher matcher = EmbeddedKeywordMatcher.forDefinition("${count:\\d+} items");
+
+        assertThat(matcher.matches("12 items")).isTrue();
+        assertThat(matcher.matches("twelve items")).isFalse();
+        assertThat(matcher.matches("${count} items")).isTrue();
+    }
+
+    @Test
+    public void onlyOccurrencesWithVariablesOrEqualToDefinitionAreMatched_whenArgumentRegexIsInvalid() {
+        final EmbeddedKeywordMatcher matcher = EmbeddedKeywordMatcher.forDefinition("incorrect ${date:[}");
+
+        assertThat(matcher.matches("incorrect word")).isFalse();
+        assertThat(matcher.matches("incorrect ${x}")).isTrue();
+        assertThat(matcher.matches("INCORRECT ${date:[}")).isTrue();
+    }
+
+    @Test
+    public void multiMatcherFindsValuesOfAllMatchingDefinitions() {
+        final MultiMatcher<String> matcher = new MultiMatcher<>();
+        assertThat(matcher.isEmpty()).isTrue();
+
+        matcher.add("User ${name} logs in", "kw1");
+        matcher.add("res.user ${name} logs in", "kw1");
+        matcher.add("user ${id:\\d+} logs in", "kw2");
+        matcher.add("${who} logs in", "kw3");
+        matcher.add("Łączę ${x}", "kw4");
+        matcher.add("${x}", "kw5");
+        assertThat(matcher.isEmpty()).isFalse();
+
+        assertThat(matcher.findMatching("user john logs in")).containsOnly("kw1", "kw3", "kw5");
+        assertThat(matcher.findMatching("USER 12 LOGS IN")).containsOnly("kw1", "kw2", "kw3", "kw5");
+        assertThat(matcher.findMatching("res.User 12 logs in")).containsOnly("kw1", "kw3", "kw5");
+        assertThat(matcher.findMatching("ŁĄCZĘ z serwerem")).containsOnly("kw4", "kw5");
+        assertThat(matcher.findMatching("${user} logs in")).containsOnly("kw3", "kw5");
+        assertThat(matcher.findMatching("${x}")).containsOnly("kw5");
+        assertThat(matcher.findMatching("")).isEmpty();
+    }
+}
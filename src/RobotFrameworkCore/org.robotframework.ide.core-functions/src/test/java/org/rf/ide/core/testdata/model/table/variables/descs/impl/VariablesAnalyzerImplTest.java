@@ -26,6 +26,7 @@ import org.rf.ide.core.testdata.model.table.variables.descs.VariableUse;
 import org.rf.ide.core.testdata.model.table.variables.descs.VariablesAnalyzer;
 import org.rf.ide.core.testdata.model.table.variables.descs.VariablesVisitor;
 import org.rf.ide.core.testdata.model.table.variables.descs.impl.ExpressionAstNode.VarSyntaxIssue;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
 
 @DisplayName("When expression is analyzed")
 public class VariablesAnalyzerImplTest {
@@ -467,6 +468,42 @@ public class VariablesAnalyzerImplTest {
         }
     }
 
+    @DisplayName("again")
+    @Nested
+    class ReanalyzingTest {
+
+        @DisplayName("the expression tree is reused until token text changes")
+        @Test
+        void treeIsReusedForSameToken() {
+            final RobotToken token = VariablesAnalyzer.asRobotToken("${a}[${b}]");
+            final VariablesAnalyzerImpl analyzer = (VariablesAnalyzerImpl) VariablesAnalyzer
+                    .analyzer(new RobotVersion(3, 2));
+
+            final ExpressionAstNode tree = analyzer.buildTree(token);
+            assertThat(analyzer.buildTree(token)).isSameAs(tree);
+            assertThat(((VariablesAnalyzerImpl) VariablesAnalyzer.analyzer(new RobotVersion(3, 2)))
+                    .buildTree(token)).isSameAs(tree);
+            assertThat(analyzer.buildTree(VariablesAnalyzer.asRobotToken("${a}[${b}]"))).isNotSameAs(tree);
+
+            token.setText("${c}");
+            assertThat(analyzer.buildTree(token)).isNotSameAs(tree);
+            assertThat(analyzer.getDefinedVariablesUses(token).map(VariableUse::getBaseName)).containsExactly("c");
+        }
+
+        @DisplayName("the expression tree is rebuilt for different syntax")
+        @Test
+        void treeIsRebuiltForDifferentSyntax() {
+            final RobotToken token = VariablesAnalyzer.asRobotToken("${a}[${b}]");
+            final ExpressionAstNode tree = ((VariablesAnalyzerImpl) VariablesAnalyzer.analyzer(new RobotVersion(3, 2)))
+                    .buildTree(token);
+
+            assertThat(((VariablesAnalyzerImpl) VariablesAnalyzer.analyzer(new RobotVersion(3, 1))).buildTree(token))
+                    .isNotSameAs(tree);
+            assertThat(((VariablesAnalyzerImpl) VariablesAnalyzer.analyzer(new RobotVersion(3, 2),
+                    VariablesAnalyzer.ALL_ROBOT)).buildTree(token)).isNotSameAs(tree);
+        }
+    }
+
     private static List<Tuple> extractUsedVariables(final String expression) {
         return extractUsedVariables(new RobotVersion(3, 2), expression);
     }
@@ -0,0 +1,316 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotFileOutputSerializer;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.AModelElement;
+import org.rf.ide.core.testdata.model.FileFormat;
+import org.rf.ide.core.testdata.model.RobotFile;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.IExecutableStepsHolder;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+
+public class EditedBlockReparserTest {
+
+    private static final String CONTENT = String.join("\n",
+            "*** Settings ***",
+            "Test Template    kw",
+            "*** Test Cases ***",
+            "case 1",
+            "    [Documentation]    doc",
+            "    ...    continued",
+            "    1    2",
+            "",
+            "case 2",
+            "    [Template]    NONE",
+            "    Log    ${x}",
+            "    FOR    ${i}    IN RANGE    10",
+            "        Log    ${i}",
+            "    END",
+            "*** Keywords ***",
+            "kw",
+            "    [Arguments]    ${a}    ${b}",
+            "    Log Many    ${a}    ${b}",
+            "    # comment",
+            "",
+            "other",
+            "    [Documentation]    kw doc",
+            "    [Return]    ${1}",
+            "");
+
+    private static Stream<Arguments> singleBlockChanges() {
+        return Stream.of(Arguments.of("    1    2", "    1    2    3"),
+                Arguments.of("    ...    continued", "    ...    continued\n    ...    more lines\n    ...    of doc"),
+                Arguments.of("    [Documentation]    doc", "    [Documentation]    changed doc"),
+                Arguments.of("    [Template]    NONE", "    [Template]    kw"),
+                Arguments.of("    Log    ${x}", "    Log    ${x}\n    Log    ${y}\n    Log    ${z}"),
+                Arguments.of("        Log    ${i}", "        Log    ${i}\n        Continue For Loop"),
+                Arguments.of("case 2", "case two"),
+                Arguments.of("    Log Many    ${a}    ${b}", "    Log Many    ${a}"),
+                Arguments.of("    # comment", "    ${c}=    Set Variable    ${a}\n    # comment"),
+                Arguments.of("    [Return]    ${1}", "    [Return]    ${2}\n"),
+                Arguments.of("    [Return]    ${1}\n", "    [Return]    ${1}"),
+                Arguments.of("\nother", "\n\n\n\nother"),
+                Arguments.of("case 2", "    case 2"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("singleBlockChanges")
+    public void reparsedOutputIsTheSameAsFullyParsed_whenChangeIsLimitedToSingleBlock(final String oldText,
+            final String newText) {
+        final String newContent = CONTENT.replace(oldText, newText);
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput previousOutput = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final RobotFile previousModel = previousOutput.getFileModel();
+        final List<RobotLine> previousLines = new ArrayList<>(previousModel.getFileContent());
+        final List<TestCase> previousTests = new ArrayList<>(previousModel.getTestCaseTable().getTestCases());
+        final List<UserKeyword> previousKeywords = new ArrayList<>(previousModel.getKeywordTable().getKeywords());
+        final Optional<RobotFileOutput> reparsedOutput = createReparser(FileFormat.TXT_OR_ROBOT)
+                .reparse(previousOutput, CONTENT, newContent);
+        final RobotFileOutput expectedOutput = parser.parseEditorContent(newContent, new File("f.robot"));
+
+        assertThat(reparsedOutput).isPresent();
+        assertThat(reparsedOutput.get()).isNotSameAs(previousOutput);
+        assertThat(reparsedOutput.get().getFileModel()).isNotSameAs(previousModel);
+        assertThat(dump(reparsedOutput.get())).isEqualTo(dump(expectedOutput));
+        assertThat(previousModel.getFileContent()).containsExactlyElementsOf(previousLines);
+        assertThat(previousModel.getTestCaseTable().getTestCases()).containsExactlyElementsOf(previousTests);
+        assertThat(previousModel.getKeywordTable().getKeywords()).containsExactlyElementsOf(previousKeywords);
+    }
+
+    @Test
+    public void onlyTableOfEditedBlockIsCopied_whileOtherTablesAndLinesAreShared() {
+        final String newContent = CONTENT.replace("    Log    ${x}", "    Log    ${x}\n    Log    ${y}");
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput previousOutput = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final RobotFile previousModel = previousOutput.getFileModel();
+        final RobotFile model = createReparser(FileFormat.TXT_OR_ROBOT).reparse(previousOutput, CONTENT, newContent)
+                .get()
+                .getFileModel();
+
+        assertThat(model.getSettingTable()).isSameAs(previousModel.getSettingTable());
+        assertThat(model.getKeywordTable()).isSameAs(previousModel.getKeywordTable());
+        assertThat(model.getTestCaseTable()).isNotSameAs(previousModel.getTestCaseTable());
+        assertThat(model.getSettingTable().getParent()).isSameAs(model);
+        assertThat(model.getTestCaseTable().getTestCases().get(0))
+                .isSameAs(previousModel.getTestCaseTable().getTestCases().get(0));
+        assertThat(model.getTestCaseTable().getTestCases().get(1))
+                .isNotSameAs(previousModel.getTestCaseTable().getTestCases().get(1));
+
+        assertThat(model.getFileContent()).hasSize(previousModel.getFileContent().size() + 1);
+        assertThat(model.getFileContent().subList(0, 8)).containsExactlyElementsOf(
+                previousModel.getFileContent().subList(0, 8));
+        assertThat(model.getFileContent().subList(15, model.getFileContent().size())).containsExactlyElementsOf(
+                previousModel.getFileContent().subList(14, previousModel.getFileContent().size()));
+        assertThat(model.getFileContent()).allMatch(line -> line.getParent() == model);
+    }
+
+    @ParameterizedTest
+    @MethodSource("singleBlockChanges")
+    public void parserReturnsOutputEquivalentToFullyParsed_whenChangeIsLimitedToSingleBlock(final String oldText,
+            final String newText) {
+        final String newContent = CONTENT.replace(oldText, newText);
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput previousOutput = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final RobotFileOutput reparsedOutput = parser.parseEditorContent(previousOutput, CONTENT, newContent,
+                new File("f.robot"));
+        final RobotFileOutput expectedOutput = parser.parseEditorContent(newContent, new File("f.robot"));
+
+        assertThat(reparsedOutput).isNotSameAs(previousOutput);
+        assertThat(dump(reparsedOutput)).isEqualTo(dump(expectedOutput));
+    }
+
+    private static Stream<Arguments> multipleBlocksChanges() {
+        return Stream.of(Arguments.of("Test Template    kw", "Test Setup    kw"),
+                Arguments.of("    1    2", "1    2"),
+                Arguments.of("    [Template]    NONE", "*** Keywords ***"),
+                Arguments.of("    # comment", "# comment"),
+                Arguments.of("    1    2\n\ncase 2", "    1    2\ncase 3\ncase 2"),
+                Arguments.of("    [Arguments]    ${a}    ${b}",
+                        "    [Arguments]    ${a}    ${b}\n    ...    ${c}\nkw2"),
+                Arguments.of("    END\n*** Keywords ***\nkw",
+                        "    END\n*** Keywords ***\nkw\n    No Operation\nkw 2"));
+    }
+
+    @ParameterizedTest
+    @MethodSource("multipleBlocksChanges")
+    public void contentIsParsedAsWhole_whenChangeIsNotLimitedToSingleBlock(final String oldText,
+            final String newText) {
+        final String newContent = CONTENT.replace(oldText, newText);
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput previousOutput = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final String previousDump = dump(previousOutput);
+        final RobotFileOutput reparsedOutput = parser.parseEditorContent(previousOutput, CONTENT, newContent,
+                new File("f.robot"));
+        final RobotFileOutput expectedOutput = parser.parseEditorContent(newContent, new File("f.robot"));
+
+        assertThat(createReparser(FileFormat.TXT_OR_ROBOT).reparse(previousOutput, CONTENT, newContent)).isEmpty();
+        assertThat(reparsedOutput).isNotSameAs(previousOutput);
+        assertThat(dump(previousOutput)).isEqualTo(previousDump);
+        assertThat(dump(reparsedOutput)).isEqualTo(dump(expectedOutput));
+    }
+
+    @Test
+    public void blocksAreReparsedCorrectly_whenFileIsEditedSeveralTimes() throws Exception {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final EditedBlockReparser reparser = createReparser(FileFormat.TXT_OR_ROBOT);
+
+        final String content1 = CONTENT.replace("    Log    ${x}", "    Log    ${x}    ${y}");
+        final String content2 = content1.replace("    ...    continued", "");
+        final String content3 = content2.replace("    [Return]    ${1}", "    [Return]    ${1}\r\n\r\n");
+        final String content4 = content3.replace("\nkw\n", "\nkw\r\n    [Tags]    a    b\r\n");
+
+        // elements shared between outputs follow the newest one, so each output is checked before next edit
+        final Optional<RobotFileOutput> output1 = reparser.reparse(output, CONTENT, content1);
+        assertThat(output1).isPresent();
+        assertThat(dump(output1.get())).isEqualTo(dump(parser.parseEditorContent(content1, new File("f.robot"))));
+
+        final Optional<RobotFileOutput> output2 = reparser.reparse(output1.get(), content1, content2);
+        assertThat(output2).isPresent();
+        assertThat(dump(output2.get())).isEqualTo(dump(parser.parseEditorContent(content2, new File("f.robot"))));
+
+        final Optional<RobotFileOutput> output3 = reparser.reparse(output2.get(), content2, content3);
+        assertThat(output3).isPresent();
+        assertThat(dump(output3.get())).isEqualTo(dump(parser.parseEditorContent(content3, new File("f.robot"))));
+
+        final Optional<RobotFileOutput> output4 = reparser.reparse(output3.get(), content3, content4);
+        assertThat(output4).isPresent();
+        assertThat(dump(output4.get())).isEqualTo(dump(parser.parseEditorContent(content4, new File("f.robot"))));
+        assertThat(dump(RobotFileOutputSerializer.copy(output4.get())))
+                .isEqualTo(dump(parser.parseEditorContent(content4, new File("f.robot"))));
+    }
+
+    @Test
+    public void contentIsParsedAsWhole_whenOutputWasAlreadyReparsed() {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final EditedBlockReparser reparser = createReparser(FileFormat.TXT_OR_ROBOT);
+
+        final String content1 = CONTENT.replace("    1    2", "    1    2\n    3    4");
+        final String content2 = CONTENT.replace("    Log    ${x}", "    Log    ${x}\n\n\n    Log    ${y}");
+
+        assertThat(reparser.reparse(output, CONTENT, content1)).isPresent();
+        assertThat(reparser.reparse(output, CONTENT, content2)).isEmpty();
+        assertThat(dump(parser.parseEditorContent(output, CONTENT, content2, new File("f.robot"))))
+                .isEqualTo(dump(parser.parseEditorContent(content2, new File("f.robot"))));
+    }
+
+    @Test
+    public void documentationsAreFoundInShiftedLines_ofBothOutputs() {
+        final String newContent = CONTENT.replace("    Log    ${x}",
+                "    Log    ${x}\n    Log    ${y}\n    Log    ${z}");
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput previousOutput = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        assertThat(previousOutput.findDocumentationForLine(22)).isPresent();
+        assertThat(previousOutput.findDocumentationForLine(24)).isEmpty();
+
+        final RobotFileOutput output = createReparser(FileFormat.TXT_OR_ROBOT)
+                .reparse(previousOutput, CONTENT, newContent)
+                .get();
+
+        assertThat(output.findDocumentationForLine(22)).isEmpty();
+        assertThat(output.findDocumentationForLine(24)).isPresent();
+        assertThat(previousOutput.findDocumentationForLine(22)).isEmpty();
+        assertThat(previousOutput.findDocumentationForLine(24)).isPresent();
+    }
+
+    @Test
+    public void outputIsNotChanged_whenContentIsTheSame() {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput output = parser.parseEditorContent(CONTENT, new File("f.robot"));
+        final String dump = dump(output);
+
+        assertThat(parser.parseEditorContent(output, CONTENT, CONTENT, new File("f.robot"))).isSameAs(output);
+        assertThat(dump(output)).isEqualTo(dump);
+    }
+
+    @Test
+    public void blockOfTsvFileIsReparsed() {
+        final String content = "*** Test Cases ***\ncase\tLog\t1\n\tLog\t2\ncase 2\n";
+        final String newContent = "*** Test Cases ***\ncase\tLog\t1\n\tLog\t2\t3\ncase 2\n";
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), new RobotVersion(3, 1));
+        final RobotFileOutput output = parser.parseEditorContent(content, new File("f.tsv"));
+
+        final Optional<RobotFileOutput> reparsedOutput = createReparser(FileFormat.TSV).reparse(output, content,
+                newContent);
+
+        assertThat(reparsedOutput).isPresent();
+        assertThat(reparsedOutput.get().getFileFormat()).isEqualTo(FileFormat.TSV);
+        assertThat(dump(reparsedOutput.get()))
+                .isEqualTo(dump(parser.parseEditorContent(newContent, new File("f.tsv"))));
+    }
+
+    private static EditedBlockReparser createReparser(final FileFormat format) {
+        return new EditedBlockReparser(new TextualRobotFileParser(format));
+    }
+
+    private static String dump(final RobotFileOutput output) {
+        final StringBuilder builder = new StringBuilder();
+        final RobotFile model = output.getFileModel();
+        for (final RobotLine line : model.getFileContent()) {
+            builder.append(line.getLineNumber()).append(": ");
+            for (final IRobotLineElement element : line.getLineElements()) {
+                builder.append(dump(element)).append(' ');
+            }
+            builder.append(dump(line.getEndOfLine())).append('\n');
+        }
+        dumpUnits(builder, model.getTestCaseTable().getTestCases());
+        dumpUnits(builder, model.getTasksTable().getTasks());
+        dumpUnits(builder, model.getKeywordTable().getKeywords());
+        output.getDocumentationCacher()
+                .getUnmodificableCacheContent()
+                .stream()
+                .map(doc -> doc.getContinuousRegions().toString())
+                .sorted()
+                .forEach(regions -> builder.append(regions).append('\n'));
+        return builder.toString();
+    }
+
+    private static void dumpUnits(final StringBuilder builder,
+            final Iterable<? extends IExecutableStepsHolder<?>> units) {
+        for (final IExecutableStepsHolder<?> unit : units) {
+            builder.append(dump(unit.getName())).append('\n');
+            for (final AModelElement<?> element : unit.getElements()) {
+                builder.append("  ")
+                        .append(element.getModelType())
+                        .append(element.getElementTokens()
+                                .stream()
+                                .map(EditedBlockReparserTest::dump)
+                                .collect(Collectors.joining(" ", " ", "\n")));
+            }
+        }
+    }
+
+    private static String dump(final IRobotLineElement element) {
+        return String.format("%s'%s'%s@%d:%d:%d", element instanceof RobotToken ? "" : "~", element.getText(),
+                element.getTypes(), element.getLineNumber(), element.getStartColumn(), element.getStartOffset());
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.rf.ide.core.environment.RobotVersion;
+import org.rf.ide.core.testdata.RobotParser;
+import org.rf.ide.core.testdata.model.FileFormat;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.model.FileRegion;
+import org.rf.ide.core.testdata.model.ModelType;
+import org.rf.ide.core.testdata.model.RobotFileOutline;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Definition;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Import;
+import org.rf.ide.core.testdata.model.RobotFileOutline.Section;
+import org.rf.ide.core.testdata.model.RobotFileOutput;
+import org.rf.ide.core.testdata.model.RobotProjectHolder;
+import org.rf.ide.core.testdata.model.table.keywords.UserKeyword;
+import org.rf.ide.core.testdata.model.table.setting.LibraryImport;
+import org.rf.ide.core.testdata.model.table.testcases.TestCase;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotToken;
+import org.rf.ide.core.testdata.text.read.recognizer.RobotTokenType;
+
+public class OutlineParserTest {
+
+    private static final RobotVersion VERSION = new RobotVersion(3, 2);
+
+    @TempDir
+    static File tempDir;
+
+    static Stream<Arguments> sameSuites() {
+        final String spaces = String.join("\n",
+                "*** Settings ***",
+                "Library    Collections",
+                "Library    lib.py    a    b    WITH NAME    alias  # comment",
+                "Resource   res.robot",
+                "Variables  vars.py",
+                "...        arg",
+                "Documentation    first line",
+                "...    second line",
+                "*** Test Cases ***",
+                "case 1",
+                "    [Documentation]    test doc",
+                "    Log    1",
+                "",
+                "case 2",
+                "    Log    2",
+                "*** Keywords ***",
+                "kw",
+                "    [Documentation]    kw doc",
+                "    ...    continued",
+                "    Log    3",
+                "*** Comments ***",
+                "anything");
+        final String pipes = String.join("\n",
+                "| *** Settings *** |",
+                "| Library | Collections |",
+                "| Library | lib.py | a | b | WITH NAME | alias |",
+                "| Resource | res.robot |",
+                "| Variables | vars.py |",
+                "| ... | arg |",
+                "| Documentation | first line |",
+                "| ... | second line |",
+                "| *** Test Cases *** |",
+                "| case 1 |",
+                "| | [Documentation] | test doc |",
+                "| | Log | 1 |",
+                "",
+                "| case 2 |",
+                "| | Log | 2 |",
+                "| *** Keywords *** |",
+                "| kw |",
+                "| | [Documentation] | kw doc |",
+                "| | ... | continued |",
+                "| | Log | 3 |",
+                "| *** Comments *** |",
+                "| anything |");
+        final String tabs = String.join("\r\n",
+                "*Settings*",
+                "Library\tCollections",
+                "Library\tlib.py\ta\tb\tWITH NAME\talias",
+                "Resource\tres.robot",
+                "Variables\tvars.py",
+                "...\targ",
+                "Documentation\tfirst line",
+                "...\tsecond line",
+                "*Test Cases*",
+                "case 1",
+                "\t[Documentation]\ttest doc",
+                "\tLog\t1",
+                "",
+                "case 2",
+                "\tLog\t2",
+                "*Keywords*",
+                "kw",
+                "\t[Documentation]\tkw doc",
+                "\t...\tcontinued",
+                "\tLog\t3",
+                "*Comments*",
+                "anything");
+        return Stream.of(Arguments.of("spaces.robot", spaces), Arguments.of("pipes.robot", pipes),
+                Arguments.of("tabs.tsv", tabs));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sameSuites")
+    public void outlineContainsSectionsImportsAndDefinitions_regardlessOfFileFormat(final String fileName,
+            final String content) {
+        final RobotFileOutline outline = parse(fileName, content);
+
+        assertThat(outline.getSections()).extracting(Section::getHeaderType, s -> s.getHeaderPosition().getLine(),
+                Section::getEndLine)
+                .containsExactly(tuple(RobotTokenType.SETTINGS_TABLE_HEADER, 1, 8),
+                        tuple(RobotTokenType.TEST_CASES_TABLE_HEADER, 9, 15),
+                        tuple(RobotTokenType.KEYWORDS_TABLE_HEADER, 16, 20),
+                        tuple(RobotTokenType.COMMENTS_TABLE_HEADER, 21, 22));
+
+        assertThat(outline.getImports()).extracting(Import::getType, Import::getPathOrName, Import::getArguments,
+                Import::getAlias)
+                .containsExactly(
+                        tuple(ModelType.LIBRARY_IMPORT_SETTING, Optional.of("Collections"), newList(),
+                                Optional.empty()),
+                        tuple(ModelType.LIBRARY_IMPORT_SETTING, Optional.of("lib.py"), newList("a", "b"),
+                                Optional.of("alias")),
+                        tuple(ModelType.RESOURCE_IMPORT_SETTING, Optional.of("res.robot"), newList(),
+                                Optional.empty()),
+                        tuple(ModelType.VARIABLES_IMPORT_SETTING, Optional.of("vars.py"), newList("arg"),
+                                Optional.empty()));
+        assertThat(outline.getImports()).extracting(i -> i.getDeclarationPosition().getLine())
+                .containsExactly(2, 3, 4, 5);
+
+        assertThat(outline.getDefinitions()).extracting(Definition::getType, Definition::getName,
+                d -> d.getNamePosition().getLine(), Definition::getEndLine)
+                .containsExactly(tuple(ModelType.TEST_CASE, "case 1", 10, 12),
+                        tuple(ModelType.TEST_CASE, "case 2", 14, 15),
+                        tuple(ModelType.USER_KEYWORD, "kw", 17, 20));
+    }
+
+    @ParameterizedTest
+    @MethodSource("sameSuites")
+    public void outlinePositionsAreTheSameAsInFullModel(final String fileName, final String content) {
+        final RobotFileOutline outline = parse(fileName, content);
+        final RobotFileOutput output = new RobotParser(new RobotProjectHolder(), VERSION)
+                .parseEditorContent(content, new File(fileName));
+
+        final List<LibraryImport> libraries = output.getFileModel().getSettingTable().getLibraryImports();
+        assertThat(outline.getImports().get(1).getDeclarationPosition())
+                .isEqualTo(libraries.get(1).getDeclaration().getFilePosition());
+
+        final List<TestCase> cases = output.getFileModel().getTestCaseTable().getTestCases();
+        final List<UserKeyword> keywords = output.getFileModel().getKeywordTable().getKeywords();
+        assertThat(outline.getDefinitions()).extracting(Definition::getNamePosition)
+                .containsExactly(cases.get(0).getName().getFilePosition(), cases.get(1).getName().getFilePosition(),
+                        keywords.get(0).getName().getFilePosition());
+        assertThat(outline.getDefinitions()).extracting(definition -> definition.getDocumentation().orElse(null))
+                .containsExactly(region(cases.get(0).getDocumentation().get(0).getElementTokens()), null,
+                        region(keywords.get(0).getDocumentation().get(0).getElementTokens()));
+        assertThat(outline.getSuiteDocumentation()).contains(
+                region(output.getFileModel().getSettingTable().getDocumentation().get(0).getElementTokens()));
+    }
+
+    @Test
+    public void unknownSectionsAreReported_andLinesOutsideOfSectionsAreIgnored() {
+        final RobotFileOutline outline = parse("f.robot", String.join("\n",
+                "Library    NotImported",
+                "*** Unknown ***",
+                "Library    NotImported",
+                "*** Keywords ***",
+                "    Log    no name",
+                "kw"));
+
+        assertThat(outline.getSections()).extracting(Section::getHeaderType)
+                .containsExactly(RobotTokenType.USER_OWN_TABLE_HEADER, RobotTokenType.KEYWORDS_TABLE_HEADER);
+        assertThat(outline.getImports()).isEmpty();
+        assertThat(outline.getDefinitions()).extracting(Definition::getName).containsExactly("kw");
+    }
+
+    @Test
+    public void tasksAreReported_forRobotVersionSupportingTasks() {
+        final RobotFileOutline outline = parse("f.robot", String.join("\n",
+                "*** Tasks ***",
+                "task",
+                "    [Documentation]    doc",
+                "    Log    1"));
+
+        assertThat(outline.getDefinitions()).hasSize(1);
+        final Definition task = outline.getDefinitions().get(0);
+        assertThat(task.getType()).isEqualTo(ModelType.TASK);
+        assertThat(task.getName()).isEqualTo("task");
+        assertThat(task.getEndLine()).isEqualTo(4);
+        assertThat(task.getDocumentation())
+                .contains(new FileRegion(new FilePosition(3, 4, 23), new FilePosition(3, 26, 45)));
+    }
+
+    @Test
+    public void byteOrderMarkIsSkipped_andOffsetsAreCountedFromFileStart() {
+        final RobotFileOutline outline = parse("f.robot", "\uFEFF*** Keywords ***\r\nkw\r\n\tLog\r\nother");
+
+        assertThat(outline.getSections()).extracting(Section::getHeaderPosition)
+                .containsExactly(new FilePosition(1, 0, 1));
+        assertThat(outline.getDefinitions()).extracting(Definition::getNamePosition)
+                .containsExactly(new FilePosition(2, 0, 19), new FilePosition(4, 0, 29));
+    }
+
+    @Test
+    public void fileOutlineCanBeUpgradedToFullModel() throws Exception {
+        final File file = new File(tempDir, "suite.robot");
+        Files.write(file.toPath(), "*** Keywords ***\nkw\n    Log    1\n".getBytes(StandardCharsets.UTF_8));
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), VERSION);
+        final RobotFileOutline outline = parser.parseOutline(file).get();
+        assertThat(outline.getProcessedFile()).isEqualTo(file);
+        assertThat(outline.getDefinitions()).extracting(Definition::getName).containsExactly("kw");
+
+        final RobotFileOutput output = parser.upgrade(outline);
+        assertThat(output.getProcessedFile()).isEqualTo(file);
+        assertThat(output.getFileModel().getKeywordTable().getKeywords()).extracting(k -> k.getName().getText())
+                .containsExactly("kw");
+    }
+
+    @Test
+    public void outlineIsUpgradedFromItsOwnContent_evenWhenFileWasChangedInTheMeantime() throws Exception {
+        final File file = new File(tempDir, "suite.robot");
+        Files.write(file.toPath(), "*** Keywords ***\nkw\n    Log    1\n".getBytes(StandardCharsets.UTF_8));
+
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), VERSION);
+        final RobotFileOutline outline = parser.parseOutline(file).get();
+        Files.write(file.toPath(), "*** Keywords ***\nother\n    Log    1\n".getBytes(StandardCharsets.UTF_8));
+
+        final RobotFileOutput output = parser.upgrade(outline);
+        assertThat(output.getFileModel().getKeywordTable().getKeywords()).extracting(k -> k.getName().getText())
+                .containsExactly("kw");
+    }
+
+    @Test
+    public void outlineIsNotCreated_forNotExistingOrNotRobotFiles() {
+        final RobotParser parser = new RobotParser(new RobotProjectHolder(), VERSION);
+
+        assertThat(parser.parseOutline(new File(tempDir, "not_existing.robot"))).isEmpty();
+        assertThat(parser.parseOutline("*** Keywords ***", new File("f.py"))).isEmpty();
+    }
+
+    private static RobotFileOutline parse(final String fileName, final String content) {
+        final File file = new File(fileName);
+        return new OutlineParser(FileFormat.getByFile(file)).parse(VERSION, file, content);
+    }
+
+    private static FileRegion region(final List<RobotToken> tokens) {
+        return new FileRegion(tokens.get(0).getFilePosition(), tokens.get(tokens.size() - 1).getEndFilePosition());
+    }
+
+    private static List<String> newList(final String... elements) {
+        return Arrays.asList(elements);
+    }
+}
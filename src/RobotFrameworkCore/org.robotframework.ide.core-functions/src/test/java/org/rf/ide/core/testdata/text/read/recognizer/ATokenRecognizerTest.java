@@ -56,6 +56,23 @@ public class ATokenRecognizerTest {
         assertThat(rec.hasNext(new StringBuilder(""), 0, 0)).isFalse();
     }
 
+    @Test
+    public void firstTokenIsRecognized_withoutChangingRecognizerState() {
+        final Pattern p = Pattern.compile("foobar");
+        final RobotTokenType type = RobotTokenType.EMPTY_CELL;
+        final ATokenRecognizer rec = new DummyTokenRecognizer(p, type);
+
+        final RobotToken one = rec.recognize("xfoobarfoobar", 3, 10).get();
+        assertThat(one.getLineNumber()).isEqualTo(3);
+        assertThat(one.getStartColumn()).isEqualTo(11);
+        assertThat(one.getText()).isEqualTo("foobar");
+        assertThat(one.getTypes()).containsExactly(type);
+
+        final RobotToken two = rec.recognize("xfoobarfoobar", 3, 10).get();
+        assertThat(two.getStartColumn()).isEqualTo(11);
+        assertThat(rec.recognize("foo bar", 3, 10)).isEmpty();
+    }
+
     @Test
     public void test_createUpperLowerCaseWord_textIsFoobar1AllPossibleCombinations() {
         for (final String comb : new CombinationGenerator().combinations("foobar1")) {
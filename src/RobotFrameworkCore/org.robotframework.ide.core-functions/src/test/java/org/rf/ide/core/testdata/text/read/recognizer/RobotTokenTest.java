@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.rf.ide.core.testdata.model.FilePosition;
+import org.rf.ide.core.testdata.text.read.IRobotTokenType;
+
+public class RobotTokenTest {
+
+    @Test
+    public void newTokenHasUnknownTypeAndNoPosition() {
+        final RobotToken token = new RobotToken();
+
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.UNKNOWN);
+        assertThat(token.getFilePosition().isNotSet()).isTrue();
+        assertThat(token.getText()).isEmpty();
+    }
+
+    @Test
+    public void typesListIsModifiableView() {
+        final RobotToken token = RobotToken.create("kw", RobotTokenType.KEYWORD_ACTION_NAME);
+        final List<IRobotTokenType> types = token.getTypes();
+
+        types.add(RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+        types.add(0, RobotTokenType.UNKNOWN);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.UNKNOWN, RobotTokenType.KEYWORD_ACTION_NAME,
+                RobotTokenType.KEYWORD_ACTION_ARGUMENT);
+
+        types.remove(RobotTokenType.KEYWORD_ACTION_NAME);
+        types.set(1, RobotTokenType.VARIABLE_USAGE);
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.UNKNOWN, RobotTokenType.VARIABLE_USAGE);
+
+        final Iterator<IRobotTokenType> iterator = types.iterator();
+        iterator.next();
+        iterator.remove();
+        assertThat(token.getTypes()).containsExactly(RobotTokenType.VARIABLE_USAGE);
+
+        token.setType(RobotTokenType.ASSIGNMENT);
+        assertThat(types).containsExactly(RobotTokenType.ASSIGNMENT);
+
+        types.clear();
+        assertThat(token.getTypes()).isEmpty();
+    }
+
+    @Test
+    public void typesOfTokensAreIndependent_evenWhenTheyWereTheSame() {
+        final RobotToken token1 = RobotToken.create("x", RobotTokenType.VARIABLE_USAGE);
+        final RobotToken token2 = RobotToken.create("y", RobotTokenType.VARIABLE_USAGE);
+        final RobotToken token3 = token1.copy();
+
+        token1.getTypes().add(RobotTokenType.ASSIGNMENT);
+        token2.getTypes().set(0, RobotTokenType.KEYWORD_ACTION_NAME);
+
+        assertThat(token1.getTypes()).containsExactly(RobotTokenType.VARIABLE_USAGE, RobotTokenType.ASSIGNMENT);
+        assertThat(token2.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME);
+        assertThat(token3.getTypes()).containsExactly(RobotTokenType.VARIABLE_USAGE);
+    }
+
+    @Test
+    public void positionIsUpdatedPartially() {
+        final RobotToken token = RobotToken.create("text", new FilePosition(3, 4, 50));
+
+        token.setStartColumn(8);
+        token.setStartOffset(54);
+
+        assertThat(token.getFilePosition()).isEqualTo(new FilePosition(3, 8, 54));
+        assertThat(token.getEndFilePosition()).isEqualTo(new FilePosition(3, 12, 58));
+        assertThat(token.copy().getFilePosition()).isEqualTo(new FilePosition(3, 8, 54));
+        assertThat(token.copyWithoutPosition().getFilePosition().isNotSet()).isTrue();
+    }
+
+    @Test
+    public void textAndTypesAreDeserialized_butPositionIsNot() throws Exception {
+        final RobotToken token = RobotToken.create("kw", new FilePosition(3, 4, 50),
+                RobotTokenType.KEYWORD_ACTION_NAME, RobotTokenType.ASSIGNMENT);
+        token.setText("changed");
+
+        final RobotToken deserialized = deserialize(serialize(token));
+
+        assertThat(deserialized.getText()).isEqualTo("changed");
+        assertThat(deserialized.getTypes()).containsExactly(RobotTokenType.KEYWORD_ACTION_NAME,
+                RobotTokenType.ASSIGNMENT);
+        assertThat(deserialized.isDirty()).isTrue();
+        assertThat(deserialized.getFilePosition().isNotSet()).isTrue();
+    }
+
+    private static byte[] serialize(final RobotToken token) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(token);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static RobotToken deserialize(final byte[] bytes) throws Exception {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (RobotToken) input.readObject();
+        }
+    }
+}
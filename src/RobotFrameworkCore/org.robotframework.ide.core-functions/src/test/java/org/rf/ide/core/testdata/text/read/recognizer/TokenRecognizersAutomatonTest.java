@@ -0,0 +1,117 @@
+/*
+ * Copyright 2020 Nokia Solutions and Networks
+ * Licensed under the Apache License, Version 2.0,
+ * see license.txt file for details.
+ */
+package org.rf.ide.core.testdata.text.read.recognizer;
+
+import static com.google.common.collect.Lists.newArrayList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.rf.ide.core.environment.RobotVersion;
+
+public class TokenRecognizersAutomatonTest {
+
+    @Test
+    public void recognizersWithoutFragmentsAreAlwaysCandidates() {
+        final TokenRecognizersAutomaton automaton = TokenRecognizersAutomaton.create(
+                newArrayList(new DummyRecognizer(), new DummyRecognizer("abc"), new DummyRecognizer()));
+
+        assertThat(automaton.findCandidates("")).containsExactly(0, 2);
+        assertThat(automaton.findCandidates("xyz")).containsExactly(0, 2);
+        assertThat(automaton.findCandidates("xabcx")).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void recognizerIsCandidateOnlyWhenAllFragmentsAreFoundIgnoringCase() {
+        final TokenRecognizersAutomaton automaton = TokenRecognizersAutomaton.create(
+                newArrayList(new DummyRecognizer("suite", "setup"), new DummyRecognizer("test", "setup"),
+                        new DummyRecognizer("setup")));
+
+        assertThat(automaton.findCandidates("Suite Setup")).containsExactly(0, 2);
+        assertThat(automaton.findCandidates("TEST SETUP:")).containsExactly(1, 2);
+        assertThat(automaton.findCandidates("Setup")).containsExactly(2);
+        assertThat(automaton.findCandidates("Suite Teardown")).isEmpty();
+        assertThat(automaton.findCandidates("setuptestsuite")).containsExactly(0, 1, 2);
+    }
+
+    @Test
+    public void overlappingFragmentsAreFound() {
+        final TokenRecognizersAutomaton automaton = TokenRecognizersAutomaton.create(newArrayList(
+                new DummyRecognizer("document"), new DummyRecognizer("documentation"), new DummyRecognizer("...")));
+
+        assertThat(automaton.findCandidates("[Documentation]")).containsExactly(0, 1);
+        assertThat(automaton.findCandidates("Docu ment")).isEmpty();
+        assertThat(automaton.findCandidates("....")).containsExactly(2);
+        assertThat(automaton.findCandidates("..")).isEmpty();
+    }
+
+    @Test
+    public void nonAsciiCharactersDoNotMatchAnyFragment_andNonAsciiFragmentsAreAlwaysCandidates() {
+        final TokenRecognizersAutomaton automaton = TokenRecognizersAutomaton.create(
+                newArrayList(new DummyRecognizer("kk"), new DummyRecognizer("ą")));
+
+        assertThat(automaton.findCandidates("\u212Ak")).containsExactly(1);
+        assertThat(automaton.findCandidates("Kk")).containsExactly(0, 1);
+        assertThat(automaton.findCandidates("x")).containsExactly(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "*** Settings ***", "*Setting", "* Test Cases *", "*** Tasks", "** Variables **",
+            "***Keywords***", "*** User Keywords ***", "*** Metadata ***", "*** M e t a d a t a ***",
+            "*** Comments ***", "# comment", "  #comment", "...", "....", "Library", "library:", "Resource",
+            "Variables", "Documentation", "Document:", "Metadata", "Suite Setup", "Suite   Teardown:",
+            "Suite Precondition", "Suite Postcondition", "Force Tags", "Default Tags:", "Test Setup", "TEST TEARDOWN",
+            "Test Precondition", "Test Postcondition", "Test Template", "Test Timeout", "Task Setup", "Task Teardown",
+            "Task Template", "Task Timeout", "[Documentation]", "[ Document ]", "[Tags]", "[Setup]", "[Precondition]",
+            "[Teardown]", "[Postcondition]", "[Template]", "[Timeout]", "[Arguments]", "[Return]", "${var}",
+            "@{list}", "&{dict}", "%{env}", "$ {var", "MyLibrary", "Keyword With [Setup] inside", "Log", "" })
+    public void candidatesContainAllRecognizersMatchingGivenText(final String text) {
+        for (final RobotVersion version : newArrayList(new RobotVersion(3, 0), new RobotVersion(3, 1))) {
+            final List<ATokenRecognizer> recognizers = allRecognizers(version);
+            final TokenRecognizersAutomaton automaton = TokenRecognizersAutomaton.create(recognizers);
+
+            final List<Integer> matching = new ArrayList<>();
+            for (int i = 0; i < recognizers.size(); i++) {
+                if (recognizers.get(i).hasNext(text, 1, 0)) {
+                    matching.add(i);
+                }
+            }
+            final List<Integer> candidates = new ArrayList<>();
+            for (final int candidate : automaton.findCandidates(text)) {
+                candidates.add(candidate);
+            }
+            assertThat(candidates).containsAll(matching);
+        }
+    }
+
+    private static List<ATokenRecognizer> allRecognizers(final RobotVersion version) {
+        final List<ATokenRecognizer> recognizers = new ArrayList<>();
+        recognizers.addAll(new TableHeadersRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new SettingsRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new VariablesDeclarationRecognizersProvider().getRecognizers());
+        recognizers.addAll(new TestCaseRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new TaskRecognizersProvider().getRecognizers(version));
+        recognizers.addAll(new UserKeywordRecognizersProvider().getRecognizers(version));
+        return recognizers;
+    }
+
+    private static class DummyRecognizer extends ATokenRecognizer {
+
+        DummyRecognizer(final String... fragments) {
+            super(Pattern.compile(""), RobotTokenType.UNKNOWN, fragments);
+        }
+
+        @Override
+        public ATokenRecognizer newInstance() {
+            return this;
+        }
+    }
+}